@@ -46,6 +46,7 @@
  *                   Martin Hoeller;
  *                   Michael Zinsmaier;
  *                   Simon Legner - patch from bug 1129;
+ *                   agent;
  *
  * Changes (from 28-Jun-2001)
  * --------------------------
@@ -170,6 +171,7 @@
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
  * 29-Aug-2014 : Localisation updates from patch attached to bug 1129 (SL);
  * 06-Feb-2017 : Add dispose() call for graphics object, see issue #38 (DG);
+ * 17-Oct-2026 : Added background rendering mode (agent);
  */
 
 package org.jfree.chart;
@@ -223,6 +225,8 @@ import java.util.EventListener;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -231,6 +235,7 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -374,6 +379,26 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not the chart is drawn on a background
+     * thread.
+     */
+    private boolean backgroundRendering;
+
+    /** The background rendering task that is in progress (if any). */
+    private transient BackgroundRenderer renderTask;
+
+    /** The thread that is drawing the chart for the current render task. */
+    private transient volatile Thread renderThread;
+
+    /**
+     * A counter that is incremented whenever the chart changes (possibly on
+     * a thread other than the event dispatch thread), so that a background
+     * render task can tell whether the chart changed while its image was
+     * being drawn.
+     */
+    private final AtomicInteger chartVersion = new AtomicInteger();
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -860,9 +885,10 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             this.domainZoomable = false;
             this.rangeZoomable = false;
         }
-        if (this.useBuffer) {
+        if (this.useBuffer || this.backgroundRendering) {
             this.refreshBuffer = true;
         }
+        this.chartVersion.incrementAndGet();
         repaint();
 
     }
@@ -1501,6 +1527,57 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the chart is drawn on a
+     * background thread.
+     *
+     * @return A boolean.
+     *
+     * @see #setBackgroundRendering(boolean)
+     */
+    public boolean isBackgroundRendering() {
+        return this.backgroundRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is drawn on a
+     * background thread.  In this mode, the chart is drawn into a new
+     * off-screen image by a worker thread, and the event dispatch thread
+     * only copies the most recently completed image to the screen, so the
+     * user interface stays responsive while a complex chart is being drawn.
+     * <P>
+     * Only one image is drawn at a time.  If the chart changes while an image
+     * is being drawn, that image is still shown when it is finished (so a
+     * chart that changes continuously keeps updating) and one more image is
+     * drawn afterwards; any number of changes that arrive in the meantime
+     * result in a single new image.
+     * <P>
+     * The worker thread reads the chart's datasets while it draws, without
+     * taking a copy and without any locking.  If a dataset is modified
+     * while an image is being drawn, that image may show a mix of the old and
+     * new data (it is replaced by the next image), and a dataset that cannot
+     * be read while it is being modified may cause the drawing to fail (in
+     * which case the image is drawn again).  Applications that need every
+     * image to be consistent should synchronize the dataset updates with the
+     * drawing, or leave this flag off.  Note that chart progress events are
+     * sent on the worker thread, and that the {@link ChartRenderingInfo}
+     * returned by {@link #getChartRenderingInfo()} is replaced each time a
+     * new image is shown.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isBackgroundRendering()
+     */
+    public void setBackgroundRendering(boolean flag) {
+        if (this.backgroundRendering != flag) {
+            this.backgroundRendering = flag;
+            this.chartBuffer = null;
+            this.refreshBuffer = true;
+            this.chartVersion.incrementAndGet();
+            repaint();
+        }
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1556,8 +1633,30 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         Rectangle2D chartArea = new Rectangle2D.Double(0.0, 0.0, drawWidth,
                 drawHeight);
 
+        // are we drawing the chart on a background thread?
+        if (this.backgroundRendering) {
+            if ((this.chartBufferWidth != (int) available.getWidth())
+                    || (this.chartBufferHeight != (int) available.getHeight())) {
+                this.refreshBuffer = true;
+            }
+            // start a new render, unless one is already in progress (in
+            // which case a new one will be started when it finishes)
+            if (this.refreshBuffer && this.renderTask == null) {
+                this.refreshBuffer = false;
+                this.chartBufferWidth = (int) available.getWidth();
+                this.chartBufferHeight = (int) available.getHeight();
+                this.renderTask = new BackgroundRenderer(
+                        g2.getDeviceConfiguration(), chartArea, scale,
+                        this.anchor);
+                this.renderTask.execute();
+            }
+            // show the last image that was completed...
+            if (this.chartBuffer != null) {
+                g2.drawImage(this.chartBuffer, insets.left, insets.top, this);
+            }
+
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        } else if (this.useBuffer) {
 
             // do we need to resize the buffer?
             if ((this.chartBuffer == null)
@@ -1629,8 +1728,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // redraw the zoom rectangle (if present) - if useBuffer is false,
         // we use XOR so we can XOR the rectangle away again without redrawing
         // the chart
-        drawZoomRectangle(g2, !this.useBuffer);
-        drawSelectionShape(g2, !this.useBuffer);
+        boolean xor = !this.useBuffer && !this.backgroundRendering;
+        drawZoomRectangle(g2, xor);
+        drawSelectionShape(g2, xor);
         g2.dispose();
 
         this.anchor = null;
@@ -1645,6 +1745,11 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
+        if (Thread.currentThread() == this.renderThread) {
+            // a side effect of drawing the chart in the background
+            return;
+        }
+        this.chartVersion.incrementAndGet();
         this.refreshBuffer = true;
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
@@ -3358,4 +3463,147 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.selectionManager = manager;
     }
 
+    /**
+     * A task that draws the chart into a new off-screen image on a worker
+     * thread (used when the background rendering flag is set).  When the
+     * task is finished, the image is shown and, if the chart changed in the
+     * meantime, another image is requested.
+     */
+    private class BackgroundRenderer extends SwingWorker<Image, Object> {
+
+        /** The chart to draw. */
+        private final JFreeChart chart;
+
+        /** The graphics configuration used to create the image. */
+        private final GraphicsConfiguration gc;
+
+        /** The width of the image. */
+        private final int width;
+
+        /** The height of the image. */
+        private final int height;
+
+        /** The chart area (before scaling). */
+        private final Rectangle2D chartArea;
+
+        /** A flag that indicates whether the chart is scaled. */
+        private final boolean scale;
+
+        /** The horizontal scale factor. */
+        private final double scaleX;
+
+        /** The vertical scale factor. */
+        private final double scaleY;
+
+        /** The anchor point (possibly null). */
+        private final Point2D anchor;
+
+        /** The chart version when the task was created. */
+        private final int version;
+
+        /** The rendering info for the new image. */
+        private final ChartRenderingInfo renderingInfo;
+
+        /**
+         * Creates a new task, using the panel's current chart, size and
+         * scale factors.
+         *
+         * @param gc  the graphics configuration.
+         * @param chartArea  the chart area (before scaling).
+         * @param scale  scale the chart?
+         * @param anchor  the anchor point (<code>null</code> permitted).
+         */
+        BackgroundRenderer(GraphicsConfiguration gc, Rectangle2D chartArea,
+                boolean scale, Point2D anchor) {
+            this.chart = ChartPanel.this.chart;
+            this.gc = gc;
+            this.width = ChartPanel.this.chartBufferWidth;
+            this.height = ChartPanel.this.chartBufferHeight;
+            this.chartArea = chartArea;
+            this.scale = scale;
+            this.scaleX = ChartPanel.this.scaleX;
+            this.scaleY = ChartPanel.this.scaleY;
+            this.anchor = anchor;
+            this.version = ChartPanel.this.chartVersion.get();
+            this.renderingInfo = ChartPanel.this.info != null
+                    ? new ChartRenderingInfo() : null;
+        }
+
+        /**
+         * Draws the chart into a new image.
+         *
+         * @return The image.
+         */
+        @Override
+        protected Image doInBackground() {
+            ChartPanel.this.renderThread = Thread.currentThread();
+            try {
+                Image image = this.gc.createCompatibleImage(
+                        Math.max(this.width, 1), Math.max(this.height, 1),
+                        Transparency.TRANSLUCENT);
+                Graphics2D g2 = (Graphics2D) image.getGraphics();
+                if (this.scale) {
+                    g2.transform(AffineTransform.getScaleInstance(
+                            this.scaleX, this.scaleY));
+                    this.chart.draw(g2, this.chartArea, this.anchor,
+                            this.renderingInfo);
+                } else {
+                    this.chart.draw(g2, new Rectangle2D.Double(0, 0,
+                            this.width, this.height), this.anchor,
+                            this.renderingInfo);
+                }
+                g2.dispose();
+                return image;
+            } finally {
+                ChartPanel.this.renderThread = null;
+            }
+        }
+
+        /**
+         * Shows the new image, and requests another render if the chart
+         * changed while the image was being drawn (this method runs on the
+         * event dispatch thread).
+         */
+        @Override
+        protected void done() {
+            ChartPanel.this.renderTask = null;
+            if (!ChartPanel.this.backgroundRendering
+                    || this.chart != ChartPanel.this.chart) {
+                // the image is no longer wanted
+                repaint();
+                return;
+            }
+            boolean current
+                    = this.version == ChartPanel.this.chartVersion.get();
+            try {
+                Image image = get();
+                // show the image even if it is out of date, otherwise a
+                // chart that changes faster than it can be drawn would
+                // never be updated on screen
+                ChartPanel.this.chartBuffer = image;
+                ChartPanel.this.info = this.renderingInfo;
+                if (!current) {
+                    ChartPanel.this.refreshBuffer = true;
+                }
+            } catch (InterruptedException e) {
+                ChartPanel.this.refreshBuffer = true;
+            } catch (ExecutionException e) {
+                if (current) {
+                    // the chart didn't change, so drawing it again won't help
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+                ChartPanel.this.refreshBuffer = true;
+            }
+            repaint();
+        }
+
+    }
+
 }
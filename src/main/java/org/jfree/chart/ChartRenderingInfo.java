@@ -27,10 +27,10 @@
  * -----------------------
  * ChartRenderingInfo.java
  * -----------------------
- * (C) Copyright 2002-2012, by Object Refinery Limited.
+ * (C) Copyright 2002-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -45,6 +45,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Fixed equals() and clone() (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Mention GridEntityCollection in the API docs (agent);
  *
  */
 
@@ -59,6 +60,7 @@ import java.io.Serializable;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.GridEntityCollection;
 import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.util.SerialUtils;
@@ -107,7 +109,9 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
      * Constructs a new instance. If an entity collection is supplied, it will
      * be populated with information about the entities in a chart.  If it is
      * <code>null</code>, no entity information (including tool tips) will
-     * be collected.
+     * be collected.  For charts with a large number of entities, a
+     * {@link GridEntityCollection} makes it faster to find the entity under
+     * the mouse pointer.
      *
      * @param entities  an entity collection (<code>null</code> permitted).
      */
@@ -27,7 +27,7 @@
  * ---------------
  * JFreeChart.java
  * ---------------
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Andrzej Porebski;
@@ -37,6 +37,7 @@
  *                   Klaus Rheinwald;
  *                   Nicolas Brodu;
  *                   Peter Kolb (patch 2603321);
+ *                   agent;
  *
  * NOTE: The above list of contributors lists only the people that have
  * contributed to this source file (JFreeChart.java) - for a list of ALL
@@ -148,6 +149,7 @@
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 29-Jun-2009 : Check visibility flag in main title (DG);
+ * 17-Oct-2026 : Added beginUpdate() and endUpdate() methods (agent);
  *
  */
 
@@ -189,6 +191,7 @@ import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.JFreeChartEntity;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
@@ -204,6 +207,8 @@ import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.Range;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.Dataset;
 
 /**
  * A chart class implemented using the Java 2D APIs.  The current version
@@ -318,6 +323,29 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     private boolean notify;
 
+    /** The number of update scopes that are open (see beginUpdate()). */
+    private transient int updateDepth;
+
+    /**
+     * The datasets that were told to start an update when the outermost
+     * update of the chart started (<code>null</code> if no update is in
+     * progress).
+     */
+    private transient List<AbstractDataset> updatingDatasets;
+
+    /** The first change event that was held back during an update. */
+    private transient ChartChangeEvent pendingEvent;
+
+    /**
+     * The type for the single event that is sent when the update ends (this
+     * is {@link ChartChangeEventType#GENERAL} if the events held back have
+     * different types).
+     */
+    private transient ChartChangeEventType pendingType;
+
+    /** The number of change events that were held back during an update. */
+    private transient int pendingEventCount;
+
     /**
      * Creates a new chart based on the supplied plot.  The chart will have
      * a legend added automatically, but no title (although you can easily add
@@ -990,6 +1018,88 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
     }
 
+    /**
+     * Starts an update to the chart.  Until the matching call to
+     * {@link #endUpdate()}, {@link ChartChangeEvent} notifications (including
+     * those triggered by changes to the plot, its datasets, and the titles)
+     * are held back, so that a sequence of changes results in a single event
+     * (and a single redraw of a {@link ChartPanel}).  Calls to this method
+     * can be nested.
+     * <P>
+     * The outermost call also starts an update on each of the plot's
+     * datasets that is an {@link AbstractDataset} (see
+     * {@link Plot#getAllDatasets()}), so the plot, the axes (auto-range) and
+     * the renderers respond once to all the data changes rather than once
+     * per change.  Datasets added to the plot during the update are not
+     * included.
+     * <P>
+     * Unlike {@link #setNotify(boolean)}, this method does not send an event
+     * when the update ends unless the chart actually changed.
+     *
+     * @see #endUpdate()
+     */
+    public void beginUpdate() {
+        if (this.updateDepth == 0 && this.plot != null) {
+            List<AbstractDataset> datasets = new ArrayList<AbstractDataset>();
+            for (Dataset dataset : this.plot.getAllDatasets()) {
+                if (dataset instanceof AbstractDataset) {
+                    AbstractDataset d = (AbstractDataset) dataset;
+                    d.beginUpdate();
+                    datasets.add(d);
+                }
+            }
+            this.updatingDatasets = datasets;
+        }
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update to the chart that was started with
+     * {@link #beginUpdate()}.  When the outermost update ends, a single
+     * {@link ChartChangeEvent} is sent to the registered listeners if the
+     * chart changed during the update.
+     *
+     * @throws IllegalStateException if there is no matching call to
+     *     {@link #beginUpdate()}.
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException(
+                    "There is no update in progress.");
+        }
+        if (this.updateDepth == 1 && this.updatingDatasets != null) {
+            // end the dataset updates while the chart update is still open,
+            // so the events they release are merged with the others
+            List<AbstractDataset> datasets = this.updatingDatasets;
+            this.updatingDatasets = null;
+            for (AbstractDataset dataset : datasets) {
+                dataset.endUpdate();
+            }
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.pendingEvent != null) {
+            ChartChangeEvent event = this.pendingEvent;
+            if (this.pendingEventCount > 1) {
+                event = new ChartChangeEvent(this, this, this.pendingType);
+            }
+            this.pendingEvent = null;
+            this.pendingType = null;
+            this.pendingEventCount = 0;
+            notifyListeners(event);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if an update to the chart is in progress
+     * (that is, {@link #beginUpdate()} has been called more often than
+     * {@link #endUpdate()}), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
     /**
      * Draws the chart on a Java 2D graphics device (such as the screen or a
      * printer).  This method is the focal point of the entire JFreeChart 
@@ -1378,6 +1488,17 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      *               notification.
      */
     protected void notifyListeners(ChartChangeEvent event) {
+        if (this.notify && this.updateDepth > 0) {
+            // hold the event back until the update ends
+            if (this.pendingEvent == null) {
+                this.pendingEvent = event;
+                this.pendingType = event.getType();
+            } else if (this.pendingType != event.getType()) {
+                this.pendingType = ChartChangeEventType.GENERAL;
+            }
+            this.pendingEventCount++;
+            return;
+        }
         if (this.notify) {
             Object[] listeners = this.changeListeners.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
@@ -1570,6 +1691,11 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.updateDepth = 0;
+        chart.updatingDatasets = null;
+        chart.pendingEvent = null;
+        chart.pendingType = null;
+        chart.pendingEventCount = 0;
         return chart;
     }
 
@@ -27,7 +27,7 @@
  * -------------
  * DateAxis.java
  * -------------
- * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert;
  * Contributor(s):   Jonathan Nash;
@@ -39,6 +39,7 @@
  *                   Peter Kolb (patches 1934255 and 2603321);
  *                   Andrew Mickish (patch 1870189);
  *                   Fawad Halim (bug 2201869);
+ *                   agent;
  *
  * Changes (from 23-Jun-2001)
  * --------------------------
@@ -127,6 +128,13 @@
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 08-Feb-2012 : Bugfix for endless-loop, bug 3484403 by rbrabe (MH);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Cache the ticks so that repeated paints with the same range,
+ *               area and font reuse the tick dates and labels (agent);
+ * 17-Oct-2026 : Avoid creating a Date in isHiddenValue() and cache the
+ *               timeline values of the axis range (agent);
+ * 17-Oct-2026 : Keep the timeline bounds of the axis range in a single
+ *               immutable object, so they can be read by several threads
+ *               (agent);
  *
  */
 
@@ -141,6 +149,7 @@ import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -337,6 +346,21 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     /** Our underlying timeline. */
     private Timeline timeline;
 
+    /**
+     * The ticks calculated for recent paints (created lazily, cleared
+     * whenever the axis sends a change event).
+     */
+    private transient TickCache tickCache;
+
+    /**
+     * The timeline values of the bounds of the axis range (<code>null</code>
+     * if they need to be recalculated).  The bounds are replaced rather than
+     * modified, so that a thread drawing the chart and a thread converting
+     * coordinates (for example, in response to mouse events) always see a
+     * matching pair of values.
+     */
+    private transient volatile TimelineBounds timelineBounds;
+
     /**
      * Creates a date axis with no label.
      */
@@ -450,6 +474,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     public void setTimeline(Timeline timeline) {
         if (this.timeline != timeline) {
             this.timeline = timeline;
+            this.timelineBounds = null;
             fireChangeEvent();
         }
     }
@@ -731,7 +756,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
      * @return A value.
      */
     public boolean isHiddenValue(long millis) {
-        return (!this.timeline.containsDomainValue(new Date(millis)));
+        return (!this.timeline.containsDomainValue(millis));
     }
 
     /**
@@ -749,11 +774,12 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     public double valueToJava2D(double value, Rectangle2D area,
                                 RectangleEdge edge) {
 
-        value = this.timeline.toTimelineValue((long) value);
-
-        DateRange range = (DateRange) getRange();
-        double axisMin = this.timeline.toTimelineValue(range.getLowerMillis());
-        double axisMax = this.timeline.toTimelineValue(range.getUpperMillis());
+        TimelineBounds bounds = getTimelineBounds();
+        if (bounds.timeline != DEFAULT_TIMELINE) {
+            value = bounds.timeline.toTimelineValue((long) value);
+        }
+        double axisMin = bounds.min;
+        double axisMax = bounds.max;
         double result = 0.0;
         if (RectangleEdge.isTopOrBottom(edge)) {
             double minX = area.getX();
@@ -815,9 +841,9 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     public double java2DToValue(double java2DValue, Rectangle2D area,
                                 RectangleEdge edge) {
 
-        DateRange range = (DateRange) getRange();
-        double axisMin = this.timeline.toTimelineValue(range.getLowerMillis());
-        double axisMax = this.timeline.toTimelineValue(range.getUpperMillis());
+        TimelineBounds bounds = getTimelineBounds();
+        double axisMin = bounds.min;
+        double axisMax = bounds.max;
 
         double min = 0.0;
         double max = 0.0;
@@ -840,7 +866,31 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                       * (axisMax - axisMin));
         }
 
-        return this.timeline.toMillisecond((long) result);
+        return bounds.timeline.toMillisecond((long) result);
+    }
+
+    /**
+     * Returns the timeline values of the axis bounds, recalculating them if
+     * the range or timeline has changed since they were last calculated.
+     * This saves two timeline conversions for every value converted by the
+     * {@link #valueToJava2D(double, Rectangle2D, RectangleEdge)} and
+     * {@link #java2DToValue(double, Rectangle2D, RectangleEdge)} methods.
+     *
+     * @return The bounds (never <code>null</code>).
+     */
+    private TimelineBounds getTimelineBounds() {
+        Range range = getRange();
+        Timeline tl = this.timeline;
+        TimelineBounds result = this.timelineBounds;
+        if (result == null || result.range != range
+                || result.timeline != tl) {
+            DateRange dr = (DateRange) range;
+            result = new TimelineBounds(range, tl,
+                    tl.toTimelineValue(dr.getLowerMillis()),
+                    tl.toTimelineValue(dr.getUpperMillis()));
+            this.timelineBounds = result;
+        }
+        return result;
     }
 
     /**
@@ -1506,6 +1556,19 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     @Override
     public List<ValueTick> refreshTicks(Graphics2D g2, AxisState state,
             Rectangle2D dataArea, RectangleEdge edge) {
+        if (this.tickCache == null) {
+            this.tickCache = new TickCache();
+        }
+        Object key = createTickCacheKey(g2, dataArea, edge);
+        CachedTicks cached = (CachedTicks) this.tickCache.get(key);
+        if (cached != null) {
+            // restore the side effects of a full refresh
+            g2.setFont(getTickLabelFont());
+            if (isAutoTickUnitSelection()) {
+                setTickUnit(cached.unit, false, false);
+            }
+            return new ArrayList<ValueTick>(cached.ticks);
+        }
         List<ValueTick> result = null;
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(g2, dataArea, edge);
@@ -1513,9 +1576,63 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(g2, dataArea, edge);
         }
+        if (result != null) {
+            this.tickCache.put(key, new CachedTicks(this.tickUnit,
+                    new ArrayList<ValueTick>(result)));
+        }
         return result;
     }
 
+    /**
+     * Creates the key used to look up previously calculated ticks.  The key
+     * includes the inputs to the tick calculation that can change without
+     * an {@link AxisChangeEvent} being sent (the range can be updated
+     * silently by the auto-range mechanism, and the data area and graphics
+     * device change from one paint to the next).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param edge  the axis location.
+     *
+     * @return The key.
+     */
+    private Object createTickCacheKey(Graphics2D g2, Rectangle2D dataArea,
+            RectangleEdge edge) {
+        double extent = RectangleEdge.isTopOrBottom(edge)
+                ? dataArea.getWidth() : dataArea.getHeight();
+        return TickCache.key(edge, getRange(), extent,
+                g2.getFontRenderContext(), getTickLabelFont(),
+                isAutoTickUnitSelection() ? null : this.tickUnit);
+    }
+
+    /**
+     * Discards any ticks that have been cached for repeated paints (along
+     * with the cached timeline values of the axis range).  The cache is
+     * cleared automatically whenever the axis sends an
+     * {@link AxisChangeEvent}, so you only need to call this method if you
+     * modify an object used by the axis (for example, a mutable
+     * {@link Timeline} or the date format override) without calling one of
+     * the axis setter methods.
+     */
+    public void clearTickCache() {
+        if (this.tickCache != null) {
+            this.tickCache.clear();
+        }
+        this.timelineBounds = null;
+    }
+
+    /**
+     * Clears the tick cache, then notifies all registered listeners that
+     * the axis has changed.
+     *
+     * @param event  information about the change to the axis.
+     */
+    @Override
+    protected void notifyListeners(AxisChangeEvent event) {
+        clearTickCache();
+        super.notifyListeners(event);
+    }
+
     /**
      * Corrects the given tick date for the position setting.
      *
@@ -1889,6 +2006,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         DateAxis clone = (DateAxis) super.clone();
+        clone.tickCache = null;
+        clone.timelineBounds = null;
         // 'dateTickUnit' is immutable : no need to clone
         if (this.dateFormatOverride != null) {
             clone.dateFormatOverride
@@ -1898,4 +2017,65 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         return clone;
     }
 
+    /**
+     * The ticks calculated for one set of inputs, along with the tick unit
+     * that was in effect (selected automatically, in most cases).
+     */
+    private static final class CachedTicks {
+
+        /** The tick unit. */
+        private final DateTickUnit unit;
+
+        /** The ticks. */
+        private final List<ValueTick> ticks;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param unit  the tick unit.
+         * @param ticks  the ticks.
+         */
+        CachedTicks(DateTickUnit unit, List<ValueTick> ticks) {
+            this.unit = unit;
+            this.ticks = ticks;
+        }
+
+    }
+
+    /**
+     * The timeline values of the bounds of the axis range, along with the
+     * range and timeline they were calculated for.
+     */
+    private static final class TimelineBounds {
+
+        /** The axis range. */
+        private final Range range;
+
+        /** The timeline. */
+        private final Timeline timeline;
+
+        /** The timeline value of the lower bound of the axis range. */
+        private final double min;
+
+        /** The timeline value of the upper bound of the axis range. */
+        private final double max;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param range  the axis range.
+         * @param timeline  the timeline.
+         * @param min  the timeline value of the lower bound.
+         * @param max  the timeline value of the upper bound.
+         */
+        TimelineBounds(Range range, Timeline timeline, double min,
+                double max) {
+            this.range = range;
+            this.timeline = timeline;
+            this.min = min;
+            this.max = max;
+        }
+
+    }
+
 }
@@ -27,10 +27,10 @@
  * ---------------
  * PeriodAxis.java
  * ---------------
- * (C) Copyright 2004-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2004-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -57,6 +57,8 @@
  *               tickLabelsVisible (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Cache the tick mark positions and band labels so that
+ *               repeated paints reuse them (agent);
  *
  */
 
@@ -178,6 +180,12 @@ public class PeriodAxis extends ValueAxis
     /** Info for each labeling band. */
     private PeriodAxisLabelInfo[] labelInfo;
 
+    /**
+     * The tick marks and band labels calculated for recent paints (created
+     * lazily, cleared whenever the axis sends a change event).
+     */
+    private transient TickCache tickCache;
+
     /**
      * Creates a new axis.
      *
@@ -700,14 +708,12 @@ public class PeriodAxis extends ValueAxis
         double y0 = state.getCursor();
         double insideLength = getTickMarkInsideLength();
         double outsideLength = getTickMarkOutsideLength();
-        RegularTimePeriod t = createInstance(this.majorTickTimePeriodClass,
-                this.first.getStart(), getTimeZone(), this.locale);
-        long t0 = t.getFirstMillisecond();
         Line2D inside = null;
         Line2D outside = null;
         long firstOnAxis = getFirst().getFirstMillisecond();
-        long lastOnAxis = getLast().getLastMillisecond() + 1;
-        while (t0 <= lastOnAxis) {
+        TickMarks marks = getTickMarks();
+        for (int i = 0; i < marks.major.length; i++) {
+            long t0 = marks.major[i];
             ticks.add(new NumberTick((double) t0, "", TextAnchor.CENTER,
                     TextAnchor.CENTER, 0.0));
             x0 = valueToJava2D(t0, dataArea, edge);
@@ -727,12 +733,7 @@ public class PeriodAxis extends ValueAxis
             }
             // draw minor tick marks
             if (this.minorTickMarksVisible) {
-                RegularTimePeriod tminor = createInstance(
-                        this.minorTickTimePeriodClass, new Date(t0),
-                        getTimeZone(), this.locale);
-                long tt0 = tminor.getFirstMillisecond();
-                while (tt0 < t.getLastMillisecond()
-                        && tt0 < lastOnAxis) {
+                for (long tt0 : marks.minor[i]) {
                     double xx0 = valueToJava2D(tt0, dataArea, edge);
                     if (edge == RectangleEdge.TOP) {
                         inside = new Line2D.Double(xx0, y0, xx0,
@@ -752,14 +753,8 @@ public class PeriodAxis extends ValueAxis
                         g2.draw(inside);
                         g2.draw(outside);
                     }
-                    tminor = tminor.next();
-                    tminor.peg(this.calendar);
-                    tt0 = tminor.getFirstMillisecond();
                 }
             }
-            t = t.next();
-            t.peg(this.calendar);
-            t0 = t.getFirstMillisecond();
         }
         if (edge == RectangleEdge.TOP) {
             state.cursorUp(Math.max(outsideLength,
@@ -772,6 +767,55 @@ public class PeriodAxis extends ValueAxis
         state.setTicks(ticks);
     }
 
+    /**
+     * Returns the positions of the major and minor tick marks for the
+     * current axis range, calculating them if they are not already in the
+     * tick cache.
+     *
+     * @return The tick mark positions.
+     */
+    private TickMarks getTickMarks() {
+        long firstOnAxis = getFirst().getFirstMillisecond();
+        long lastOnAxis = getLast().getLastMillisecond() + 1;
+        Object key = TickCache.key(TickMarks.class, firstOnAxis, lastOnAxis,
+                this.majorTickTimePeriodClass, this.minorTickMarksVisible
+                ? this.minorTickTimePeriodClass : null);
+        TickMarks result = (TickMarks) getTickCache().get(key);
+        if (result != null) {
+            return result;
+        }
+        List<Long> major = new ArrayList<Long>();
+        List<long[]> minor = new ArrayList<long[]>();
+        RegularTimePeriod t = createInstance(this.majorTickTimePeriodClass,
+                this.first.getStart(), getTimeZone(), this.locale);
+        long t0 = t.getFirstMillisecond();
+        while (t0 <= lastOnAxis) {
+            major.add(t0);
+            List<Long> minorTimes = new ArrayList<Long>();
+            if (this.minorTickMarksVisible) {
+                RegularTimePeriod tminor = createInstance(
+                        this.minorTickTimePeriodClass, new Date(t0),
+                        getTimeZone(), this.locale);
+                long tt0 = tminor.getFirstMillisecond();
+                while (tt0 < t.getLastMillisecond()
+                        && tt0 < lastOnAxis) {
+                    minorTimes.add(tt0);
+                    tminor = tminor.next();
+                    tminor.peg(this.calendar);
+                    tt0 = tminor.getFirstMillisecond();
+                }
+            }
+            minor.add(toArray(minorTimes));
+            t = t.next();
+            t.peg(this.calendar);
+            t0 = t.getFirstMillisecond();
+        }
+        result = new TickMarks(toArray(major),
+                minor.toArray(new long[minor.size()][]));
+        getTickCache().put(key, result);
+        return result;
+    }
+
     /**
      * Draws the tick marks for a vertical axis.
      *
@@ -812,11 +856,73 @@ public class PeriodAxis extends ValueAxis
                     fm.getHeight());
         }
         state.moveCursor(delta1, edge);
-        long axisMin = this.first.getFirstMillisecond();
-        long axisMax = this.last.getLastMillisecond();
         g2.setFont(this.labelInfo[band].getLabelFont());
         g2.setPaint(this.labelInfo[band].getLabelPaint());
 
+        BandLabels labels = getBandLabels(band, g2, dataArea, edge);
+        Rectangle2D b = null;
+        float y = (float) (state.getCursor());
+        TextAnchor anchor = TextAnchor.TOP_CENTER;
+        float yDelta = labels.height;
+        if (edge == RectangleEdge.TOP) {
+            anchor = TextAnchor.BOTTOM_CENTER;
+            yDelta = -yDelta;
+        }
+        for (int i = 0; i < labels.text.length; i++) {
+            if (labels.text[i] != null) {
+                g2.setPaint(this.labelInfo[band].getLabelPaint());
+                b = TextUtilities.drawAlignedString(labels.text[i], g2,
+                        labels.x[i], y, anchor);
+            }
+            if (!Float.isNaN(labels.divider[i])) {
+                float mid2d = labels.divider[i];
+                g2.setStroke(this.labelInfo[band].getDividerStroke());
+                g2.setPaint(this.labelInfo[band].getDividerPaint());
+                g2.draw(new Line2D.Float(mid2d, y, mid2d, y + yDelta));
+            }
+        }
+        double used = 0.0;
+        if (b != null) {
+            used = b.getHeight();
+            // work out the trailing gap
+            if (edge == RectangleEdge.BOTTOM) {
+                used += this.labelInfo[band].getPadding().calculateBottomOutset(
+                        fm.getHeight());
+            }
+            else if (edge == RectangleEdge.TOP) {
+                used += this.labelInfo[band].getPadding().calculateTopOutset(
+                        fm.getHeight());
+            }
+        }
+        state.moveCursor(used, edge);
+        return state;
+    }
+
+    /**
+     * Returns the labels (and their positions) for one "band" of time
+     * periods, calculating them if they are not already in the tick cache.
+     * The font for the band should already be set on the graphics device.
+     *
+     * @param band  the band index (zero-based).
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param edge  the edge where the axis is located.
+     *
+     * @return The labels.
+     */
+    private BandLabels getBandLabels(int band, Graphics2D g2,
+            Rectangle2D dataArea, RectangleEdge edge) {
+
+        long axisMin = this.first.getFirstMillisecond();
+        long axisMax = this.last.getLastMillisecond();
+        Object key = TickCache.key(BandLabels.class, band,
+                this.labelInfo[band], axisMin, axisMax, dataArea.getX(),
+                dataArea.getWidth(), edge, g2.getFontRenderContext());
+        BandLabels result = (BandLabels) getTickCache().get(key);
+        if (result != null) {
+            return result;
+        }
+
         // work out the number of periods to skip for labelling
         RegularTimePeriod p1 = this.labelInfo[band].createInstance(
                 new Date(axisMin), this.timeZone, this.locale);
@@ -843,17 +949,12 @@ public class PeriodAxis extends ValueAxis
                       - p1.getFirstMillisecond();
         int periods = (int) (ww / length) + 1;
 
+        List<String> text = new ArrayList<String>();
+        List<Float> xs = new ArrayList<Float>();
+        List<Float> dividers = new ArrayList<Float>();
         RegularTimePeriod p = this.labelInfo[band].createInstance(
                 new Date(axisMin), this.timeZone, this.locale);
-        Rectangle2D b = null;
         long lastXX = 0L;
-        float y = (float) (state.getCursor());
-        TextAnchor anchor = TextAnchor.TOP_CENTER;
-        float yDelta = (float) b1.getHeight();
-        if (edge == RectangleEdge.TOP) {
-            anchor = TextAnchor.BOTTOM_CENTER;
-            yDelta = -yDelta;
-        }
         while (p.getFirstMillisecond() <= axisMax) {
             float x = (float) valueToJava2D(p.getMiddleMillisecond(), dataArea,
                     edge);
@@ -893,41 +994,34 @@ public class PeriodAxis extends ValueAxis
                 }
 
             }
-            if (label != null) {
-                g2.setPaint(this.labelInfo[band].getLabelPaint());
-                b = TextUtilities.drawAlignedString(label, g2, x, y, anchor);
-            }
+            text.add(label);
+            xs.add(x);
+            float divider = Float.NaN;
             if (lastXX > 0L) {
                 if (this.labelInfo[band].getDrawDividers()) {
                     long nextXX = p.getFirstMillisecond();
                     long mid = (lastXX + nextXX) / 2;
-                    float mid2d = (float) valueToJava2D(mid, dataArea, edge);
-                    g2.setStroke(this.labelInfo[band].getDividerStroke());
-                    g2.setPaint(this.labelInfo[band].getDividerPaint());
-                    g2.draw(new Line2D.Float(mid2d, y, mid2d, y + yDelta));
+                    divider = (float) valueToJava2D(mid, dataArea, edge);
                 }
             }
+            dividers.add(divider);
             lastXX = last;
             for (int i = 0; i < periods; i++) {
                 p = p.next();
             }
             p.peg(this.calendar);
         }
-        double used = 0.0;
-        if (b != null) {
-            used = b.getHeight();
-            // work out the trailing gap
-            if (edge == RectangleEdge.BOTTOM) {
-                used += this.labelInfo[band].getPadding().calculateBottomOutset(
-                        fm.getHeight());
-            }
-            else if (edge == RectangleEdge.TOP) {
-                used += this.labelInfo[band].getPadding().calculateTopOutset(
-                        fm.getHeight());
-            }
+        int count = text.size();
+        float[] x = new float[count];
+        float[] divider = new float[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = xs.get(i);
+            divider[i] = dividers.get(i);
         }
-        state.moveCursor(used, edge);
-        return state;
+        result = new BandLabels(text.toArray(new String[count]), x, divider,
+                (float) b1.getHeight());
+        getTickCache().put(key, result);
+        return result;
     }
 
     /**
@@ -1133,6 +1227,7 @@ public class PeriodAxis extends ValueAxis
     @Override
     public Object clone() throws CloneNotSupportedException {
         PeriodAxis clone = (PeriodAxis) super.clone();
+        clone.tickCache = null;
         clone.timeZone = (TimeZone) this.timeZone.clone();
         clone.labelInfo = (PeriodAxisLabelInfo[]) this.labelInfo.clone();
         return clone;
@@ -1173,6 +1268,58 @@ public class PeriodAxis extends ValueAxis
         return result;
     }
 
+    /**
+     * Returns the tick cache, creating it if necessary.
+     *
+     * @return The tick cache (never <code>null</code>).
+     */
+    private TickCache getTickCache() {
+        if (this.tickCache == null) {
+            this.tickCache = new TickCache();
+        }
+        return this.tickCache;
+    }
+
+    /**
+     * Discards the tick mark positions and band labels that have been cached
+     * for repeated paints.  The cache is cleared automatically whenever the
+     * axis sends an {@link AxisChangeEvent}, so you only need to call this
+     * method if you modify an object used by the axis without calling one
+     * of the axis setter methods.
+     */
+    public void clearTickCache() {
+        if (this.tickCache != null) {
+            this.tickCache.clear();
+        }
+    }
+
+    /**
+     * Clears the tick cache, then notifies all registered listeners that
+     * the axis has changed.
+     *
+     * @param event  information about the change to the axis.
+     */
+    @Override
+    protected void notifyListeners(AxisChangeEvent event) {
+        clearTickCache();
+        super.notifyListeners(event);
+    }
+
+    /**
+     * Copies a list of times into an array.
+     *
+     * @param times  the times.
+     *
+     * @return An array.
+     */
+    private static long[] toArray(List<Long> times) {
+        long[] result = new long[times.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = times.get(i);
+        }
+        return result;
+    }
+
     /**
      * Provides serialization support.
      *
@@ -1201,4 +1348,65 @@ public class PeriodAxis extends ValueAxis
         this.minorTickMarkPaint = SerialUtils.readPaint(stream);
     }
 
+    /**
+     * The positions of the major tick marks, and the minor tick marks that
+     * follow each of them, for one axis range.
+     */
+    private static final class TickMarks {
+
+        /** The major tick mark times. */
+        private final long[] major;
+
+        /** The minor tick mark times following each major tick mark. */
+        private final long[][] minor;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param major  the major tick mark times.
+         * @param minor  the minor tick mark times.
+         */
+        TickMarks(long[] major, long[][] minor) {
+            this.major = major;
+            this.minor = minor;
+        }
+
+    }
+
+    /**
+     * The labels for one band of time periods.  A <code>null</code> label
+     * is not displayed, and a <code>NaN</code> divider position means that
+     * no divider is drawn before the corresponding label.
+     */
+    private static final class BandLabels {
+
+        /** The label text. */
+        private final String[] text;
+
+        /** The x-coordinates of the labels. */
+        private final float[] x;
+
+        /** The x-coordinates of the dividers. */
+        private final float[] divider;
+
+        /** The height of the labels. */
+        private final float height;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param text  the label text.
+         * @param x  the label positions.
+         * @param divider  the divider positions.
+         * @param height  the label height.
+         */
+        BandLabels(String[] text, float[] x, float[] divider, float height) {
+            this.text = text;
+            this.x = x;
+            this.divider = divider;
+            this.height = height;
+        }
+
+    }
+
 }
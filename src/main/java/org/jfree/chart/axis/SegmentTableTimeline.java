@@ -0,0 +1,477 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SegmentTableTimeline.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A {@link Timeline} that includes only the milliseconds that fall within a
+ * table of segments (for example, the trading sessions of an exchange) and
+ * excludes the gaps between them.  The table is precomputed when the
+ * timeline is created, so that converting a millisecond to a timeline value
+ * (or back again) is a binary search on primitive arrays, with no calendar
+ * arithmetic and no object creation.
+ * <P>
+ * Timeline values are measured from the start of the first segment, which
+ * has the same timeline value as its millisecond value.  Milliseconds that
+ * fall in a gap between two segments map to the timeline value of the start
+ * of the next segment.  The milliseconds before the first segment and after
+ * the last segment are outside the table and are treated as included
+ * (so the timeline continues linearly in both directions).
+ * <P>
+ * Instances of this class are immutable.
+ */
+public class SegmentTableTimeline implements Timeline, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3815064893405398532L;
+
+    /** The number of milliseconds in one minute. */
+    private static final long MINUTE = 60L * 1000L;
+
+    /** The start of each segment (inclusive, in ascending order). */
+    private final long[] starts;
+
+    /** The end of each segment (exclusive). */
+    private final long[] ends;
+
+    /** The timeline value at the start of each segment. */
+    private final long[] values;
+
+    /**
+     * Creates a new timeline from a table of segments.
+     *
+     * @param starts  the start of each segment, in milliseconds (inclusive,
+     *     <code>null</code> not permitted).
+     * @param ends  the end of each segment, in milliseconds (exclusive,
+     *     <code>null</code> not permitted).
+     *
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *     a segment is empty, or the segments are not in ascending order
+     *     without overlaps.
+     */
+    public SegmentTableTimeline(long[] starts, long[] ends) {
+        ParamChecks.nullNotPermitted(starts, "starts");
+        ParamChecks.nullNotPermitted(ends, "ends");
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException(
+                    "The 'starts' and 'ends' arrays must have equal length.");
+        }
+        int count = starts.length;
+        for (int i = 0; i < count; i++) {
+            if (starts[i] >= ends[i]) {
+                throw new IllegalArgumentException("Segment " + i
+                        + " is empty.");
+            }
+            if (i > 0 && starts[i] < ends[i - 1]) {
+                throw new IllegalArgumentException("Segment " + i
+                        + " overlaps or precedes the previous segment.");
+            }
+        }
+        this.starts = starts.clone();
+        this.ends = ends.clone();
+        this.values = new long[count];
+        if (count > 0) {
+            long value = starts[0];
+            for (int i = 0; i < count; i++) {
+                this.values[i] = value;
+                value += ends[i] - starts[i];
+            }
+        }
+    }
+
+    /**
+     * Creates a timeline that includes one session (for example, the trading
+     * hours of an exchange) on each weekday from Monday to Friday, for all
+     * the days that overlap the specified range.
+     *
+     * @param from  the start of the range (in milliseconds).
+     * @param to  the end of the range (in milliseconds).
+     * @param sessionStart  the start of the session, in minutes after
+     *     midnight (for example, 570 for 09:30).
+     * @param sessionEnd  the end of the session, in minutes after midnight
+     *     (at most 1440).
+     * @param zone  the time zone for the session times (<code>null</code>
+     *     not permitted).
+     *
+     * @return The timeline.
+     */
+    public static SegmentTableTimeline createWeekdayTimeline(long from,
+            long to, int sessionStart, int sessionEnd, TimeZone zone) {
+        ParamChecks.nullNotPermitted(zone, "zone");
+        if (from > to) {
+            throw new IllegalArgumentException("Requires 'from' <= 'to'.");
+        }
+        if (sessionStart < 0 || sessionStart >= sessionEnd
+                || sessionEnd > 24 * 60) {
+            throw new IllegalArgumentException("Requires 0 <= 'sessionStart'"
+                    + " < 'sessionEnd' <= 1440.");
+        }
+        Calendar calendar = Calendar.getInstance(zone);
+        calendar.setTimeInMillis(from);
+        int year = calendar.get(Calendar.YEAR);
+        int month = calendar.get(Calendar.MONTH);
+        int date = calendar.get(Calendar.DATE);
+        int capacity = (int) Math.min((to - from) / (24 * 60 * MINUTE) + 2,
+                Integer.MAX_VALUE - 8);
+        long[] starts = new long[capacity];
+        long[] ends = new long[capacity];
+        int count = 0;
+        // each day is found from the date fields (the calendar is lenient,
+        // so the date rolls over into the following months), rather than by
+        // adding a day to the previous midnight, since in some time zones
+        // there is no midnight on the day that daylight saving time starts
+        for (int i = 0; localTime(calendar, year, month, date + i, 0) <= to;
+                i++) {
+            int day = calendar.get(Calendar.DAY_OF_WEEK);
+            if (day != Calendar.SATURDAY && day != Calendar.SUNDAY) {
+                long start = localTime(calendar, year, month, date + i,
+                        sessionStart);
+                long end = localTime(calendar, year, month, date + i,
+                        sessionEnd);
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                starts[count] = start;
+                ends[count] = end;
+                count++;
+            }
+        }
+        return new SegmentTableTimeline(Arrays.copyOf(starts, count),
+                Arrays.copyOf(ends, count));
+    }
+
+    /**
+     * Returns the millisecond for a time of day on a date, in the calendar's
+     * time zone.  A time that does not exist because of a daylight saving
+     * transition is moved forward by the length of the transition.
+     *
+     * @param calendar  the calendar (lenient).
+     * @param year  the year.
+     * @param month  the month (zero-based).
+     * @param date  the day of the month (can be outside the month).
+     * @param minutes  the time of day, in minutes after midnight (at most
+     *     1440).
+     *
+     * @return The millisecond.
+     */
+    private static long localTime(Calendar calendar, int year, int month,
+            int date, int minutes) {
+        calendar.clear();
+        calendar.set(year, month, date, minutes / 60, minutes % 60);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * Returns the number of segments in the table.
+     *
+     * @return The number of segments.
+     */
+    public int getSegmentCount() {
+        return this.starts.length;
+    }
+
+    /**
+     * Returns the start of a segment.
+     *
+     * @param index  the segment index (zero-based).
+     *
+     * @return The start of the segment, in milliseconds (inclusive).
+     */
+    public long getSegmentStart(int index) {
+        return this.starts[index];
+    }
+
+    /**
+     * Returns the end of a segment.
+     *
+     * @param index  the segment index (zero-based).
+     *
+     * @return The end of the segment, in milliseconds (exclusive).
+     */
+    public long getSegmentEnd(int index) {
+        return this.ends[index];
+    }
+
+    /**
+     * Returns the index of the last segment that starts at or before the
+     * specified millisecond, or <code>-1</code> if the millisecond is before
+     * the first segment.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The segment index.
+     */
+    private int findSegment(long millisecond) {
+        int index = Arrays.binarySearch(this.starts, millisecond);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Returns the timeline value for a millisecond in or after the specified
+     * segment (and before the next one).
+     *
+     * @param millisecond  the millisecond.
+     * @param segment  the segment index (<code>-1</code> for a millisecond
+     *     before the first segment).
+     *
+     * @return The timeline value.
+     */
+    private long toTimelineValue(long millisecond, int segment) {
+        if (segment < 0) {
+            return millisecond;
+        }
+        long end = this.ends[segment];
+        if (millisecond < end) {
+            return this.values[segment] + (millisecond - this.starts[segment]);
+        }
+        long value = this.values[segment] + (end - this.starts[segment]);
+        if (segment == this.starts.length - 1) {
+            return value + (millisecond - end);
+        }
+        // in the gap before the next segment
+        return value;
+    }
+
+    /**
+     * Translates a millisecond into a timeline value.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The timeline value.
+     */
+    @Override
+    public long toTimelineValue(long millisecond) {
+        return toTimelineValue(millisecond, findSegment(millisecond));
+    }
+
+    /**
+     * Translates a date into a timeline value.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return The timeline value.
+     */
+    @Override
+    public long toTimelineValue(Date date) {
+        return toTimelineValue(date.getTime());
+    }
+
+    /**
+     * Translates an array of milliseconds (for example, the x-values of a
+     * time series) into timeline values.  When the milliseconds are in
+     * ascending order, the segment table is scanned once for the whole
+     * array rather than searched for each value.
+     *
+     * @param milliseconds  the milliseconds (<code>null</code> not
+     *     permitted).
+     * @param result  an array to hold the timeline values (at least as long
+     *     as <code>milliseconds</code>, <code>null</code> not permitted).
+     */
+    public void toTimelineValues(double[] milliseconds, double[] result) {
+        ParamChecks.nullNotPermitted(milliseconds, "milliseconds");
+        ParamChecks.nullNotPermitted(result, "result");
+        if (result.length < milliseconds.length) {
+            throw new IllegalArgumentException(
+                    "The 'result' array is too short.");
+        }
+        int segment = -1;
+        long previous = Long.MIN_VALUE;
+        int last = this.starts.length - 1;
+        for (int i = 0; i < milliseconds.length; i++) {
+            double x = milliseconds[i];
+            if (Double.isNaN(x)) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            long millisecond = (long) x;
+            if (millisecond < previous) {
+                segment = findSegment(millisecond);
+            }
+            else {
+                while (segment < last
+                        && this.starts[segment + 1] <= millisecond) {
+                    segment++;
+                }
+            }
+            result[i] = toTimelineValue(millisecond, segment);
+            previous = millisecond;
+        }
+    }
+
+    /**
+     * Translates a timeline value into a millisecond.  For a timeline value
+     * at the start of a segment, the result is the start of the segment
+     * (not the end of the preceding gap).
+     *
+     * @param timelineValue  the timeline value.
+     *
+     * @return The millisecond.
+     */
+    @Override
+    public long toMillisecond(long timelineValue) {
+        int count = this.values.length;
+        if (count == 0 || timelineValue < this.values[0]) {
+            return timelineValue;
+        }
+        int index = Arrays.binarySearch(this.values, timelineValue);
+        int segment = index >= 0 ? index : -index - 2;
+        return this.starts[segment] + (timelineValue - this.values[segment]);
+    }
+
+    /**
+     * Returns <code>true</code> if the timeline includes the specified
+     * millisecond.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean containsDomainValue(long millisecond) {
+        int segment = findSegment(millisecond);
+        return segment < 0 || millisecond < this.ends[segment]
+                || segment == this.starts.length - 1;
+    }
+
+    /**
+     * Returns <code>true</code> if the timeline includes the specified
+     * date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean containsDomainValue(Date date) {
+        return containsDomainValue(date.getTime());
+    }
+
+    /**
+     * Returns <code>true</code> if the timeline includes every millisecond
+     * in the specified range (that is, the range does not touch a gap
+     * between two segments).
+     *
+     * @param fromMillisecond  the start of the range (inclusive).
+     * @param toMillisecond  the end of the range (inclusive).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean containsDomainRange(long fromMillisecond,
+            long toMillisecond) {
+        if (toMillisecond < fromMillisecond) {
+            throw new IllegalArgumentException(
+                    "Requires 'fromMillisecond' <= 'toMillisecond'.");
+        }
+        int count = this.starts.length;
+        if (count == 0) {
+            return true;
+        }
+        int segment = findSegment(fromMillisecond);
+        if (segment < 0) {
+            return toMillisecond < this.starts[0];
+        }
+        if (segment == count - 1) {
+            // the last segment runs on into the milliseconds after the table
+            return true;
+        }
+        return toMillisecond < this.ends[segment];
+    }
+
+    /**
+     * Returns <code>true</code> if the timeline includes every millisecond
+     * in the specified range of dates.
+     *
+     * @param fromDate  the start of the range (<code>null</code> not
+     *     permitted).
+     * @param toDate  the end of the range (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean containsDomainRange(Date fromDate, Date toDate) {
+        return containsDomainRange(fromDate.getTime(), toDate.getTime());
+    }
+
+    /**
+     * Tests this timeline for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SegmentTableTimeline)) {
+            return false;
+        }
+        SegmentTableTimeline that = (SegmentTableTimeline) obj;
+        if (!Arrays.equals(this.starts, that.starts)) {
+            return false;
+        }
+        if (!Arrays.equals(this.ends, that.ends)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this object.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(this.starts) + Arrays.hashCode(this.ends);
+    }
+
+}
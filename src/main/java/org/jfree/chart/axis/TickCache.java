@@ -0,0 +1,190 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * TickCache.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A small least-recently-used cache for the tick calculations of an axis.
+ * An axis creates a key from the inputs that its ticks depend on (the range,
+ * the extent of the data area, the font render context and so on) and stores
+ * the calculated ticks (including the formatted labels) against that key, so
+ * that repeated paints with the same inputs (for example, while a crosshair
+ * is moving) do not repeat the date arithmetic, formatting and text
+ * measurement.  A few entries are kept because the same axis is typically
+ * laid out against more than one area during a single paint (the plot area
+ * when reserving space, the data area when drawing).
+ * <P>
+ * The cache does not detect changes to the axis attributes that are not part
+ * of the key, so the axis must call {@link #clear()} whenever its
+ * configuration changes.  This class is not thread-safe, in keeping with the
+ * axis classes themselves.
+ */
+class TickCache {
+
+    /** The default maximum number of entries. */
+    private static final int DEFAULT_MAX_ENTRIES = 4;
+
+    /** The cached entries, in access order. */
+    private final Map<Key, Object> entries;
+
+    /**
+     * Creates a new cache holding up to four entries.
+     */
+    TickCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxEntries  the maximum number of entries (must be positive).
+     */
+    TickCache(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Requires 'maxEntries' > 0.");
+        }
+        this.entries = new LinkedHashMap<Key, Object>(maxEntries * 2, 0.75f,
+                true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> e) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Creates a key from the specified components.  The components are
+     * compared using their <code>equals()</code> methods, so callers should
+     * only use immutable objects (or objects that are never modified while
+     * the cache is in use).
+     *
+     * @param components  the key components (<code>null</code> elements
+     *     permitted).
+     *
+     * @return The key.
+     */
+    static Object key(Object... components) {
+        return new Key(components);
+    }
+
+    /**
+     * Returns the value cached for the specified key.
+     *
+     * @param key  the key (created with {@link #key(Object...)}).
+     *
+     * @return The cached value, or <code>null</code>.
+     */
+    Object get(Object key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * Stores a value in the cache, discarding the least recently used entry
+     * if the cache is full.
+     *
+     * @param key  the key (created with {@link #key(Object...)}).
+     * @param value  the value (<code>null</code> not permitted).
+     */
+    void put(Object key, Object value) {
+        this.entries.put((Key) key, value);
+    }
+
+    /**
+     * Discards all the cached entries.
+     */
+    void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The number of cached entries.
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * A cache key made up of an array of components.
+     */
+    private static final class Key {
+
+        /** The components. */
+        private final Object[] components;
+
+        /** The hash code (calculated once). */
+        private final int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param components  the components.
+         */
+        Key(Object[] components) {
+            this.components = components;
+            this.hash = Arrays.hashCode(components);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash
+                    && Arrays.equals(this.components, that.components);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
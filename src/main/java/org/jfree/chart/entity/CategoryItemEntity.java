@@ -27,11 +27,12 @@
  * -----------------------
  * CategoryItemEntity.java
  * -----------------------
- * (C) Copyright 2002-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2002-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard Atkinson;
  *                   Christian W. Zuckschwerdt;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -48,6 +49,8 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 18-May-2007 : Updated to use row and column keys to identify item (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added constructor that generates the tool tip and URL text on
+ *               demand (agent);
  *
  */
 
@@ -56,6 +59,8 @@ package org.jfree.chart.entity;
 import java.awt.Shape;
 import java.io.Serializable;
 
+import org.jfree.chart.labels.CategoryToolTipGenerator;
+import org.jfree.chart.urls.CategoryURLGenerator;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.extension.DatasetCursor;
@@ -88,6 +93,18 @@ public class CategoryItemEntity extends DataItemEntity
      */
     private Comparable columnKey;
 
+    /**
+     * The tool tip generator (<code>null</code> once the tool tip text has
+     * been generated or set).
+     */
+    private transient CategoryToolTipGenerator toolTipGenerator;
+
+    /**
+     * The URL generator (<code>null</code> once the URL text has been
+     * generated or set).
+     */
+    private transient CategoryURLGenerator urlGenerator;
+
     /**
      * Creates a new entity instance for an item in the specified dataset.
      *
@@ -111,6 +128,96 @@ public class CategoryItemEntity extends DataItemEntity
         this.columnKey = columnKey;
     }
 
+    /**
+     * Creates a new entity instance for an item in the specified dataset,
+     * with tool tip and URL text that is generated the first time it is
+     * requested, rather than when the entity is created.  Note that the text
+     * is generated from the dataset as it is at the time of the request
+     * (the item is identified by its row and column keys).
+     *
+     * @param area  the 'hotspot' area (<code>null</code> not permitted).
+     * @param toolTipGenerator  the tool tip generator (<code>null</code>
+     *     permitted).
+     * @param urlGenerator  the URL generator (<code>null</code> permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     */
+    public CategoryItemEntity(Shape area,
+            CategoryToolTipGenerator toolTipGenerator,
+            CategoryURLGenerator urlGenerator, CategoryDataset dataset,
+            int row, int column) {
+        this(area, null, null, dataset, dataset == null ? null
+                : dataset.getRowKey(row), dataset == null ? null
+                : dataset.getColumnKey(column));
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+    }
+
+    /**
+     * Returns the tool tip text for the entity, generating it first if
+     * necessary.
+     *
+     * @return The tool tip text (possibly <code>null</code>).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            CategoryToolTipGenerator generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            int row = this.dataset.getRowIndex(this.rowKey);
+            int column = this.dataset.getColumnIndex(this.columnKey);
+            if (row >= 0 && column >= 0) {
+                super.setToolTipText(generator.generateToolTip(this.dataset,
+                        row, column));
+            }
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any text that has not been generated
+     * yet).
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text for the entity, generating it first if necessary.
+     *
+     * @return The URL text (possibly <code>null</code>).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            CategoryURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            int row = this.dataset.getRowIndex(this.rowKey);
+            int column = this.dataset.getColumnIndex(this.columnKey);
+            if (row >= 0 && column >= 0) {
+                super.setURLText(generator.generateURL(this.dataset, row,
+                        column));
+            }
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Sets the URL text (replacing any text that has not been generated yet).
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
     /**
      * Returns the dataset this entity refers to.  This can be used to
      * differentiate between items in a chart that displays more than one
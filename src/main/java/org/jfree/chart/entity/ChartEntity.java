@@ -27,12 +27,13 @@
  * ----------------
  * ChartEntity.java
  * ----------------
- * (C) Copyright 2002-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2002-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard Atkinson;
  *                   Xavier Poinsard;
  *                   Robert Fuller;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -69,6 +70,8 @@
  * 05-Dec-2007 : Previous change reverted - let the tool tip and url tag
  *               generators handle filtering / escaping (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Access the tool tip and URL text through the getter methods,
+ *               so that subclasses can generate them on demand (agent);
  *
  */
 
@@ -175,6 +178,10 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * may have been generated from user supplied data, so for security
      * reasons some form of filtering should be applied before incorporating
      * this text into any HTML output.
+     * <P>
+     * Subclasses may override this method to generate the text the first
+     * time it is requested (the other methods in this class always read the
+     * text through this method).
      *
      * @return The tool tip text (possibly <code>null</code>).
      */
@@ -195,6 +202,9 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * Returns the URL text for the entity.  Be aware that this text
      * may have been generated from user supplied data, so some form of
      * filtering should be applied before this "URL" is used in any output.
+     * <P>
+     * Subclasses may override this method to generate the text the first
+     * time it is requested.
      *
      * @return The URL text (possibly <code>null</code>).
      */
@@ -319,20 +329,19 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
         StringBuilder tag = new StringBuilder();
-        boolean hasURL = (this.urlText == null ? false
-                : !this.urlText.equals(""));
-        boolean hasToolTip = (this.toolTipText == null ? false
-                : !this.toolTipText.equals(""));
+        String url = getURLText();
+        String toolTip = getToolTipText();
+        boolean hasURL = (url == null ? false : !url.equals(""));
+        boolean hasToolTip = (toolTip == null ? false : !toolTip.equals(""));
         if (hasURL || hasToolTip) {
             tag.append("<area shape=\"" + getShapeType() + "\"" + " coords=\""
                     + getShapeCoords() + "\"");
             if (hasToolTip) {
                 tag.append(toolTipTagFragmentGenerator.generateToolTipFragment(
-                        this.toolTipText));
+                        toolTip));
             }
             if (hasURL) {
-                tag.append(urlTagFragmentGenerator.generateURLFragment(
-                        this.urlText));
+                tag.append(urlTagFragmentGenerator.generateURLFragment(url));
             }
             else {
                 tag.append(" nohref=\"nohref\"");
@@ -357,7 +366,7 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     public String toString() {
         StringBuilder buf = new StringBuilder("ChartEntity: ");
         buf.append("tooltip = ");
-        buf.append(this.toolTipText);
+        buf.append(getToolTipText());
         return buf.toString();
     }
 
@@ -380,10 +389,10 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
         if (!this.area.equals(that.area)) {
             return false;
         }
-        if (!ObjectUtils.equal(this.toolTipText, that.toolTipText)) {
+        if (!ObjectUtils.equal(getToolTipText(), that.getToolTipText())) {
             return false;
         }
-        if (!ObjectUtils.equal(this.urlText, that.urlText)) {
+        if (!ObjectUtils.equal(getURLText(), that.getURLText())) {
             return false;
         }
         return true;
@@ -397,8 +406,8 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     @Override
     public int hashCode() {
         int result = 37;
-        result = HashUtils.hashCode(result, this.toolTipText);
-        result = HashUtils.hashCode(result, this.urlText);
+        result = HashUtils.hashCode(result, getToolTipText());
+        result = HashUtils.hashCode(result, getURLText());
         return result;
     }
 
@@ -423,6 +432,9 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * @throws IOException  if there is an I/O error.
      */
     private void writeObject(ObjectOutputStream stream) throws IOException {
+        // make sure that any text generated on demand is written
+        this.toolTipText = getToolTipText();
+        this.urlText = getURLText();
         stream.defaultWriteObject();
         SerialUtils.writeShape(this.area, stream);
      }
@@ -0,0 +1,806 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * CompactEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.chart.util.ObjectUtils;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.chart.util.ShapeUtils;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An entity collection that stores the entities for the items in an
+ * {@link XYDataset} in a set of parallel arrays (the series and item
+ * indices, the item values, the bounds of the hotspot and a reference to a
+ * shared shape) rather than as one {@link XYItemEntity} object per item.
+ * This reduces the memory required to record the entities for charts with a
+ * very large number of data items.  An {@link XYItemEntity} is created each
+ * time an entity is requested from the collection, with the tool tip and URL
+ * text generated on demand.
+ * <P>
+ * Renderers that extend
+ * {@link org.jfree.chart.renderer.xy.AbstractXYItemRenderer} add their
+ * item entities with {@link #addXYItem(Shape, XYToolTipGenerator,
+ * XYURLGenerator, XYDataset, int, int)}.  Other entities (and item
+ * entities with a shape that cannot be shared) are stored as they are.
+ * Rectangles and ellipses are described completely by their bounds, other
+ * shapes are stored once for each distinct outline and translated to the
+ * location of each item.  Coordinates are stored with <code>float</code>
+ * precision.
+ * <P>
+ * When an instance is serialized, it is written as a
+ * {@link StandardEntityCollection} containing the same entities.
+ */
+public class CompactEntityCollection implements EntityCollection,
+        Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2364358911208591373L;
+
+    /** The shape code for an entity that is stored as an object. */
+    private static final int SHAPE_OBJECT = -1;
+
+    /** The shape code for an item with a rectangular hotspot. */
+    private static final int SHAPE_RECTANGLE = -2;
+
+    /** The shape code for an item with an elliptical hotspot. */
+    private static final int SHAPE_ELLIPSE = -3;
+
+    /** The maximum number of shared shapes. */
+    private static final int MAX_TEMPLATES = 32;
+
+    /**
+     * The tolerance (in Java2D units) used when comparing a hotspot with the
+     * shared shapes.
+     */
+    private static final double TOLERANCE = 0.001;
+
+    /** The initial capacity of the arrays. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** The number of entities in the collection. */
+    private int count;
+
+    /**
+     * The series index for each item (for an entity stored as an object,
+     * this is not used).
+     */
+    private int[] series;
+
+    /**
+     * The item index for each item (for an entity stored as an object, this
+     * is the index into the {@link #objects} list).
+     */
+    private int[] items;
+
+    /** The index of the dataset and generators for each item. */
+    private int[] sources;
+
+    /**
+     * The x-value of each item when it was added (so that the text for an
+     * item that has changed since is not generated).
+     */
+    private double[] xValues;
+
+    /** The y-value of each item when it was added. */
+    private double[] yValues;
+
+    /**
+     * The shape code for each entity, either the index of a shared shape or
+     * one of the <code>SHAPE_XXX</code> constants.
+     */
+    private int[] shapes;
+
+    /** The x-coordinate of the bounds for each entity. */
+    private float[] x;
+
+    /** The y-coordinate of the bounds for each entity. */
+    private float[] y;
+
+    /** The width of the bounds for each entity. */
+    private float[] width;
+
+    /** The height of the bounds for each entity. */
+    private float[] height;
+
+    /** The datasets and generators referenced by the items. */
+    private List<Source> sourceList;
+
+    /**
+     * The shared shapes, each translated so that the top left corner of its
+     * bounds is at (0, 0).
+     */
+    private List<Shape> templates;
+
+    /** The index of the shared shape that was matched most recently. */
+    private int lastTemplate;
+
+    /** The entities that are stored as objects. */
+    private List<ChartEntity> objects;
+
+    /** Working storage for comparing shapes. */
+    private transient double[] coords1;
+
+    /** Working storage for comparing shapes. */
+    private transient double[] coords2;
+
+    /**
+     * Creates a new collection (initially empty).
+     */
+    public CompactEntityCollection() {
+        this.series = new int[INITIAL_CAPACITY];
+        this.items = new int[INITIAL_CAPACITY];
+        this.sources = new int[INITIAL_CAPACITY];
+        this.xValues = new double[INITIAL_CAPACITY];
+        this.yValues = new double[INITIAL_CAPACITY];
+        this.shapes = new int[INITIAL_CAPACITY];
+        this.x = new float[INITIAL_CAPACITY];
+        this.y = new float[INITIAL_CAPACITY];
+        this.width = new float[INITIAL_CAPACITY];
+        this.height = new float[INITIAL_CAPACITY];
+        this.sourceList = new ArrayList<Source>();
+        this.templates = new ArrayList<Shape>();
+        this.lastTemplate = -1;
+        this.objects = new ArrayList<ChartEntity>();
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of distinct shapes that are shared between the
+     * items in the collection.
+     *
+     * @return The shape count.
+     */
+    public int getSharedShapeCount() {
+        return this.templates.size();
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        this.count = 0;
+        this.sourceList.clear();
+        this.templates.clear();
+        this.lastTemplate = -1;
+        this.objects.clear();
+    }
+
+    /**
+     * Adds an entity to the collection.  The entity is stored as it is.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        ParamChecks.nullNotPermitted(entity, "entity");
+        Rectangle2D bounds = entity.getArea().getBounds2D();
+        int index = append(bounds);
+        this.shapes[index] = SHAPE_OBJECT;
+        this.items[index] = this.objects.size();
+        this.objects.add(entity);
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        ParamChecks.nullNotPermitted(collection, "collection");
+        for (ChartEntity entity : collection) {
+            add(entity);
+        }
+    }
+
+    /**
+     * Adds the entity for an item in an {@link XYDataset}.  The entity
+     * returned later by {@link #getEntity(int)} is equivalent to
+     * <code>new XYItemEntity(area, toolTipGenerator, urlGenerator, dataset,
+     * series, item)</code> called now: the item's values are recorded, and
+     * no text is generated if the item has changed by the time the entity
+     * is requested.
+     *
+     * @param area  the hotspot for the item (<code>null</code> not
+     *     permitted).
+     * @param toolTipGenerator  the tool tip generator (<code>null</code>
+     *     permitted).
+     * @param urlGenerator  the URL generator (<code>null</code> permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     */
+    public void addXYItem(Shape area, XYToolTipGenerator toolTipGenerator,
+            XYURLGenerator urlGenerator, XYDataset dataset, int series,
+            int item) {
+        ParamChecks.nullNotPermitted(area, "area");
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        Rectangle2D bounds = area.getBounds2D();
+        int shape = findShape(area, bounds);
+        if (shape == SHAPE_OBJECT) {
+            add(new XYItemEntity(area, toolTipGenerator, urlGenerator, dataset,
+                    series, item));
+            return;
+        }
+        int index = append(bounds);
+        this.shapes[index] = shape;
+        this.series[index] = series;
+        this.items[index] = item;
+        this.sources[index] = findSource(dataset, toolTipGenerator,
+                urlGenerator);
+        this.xValues[index] = dataset.getXValue(series, item);
+        this.yValues[index] = dataset.getYValue(series, item);
+    }
+
+    /**
+     * Appends a row to the arrays, storing the bounds of the entity, and
+     * returns its index.
+     *
+     * @param bounds  the bounds.
+     *
+     * @return The index of the new row.
+     */
+    private int append(Rectangle2D bounds) {
+        if (this.count == this.shapes.length) {
+            int capacity = this.count + (this.count >> 1) + 1;
+            this.series = Arrays.copyOf(this.series, capacity);
+            this.items = Arrays.copyOf(this.items, capacity);
+            this.sources = Arrays.copyOf(this.sources, capacity);
+            this.xValues = Arrays.copyOf(this.xValues, capacity);
+            this.yValues = Arrays.copyOf(this.yValues, capacity);
+            this.shapes = Arrays.copyOf(this.shapes, capacity);
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.width = Arrays.copyOf(this.width, capacity);
+            this.height = Arrays.copyOf(this.height, capacity);
+        }
+        int index = this.count;
+        this.x[index] = (float) bounds.getX();
+        this.y[index] = (float) bounds.getY();
+        this.width[index] = (float) bounds.getWidth();
+        this.height[index] = (float) bounds.getHeight();
+        this.sources[index] = -1;
+        this.count++;
+        return index;
+    }
+
+    /**
+     * Returns the shape code for a hotspot, adding a new shared shape if
+     * necessary.
+     *
+     * @param area  the hotspot.
+     * @param bounds  the bounds of the hotspot.
+     *
+     * @return The shape code.
+     */
+    private int findShape(Shape area, Rectangle2D bounds) {
+        if (area instanceof Rectangle2D) {
+            return SHAPE_RECTANGLE;
+        }
+        if (area instanceof Ellipse2D) {
+            return SHAPE_ELLIPSE;
+        }
+        double dx = (float) bounds.getX();
+        double dy = (float) bounds.getY();
+        if (this.lastTemplate >= 0 && samePath(this.templates.get(
+                this.lastTemplate), area, dx, dy)) {
+            return this.lastTemplate;
+        }
+        for (int i = 0; i < this.templates.size(); i++) {
+            if (i != this.lastTemplate && samePath(this.templates.get(i), area,
+                    dx, dy)) {
+                this.lastTemplate = i;
+                return i;
+            }
+        }
+        if (this.templates.size() == MAX_TEMPLATES) {
+            return SHAPE_OBJECT;
+        }
+        AffineTransform t = AffineTransform.getTranslateInstance(-dx, -dy);
+        this.templates.add(t.createTransformedShape(area));
+        this.lastTemplate = this.templates.size() - 1;
+        return this.lastTemplate;
+    }
+
+    /**
+     * Returns <code>true</code> if a shape has the same outline as a shared
+     * shape once it is translated by <code>(-dx, -dy)</code>.
+     *
+     * @param template  the shared shape.
+     * @param shape  the shape.
+     * @param dx  the x-offset.
+     * @param dy  the y-offset.
+     *
+     * @return A boolean.
+     */
+    private boolean samePath(Shape template, Shape shape, double dx,
+            double dy) {
+        if (this.coords1 == null) {
+            this.coords1 = new double[6];
+            this.coords2 = new double[6];
+        }
+        PathIterator i1 = template.getPathIterator(null);
+        PathIterator i2 = shape.getPathIterator(null);
+        if (i1.getWindingRule() != i2.getWindingRule()) {
+            return false;
+        }
+        while (!i1.isDone() && !i2.isDone()) {
+            int segment = i1.currentSegment(this.coords1);
+            if (i2.currentSegment(this.coords2) != segment) {
+                return false;
+            }
+            int n;
+            if (segment == PathIterator.SEG_CUBICTO) {
+                n = 6;
+            } else if (segment == PathIterator.SEG_QUADTO) {
+                n = 4;
+            } else if (segment == PathIterator.SEG_CLOSE) {
+                n = 0;
+            } else {
+                n = 2;
+            }
+            for (int i = 0; i < n; i += 2) {
+                if (Math.abs(this.coords1[i] - (this.coords2[i] - dx))
+                        > TOLERANCE || Math.abs(this.coords1[i + 1]
+                        - (this.coords2[i + 1] - dy)) > TOLERANCE) {
+                    return false;
+                }
+            }
+            i1.next();
+            i2.next();
+        }
+        return i1.isDone() && i2.isDone();
+    }
+
+    /**
+     * Returns the index of the source for a dataset and generators, adding
+     * a new source if necessary.
+     *
+     * @param dataset  the dataset.
+     * @param toolTipGenerator  the tool tip generator.
+     * @param urlGenerator  the URL generator.
+     *
+     * @return The index.
+     */
+    private int findSource(XYDataset dataset,
+            XYToolTipGenerator toolTipGenerator, XYURLGenerator urlGenerator) {
+        for (int i = this.sourceList.size() - 1; i >= 0; i--) {
+            Source s = this.sourceList.get(i);
+            if (s.dataset == dataset && s.toolTipGenerator == toolTipGenerator
+                    && s.urlGenerator == urlGenerator) {
+                return i;
+            }
+        }
+        this.sourceList.add(new Source(dataset, toolTipGenerator,
+                urlGenerator));
+        return this.sourceList.size() - 1;
+    }
+
+    /**
+     * Returns an entity from the collection.  For items added with
+     * {@link #addXYItem(Shape, XYToolTipGenerator, XYURLGenerator, XYDataset,
+     * int, int)} a new {@link XYItemEntity} is created each time this method
+     * is called.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.count);
+        }
+        if (this.shapes[index] == SHAPE_OBJECT) {
+            return this.objects.get(this.items[index]);
+        }
+        Source s = this.sourceList.get(this.sources[index]);
+        return new XYItemEntity(createShape(index), s.toolTipGenerator,
+                s.urlGenerator, s.dataset, this.series[index],
+                this.items[index], this.xValues[index], this.yValues[index]);
+    }
+
+    /**
+     * Creates the hotspot for an item.
+     *
+     * @param index  the entity index.
+     *
+     * @return The hotspot.
+     */
+    private Shape createShape(int index) {
+        int shape = this.shapes[index];
+        if (shape == SHAPE_RECTANGLE) {
+            return new Rectangle2D.Double(this.x[index], this.y[index],
+                    this.width[index], this.height[index]);
+        }
+        if (shape == SHAPE_ELLIPSE) {
+            return new Ellipse2D.Double(this.x[index], this.y[index],
+                    this.width[index], this.height[index]);
+        }
+        return ShapeUtils.createTranslatedShape(this.templates.get(shape),
+                this.x[index], this.y[index]);
+    }
+
+    /**
+     * Returns the last entity in the collection with an area that encloses
+     * the specified coordinates, or <code>null</code> if there is no such
+     * entity.  Only the entity that is found is created.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        for (int i = this.count - 1; i >= 0; i--) {
+            if (x < this.x[i] || y < this.y[i]
+                    || x > this.x[i] + this.width[i]
+                    || y > this.y[i] + this.height[i]) {
+                continue;
+            }
+            if (contains(i, x, y)) {
+                return getEntity(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns <code>true</code> if the area of an entity contains a point.
+     *
+     * @param index  the entity index.
+     * @param px  the x-coordinate.
+     * @param py  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean contains(int index, double px, double py) {
+        double x0 = this.x[index];
+        double y0 = this.y[index];
+        double w = this.width[index];
+        double h = this.height[index];
+        int shape = this.shapes[index];
+        if (shape == SHAPE_RECTANGLE) {
+            // the same test as Rectangle2D.contains()
+            return w > 0.0 && h > 0.0 && px >= x0 && py >= y0
+                    && px < x0 + w && py < y0 + h;
+        }
+        if (shape == SHAPE_ELLIPSE) {
+            // the same test as Ellipse2D.contains()
+            if (w <= 0.0 || h <= 0.0) {
+                return false;
+            }
+            double nx = (px - x0) / w - 0.5;
+            double ny = (py - y0) / h - 0.5;
+            return nx * nx + ny * ny < 0.25;
+        }
+        if (shape == SHAPE_OBJECT) {
+            return this.objects.get(this.items[index]).getArea().contains(px,
+                    py);
+        }
+        return this.templates.get(shape).contains(px - x0, py - y0);
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects the
+     * specified rectangle, in the order they were added to the collection.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Rectangle2D region) {
+        return getEntities(region, false);
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects (or, if
+     * <code>contained</code> is <code>true</code>, lies entirely inside) the
+     * specified region, in the order they were added to the collection.
+     * The stored bounds are checked before any entity is created.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     * @param contained  if <code>true</code>, only entities that lie inside
+     *     the region are returned.
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Shape region, boolean contained) {
+        RegionMatcher matcher = new RegionMatcher(region, contained);
+        List<ChartEntity> result = new ArrayList<ChartEntity>();
+        for (int i = 0; i < this.count; i++) {
+            if (!matcher.mayMatch(this.x[i], this.y[i], this.width[i],
+                    this.height[i])) {
+                continue;
+            }
+            ChartEntity entity = getEntity(i);
+            if (matcher.matches(entity.getArea())) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.  The entities for
+     * items are created as the collection is accessed.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        return Collections.unmodifiableList(new AbstractList<ChartEntity>() {
+            @Override
+            public ChartEntity get(int index) {
+                return getEntity(index);
+            }
+            @Override
+            public int size() {
+                return getEntityCount();
+            }
+        });
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompactEntityCollection)) {
+            return false;
+        }
+        CompactEntityCollection that = (CompactEntityCollection) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            int shape = this.shapes[i];
+            if (shape != that.shapes[i] || this.x[i] != that.x[i]
+                    || this.y[i] != that.y[i]
+                    || this.width[i] != that.width[i]
+                    || this.height[i] != that.height[i]) {
+                return false;
+            }
+            if (shape == SHAPE_OBJECT) {
+                if (!this.objects.get(this.items[i]).equals(
+                        that.objects.get(that.items[i]))) {
+                    return false;
+                }
+                continue;
+            }
+            if (this.series[i] != that.series[i]
+                    || this.items[i] != that.items[i]) {
+                return false;
+            }
+            if (!this.sourceList.get(this.sources[i]).equals(
+                    that.sourceList.get(that.sources[i]))) {
+                return false;
+            }
+            if (shape >= 0 && !samePath(this.templates.get(shape),
+                    that.templates.get(shape), 0.0, 0.0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = 17;
+        for (int i = 0; i < this.count; i++) {
+            result = 31 * result + this.shapes[i];
+            result = 31 * result + Float.floatToIntBits(this.x[i]);
+            result = 31 * result + Float.floatToIntBits(this.y[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of this entity collection.  The datasets and
+     * generators are shared with the clone, but the entities that are stored
+     * as objects are cloned.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        CompactEntityCollection clone
+                = (CompactEntityCollection) super.clone();
+        clone.series = this.series.clone();
+        clone.items = this.items.clone();
+        clone.sources = this.sources.clone();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        clone.shapes = this.shapes.clone();
+        clone.x = this.x.clone();
+        clone.y = this.y.clone();
+        clone.width = this.width.clone();
+        clone.height = this.height.clone();
+        clone.sourceList = new ArrayList<Source>(this.sourceList);
+        clone.templates = new ArrayList<Shape>(this.templates);
+        clone.objects = new ArrayList<ChartEntity>(this.objects.size());
+        for (ChartEntity entity : this.objects) {
+            clone.objects.add((ChartEntity) entity.clone());
+        }
+        clone.coords1 = null;
+        clone.coords2 = null;
+        return clone;
+    }
+
+    /**
+     * Replaces this collection with a {@link StandardEntityCollection}
+     * containing the same entities when it is serialized (the datasets and
+     * generators are not serialized, but the entities record the tool tip
+     * and URL text).
+     *
+     * @return A standard entity collection.
+     *
+     * @throws ObjectStreamException not thrown by this implementation.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        StandardEntityCollection result = new StandardEntityCollection();
+        for (int i = 0; i < this.count; i++) {
+            result.add(getEntity(i));
+        }
+        return result;
+    }
+
+    /**
+     * A dataset and the generators used to create the tool tip and URL
+     * text for its items.
+     */
+    private static class Source {
+
+        /** The dataset. */
+        XYDataset dataset;
+
+        /** The tool tip generator (<code>null</code> permitted). */
+        XYToolTipGenerator toolTipGenerator;
+
+        /** The URL generator (<code>null</code> permitted). */
+        XYURLGenerator urlGenerator;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param dataset  the dataset.
+         * @param toolTipGenerator  the tool tip generator.
+         * @param urlGenerator  the URL generator.
+         */
+        Source(XYDataset dataset, XYToolTipGenerator toolTipGenerator,
+                XYURLGenerator urlGenerator) {
+            this.dataset = dataset;
+            this.toolTipGenerator = toolTipGenerator;
+            this.urlGenerator = urlGenerator;
+        }
+
+        /**
+         * Tests this instance for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Source)) {
+                return false;
+            }
+            Source that = (Source) obj;
+            return ObjectUtils.equal(this.dataset, that.dataset)
+                    && ObjectUtils.equal(this.toolTipGenerator,
+                            that.toolTipGenerator)
+                    && ObjectUtils.equal(this.urlGenerator, that.urlGenerator);
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return ObjectUtils.hashCode(this.dataset);
+        }
+
+    }
+
+}
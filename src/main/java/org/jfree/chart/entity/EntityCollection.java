@@ -27,10 +27,10 @@
  * ---------------------
  * EntityCollection.java
  * ---------------------
- * (C) Copyright 2002-2008, by Object Refinery Limited.
+ * (C) Copyright 2002-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -42,13 +42,19 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0
  *               release (DG);
  * 18-Jan-2005 : Added getEntity() and getEntityCount() methods (DG);
+ * 17-Oct-2026 : Added region queries, with default implementations for
+ *               existing collections (agent);
  *
  */
 
 package org.jfree.chart.entity;
 
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * This interface defines the methods used to access an ordered list of
@@ -108,6 +114,49 @@ public interface EntityCollection extends Iterable<ChartEntity> {
      */
     public Collection<ChartEntity> getEntities();
 
+    /**
+     * Returns a list of the entities with an area that intersects the
+     * specified rectangle, in the order they were added to the collection.
+     * The default implementation calls
+     * {@link #getEntities(Shape, boolean)}.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    public default List<ChartEntity> getEntities(Rectangle2D region) {
+        return getEntities(region, false);
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects (or, if
+     * <code>contained</code> is <code>true</code>, lies entirely inside) the
+     * specified region, in the order they were added to the collection.
+     * The region can be a rectangle, a circle (<code>Ellipse2D</code>) or a
+     * polygon (for example a <code>GeneralPath</code>).  The default
+     * implementation tests every entity in {@link #getEntities()}, comparing
+     * the bounds of each entity with the region before testing the exact
+     * shapes.  The collections in this package override it with queries
+     * that skip most of the entities outside the region.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     * @param contained  if <code>true</code>, only entities that lie inside
+     *     the region are returned.
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    public default List<ChartEntity> getEntities(Shape region,
+            boolean contained) {
+        RegionMatcher matcher = new RegionMatcher(region, contained);
+        List<ChartEntity> result = new ArrayList<ChartEntity>();
+        for (ChartEntity entity : getEntities()) {
+            if (matcher.matches(entity.getArea())) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns an iterator for the entities in the collection.
      *
@@ -0,0 +1,506 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * GridEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+
+/**
+ * An entity collection that maintains a spatial index (a uniform grid of
+ * cells keyed on the bounds of each entity) so that the entity at a point,
+ * or the entities intersecting a rectangle, can be found without testing
+ * every entity in the collection.  This is useful for charts with a large
+ * number of items, where {@link StandardEntityCollection} has to scan the
+ * whole list each time the mouse moves.
+ * <P>
+ * The entities are stored in the order they were added, and as for the
+ * standard collection, {@link #getEntity(double, double)} returns the last
+ * (top-most) entity that contains the point.  The index is built on the
+ * first query after the collection is modified; if the area of an entity is
+ * changed after it has been added to the collection, call
+ * {@link #invalidateIndex()}.
+ * <P>
+ * To use this collection for a chart in a panel, pass an instance to
+ * {@link org.jfree.chart.ChartRenderingInfo#setEntityCollection(
+ * EntityCollection)}.
+ */
+public class GridEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1497353520133706346L;
+
+    /**
+     * The minimum number of cells an entity must cover before it is kept in
+     * the list of large entities rather than being added to each cell.
+     */
+    private static final int LARGE_ENTITY_CELLS = 64;
+
+    /** The number of entities covered by the index. */
+    private transient int indexedCount;
+
+    /** A flag that indicates whether the index needs to be rebuilt. */
+    private transient boolean indexValid;
+
+    /** The x-coordinate of the left edge of the grid. */
+    private transient double gridX;
+
+    /** The y-coordinate of the top edge of the grid. */
+    private transient double gridY;
+
+    /** The width of each cell. */
+    private transient double cellWidth;
+
+    /** The height of each cell. */
+    private transient double cellHeight;
+
+    /** The number of columns in the grid. */
+    private transient int columns;
+
+    /** The number of rows in the grid. */
+    private transient int rows;
+
+    /**
+     * The start of the entries for each cell in {@link #cellEntities} (this
+     * array has one more element than there are cells).
+     */
+    private transient int[] cellStart;
+
+    /** The entity indices for each cell, in ascending order. */
+    private transient int[] cellEntities;
+
+    /** The indices of the large entities, in ascending order. */
+    private transient int[] largeEntities;
+
+    /** The bounds of each entity (minX, minY, maxX, maxY). */
+    private transient double[] bounds;
+
+    /**
+     * Creates a new collection (initially empty).
+     */
+    public GridEntityCollection() {
+        super();
+        this.indexValid = false;
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        invalidateIndex();
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        super.add(entity);
+        this.indexValid = false;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        super.addAll(collection);
+        this.indexValid = false;
+    }
+
+    /**
+     * Discards the spatial index, so that it is rebuilt on the next query.
+     * You need to call this method if you change the area of an entity that
+     * has already been added to the collection.
+     */
+    public void invalidateIndex() {
+        this.indexValid = false;
+        this.cellStart = null;
+        this.cellEntities = null;
+        this.largeEntities = null;
+        this.bounds = null;
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        updateIndex();
+        int best = -1;
+        int cell = cellAt(x, y);
+        if (cell >= 0) {
+            for (int i = this.cellStart[cell + 1] - 1;
+                    i >= this.cellStart[cell]; i--) {
+                int index = this.cellEntities[i];
+                if (contains(index, x, y)) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        for (int i = this.largeEntities.length - 1; i >= 0; i--) {
+            int index = this.largeEntities[i];
+            if (index <= best) {
+                break;
+            }
+            if (contains(index, x, y)) {
+                best = index;
+                break;
+            }
+        }
+        return best >= 0 ? getEntity(best) : null;
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects the
+     * specified rectangle.  The entities are returned in the order they
+     * were added to the collection.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Rectangle2D region) {
+        return getEntities(region, false);
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects (or, if
+     * <code>contained</code> is <code>true</code>, lies entirely inside) the
+     * specified region, in the order they were added to the collection.
+     * Only the entities in the grid cells covered by the bounds of the
+     * region are tested.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     * @param contained  if <code>true</code>, only entities that lie inside
+     *     the region are returned.
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Shape region, boolean contained) {
+        RegionMatcher matcher = new RegionMatcher(region, contained);
+        updateIndex();
+        List<ChartEntity> result = new ArrayList<ChartEntity>();
+        if (this.indexedCount == 0) {
+            return result;
+        }
+        Rectangle2D r = matcher.getBounds();
+        BitSet candidates = new BitSet(this.indexedCount);
+        int c0 = Math.max(column(r.getMinX()), 0);
+        int c1 = Math.min(column(r.getMaxX()), this.columns - 1);
+        int r0 = Math.max(row(r.getMinY()), 0);
+        int r1 = Math.min(row(r.getMaxY()), this.rows - 1);
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                int cell = row * this.columns + col;
+                for (int i = this.cellStart[cell];
+                        i < this.cellStart[cell + 1]; i++) {
+                    candidates.set(this.cellEntities[i]);
+                }
+            }
+        }
+        for (int index : this.largeEntities) {
+            candidates.set(index);
+        }
+        for (int index = candidates.nextSetBit(0); index >= 0;
+                index = candidates.nextSetBit(index + 1)) {
+            int b = index * 4;
+            if (!matcher.mayMatch(this.bounds[b], this.bounds[b + 1],
+                    this.bounds[b + 2] - this.bounds[b],
+                    this.bounds[b + 3] - this.bounds[b + 1])) {
+                continue;
+            }
+            ChartEntity entity = getEntity(index);
+            if (matcher.matches(entity.getArea())) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if the area of the entity with the specified
+     * index contains the point, checking the cached bounds first.
+     *
+     * @param index  the entity index.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean contains(int index, double x, double y) {
+        int b = index * 4;
+        if (x < this.bounds[b] || x > this.bounds[b + 2]
+                || y < this.bounds[b + 1] || y > this.bounds[b + 3]) {
+            return false;
+        }
+        return getEntity(index).getArea().contains(x, y);
+    }
+
+    /**
+     * Returns the index of the cell containing the specified point, or
+     * <code>-1</code> if the point lies outside the grid.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The cell index.
+     */
+    private int cellAt(double x, double y) {
+        if (this.indexedCount == 0) {
+            return -1;
+        }
+        int c = column(x);
+        int r = row(y);
+        if (c < 0 || c >= this.columns || r < 0 || r >= this.rows) {
+            return -1;
+        }
+        return r * this.columns + c;
+    }
+
+    /**
+     * Returns the column for an x-coordinate (see
+     * {@link #clamp(double, int)} for coordinates outside the grid).
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column.
+     */
+    private int column(double x) {
+        return clamp((x - this.gridX) / this.cellWidth, this.columns);
+    }
+
+    /**
+     * Returns the row for a y-coordinate (see {@link #clamp(double, int)}
+     * for coordinates outside the grid).
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row.
+     */
+    private int row(double y) {
+        return clamp((y - this.gridY) / this.cellHeight, this.rows);
+    }
+
+    /**
+     * Converts a cell position to an integer in the range <code>0</code> to
+     * <code>count - 1</code>.  Positions before the start of the grid (and
+     * NaN) give <code>-1</code> and positions after the end give
+     * <code>count</code>, so that callers can tell them apart from positions
+     * inside the grid.
+     *
+     * @param position  the position (in cells).
+     * @param count  the number of cells.
+     *
+     * @return The cell.
+     */
+    private static int clamp(double position, int count) {
+        if (Double.isNaN(position) || position < 0.0) {
+            return -1;
+        }
+        if (position >= count) {
+            // a point on the far edge of the grid belongs to the last cell
+            return position == count ? count - 1 : count;
+        }
+        return (int) position;
+    }
+
+    /**
+     * Rebuilds the spatial index if the collection has been modified since
+     * it was last built.
+     */
+    private void updateIndex() {
+        int count = getEntityCount();
+        if (this.indexValid && this.indexedCount == count) {
+            return;
+        }
+        double[] b = new double[count * 4];
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            Shape area = getEntity(i).getArea();
+            Rectangle2D r = area.getBounds2D();
+            b[i * 4] = r.getMinX();
+            b[i * 4 + 1] = r.getMinY();
+            b[i * 4 + 2] = r.getMaxX();
+            b[i * 4 + 3] = r.getMaxY();
+            if (isFinite(b, i)) {
+                minX = Math.min(minX, b[i * 4]);
+                minY = Math.min(minY, b[i * 4 + 1]);
+                maxX = Math.max(maxX, b[i * 4 + 2]);
+                maxY = Math.max(maxY, b[i * 4 + 3]);
+            }
+        }
+        if (minX > maxX) {
+            // no entity has finite bounds, they will all be large entities
+            minX = 0.0;
+            minY = 0.0;
+            maxX = 1.0;
+            maxY = 1.0;
+        }
+        this.bounds = b;
+        this.indexedCount = count;
+        this.indexValid = true;
+        if (count == 0) {
+            this.columns = 0;
+            this.rows = 0;
+            this.cellStart = new int[1];
+            this.cellEntities = new int[0];
+            this.largeEntities = new int[0];
+            return;
+        }
+
+        // choose a grid with roughly one cell per entity and square cells
+        double w = Math.max(maxX - minX, 1.0);
+        double h = Math.max(maxY - minY, 1.0);
+        int c = (int) Math.ceil(Math.sqrt(count * w / h));
+        c = Math.max(1, Math.min(c, count));
+        int r = Math.max(1, Math.min((count + c - 1) / c, count));
+        this.gridX = minX;
+        this.gridY = minY;
+        this.cellWidth = w / c;
+        this.cellHeight = h / r;
+        this.columns = c;
+        this.rows = r;
+        int cellCount = c * r;
+        int largeThreshold = Math.max(LARGE_ENTITY_CELLS, cellCount / 16);
+
+        // first pass counts the entries per cell, the second fills them in
+        int[] start = new int[cellCount + 1];
+        BitSet large = new BitSet(count);
+        for (int i = 0; i < count; i++) {
+            int c0 = column(b[i * 4]);
+            int c1 = Math.min(column(b[i * 4 + 2]), c - 1);
+            int r0 = row(b[i * 4 + 1]);
+            int r1 = Math.min(row(b[i * 4 + 3]), r - 1);
+            if (c0 < 0 || r0 < 0 || c1 < c0 || r1 < r0
+                    || (long) (c1 - c0 + 1) * (r1 - r0 + 1) > largeThreshold) {
+                large.set(i);
+                continue;
+            }
+            for (int row = r0; row <= r1; row++) {
+                for (int col = c0; col <= c1; col++) {
+                    start[row * c + col + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < cellCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] entries = new int[start[cellCount]];
+        int[] next = new int[cellCount];
+        System.arraycopy(start, 0, next, 0, cellCount);
+        for (int i = 0; i < count; i++) {
+            if (large.get(i)) {
+                continue;
+            }
+            int c0 = column(b[i * 4]);
+            int c1 = Math.min(column(b[i * 4 + 2]), c - 1);
+            int r0 = row(b[i * 4 + 1]);
+            int r1 = Math.min(row(b[i * 4 + 3]), r - 1);
+            for (int row = r0; row <= r1; row++) {
+                for (int col = c0; col <= c1; col++) {
+                    entries[next[row * c + col]++] = i;
+                }
+            }
+        }
+        this.cellStart = start;
+        this.cellEntities = entries;
+        this.largeEntities = new int[large.cardinality()];
+        int j = 0;
+        for (int i = large.nextSetBit(0); i >= 0; i = large.nextSetBit(i + 1)) {
+            this.largeEntities[j++] = i;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if all the bounds for an entity are finite.
+     *
+     * @param b  the bounds array.
+     * @param index  the entity index.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(double[] b, int index) {
+        for (int i = index * 4; i < index * 4 + 4; i++) {
+            if (Double.isNaN(b[i]) || Double.isInfinite(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        GridEntityCollection clone = (GridEntityCollection) super.clone();
+        clone.invalidateIndex();
+        return clone;
+    }
+
+}
@@ -27,11 +27,12 @@
  * ---------------------
  * PieSectionEntity.java
  * ---------------------
- * (C) Copyright 2002-2013, by Object Refinery Limited.
+ * (C) Copyright 2002-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard Atkinson;
  *                   Christian W. Zuckschwerdt;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -50,6 +51,8 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
  * 13-Nov-2007 : Implemented equals() and hashCode() (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added constructor that generates the tool tip and URL text on
+ *               demand (agent);
  *
  */
 
@@ -58,6 +61,8 @@ package org.jfree.chart.entity;
 import java.awt.Shape;
 import java.io.Serializable;
 
+import org.jfree.chart.labels.PieToolTipGenerator;
+import org.jfree.chart.urls.PieURLGenerator;
 import org.jfree.chart.util.HashUtils;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.data.extension.DatasetCursor;
@@ -86,6 +91,18 @@ public class PieSectionEntity extends DataItemEntity
     /** The section key. */
     private Comparable sectionKey;
 
+    /**
+     * The tool tip generator (<code>null</code> once the tool tip text has
+     * been generated or set).
+     */
+    private transient PieToolTipGenerator toolTipGenerator;
+
+    /**
+     * The URL generator (<code>null</code> once the URL text has been
+     * generated or set).
+     */
+    private transient PieURLGenerator urlGenerator;
+
     /**
      * Creates a new pie section entity.
      *
@@ -109,6 +126,85 @@ public class PieSectionEntity extends DataItemEntity
 
     }
 
+    /**
+     * Creates a new pie section entity with tool tip and URL text that is
+     * generated the first time it is requested, rather than when the entity
+     * is created.  Note that the text is generated from the dataset as it is
+     * at the time of the request.
+     *
+     * @param area  the area.
+     * @param toolTipGenerator  the tool tip generator (<code>null</code>
+     *     permitted).
+     * @param urlGenerator  the URL generator (<code>null</code> permitted).
+     * @param dataset  the pie dataset.
+     * @param pieIndex  the pie index (zero-based).
+     * @param sectionIndex  the section index (zero-based).
+     * @param sectionKey  the section key.
+     */
+    public PieSectionEntity(Shape area, PieToolTipGenerator toolTipGenerator,
+            PieURLGenerator urlGenerator, PieDataset dataset, int pieIndex,
+            int sectionIndex, Comparable<?> sectionKey) {
+        this(area, dataset, pieIndex, sectionIndex, sectionKey, null, null);
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+    }
+
+    /**
+     * Returns the tool tip text for the entity, generating it first if
+     * necessary.
+     *
+     * @return The tool tip text (possibly <code>null</code>).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            PieToolTipGenerator generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            super.setToolTipText(generator.generateToolTip(this.dataset,
+                    this.sectionKey));
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any text that has not been generated
+     * yet).
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text for the entity, generating it first if necessary.
+     *
+     * @return The URL text (possibly <code>null</code>).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            PieURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            super.setURLText(generator.generateURL(this.dataset,
+                    this.sectionKey, this.pieIndex));
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Sets the URL text (replacing any text that has not been generated yet).
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
     /**
      * Returns the dataset this entity refers to.
      *
@@ -0,0 +1,175 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * RegionMatcher.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Tests entity areas against a region for the region queries in the
+ * {@link EntityCollection} implementations.  Each area is first compared
+ * with the bounds of the region, and the (relatively expensive)
+ * <code>Area</code> test is only used for the areas that cannot be decided
+ * from their bounds.
+ */
+class RegionMatcher {
+
+    /** The region. */
+    private Shape region;
+
+    /** The bounds of the region. */
+    private Rectangle2D bounds;
+
+    /**
+     * A flag that indicates whether an area must lie inside the region
+     * (rather than just intersect it) to match.
+     */
+    private boolean contained;
+
+    /**
+     * A flag that indicates whether the region's <code>contains()</code> and
+     * <code>intersects()</code> methods give exact results for rectangles.
+     */
+    private boolean exact;
+
+    /** The region as an <code>Area</code> (created when first required). */
+    private Area regionArea;
+
+    /**
+     * Creates a new matcher.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     * @param contained  if <code>true</code>, an area must lie inside the
+     *     region to match, otherwise it only needs to intersect the region.
+     */
+    RegionMatcher(Shape region, boolean contained) {
+        ParamChecks.nullNotPermitted(region, "region");
+        this.region = region;
+        this.bounds = region.getBounds2D();
+        this.contained = contained;
+        this.exact = region instanceof Rectangle2D
+                || region instanceof Ellipse2D;
+    }
+
+    /**
+     * Returns the bounds of the region.
+     *
+     * @return The bounds.
+     */
+    Rectangle2D getBounds() {
+        return this.bounds;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified bounds could belong to an
+     * area that matches the region (this is a quick test that callers can
+     * use before creating the area).
+     *
+     * @param x  the x-coordinate of the bounds.
+     * @param y  the y-coordinate of the bounds.
+     * @param w  the width of the bounds.
+     * @param h  the height of the bounds.
+     *
+     * @return A boolean.
+     */
+    boolean mayMatch(double x, double y, double w, double h) {
+        if (this.contained) {
+            return x >= this.bounds.getMinX() && y >= this.bounds.getMinY()
+                    && x + w <= this.bounds.getMaxX()
+                    && y + h <= this.bounds.getMaxY();
+        }
+        return x <= this.bounds.getMaxX() && y <= this.bounds.getMaxY()
+                && x + w >= this.bounds.getMinX()
+                && y + h >= this.bounds.getMinY();
+    }
+
+    /**
+     * Returns <code>true</code> if the area matches the region.
+     *
+     * @param area  the area (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    boolean matches(Shape area) {
+        Rectangle2D b = area.getBounds2D();
+        if (!mayMatch(b.getX(), b.getY(), b.getWidth(), b.getHeight())) {
+            return false;
+        }
+        if (this.contained) {
+            if (this.region.contains(b)) {
+                return true;
+            }
+            if (this.exact && area instanceof Rectangle2D) {
+                return false;
+            }
+            Area a = new Area(area);
+            a.subtract(getRegionArea());
+            return a.isEmpty();
+        }
+        if (!this.region.intersects(b)) {
+            return false;
+        }
+        if (this.region.contains(b)
+                || (this.exact && area instanceof Rectangle2D)) {
+            return true;
+        }
+        Area a = new Area(area);
+        a.intersect(getRegionArea());
+        return !a.isEmpty();
+    }
+
+    /**
+     * Returns the region as an <code>Area</code>.
+     *
+     * @return The area.
+     */
+    private Area getRegionArea() {
+        if (this.regionArea == null) {
+            this.regionArea = new Area(this.region);
+        }
+        return this.regionArea;
+    }
+
+}
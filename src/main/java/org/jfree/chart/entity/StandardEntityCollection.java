@@ -27,10 +27,10 @@
  * -----------------------------
  * StandardEntityCollection.java
  * -----------------------------
- * (C) Copyright 2001-2012, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -45,12 +45,16 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Implemented PublicCloneable and fixed clone() method (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added region queries (agent);
  *
  */
 
 package org.jfree.chart.entity;
 
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -165,6 +169,42 @@ public class StandardEntityCollection implements EntityCollection,
         return Collections.unmodifiableCollection(this.entities);
     }
 
+    /**
+     * Returns a list of the entities with an area that intersects the
+     * specified rectangle, in the order they were added to the collection.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Rectangle2D region) {
+        return getEntities(region, false);
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects (or, if
+     * <code>contained</code> is <code>true</code>, lies entirely inside) the
+     * specified region, in the order they were added to the collection.
+     *
+     * @param region  the region (<code>null</code> not permitted).
+     * @param contained  if <code>true</code>, only entities that lie inside
+     *     the region are returned.
+     *
+     * @return A list of entities (possibly empty, never <code>null</code>).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Shape region, boolean contained) {
+        RegionMatcher matcher = new RegionMatcher(region, contained);
+        List<ChartEntity> result = new ArrayList<ChartEntity>();
+        for (ChartEntity entity : this.entities) {
+            if (matcher.matches(entity.getArea())) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns an iterator for the entities in the collection.
      *
@@ -27,11 +27,12 @@
  * -----------------
  * XYItemEntity.java
  * -----------------
- * (C) Copyright 2002-2013, by Object Refinery Limited.
+ * (C) Copyright 2002-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard Atkinson;
  *                   Christian W. Zuckschwerdt;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -45,6 +46,8 @@
  * 20-May-2004 : Added equals() and clone() methods and implemented
  *               Serializable (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
+ * 17-Oct-2026 : Added constructor that generates the tool tip and URL text on
+ *               demand, if the item is unchanged in the dataset (agent);
  *
  */
 
@@ -52,6 +55,8 @@ package org.jfree.chart.entity;
 
 import java.awt.Shape;
 
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.data.extension.DatasetCursor;
 import org.jfree.data.extension.impl.XYCursor;
 import org.jfree.data.general.Dataset;
@@ -75,6 +80,30 @@ public class XYItemEntity extends DataItemEntity {
     /** The item. */
     private int item;
 
+    /**
+     * The tool tip generator (<code>null</code> once the tool tip text has
+     * been generated or set).
+     */
+    private transient XYToolTipGenerator toolTipGenerator;
+
+    /**
+     * The URL generator (<code>null</code> once the URL text has been
+     * generated or set).
+     */
+    private transient XYURLGenerator urlGenerator;
+
+    /**
+     * The x-value of the item when the entity was created (used to check
+     * that the item is unchanged before the text is generated).
+     */
+    private transient double xValue;
+
+    /**
+     * The y-value of the item when the entity was created (used to check
+     * that the item is unchanged before the text is generated).
+     */
+    private transient double yValue;
+
     /**
      * Creates a new entity.
      *
@@ -93,6 +122,149 @@ public class XYItemEntity extends DataItemEntity {
         this.item = item;
     }
 
+    /**
+     * Creates a new entity with tool tip and URL text that is generated the
+     * first time it is requested, rather than when the entity is created.
+     * Renderers create an entity for every item drawn, but the text is only
+     * needed for the few items that a user hovers over (or when an image map
+     * is written).  The x and y-values of the item are recorded when the
+     * entity is created.  If, by the time the text is requested, the item
+     * has been removed from the dataset or the index now refers to an item
+     * with different values (for example, because items were removed from
+     * the start of the series) the text is <code>null</code>.
+     *
+     * @param area  the area.
+     * @param toolTipGenerator  the tool tip generator (<code>null</code>
+     *     permitted).
+     * @param urlGenerator  the URL generator (<code>null</code> permitted).
+     * @param dataset  the dataset.
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     */
+    public XYItemEntity(Shape area, XYToolTipGenerator toolTipGenerator,
+            XYURLGenerator urlGenerator, XYDataset dataset, int series,
+            int item) {
+        this(area, toolTipGenerator, urlGenerator, dataset, series, item,
+                dataset.getXValue(series, item),
+                dataset.getYValue(series, item));
+    }
+
+    /**
+     * Creates a new entity with tool tip and URL text that is generated on
+     * demand, for an item with the specified values.
+     *
+     * @param area  the area.
+     * @param toolTipGenerator  the tool tip generator (<code>null</code>
+     *     permitted).
+     * @param urlGenerator  the URL generator (<code>null</code> permitted).
+     * @param dataset  the dataset.
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     * @param xValue  the x-value of the item.
+     * @param yValue  the y-value of the item.
+     */
+    XYItemEntity(Shape area, XYToolTipGenerator toolTipGenerator,
+            XYURLGenerator urlGenerator, XYDataset dataset, int series,
+            int item, double xValue, double yValue) {
+        this(area, dataset, series, item, null, null);
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+        this.xValue = xValue;
+        this.yValue = yValue;
+    }
+
+    /**
+     * Returns the tool tip text for the entity, generating it first if
+     * necessary.
+     *
+     * @return The tool tip text (possibly <code>null</code>).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            XYToolTipGenerator generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            if (isItemUnchanged()) {
+                super.setToolTipText(generator.generateToolTip(this.dataset,
+                        this.series, this.item));
+            }
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any text that has not been generated
+     * yet).
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text for the entity, generating it first if necessary.
+     *
+     * @return The URL text (possibly <code>null</code>).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            XYURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            if (isItemUnchanged()) {
+                super.setURLText(generator.generateURL(this.dataset,
+                        this.series, this.item));
+            }
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Returns <code>true</code> if the item that the entity refers to is
+     * still in the dataset with the values it had when the entity was
+     * created.  The dataset can change between the time the entity is
+     * created and the time its text is first requested.
+     *
+     * @return A boolean.
+     */
+    private boolean isItemUnchanged() {
+        if (this.series < 0 || this.series >= this.dataset.getSeriesCount()
+                || this.item < 0
+                || this.item >= this.dataset.getItemCount(this.series)) {
+            return false;
+        }
+        double x = this.dataset.getXValue(this.series, this.item);
+        double y = this.dataset.getYValue(this.series, this.item);
+        return sameValue(this.xValue, x) && sameValue(this.yValue, y);
+    }
+
+    /**
+     * Returns <code>true</code> if two values are equal, treating
+     * <code>NaN</code> as equal to itself.
+     *
+     * @param v1  the first value.
+     * @param v2  the second value.
+     *
+     * @return A boolean.
+     */
+    private static boolean sameValue(double v1, double v2) {
+        return Double.doubleToLongBits(v1) == Double.doubleToLongBits(v2);
+    }
+
+    /**
+     * Sets the URL text (replacing any text that has not been generated yet).
+     *
+     * @param text  the text (<code>null</code> permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
     /**
      * Returns the dataset this entity refers to.
      *
@@ -27,14 +27,16 @@
  * ----------------
  * ZoomHandler.java
  * ----------------
- * (C) Copyright 2013, 2014,by Object Refinery Limited and Contributors.
+ * (C) Copyright 2013-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Michael Zinsmaier;
+ *                   agent;
  *
  * Changes:
  * --------
  * 11-Jun-2009 : Version 1 (DG);
+ * 17-Oct-2026 : Don't use XOR with background rendering (agent);
  *
  */
 
@@ -103,7 +105,7 @@ public class ZoomHandler extends AbstractMouseHandler {
         // this is we are using XOR mode, which we do when we're not using
         // the buffer (if there is a buffer, then at the end of this method we
         // just trigger a repaint)
-        if (!panel.getUseBuffer()) {
+        if (!isBuffered(panel)) {
             drawZoomRectangle(panel, g2, true);
         }
 
@@ -140,7 +142,7 @@ public class ZoomHandler extends AbstractMouseHandler {
         }
         panel.setZoomRectangle(this.zoomRectangle);
         // Draw the new zoom rectangle...
-        if (panel.getUseBuffer()) {
+        if (isBuffered(panel)) {
             panel.repaint();
         }
         else {
@@ -224,7 +226,7 @@ public class ZoomHandler extends AbstractMouseHandler {
         else {
             // erase the zoom rectangle
             Graphics2D g2 = (Graphics2D) panel.getGraphics();
-            if (panel.getUseBuffer()) {
+            if (isBuffered(panel)) {
                 panel.repaint();
             }
             else {
@@ -238,6 +240,19 @@ public class ZoomHandler extends AbstractMouseHandler {
         }
     }
 
+    /**
+     * Returns <code>true</code> if the panel shows the chart from an
+     * off-screen image (in which case the zoom rectangle is drawn by
+     * repainting the panel rather than in XOR mode).
+     *
+     * @param panel  the panel.
+     *
+     * @return A boolean.
+     */
+    private static boolean isBuffered(ChartPanel panel) {
+        return panel.getUseBuffer() || panel.isBackgroundRendering();
+    }
+
     /**
      * Draws zoom rectangle (if present).
      * The drawing is performed in XOR mode, therefore
@@ -27,16 +27,19 @@
  * -----------------------------------
  * CircularRegionSelectionHandler.java
  * -----------------------------------
- * (C) Copyright 2013, 2014, by Michael Zinsmaier and Contributors.
+ * (C) Copyright 2013-2026, by Michael Zinsmaier and Contributors.
  *
  * Original Author:  Michael Zinsmaier;                 
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
+ *                   agent;
  *
  * Changes:
  * --------
  * 17-Sep-2013 : Version 1 from MZ (DG);
  * 18-Sep-2013 : Allow circle to grow beyound plot bounds, but crop the
  *               selection region (DG);
+ * 17-Oct-2026 : Pass the circle to the selection manager, rather than
+ *               converting it to a path (agent);
  *
  */
 
@@ -48,7 +51,6 @@ import java.awt.Stroke;
 import java.awt.event.MouseEvent;
 import java.awt.geom.Area;
 import java.awt.geom.Ellipse2D;
-import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 
@@ -183,7 +185,7 @@ public class CircularRegionSelectionHandler extends RegionSelectionHandler {
 
         // do something with the selection shape
         if (selectionManager != null) {
-            selectionManager.select(new GeneralPath(this.selectionCircle));
+            selectionManager.select(this.selectionCircle);
         }
 
         panel.setSelectionShape(null);
@@ -27,21 +27,26 @@
  * ---------------------------
  * EntitySelectionManager.java
  * ---------------------------
- * (C) Copyright 2013, by Michael Zinsmaier and Contributors.
+ * (C) Copyright 2013-2026, by Michael Zinsmaier and Contributors.
  *
  * Original Author:  Michael Zinsmaier;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
+ *                   agent;
  *
  * Changes:
  * --------
  * 17-Sep-2013 : Version 1 from MZ (DG);
+ * 17-Oct-2026 : Use the region queries in EntityCollection, and added
+ *               select(Ellipse2D) (agent);
  *
  */
 
 package org.jfree.chart.panel.selectionhandler;
 
+import java.awt.Shape;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -189,59 +194,7 @@ public class EntitySelectionManager implements SelectionManager {
         } else {
             selection = pSelection;
         }
-
-        if (this.renderSourcePanel.getChartRenderingInfo() != null) {
-            muteAll();
-            {
-
-                EntityCollection entities = this.renderSourcePanel
-                        .getChartRenderingInfo().getEntityCollection();
-
-                for (ChartEntity ce : entities.getEntities()) {
-
-                    if (ce instanceof DataItemEntity) {
-
-                        DataItemEntity e = (DataItemEntity) ce;
-                        boolean match;
-
-                        if (e.getArea() instanceof Rectangle2D) {
-                            Rectangle2D entityRect = (Rectangle2D) e.getArea();
-                            // use fast rectangle to rectangle test
-                            if (this.intersectionMode) {
-                                match = selection.intersects(entityRect);
-                            } else {
-                                match = selection.contains(entityRect);
-                            }
-                        } else {
-                            // general shape test
-                            Area selectionShape = new Area(selection);
-                            Area entityShape = new Area(e.getArea());
-
-                            // fast test if completely inside the solution must be true
-                            if (selectionShape.contains(entityShape.getBounds())) {
-                                match = true;
-                            } else {
-                                if (this.intersectionMode) {
-                                    // test if the shapes intersect
-                                    entityShape.intersect(selectionShape);
-                                    match = !entityShape.isEmpty();
-                                } else {
-                                    // test if the entity shape is completely
-                                    // covered by the selection
-                                    entityShape.subtract(selectionShape);
-                                    match = entityShape.isEmpty();
-                                }
-                            }
-                        }
-
-                        if (match) {
-                            select(e);
-                        }
-                    }
-                }
-            }
-            unmuteAndTrigger();
-        }
+        selectEntities(selection);
     }
 
     /**
@@ -262,44 +215,53 @@ public class EntitySelectionManager implements SelectionManager {
         } else {
             selection = pSelection;
         }
+        selectEntities(selection);
+    }
 
-        if (this.renderSourcePanel.getChartRenderingInfo() != null) {
-            muteAll();
-            {
-
-                EntityCollection entities = this.renderSourcePanel
-                        .getChartRenderingInfo().getEntityCollection();
-
-                for (ChartEntity ce : entities.getEntities()) {
-                    if (ce instanceof DataItemEntity) {
-                        DataItemEntity e = (DataItemEntity) ce;
-                        Area selectionShape = new Area(selection);
-                        Area entityShape = new Area(e.getArea());
+    /**
+     * {@link SelectionManager#select(Ellipse2D)} <br>
+     * Selection based on the shape of the data items
+     */
+    public void select(Ellipse2D pSelection) {
+        // scale if necessary (the result is still an ellipse)
+        Ellipse2D selection;
+        double scaleX = this.renderSourcePanel.getScaleX();
+        double scaleY = this.renderSourcePanel.getScaleY();
+        if (scaleX != 1.0d || scaleY != 1.0d) {
+            selection = new Ellipse2D.Double(pSelection.getX() / scaleX,
+                    pSelection.getY() / scaleY, pSelection.getWidth() / scaleX,
+                    pSelection.getHeight() / scaleY);
+        } else {
+            selection = pSelection;
+        }
+        selectEntities(selection);
+    }
 
-                        // fast test if completely inside the solution must be true
-                        if (selectionShape.contains(entityShape.getBounds())) {
-                            select(e);
-                        } else {                        
-                            if (this.intersectionMode) {
-                                // test if the shapes intersect
-                                entityShape.intersect(selectionShape);
-                                if (!entityShape.isEmpty()) {
-                                    select(e);
-                                }
-                            } else {
-                                // test if the entity shape is completely covered by
-                                //the selection
-                                entityShape.subtract(selectionShape);
-                                if (entityShape.isEmpty()) {
-                                    select(e);
-                                }
-                            }
-                        }
-                    }
-                }
+    /**
+     * Selects the data items for the entities that intersect (or, depending
+     * on {@link #intersectionMode}, lie inside) the selection region.  The
+     * entity collection compares the bounds of each entity with the region
+     * and only tests the exact shapes of the remaining candidates.
+     * 
+     * @param selection  the selection region (in Java2D space, unscaled).
+     */
+    private void selectEntities(Shape selection) {
+        if (this.renderSourcePanel.getChartRenderingInfo() == null) {
+            return;
+        }
+        EntityCollection entities = this.renderSourcePanel
+                .getChartRenderingInfo().getEntityCollection();
+        if (entities == null) {
+            return;
+        }
+        muteAll();
+        for (ChartEntity ce : entities.getEntities(selection,
+                !this.intersectionMode)) {
+            if (ce instanceof DataItemEntity) {
+                select((DataItemEntity) ce);
             }
-            unmuteAndTrigger();
         }
+        unmuteAndTrigger();
     }
 
     /**
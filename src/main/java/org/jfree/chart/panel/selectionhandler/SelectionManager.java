@@ -27,19 +27,22 @@
  * ---------------------
  * SelectionManager.java
  * ---------------------
- * (C) Copyright 2013, 2014, by Michael Zinsmaier and Contributors.
+ * (C) Copyright 2013-2026, by Michael Zinsmaier and Contributors.
  *
  * Original Author:  Michael Zinsmaier;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
+ *                   agent;
  *
  * Changes:
  * --------
  * 17-Sep-2013 : Version 1 from MZ (DG);
+ * 17-Oct-2026 : Added select(Ellipse2D), with a default implementation (agent);
  *
  */
 
 package org.jfree.chart.panel.selectionhandler;
 
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
@@ -67,6 +70,16 @@ public interface SelectionManager extends Serializable {
      */
     public void select(GeneralPath selection);
 
+    /**
+     * The default implementation selects with the outline of the ellipse
+     * (see {@link #select(GeneralPath)}).
+     *
+     * @param selection a circular (or elliptical) selection area
+     */
+    public default void select(Ellipse2D selection) {
+        select(new GeneralPath(selection));
+    }
+
     /**
      * clear the current selection (deselect all)
      */
@@ -0,0 +1,453 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * XYDataSelectionManager.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.panel.selectionhandler;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.extension.DatasetSelectionExtension;
+import org.jfree.data.extension.impl.DatasetExtensionManager;
+import org.jfree.data.extension.impl.XYCursor;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYPyramid;
+import org.jfree.data.xy.XYPyramidInfo;
+
+/**
+ * Selects the data items in an {@link XYPlot} by comparing the location of
+ * each item with the selection point or region, without using the entities
+ * in the {@link ChartRenderingInfo}.  This means that the selection handlers
+ * can be used for charts that are drawn with the entity collection switched
+ * off (see {@link ChartRenderingInfo#setEntityCollection(
+ * org.jfree.chart.entity.EntityCollection)}), which is recommended for
+ * charts with a large number of data items.
+ * <br><br>
+ * The bounds of the selection region are converted to data coordinates using
+ * the plot's axes.  For series with ascending (or descending) x-values the
+ * items in that x-range are found with a binary search, and if the dataset
+ * implements {@link XYPyramidInfo} the buckets of items with y-values outside
+ * the region are skipped.  The remaining items are converted to Java2D space
+ * and tested against the selection region.
+ * <br><br>
+ * Only the datasets in the plot of the panel's chart (which must be an
+ * {@link XYPlot}) are considered, and only if they are among the datasets
+ * handled by the manager and support {@link DatasetSelectionExtension} (for
+ * example {@link org.jfree.data.extension.impl.XYDatasetSelectionExtension}).
+ */
+public class XYDataSelectionManager implements SelectionManager {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1417598412393806174L;
+
+    /** The panel this manager is registered on. */
+    private final ChartPanel renderSourcePanel;
+
+    /**
+     * Couples datasets with selection extensions for datasets that do not
+     * support {@link DatasetSelectionExtension} directly.
+     */
+    private final DatasetExtensionManager extensionManager;
+
+    /** All the datasets that are handled by the manager. */
+    private final XYDataset[] datasets;
+
+    /**
+     * The distance (in Java2D units) from the selection point within which
+     * an item is selected by {@link #select(double, double)}.
+     */
+    private double pointRadius;
+
+    /**
+     * Creates a new selection manager.  Use this constructor if all the
+     * datasets support {@link DatasetSelectionExtension}.
+     *
+     * @param renderSourcePanel  the panel (<code>null</code> not permitted).
+     * @param datasets  the datasets (<code>null</code> not permitted).
+     */
+    public XYDataSelectionManager(ChartPanel renderSourcePanel,
+            XYDataset[] datasets) {
+        this(renderSourcePanel, datasets, new DatasetExtensionManager());
+    }
+
+    /**
+     * Creates a new selection manager with an extension manager.  Use this
+     * constructor if some of the datasets do not support
+     * {@link DatasetSelectionExtension} directly, and register the
+     * extensions for those datasets with the extension manager.
+     *
+     * @param renderSourcePanel  the panel (<code>null</code> not permitted).
+     * @param datasets  the datasets (<code>null</code> not permitted).
+     * @param extensionManager  the extension manager (<code>null</code> not
+     *     permitted).
+     */
+    public XYDataSelectionManager(ChartPanel renderSourcePanel,
+            XYDataset[] datasets, DatasetExtensionManager extensionManager) {
+        ParamChecks.nullNotPermitted(renderSourcePanel, "renderSourcePanel");
+        ParamChecks.nullNotPermitted(datasets, "datasets");
+        ParamChecks.nullNotPermitted(extensionManager, "extensionManager");
+        this.renderSourcePanel = renderSourcePanel;
+        this.datasets = datasets.clone();
+        this.extensionManager = extensionManager;
+        this.pointRadius = 4.0;
+    }
+
+    /**
+     * Returns the distance (in Java2D units) from the selection point within
+     * which an item is selected by {@link #select(double, double)}.  The
+     * default value is <code>4.0</code>.
+     *
+     * @return The radius.
+     */
+    public double getPointRadius() {
+        return this.pointRadius;
+    }
+
+    /**
+     * Sets the distance (in Java2D units) from the selection point within
+     * which an item is selected by {@link #select(double, double)}.
+     *
+     * @param radius  the radius (must be positive).
+     */
+    public void setPointRadius(double radius) {
+        if (!(radius > 0.0)) {
+            throw new IllegalArgumentException("Requires 'radius' > 0.");
+        }
+        this.pointRadius = radius;
+    }
+
+    /**
+     * {@link SelectionManager#select(double, double)} <br>
+     * Selects the data items within {@link #getPointRadius()} of the point.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     */
+    @Override
+    public void select(double x, double y) {
+        double scaleX = this.renderSourcePanel.getScaleX();
+        double scaleY = this.renderSourcePanel.getScaleY();
+        double r = this.pointRadius;
+        selectItems(new Ellipse2D.Double(x / scaleX - r, y / scaleY - r,
+                2 * r, 2 * r));
+    }
+
+    /**
+     * {@link SelectionManager#select(Rectangle2D)} <br>
+     * Selects the data items inside the rectangle.
+     *
+     * @param selection  the selection region.
+     */
+    @Override
+    public void select(Rectangle2D selection) {
+        double scaleX = this.renderSourcePanel.getScaleX();
+        double scaleY = this.renderSourcePanel.getScaleY();
+        selectItems(new Rectangle2D.Double(selection.getX() / scaleX,
+                selection.getY() / scaleY, selection.getWidth() / scaleX,
+                selection.getHeight() / scaleY));
+    }
+
+    /**
+     * {@link SelectionManager#select(GeneralPath)} <br>
+     * Selects the data items inside the path.
+     *
+     * @param selection  the selection region.
+     */
+    @Override
+    public void select(GeneralPath selection) {
+        double scaleX = this.renderSourcePanel.getScaleX();
+        double scaleY = this.renderSourcePanel.getScaleY();
+        Shape region = selection;
+        if (scaleX != 1.0d || scaleY != 1.0d) {
+            Area area = new Area(selection);
+            area.transform(AffineTransform.getScaleInstance(1.0 / scaleX,
+                    1.0 / scaleY));
+            region = area;
+        }
+        selectItems(region);
+    }
+
+    /**
+     * {@link SelectionManager#select(Ellipse2D)} <br>
+     * Selects the data items inside the ellipse.
+     *
+     * @param selection  the selection region.
+     */
+    @Override
+    public void select(Ellipse2D selection) {
+        double scaleX = this.renderSourcePanel.getScaleX();
+        double scaleY = this.renderSourcePanel.getScaleY();
+        selectItems(new Ellipse2D.Double(selection.getX() / scaleX,
+                selection.getY() / scaleY, selection.getWidth() / scaleX,
+                selection.getHeight() / scaleY));
+    }
+
+    /**
+     * {@link SelectionManager#clearSelection()}
+     */
+    @Override
+    public void clearSelection() {
+        for (XYDataset dataset : this.datasets) {
+            DatasetSelectionExtension<XYCursor> extension
+                    = getSelectionExtension(dataset);
+            if (extension != null) {
+                extension.clearSelection();
+            }
+        }
+    }
+
+    /**
+     * Selects the data items that lie inside a region.
+     *
+     * @param region  the region (in Java2D space, unscaled).
+     */
+    private void selectItems(Shape region) {
+        JFreeChart chart = this.renderSourcePanel.getChart();
+        ChartRenderingInfo info = this.renderSourcePanel
+                .getChartRenderingInfo();
+        if (chart == null || info == null
+                || !(chart.getPlot() instanceof XYPlot)) {
+            return;
+        }
+        XYPlot plot = (XYPlot) chart.getPlot();
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        for (XYDataset dataset : this.datasets) {
+            int index = plot.indexOf(dataset);
+            DatasetSelectionExtension<XYCursor> extension
+                    = getSelectionExtension(dataset);
+            if (index < 0 || extension == null) {
+                continue;
+            }
+            extension.setNotify(false);
+            try {
+                selectItems(region, plot, dataArea, dataset, index,
+                        extension);
+            } finally {
+                extension.setNotify(true);
+            }
+        }
+    }
+
+    /**
+     * Selects the items in one dataset that lie inside a region.
+     *
+     * @param region  the region (in Java2D space).
+     * @param plot  the plot.
+     * @param dataArea  the data area for the plot.
+     * @param dataset  the dataset.
+     * @param index  the index of the dataset in the plot.
+     * @param extension  the selection extension for the dataset.
+     */
+    private void selectItems(Shape region, XYPlot plot, Rectangle2D dataArea,
+            XYDataset dataset, int index,
+            DatasetSelectionExtension<XYCursor> extension) {
+        ValueAxis xAxis = plot.getDomainAxisForDataset(index);
+        ValueAxis yAxis = plot.getRangeAxisForDataset(index);
+        if (xAxis == null || yAxis == null) {
+            return;
+        }
+        // the dataset can be mapped to secondary axes, which can be on
+        // different edges to the primary axes
+        RectangleEdge xEdge = plot.getDomainAxisEdge(
+                plot.getDomainAxisIndex(xAxis));
+        RectangleEdge yEdge = plot.getRangeAxisEdge(
+                plot.getRangeAxisIndex(yAxis));
+        boolean vertical = plot.getOrientation() == PlotOrientation.VERTICAL;
+
+        // find the ranges of x- and y-values covered by the region
+        Rectangle2D bounds = region.getBounds2D();
+        double xa, xb, ya, yb;
+        if (vertical) {
+            xa = xAxis.java2DToValue(bounds.getMinX(), dataArea, xEdge);
+            xb = xAxis.java2DToValue(bounds.getMaxX(), dataArea, xEdge);
+            ya = yAxis.java2DToValue(bounds.getMinY(), dataArea, yEdge);
+            yb = yAxis.java2DToValue(bounds.getMaxY(), dataArea, yEdge);
+        } else {
+            xa = xAxis.java2DToValue(bounds.getMinY(), dataArea, xEdge);
+            xb = xAxis.java2DToValue(bounds.getMaxY(), dataArea, xEdge);
+            ya = yAxis.java2DToValue(bounds.getMinX(), dataArea, yEdge);
+            yb = yAxis.java2DToValue(bounds.getMaxX(), dataArea, yEdge);
+        }
+        double xLow = Math.min(xa, xb);
+        double xHigh = Math.max(xa, xb);
+        double yLow = Math.min(ya, yb);
+        double yHigh = Math.max(ya, yb);
+
+        XYItemRenderer renderer = plot.getRendererForDataset(dataset);
+        XYCursor cursor = new XYCursor();
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            if (renderer != null && !renderer.isSeriesVisible(series)) {
+                continue;
+            }
+            int itemCount = dataset.getItemCount(series);
+            if (itemCount == 0) {
+                continue;
+            }
+            int[] range = RendererUtilities.findLiveItems(dataset, series,
+                    xLow, xHigh);
+            XYPyramid pyramid = null;
+            if (dataset instanceof XYPyramidInfo) {
+                pyramid = ((XYPyramidInfo) dataset).getPyramid(series);
+                if (pyramid != null && pyramid.getItemCount() != itemCount) {
+                    pyramid = null;
+                }
+            }
+            int item = range[0];
+            while (item <= range[1]) {
+                if (pyramid != null) {
+                    int end = Math.min(pyramid.getBucketStart(0, item)
+                            + pyramid.getBucketSize(0), range[1] + 1);
+                    if (outsideYRange(dataset, series, pyramid, item, yLow,
+                            yHigh)) {
+                        item = end;
+                        continue;
+                    }
+                    for (; item < end; item++) {
+                        selectItem(region, dataset, series, item, xAxis,
+                                yAxis, xEdge, yEdge, vertical, dataArea,
+                                extension, cursor);
+                    }
+                } else {
+                    selectItem(region, dataset, series, item, xAxis, yAxis,
+                            xEdge, yEdge, vertical, dataArea, extension,
+                            cursor);
+                    item++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the index shows that all the y-values in
+     * the bucket containing an item are outside a range.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param pyramid  the index for the series.
+     * @param item  the item index.
+     * @param yLow  the lower bound of the range.
+     * @param yHigh  the upper bound of the range.
+     *
+     * @return A boolean.
+     */
+    private static boolean outsideYRange(XYDataset dataset, int series,
+            XYPyramid pyramid, int item, double yLow, double yHigh) {
+        int minItem = pyramid.getMinItem(0, item);
+        int maxItem = pyramid.getMaxItem(0, item);
+        if (minItem < 0 || maxItem < 0) {
+            // no y-values, or the bucket starts with items that have been
+            // removed from the series
+            return minItem == -1 && maxItem == -1
+                    && pyramid.getBucketStart(0, item) >= 0;
+        }
+        return dataset.getYValue(series, maxItem) < yLow
+                || dataset.getYValue(series, minItem) > yHigh;
+    }
+
+    /**
+     * Selects an item if its location lies inside the region.
+     *
+     * @param region  the region (in Java2D space).
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param xEdge  the domain axis edge.
+     * @param yEdge  the range axis edge.
+     * @param vertical  is the plot orientation vertical?
+     * @param dataArea  the data area.
+     * @param extension  the selection extension.
+     * @param cursor  a cursor that is reused for each item.
+     */
+    private static void selectItem(Shape region, XYDataset dataset,
+            int series, int item, ValueAxis xAxis, ValueAxis yAxis,
+            RectangleEdge xEdge, RectangleEdge yEdge, boolean vertical,
+            Rectangle2D dataArea,
+            DatasetSelectionExtension<XYCursor> extension,
+            XYCursor cursor) {
+        double x = dataset.getXValue(series, item);
+        double y = dataset.getYValue(series, item);
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            return;
+        }
+        double transX = xAxis.valueToJava2D(x, dataArea, xEdge);
+        double transY = yAxis.valueToJava2D(y, dataArea, yEdge);
+        boolean inside = vertical ? region.contains(transX, transY)
+                : region.contains(transY, transX);
+        if (inside) {
+            cursor.setPosition(series, item);
+            extension.setSelected(cursor, true);
+        }
+    }
+
+    /**
+     * Returns the selection extension for a dataset, or <code>null</code> if
+     * the dataset has no selection extension.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The selection extension (possibly <code>null</code>).
+     */
+    @SuppressWarnings("unchecked")
+    private DatasetSelectionExtension<XYCursor> getSelectionExtension(
+            XYDataset dataset) {
+        if (!this.extensionManager.supports(dataset,
+                DatasetSelectionExtension.class)) {
+            return null;
+        }
+        return this.extensionManager.getExtension(dataset,
+                DatasetSelectionExtension.class);
+    }
+
+}
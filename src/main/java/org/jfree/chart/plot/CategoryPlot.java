@@ -27,7 +27,7 @@
  * -----------------
  * CategoryPlot.java
  * -----------------
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Jeremy Bowman;
@@ -35,6 +35,7 @@
  *                   Richard West, Advanced Micro Devices, Inc.;
  *                   Ulrich Voigt - patch 2686040;
  *                   Peter Kolb - patches 2603321 and 2809117;
+ *                   agent;
  *
  * Changes
  * -------
@@ -180,6 +181,7 @@
  * 20-Nov-2011 : Initialise shadow generator as null (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection class (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -251,6 +253,7 @@ import org.jfree.chart.util.ShapeUtils;
 import org.jfree.chart.util.SortOrder;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 
@@ -673,6 +676,23 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         return localizationResources.getString("Category_Plot");
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = new ArrayList<Dataset>();
+        for (Dataset dataset : this.datasets.values()) {
+            if (dataset != null) {
+                result.add(dataset);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the orientation of the plot.
      *
@@ -27,10 +27,11 @@
  * -------------------------------
  * CombinedDomainCategoryPlot.java
  * -------------------------------
- * (C) Copyright 2003-2014, by Object Refinery Limited.
+ * (C) Copyright 2003-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Nicolas Brodu;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -62,6 +63,7 @@
  *               required (DG);
  * 12-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -87,6 +89,7 @@ import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 
 /**
  * A combined category plot where the domain axis is shared.
@@ -238,6 +241,22 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         }
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot and by its
+     * subplots.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = super.getAllDatasets();
+        for (CategoryPlot subplot : this.subplots) {
+            result.addAll(subplot.getAllDatasets());
+        }
+        return result;
+    }
+
     /**
      * Returns the subplot (if any) that contains the (x, y) point (specified
      * in Java2D space).
@@ -27,7 +27,7 @@
  * -------------------------
  * CombinedDomainXYPlot.java
  * -------------------------
- * (C) Copyright 2001-2014, by Bill Kelemen and Contributors.
+ * (C) Copyright 2001-2026, by Bill Kelemen and Contributors.
  *
  * Original Author:  Bill Kelemen;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
@@ -37,6 +37,7 @@
  *                   Nicolas Brodu;
  *                   Petr Kubanek (bug 1606205);
  *                   Vladimir Shirokov (bug 986);
+ *                   agent;
  *
  * Changes:
  * --------
@@ -95,6 +96,7 @@
  * 21-Dec-2011 : Apply patch 3447161 by Ulrich Voigt and Martin Hoeller (MH);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -121,6 +123,7 @@ import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.xy.XYDataset;
 
@@ -341,6 +344,22 @@ public class CombinedDomainXYPlot extends XYPlot
         return Collections.unmodifiableList(this.subplots);
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot and by its
+     * subplots.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = super.getAllDatasets();
+        for (XYPlot subplot : this.subplots) {
+            result.addAll(subplot.getAllDatasets());
+        }
+        return result;
+    }
+
     /**
      * Calculates the axis space required.
      *
@@ -27,10 +27,11 @@
  * ------------------------------
  * CombinedRangeCategoryPlot.java
  * ------------------------------
- * (C) Copyright 2003-2014, by Object Refinery Limited.
+ * (C) Copyright 2003-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Nicolas Brodu;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -58,6 +59,7 @@
  *               required (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -85,6 +87,7 @@ import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 
 /**
  * A combined category plot where the range axis is shared.
@@ -236,6 +239,22 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         }
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot and by its
+     * subplots.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = super.getAllDatasets();
+        for (CategoryPlot subplot : this.subplots) {
+            result.addAll(subplot.getAllDatasets());
+        }
+        return result;
+    }
+
     /**
      * Calculates the space required for the axes.
      *
@@ -27,7 +27,7 @@
  * ------------------------
  * CombinedRangeXYPlot.java
  * ------------------------
- * (C) Copyright 2001-2014, by Bill Kelemen and Contributors.
+ * (C) Copyright 2001-2026, by Bill Kelemen and Contributors.
  *
  * Original Author:  Bill Kelemen;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
@@ -37,6 +37,7 @@
  *                   Arnaud Lelievre;
  *                   Nicolas Brodu;
  *                   Petr Kubanek (bug 1606205);
+ *                   agent;
  *
  * Changes:
  * --------
@@ -97,6 +98,7 @@
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
  * 
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  */
 
 package org.jfree.chart.plot;
@@ -122,6 +124,7 @@ import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 
 /**
  * An extension of {@link XYPlot} that contains multiple subplots that share a
@@ -276,6 +279,22 @@ public class CombinedRangeXYPlot extends XYPlot
         }
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot and by its
+     * subplots.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = super.getAllDatasets();
+        for (XYPlot subplot : this.subplots) {
+            result.addAll(subplot.getAllDatasets());
+        }
+        return result;
+    }
+
     /**
      * Calculates the space required for the axes.
      *
@@ -27,10 +27,11 @@
  * --------------------
  * MultiplePiePlot.java
  * --------------------
- * (C) Copyright 2004-2014, by Object Refinery Limited.
+ * (C) Copyright 2004-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Brian Cabana (patch 1943021);
+ *                   agent;
  *
  * Changes
  * -------
@@ -54,6 +55,7 @@
  * 01-Jun-2009 : Set series key in getLegendItems() (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -91,6 +93,7 @@ import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.util.SerialUtils;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.CategoryToPieDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.general.PieDataset;
@@ -351,6 +354,21 @@ public class MultiplePiePlot extends Plot implements Cloneable, Serializable {
          // TODO: need to fetch this from localised resources
     }
 
+    /**
+     * Returns a list containing the dataset used by this plot.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = new ArrayList<Dataset>();
+        if (this.dataset != null) {
+            result.add(this.dataset);
+        }
+        return result;
+    }
+
     /**
      * Returns the shape used for legend items.
      *
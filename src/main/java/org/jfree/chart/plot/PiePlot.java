@@ -27,7 +27,7 @@
  * ------------
  * PiePlot.java
  * ------------
- * (C) Copyright 2000-2014, by Andrzej Porebski and Contributors.
+ * (C) Copyright 2000-2026, by Andrzej Porebski and Contributors.
  *
  * Original Author:  Andrzej Porebski;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
@@ -38,6 +38,7 @@
  *                   Martin Hilpert (patch 1891849);
  *                   Andreas Schroeder (very minor);
  *                   Christoph Beck (bug 2121818);
+ *                   agent;
  *
  * Changes
  * -------
@@ -170,7 +171,10 @@
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 01-Jul-2012 : Removed deprecated code (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  * 
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  */
 
 package org.jfree.chart.plot;
@@ -234,6 +238,7 @@ import org.jfree.chart.util.ShapeUtils;
 import org.jfree.chart.util.UnitType;
 import org.jfree.data.DefaultKeyedValues;
 import org.jfree.data.KeyedValues;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.general.PieDataset;
@@ -2604,19 +2609,9 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                 if (state.getInfo() != null) {
                     EntityCollection entities = state.getEntityCollection();
                     if (entities != null) {
-                        String tip = null;
-                        if (this.toolTipGenerator != null) {
-                            tip = this.toolTipGenerator.generateToolTip(
-                                    this.dataset, key);
-                        }
-                        String url = null;
-                        if (this.urlGenerator != null) {
-                            url = this.urlGenerator.generateURL(this.dataset,
-                                    key, this.pieIndex);
-                        }
-                        PieSectionEntity entity = new PieSectionEntity(
-                                arc, this.dataset, this.pieIndex, section, key,
-                                tip, url);
+                        PieSectionEntity entity = new PieSectionEntity(arc,
+                                this.toolTipGenerator, this.urlGenerator,
+                                this.dataset, this.pieIndex, section, key);
                         entities.add(entity);
                     }
                 }
@@ -2983,6 +2978,21 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         return localizationResources.getString("Pie_Plot");
     }
 
+    /**
+     * Returns a list containing the dataset used by this plot.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = new ArrayList<Dataset>();
+        if (this.dataset != null) {
+            result.add(this.dataset);
+        }
+        return result;
+    }
+
     /**
      * Returns a rectangle that can be used to create a pie section (taking
      * into account the amount by which the pie section is 'exploded').
@@ -27,7 +27,7 @@
  * --------------
  * PiePlot3D.java
  * --------------
- * (C) Copyright 2000-2012, by Object Refinery and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery and Contributors.
  *
  * Original Author:  Tomer Peretz;
  * Contributor(s):   Richard Atkinson;
@@ -37,6 +37,7 @@
  *                   Arnaud Lelievre;
  *                   Dave Crane;
  *                   Martin Hoeller;
+ *                   agent;
  *
  * Changes
  * -------
@@ -84,6 +85,8 @@
  * 10-Oct-2011 : Localization fix: bug #3353913 (MH);
  * 18-Oct-2011 : Fix tooltip offset with shadow generator (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -113,7 +116,6 @@ import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.PieSectionEntity;
 import org.jfree.chart.event.PlotChangeEvent;
-import org.jfree.chart.labels.PieToolTipGenerator;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.general.PieDataset;
 
@@ -561,20 +563,9 @@ public class PiePlot3D extends PiePlot implements Serializable {
                 EntityCollection entities
                         = info.getOwner().getEntityCollection();
                 if (entities != null) {
-                    String tip = null;
-                    PieToolTipGenerator tipster = getToolTipGenerator();
-                    if (tipster != null) {
-                        // @mgs: using the method's return value was missing
-                        tip = tipster.generateToolTip(dataset, currentKey);
-                    }
-                    String url = null;
-                    if (getURLGenerator() != null) {
-                        url = getURLGenerator().generateURL(dataset, currentKey,
-                                getPieIndex());
-                    }
                     PieSectionEntity entity = new PieSectionEntity(
-                            upperArc, dataset, getPieIndex(), sectionIndex,
-                            currentKey, tip, url);
+                            upperArc, getToolTipGenerator(), getURLGenerator(),
+                            dataset, getPieIndex(), sectionIndex, currentKey);
                     entities.add(entity);
                 }
             }
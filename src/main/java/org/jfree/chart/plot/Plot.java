@@ -27,7 +27,7 @@
  * ---------
  * Plot.java
  * ---------
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Sylvain Vieujot;
@@ -38,6 +38,7 @@
  *                   Michal Krause;
  *                   Richard West, Advanced Micro Devices, Inc.;
  *                   Peter Kolb - patches 2603321, 2809117;
+ *                   agent;
  *
  * Changes
  * -------
@@ -129,6 +130,7 @@
  *               PK) (DG);
  * 13-Jul-2009 : Plot background image should be clipped if necessary (DG);
  * 10-Mar-2014 : Remove LegendItemCollection (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -187,6 +189,7 @@ import org.jfree.chart.util.PaintUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.chart.util.SerialUtils;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.LabelChangeEvent;
@@ -408,6 +411,20 @@ public abstract class Plot implements AxisChangeListener,
      */
     public abstract String getPlotType();
 
+    /**
+     * Returns a list containing the datasets used by this plot, including
+     * the datasets used by any subplots.  {@link JFreeChart#beginUpdate()}
+     * uses this list to hold back the dataset change events until the
+     * update ends.  This implementation returns an empty list, subclasses
+     * that use datasets override it.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    public List<Dataset> getAllDatasets() {
+        return new ArrayList<Dataset>();
+    }
+
     /**
      * Returns the parent plot (or <code>null</code> if this plot is not part
      * of a combined plot).
@@ -27,11 +27,12 @@
  * --------------
  * PolarPlot.java
  * --------------
- * (C) Copyright 2004-2014, by Solution Engineering, Inc. and Contributors.
+ * (C) Copyright 2004-2026, by Solution Engineering, Inc. and Contributors.
  *
  * Original Author:  Daniel Bridenbecker, Solution Engineering, Inc.;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
  *                   Martin Hoeller (patches 1871902 and 2850344);
+ *                   agent;
  *
  * Changes
  * -------
@@ -56,6 +57,7 @@
  * 12-Nov-2011 : Fixed bug 3432721, log-axis doesn't work (MH);
  * 12-Dec-2011 : Added support for radiusMinorGridilnesVisible (MH);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -331,6 +333,23 @@ public class PolarPlot extends Plot implements ValueAxisPlot, Zoomable,
        return PolarPlot.localizationResources.getString("Polar_Plot");
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = new ArrayList<Dataset>();
+        for (Dataset dataset : this.datasets.values()) {
+            if (dataset != null) {
+                result.add(dataset);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the primary axis for the plot.
      *
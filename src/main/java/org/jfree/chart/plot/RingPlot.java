@@ -27,10 +27,11 @@
  * -------------
  * RingPlot.java
  * -------------
- * (C) Copyright 2004-2014, by Object Refinery Limited.
+ * (C) Copyright 2004-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limtied);
  * Contributor(s):   Christoph Beck (bug 2121818);
+ *                   agent;
  *
  * Changes
  * -------
@@ -48,6 +49,8 @@
  * 11-Oct-2011 : Check sectionOutlineVisible - bug 3237879 (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 28-Feb-2014 : Add center text feature (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -79,10 +82,8 @@ import org.jfree.chart.util.ShapeUtils;
 import org.jfree.chart.util.UnitType;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.PieSectionEntity;
-import org.jfree.chart.labels.PieToolTipGenerator;
 import org.jfree.chart.text.TextUtilities;
 import org.jfree.chart.ui.TextAnchor;
-import org.jfree.chart.urls.PieURLGenerator;
 import org.jfree.chart.util.LineUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.SerialUtils;
@@ -603,22 +604,9 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
                 if (state.getInfo() != null) {
                     EntityCollection entities = state.getEntityCollection();
                     if (entities != null) {
-                        String tip = null;
-                        PieToolTipGenerator toolTipGenerator
-                                = getToolTipGenerator();
-                        if (toolTipGenerator != null) {
-                            tip = toolTipGenerator.generateToolTip(dataset,
-                                    key);
-                        }
-                        String url = null;
-                        PieURLGenerator urlGenerator = getURLGenerator();
-                        if (urlGenerator != null) {
-                            url = urlGenerator.generateURL(dataset, key,
-                                    getPieIndex());
-                        }
                         PieSectionEntity entity = new PieSectionEntity(path,
-                                dataset, getPieIndex(), section, key, tip,
-                                url);
+                                getToolTipGenerator(), getURLGenerator(),
+                                dataset, getPieIndex(), section, key);
                         entities.add(entity);
                     }
                 }
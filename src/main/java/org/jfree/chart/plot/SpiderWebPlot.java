@@ -27,13 +27,14 @@
  * ------------------
  * SpiderWebPlot.java
  * ------------------
- * (C) Copyright 2005-2014, by Heaps of Flavour Pty Ltd and Contributors.
+ * (C) Copyright 2005-2026, by Heaps of Flavour Pty Ltd and Contributors.
  *
  * Company Info:  http://www.i4-talent.com
  *
  * Original Author:  Don Elliott;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
  *                   Nina Jeliazkova;
+ *                   agent;
  *
  * Changes
  * -------
@@ -67,6 +68,9 @@
  * 01-Jun-2009 : Set series key in getLegendItems() (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -116,6 +120,7 @@ import org.jfree.chart.labels.StandardCategoryItemLabelGenerator;
 import org.jfree.chart.urls.CategoryURLGenerator;
 import org.jfree.chart.util.SerialUtils;
 import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 
@@ -325,6 +330,21 @@ public class SpiderWebPlot extends Plot implements Cloneable, Serializable {
         return ("Spider Web Plot");
     }
 
+    /**
+     * Returns a list containing the dataset used by this plot.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = new ArrayList<Dataset>();
+        if (this.dataset != null) {
+            result.add(this.dataset);
+        }
+        return result;
+    }
+
     /**
      * Returns the dataset.
      *
@@ -1243,26 +1263,13 @@ public class SpiderWebPlot extends Plot implements Cloneable, Serializable {
                             row = cat;
                             col = series;
                         }
-                        String tip = null;
-                        if (this.toolTipGenerator != null) {
-                            tip = this.toolTipGenerator.generateToolTip(
-                                    this.dataset, row, col);
-                        }
-
-                        String url = null;
-                        if (this.urlGenerator != null) {
-                            url = this.urlGenerator.generateURL(this.dataset,
-                                   row, col);
-                        }
-
                         Shape area = new Rectangle(
                                 (int) (point.getX() - headW),
                                 (int) (point.getY() - headH),
                                 (int) (headW * 2), (int) (headH * 2));
                         CategoryItemEntity entity = new CategoryItemEntity(
-                                area, tip, url, this.dataset,
-                                this.dataset.getRowKey(row),
-                                this.dataset.getColumnKey(col));
+                                area, this.toolTipGenerator,
+                                this.urlGenerator, this.dataset, row, col);
                         entities.add(entity);
                     }
 
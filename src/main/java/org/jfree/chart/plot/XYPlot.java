@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,7 +27,7 @@
  * -----------
  * XYPlot.java
  * -----------
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Craig MacFarlane;
@@ -45,6 +45,7 @@
  *                   Ulrich Voigt - patches 1997549 and 2686040;
  *                   Peter Kolb - patches 1934255, 2603321 and 2809117;
  *                   Andrew Mickish - patch 1868749;
+ *                   agent;
  *
  * Changes (from 21-Jun-2001)
  * --------------------------
@@ -230,6 +231,15 @@
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
+ * 17-Oct-2026 : Render only the decimated items when the renderer state
+ *               requests pixel decimation (agent);
+ * 17-Oct-2026 : Draw the items from the dataset returned by an
+ *               XYResolutionInfo (agent);
+ * 17-Oct-2026 : Don't create entities for the items drawn from the dataset
+ *               for the resolution (agent);
+ * 17-Oct-2026 : Visit only the items found by the interval index (and
+ *               their neighbours) for unordered series (agent);
+ * 17-Oct-2026 : Added getAllDatasets() method (agent);
  *
  */
 
@@ -254,6 +264,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -299,9 +310,11 @@ import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.SerialUtils;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYResolutionInfo;
 
 /**
  * A general class for plotting data in the form of (x, y) pairs.  This plot can
@@ -729,6 +742,23 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return localizationResources.getString("XY_Plot");
     }
 
+    /**
+     * Returns a list containing the datasets used by this plot.
+     *
+     * @return A new list of datasets (possibly empty, never
+     *     <code>null</code>).
+     */
+    @Override
+    public List<Dataset> getAllDatasets() {
+        List<Dataset> result = new ArrayList<Dataset>();
+        for (Dataset dataset : this.datasets.values()) {
+            if (dataset != null) {
+                result.add(dataset);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the orientation of the plot.
      *
@@ -3650,12 +3680,91 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return axisStateMap;
     }
 
+    /**
+     * Returns the items in a list together with the items on either side of
+     * each one, so that the lines connecting the listed items to their
+     * neighbours are drawn.
+     *
+     * @param itemList  the item indices, in ascending order.
+     * @param itemCount  the number of items in the series.
+     *
+     * @return The item indices, in ascending order.
+     */
+    private static int[] addNeighbouringItems(int[] itemList, int itemCount) {
+        int[] result = new int[itemList.length * 3];
+        int count = 0;
+        for (int item : itemList) {
+            int from = Math.max(item - 1, 0);
+            if (count > 0) {
+                from = Math.max(from, result[count - 1] + 1);
+            }
+            int to = Math.min(item + 1, itemCount - 1);
+            for (int i = from; i <= to; i++) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Draws the items in a list for one pass through a series.  Each run of
+     * consecutive items is drawn as a separate series pass, so that a
+     * renderer that connects each item to the previous one (for example,
+     * with a path) does not join items that are not adjacent in the series.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param renderer  the renderer.
+     * @param state  the renderer state.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param itemList  the item indices, in ascending order.
+     * @param pass  the pass index.
+     * @param passCount  the number of passes.
+     */
+    private void renderItemList(Graphics2D g2, Rectangle2D dataArea,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            XYItemRenderer renderer, XYItemRendererState state,
+            ValueAxis xAxis, ValueAxis yAxis, XYDataset dataset, int series,
+            int[] itemList, int pass, int passCount) {
+        int start = 0;
+        while (start < itemList.length) {
+            int end = start;
+            while (end + 1 < itemList.length
+                    && itemList[end + 1] == itemList[end] + 1) {
+                end++;
+            }
+            int firstItem = itemList[start];
+            int lastItem = itemList[end];
+            state.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                    passCount);
+            for (int item = firstItem; item <= lastItem; item++) {
+                renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+                        yAxis, dataset, series, item, crosshairState, pass);
+            }
+            state.endSeriesPass(dataset, series, firstItem, lastItem, pass,
+                    passCount);
+            start = end + 1;
+        }
+    }
+
     /**
      * Draws a representation of the data within the dataArea region, using the
      * current renderer.
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the dataset implements {@link XYResolutionInfo}, the items are drawn
+     * from the dataset returned by
+     * {@link XYResolutionInfo#getDatasetForResolution(double, double,
+     * double)}.  No entities are created for the items in that dataset
+     * (unless it is the dataset itself).
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3686,36 +3795,87 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
+            // the renderer is initialised with the plot's dataset, but the
+            // items are drawn from the dataset that matches the resolution
+            // of the axis range (if the dataset supplies one)...without the
+            // rendering info for that dataset, since the entities would
+            // refer to items that are not in the plot's dataset
+            XYDataset items = dataset;
+            if (dataset instanceof XYResolutionInfo) {
+                double pixels = this.orientation == PlotOrientation.HORIZONTAL
+                        ? dataArea.getHeight() : dataArea.getWidth();
+                items = ((XYResolutionInfo) dataset).getDatasetForResolution(
+                        xAxis.getLowerBound(), xAxis.getUpperBound(), pixels);
+            }
+            PlotRenderingInfo itemInfo = items == dataset ? info : null;
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
-                    dataset, info);
+                    dataset, itemInfo);
             int passCount = renderer.getPassCount();
 
+            // for unordered series with an interval index, only the items in
+            // the list (and their neighbours) are visited, since the items
+            // between the first and last visible items can be anywhere
+            int[][] liveItemLists = null;
+            if (state.getProcessVisibleItemsOnly()
+                    && !state.isPixelDecimation()) {
+                liveItemLists = new int[items.getSeriesCount()][];
+                for (int series = 0; series < liveItemLists.length;
+                        series++) {
+                    int[] itemList = RendererUtilities.findLiveItemList(
+                            items, series, xAxis.getLowerBound(),
+                            xAxis.getUpperBound());
+                    if (itemList != null) {
+                        liveItemLists[series] = addNeighbouringItems(
+                                itemList, items.getItemCount(series));
+                    }
+                }
+            }
+
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
             if (seriesOrder == SeriesRenderingOrder.REVERSE) {
                 //render series in reverse order
                 for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
+                    int seriesCount = items.getSeriesCount();
                     for (int series = seriesCount - 1; series >= 0; series--) {
                         int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
+                        int lastItem = items.getItemCount(series) - 1;
                         if (lastItem == -1) {
                             continue;
                         }
+                        if (liveItemLists != null
+                                && liveItemLists[series] != null) {
+                            renderItemList(g2, dataArea, itemInfo,
+                                    crosshairState, renderer, state, xAxis,
+                                    yAxis, items, series,
+                                    liveItemLists[series], pass, passCount);
+                            continue;
+                        }
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
+                                    items, series, xAxis.getLowerBound(),
                                     xAxis.getUpperBound());
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
+                        state.startSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
+                        if (state.isPixelDecimation()) {
+                            int count = state.getDecimatedItemCount();
+                            for (int i = 0; i < count; i++) {
+                                renderer.drawItem(g2, state, dataArea, itemInfo,
+                                        this, xAxis, yAxis, items, series,
+                                        state.getDecimatedItem(i),
+                                        crosshairState, pass);
+                            }
+                        } else {
+                            for (int item = firstItem; item <= lastItem;
+                                    item++) {
+                                renderer.drawItem(g2, state, dataArea, itemInfo,
+                                        this, xAxis, yAxis, items, series,
+                                        item, crosshairState, pass);
+                            }
                         }
-                        state.endSeriesPass(dataset, series, firstItem,
+                        state.endSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
                     }
                 }
@@ -3723,25 +3883,44 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             else {
                 //render series in forward order
                 for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
+                    int seriesCount = items.getSeriesCount();
                     for (int series = 0; series < seriesCount; series++) {
                         int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
+                        int lastItem = items.getItemCount(series) - 1;
+                        if (liveItemLists != null
+                                && liveItemLists[series] != null) {
+                            renderItemList(g2, dataArea, itemInfo,
+                                    crosshairState, renderer, state, xAxis,
+                                    yAxis, items, series,
+                                    liveItemLists[series], pass, passCount);
+                            continue;
+                        }
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
+                                    items, series, xAxis.getLowerBound(),
                                     xAxis.getUpperBound());
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
+                        state.startSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
+                        if (state.isPixelDecimation()) {
+                            int count = state.getDecimatedItemCount();
+                            for (int i = 0; i < count; i++) {
+                                renderer.drawItem(g2, state, dataArea, itemInfo,
+                                        this, xAxis, yAxis, items, series,
+                                        state.getDecimatedItem(i),
+                                        crosshairState, pass);
+                            }
+                        } else {
+                            for (int item = firstItem; item <= lastItem;
+                                    item++) {
+                                renderer.drawItem(g2, state, dataArea, itemInfo,
+                                        this, xAxis, yAxis, items, series,
+                                        item, crosshairState, pass);
+                            }
                         }
-                        state.endSeriesPass(dataset, series, firstItem,
+                        state.endSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
                     }
                 }
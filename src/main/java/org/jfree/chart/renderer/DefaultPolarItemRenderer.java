@@ -27,12 +27,13 @@
  * -----------------------------
  * DefaultPolarItemRenderer.java
  * -----------------------------
- * (C) Copyright 2004-2016, by Solution Engineering, Inc. and
+ * (C) Copyright 2004-2026, by Solution Engineering, Inc. and
  *     Contributors.
  *
  * Original Author:  Daniel Bridenbecker, Solution Engineering, Inc.;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
  *                   Martin Hoeller (patch 2850344);
+ *                   agent;
  *
  * Changes
  * -------
@@ -56,6 +57,8 @@
  * 03-Oct-2011 : Added support for PolarPlot's angleOffset and direction (MH);
  * 16-Oct-2011 : Fixed serialization problems with fillComposite (MH);
  * 15-Jun-2012 : Remove JCommon dependencies (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -471,17 +474,9 @@ public class DefaultPolarItemRenderer extends AbstractRenderer
                 hotspot = new Ellipse2D.Double(entityY - r, entityX - r, w, w);
             }
         }
-        String tip = null;
-        XYToolTipGenerator generator = getToolTipGenerator(series, item);
-        if (generator != null) {
-            tip = generator.generateToolTip(dataset, series, item);
-        }
-        String url = null;
-        if (getURLGenerator() != null) {
-            url = getURLGenerator().generateURL(dataset, series, item);
-        }
-        XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
-                tip, url);
+        XYItemEntity entity = new XYItemEntity(hotspot,
+                getToolTipGenerator(series, item), getURLGenerator(), dataset,
+                series, item);
         entities.add(entity);
     }
 
@@ -27,10 +27,10 @@
  * ----------------------
  * RendererUtilities.java
  * ----------------------
- * (C) Copyright 2007-2012, by Object Refinery Limited.
+ * (C) Copyright 2007-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -38,13 +38,20 @@
  * 27-Mar-2009 : Fixed results for unsorted datasets (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 23-Aug-2012 : Fixed rendering anomaly bug 3561093 (DG);
+ * 17-Oct-2026 : Use the order of the individual series where the dataset
+ *               reports it (agent);
+ * 17-Oct-2026 : Use the interval index for unordered series where the
+ *               dataset provides one (agent);
+ * 17-Oct-2026 : Added findLiveItemList() (agent);
  *
  */
 
 package org.jfree.chart.renderer;
 
 import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYIntervalIndexInfo;
 
 /**
  * Utility methods related to the rendering process.
@@ -80,7 +87,8 @@ public class RendererUtilities {
         if (itemCount <= 1) {
             return 0;
         }
-        if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+        DomainOrder order = DatasetUtilities.findDomainOrder(dataset, series);
+        if (order == DomainOrder.ASCENDING) {
             // for data in ascending order by x-value, we are (broadly) looking
             // for the index of the highest x-value that is less than xLow
             int low = 0;
@@ -107,7 +115,7 @@ public class RendererUtilities {
             }
             return high;
         }
-        else if (dataset.getDomainOrder() == DomainOrder.DESCENDING) {
+        else if (order == DomainOrder.DESCENDING) {
             // when the x-values are sorted in descending order, the lower
             // bound is found by calculating relative to the xHigh value
             int low = 0;
@@ -133,6 +141,10 @@ public class RendererUtilities {
             return high;
         }
         else {
+            int[] bounds = findIndexedLiveItems(dataset, series, xLow, xHigh);
+            if (bounds != null) {
+                return bounds[0];
+            }
             // we don't know anything about the ordering of the x-values,
             // but we can still skip any initial values that fall outside the
             // range...
@@ -176,7 +188,8 @@ public class RendererUtilities {
         if (itemCount <= 1) {
             return 0;
         }
-        if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+        DomainOrder order = DatasetUtilities.findDomainOrder(dataset, series);
+        if (order == DomainOrder.ASCENDING) {
             int low = 0;
             int high = itemCount - 1;
             double lowValue = dataset.getXValue(series, low);
@@ -200,7 +213,7 @@ public class RendererUtilities {
             }
             return mid;
         }
-        else if (dataset.getDomainOrder() == DomainOrder.DESCENDING) {
+        else if (order == DomainOrder.DESCENDING) {
             // when the x-values are descending, the upper bound is found by
             // comparing against xLow
             int low = 0;
@@ -227,6 +240,10 @@ public class RendererUtilities {
             return mid;
         }
         else {
+            int[] bounds = findIndexedLiveItems(dataset, series, xLow, xHigh);
+            if (bounds != null) {
+                return bounds[1];
+            }
             // we don't know anything about the ordering of the x-values,
             // but we can still skip any trailing values that fall outside the
             // range...
@@ -256,6 +273,13 @@ public class RendererUtilities {
      */
     public static int[] findLiveItems(XYDataset dataset, int series,
             double xLow, double xHigh) {
+        int[] items = findLiveItemList(dataset, series, xLow, xHigh);
+        if (items != null) {
+            if (items.length == 0) {
+                return new int[] {0, 0};
+            }
+            return new int[] {items[0], items[items.length - 1]};
+        }
         // here we could probably be a little faster by searching for both
         // indices simultaneously, but I'll look at that later if it seems
         // like it matters...
@@ -267,4 +291,62 @@ public class RendererUtilities {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Returns the indices of the items in an unordered series whose
+     * x-intervals overlap a range, if the dataset has an interval index (see
+     * {@link XYIntervalIndexInfo}).  For an unordered series the items
+     * between the first and last of these items can include many items
+     * outside the range, so the caller should visit only the items in the
+     * list.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param xLow  the lower bound of the x-value range.
+     * @param xHigh  the upper bound of the x-value range.
+     *
+     * @return The item indices in ascending order (possibly empty), or
+     *     <code>null</code> if the dataset does not have an interval index
+     *     or the x-values in the series are ordered (in which case
+     *     {@link #findLiveItems(XYDataset, int, double, double)} finds the
+     *     items efficiently).
+     */
+    public static int[] findLiveItemList(XYDataset dataset, int series,
+            double xLow, double xHigh) {
+        if (dataset instanceof XYIntervalIndexInfo && xLow < xHigh
+                && dataset.getItemCount(series) > 1
+                && DatasetUtilities.findDomainOrder(dataset, series)
+                        == DomainOrder.NONE) {
+            return ((XYIntervalIndexInfo) dataset).getOverlappingItems(
+                    series, xLow, xHigh);
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first and last items in an unordered series whose
+     * x-intervals overlap the range, using the dataset's interval index (if
+     * it has one).
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param xLow  the lower bound of the x-value range.
+     * @param xHigh  the upper bound of the x-value range.
+     *
+     * @return The indices of the boundary items (both zero if no items
+     *     overlap the range), or <code>null</code> if the dataset does not
+     *     have an interval index.
+     */
+    private static int[] findIndexedLiveItems(XYDataset dataset, int series,
+            double xLow, double xHigh) {
+        if (!(dataset instanceof XYIntervalIndexInfo)) {
+            return null;
+        }
+        int[] items = ((XYIntervalIndexInfo) dataset).getOverlappingItems(
+                series, xLow, xHigh);
+        if (items.length == 0) {
+            return new int[] {0, 0};
+        }
+        return new int[] {items[0], items[items.length - 1]};
+    }
+
 }
@@ -27,11 +27,12 @@
  * ---------------------------------
  * AbstractCategoryItemRenderer.java
  * ---------------------------------
- * (C) Copyright 2002-2016, by Object Refinery Limited.
+ * (C) Copyright 2002-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard Atkinson;
  *                   Peter Kolb (patch 2497611);
+ *                   agent;
  *
  * Changes:
  * --------
@@ -105,6 +106,8 @@
  * 09-Feb-2010 : Fixed bug 2947660 (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -1714,18 +1717,9 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
         if (!getItemCreateEntity(row, column)) {
             return;
         }
-        String tip = null;
-        CategoryToolTipGenerator tipster = getToolTipGenerator(row, column);
-        if (tipster != null) {
-            tip = tipster.generateToolTip(dataset, row, column);
-        }
-        String url = null;
-        CategoryURLGenerator urlster = getItemURLGenerator(row, column);
-        if (urlster != null) {
-            url = urlster.generateURL(dataset, row, column);
-        }
-        CategoryItemEntity entity = new CategoryItemEntity(hotspot, tip, url,
-                dataset, dataset.getRowKey(row), dataset.getColumnKey(column));
+        CategoryItemEntity entity = new CategoryItemEntity(hotspot,
+                getToolTipGenerator(row, column),
+                getItemURLGenerator(row, column), dataset, row, column);
         entities.add(entity);
     }
 
@@ -1762,18 +1756,9 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
                 s = new Ellipse2D.Double(entityY - r, entityX - r, w, w);
             }
         }
-        String tip = null;
-        CategoryToolTipGenerator generator = getToolTipGenerator(row, column);
-        if (generator != null) {
-            tip = generator.generateToolTip(dataset, row, column);
-        }
-        String url = null;
-        CategoryURLGenerator urlster = getItemURLGenerator(row, column);
-        if (urlster != null) {
-            url = urlster.generateURL(dataset, row, column);
-        }
-        CategoryItemEntity entity = new CategoryItemEntity(s, tip, url,
-                dataset, dataset.getRowKey(row), dataset.getColumnKey(column));
+        CategoryItemEntity entity = new CategoryItemEntity(s,
+                getToolTipGenerator(row, column),
+                getItemURLGenerator(row, column), dataset, row, column);
         entities.add(entity);
     }
 
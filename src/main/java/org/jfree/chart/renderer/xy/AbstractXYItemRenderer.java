@@ -27,7 +27,7 @@
  * ---------------------------
  * AbstractXYItemRenderer.java
  * ---------------------------
- * (C) Copyright 2002-2016, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2002-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard Atkinson;
@@ -36,6 +36,7 @@
  *                   Sergei Ivanov;
  *                   Peter Kolb (patch 2809117);
  *                   Martin Krauskopf;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -120,6 +121,10 @@
  * 06-Oct-2011 : Add utility methods to work with 1.4 API in GeneralPath (MK);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Remove LegendItemCollection (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
+ * 17-Oct-2026 : Add item entities to a CompactEntityCollection without
+ *               creating entity objects (agent);
  * 
  */
 
@@ -151,13 +156,7 @@ import org.jfree.chart.LegendItem;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
-import org.jfree.chart.ui.GradientPaintTransformer;
-import org.jfree.chart.ui.Layer;
-import org.jfree.chart.ui.LengthAdjustmentType;
-import org.jfree.chart.ui.RectangleAnchor;
-import org.jfree.chart.ui.RectangleInsets;
-import org.jfree.chart.util.ObjectUtils;
-import org.jfree.chart.util.PublicCloneable;
+import org.jfree.chart.entity.CompactEntityCollection;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.AnnotationChangeEvent;
@@ -178,9 +177,16 @@ import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.text.TextUtilities;
+import org.jfree.chart.ui.GradientPaintTransformer;
+import org.jfree.chart.ui.Layer;
+import org.jfree.chart.ui.LengthAdjustmentType;
+import org.jfree.chart.ui.RectangleAnchor;
+import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.chart.util.CloneUtils;
+import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
@@ -1826,17 +1832,15 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
                 hotspot = new Ellipse2D.Double(entityY - r, entityX - r, w, w);
             }
         }
-        String tip = null;
-        XYToolTipGenerator generator = getToolTipGenerator(series, item);
-        if (generator != null) {
-            tip = generator.generateToolTip(dataset, series, item);
-        }
-        String url = null;
-        if (getURLGenerator() != null) {
-            url = getURLGenerator().generateURL(dataset, series, item);
+        if (entities instanceof CompactEntityCollection) {
+            ((CompactEntityCollection) entities).addXYItem(hotspot,
+                    getToolTipGenerator(series, item), getURLGenerator(),
+                    dataset, series, item);
+            return;
         }
-        XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
-                tip, url);
+        XYItemEntity entity = new XYItemEntity(hotspot,
+                getToolTipGenerator(series, item), getURLGenerator(), dataset,
+                series, item);
         entities.add(entity);
     }
 
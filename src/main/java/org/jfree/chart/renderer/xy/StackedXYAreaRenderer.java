@@ -27,11 +27,12 @@
  * --------------------------
  * StackedXYAreaRenderer.java
  * --------------------------
- * (C) Copyright 2003-2014, by Richard Atkinson and Contributors.
+ * (C) Copyright 2003-2026, by Richard Atkinson and Contributors.
  *
  * Original Author:  Richard Atkinson;
  * Contributor(s):   Christian W. Zuckschwerdt;
  *                   David Gilbert (for Object Refinery Limited);
+ *                   agent;
  *
  * Changes:
  * --------
@@ -64,6 +65,8 @@
  *               methods (DG);
  * 20-Apr-2007 : Updated getLegendItem() for renderer change (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -596,19 +599,9 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
             if (state.getInfo() != null) {
                 EntityCollection entities = state.getEntityCollection();
                 if (entities != null && shape != null && !nullPoint) {
-                    String tip = null;
-                    XYToolTipGenerator generator
-                        = getToolTipGenerator(series, item);
-                    if (generator != null) {
-                        tip = generator.generateToolTip(dataset, series, item);
-                    }
-                    String url = null;
-                    if (getURLGenerator() != null) {
-                        url = getURLGenerator().generateURL(dataset, series,
-                                item);
-                    }
-                    XYItemEntity entity = new XYItemEntity(shape, dataset,
-                            series, item, tip, url);
+                    XYItemEntity entity = new XYItemEntity(shape,
+                            getToolTipGenerator(series, item),
+                            getURLGenerator(), dataset, series, item);
                     entities.add(entity);
                 }
             }
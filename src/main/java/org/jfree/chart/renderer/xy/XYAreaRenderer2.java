@@ -27,13 +27,14 @@
  * --------------------
  * XYAreaRenderer2.java
  * --------------------
- * (C) Copyright 2004-2014, by Hari and Contributors.
+ * (C) Copyright 2004-2026, by Hari and Contributors.
  *
  * Original Author:  Hari (ourhari@hotmail.com);
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
  *                   Richard Atkinson;
  *                   Christian W. Zuckschwerdt;
  *                   Martin Krauskopf;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -78,6 +79,8 @@
  * 17-Jun-2008 : Apply legend font and paint attributes (DG);
  * 06-Oct-2011 : Avoid GeneralPath methods requiring Java 1.5 (MK);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -382,18 +385,9 @@ public class XYAreaRenderer2 extends AbstractXYItemRenderer
         if (state.getInfo() != null) {
             EntityCollection entities = state.getEntityCollection();
             if (entities != null) {
-                String tip = null;
-                XYToolTipGenerator generator = getToolTipGenerator(series,
-                        item);
-                if (generator != null) {
-                    tip = generator.generateToolTip(dataset, series, item);
-                }
-                String url = null;
-                if (getURLGenerator() != null) {
-                    url = getURLGenerator().generateURL(dataset, series, item);
-                }
-                XYItemEntity entity = new XYItemEntity(hotspot, dataset,
-                        series, item, tip, url);
+                XYItemEntity entity = new XYItemEntity(hotspot,
+                        getToolTipGenerator(series, item), getURLGenerator(),
+                        dataset, series, item);
                 entities.add(entity);
             }
         }
@@ -27,7 +27,7 @@
  * -------------------------
  * XYDifferenceRenderer.java
  * -------------------------
- * (C) Copyright 2003-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2003-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Richard West, Advanced Micro Devices, Inc. (major rewrite
@@ -35,6 +35,7 @@
  *                   Patrick Schlott
  *                   Christoph Schroeder
  *                   Martin Hoeller
+ *                   agent;
  *
  * Changes:
  * --------
@@ -77,6 +78,8 @@
  * 13-Feb-2012 : Applied patch 3450234 for bug 3425881 by Patrick Schlott and
  *               Christoph Schroeder (MH);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Create entities that generate their tool tip and URL text
+ *               on demand (agent);
  *
  */
 
@@ -932,21 +935,12 @@ public class XYDifferenceRenderer extends AbstractXYItemRenderer
                 l_entityArea = new Rectangle2D.Double((l_x1 - 2), (l_y1 - 2),
                         4, 4);
             }
-            String l_tip = null;
             XYToolTipGenerator l_tipGenerator = getToolTipGenerator(x_series,
                     x_item);
-            if (null != l_tipGenerator) {
-                l_tip = l_tipGenerator.generateToolTip(x_dataset, x_series,
-                        x_item);
-            }
-            String l_url = null;
             XYURLGenerator l_urlGenerator = getURLGenerator();
-            if (null != l_urlGenerator) {
-                l_url = l_urlGenerator.generateURL(x_dataset, x_series,
-                        x_item);
-            }
-            XYItemEntity l_entity = new XYItemEntity(l_entityArea, x_dataset,
-                    x_series, x_item, l_tip, l_url);
+            XYItemEntity l_entity = new XYItemEntity(l_entityArea,
+                    l_tipGenerator, l_urlGenerator, x_dataset, x_series,
+                    x_item);
             l_entities.add(l_entity);
         }
 
@@ -27,11 +27,12 @@
  * ------------------------
  * XYItemRendererState.java
  * ------------------------
- * (C) Copyright 2003-2008, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2003-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Ulrich Voigt;
  *                   Greg Darke;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -43,17 +44,26 @@
  *               Ulrich Voigt (DG);
  * 19-Sep-2008 : Added first and last item indices, based on patch by Greg
  *               Darke (DG);
+ * 17-Oct-2026 : Added per-pixel decimation of data items (agent);
+ * 17-Oct-2026 : Use a multi-resolution index for decimation when the dataset
+ *               provides one (agent);
  *
  */
 
 package org.jfree.chart.renderer.xy;
 
 import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.RendererState;
+import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYPyramid;
+import org.jfree.data.xy.XYPyramidInfo;
 
 /**
  * The state for an {@link XYItemRenderer}.
@@ -88,6 +98,54 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * The data area used to find the pixel column for each item when
+     * decimation is enabled (<code>null</code> if decimation is disabled).
+     */
+    private Rectangle2D decimationArea;
+
+    /** The domain axis used to find the pixel column for each item. */
+    private ValueAxis decimationAxis;
+
+    /** The edge for the domain axis. */
+    private RectangleEdge decimationEdge;
+
+    /** The indices of the items to render (when decimation is enabled). */
+    private int[] decimatedItems;
+
+    /** The number of items in the decimatedItems array. */
+    private int decimatedItemCount;
+
+    /** The dataset for which the decimated items were found. */
+    private XYDataset decimatedDataset;
+
+    /** The series for which the decimated items were found. */
+    private int decimatedSeries;
+
+    /** A flag indicating that a pixel column is being accumulated. */
+    private boolean columnOpen;
+
+    /** The current pixel column. */
+    private int column;
+
+    /** The first item in the current pixel column. */
+    private int columnFirstItem;
+
+    /** The last item in the current pixel column. */
+    private int columnLastItem;
+
+    /** The item with the minimum y-value in the current pixel column. */
+    private int columnMinItem;
+
+    /** The item with the maximum y-value in the current pixel column. */
+    private int columnMaxItem;
+
+    /** The minimum y-value in the current pixel column. */
+    private double columnMinY;
+
+    /** The maximum y-value in the current pixel column. */
+    private double columnMaxY;
+
     /**
      * Creates a new state.
      *
@@ -171,6 +229,256 @@ public class XYItemRendererState extends RendererState {
             int lastItem, int pass, int passCount) {
         this.firstItemIndex = firstItem;
         this.lastItemIndex = lastItem;
+        if (this.decimationArea != null && (pass == 0
+                || dataset != this.decimatedDataset
+                || series != this.decimatedSeries)) {
+            decimate(dataset, series, firstItem, lastItem);
+        }
+    }
+
+    /**
+     * Enables per-pixel decimation of the data items for the following
+     * series passes.  With decimation, the {@link XYPlot} passes just a few
+     * representative items from each pixel column of the data area to the
+     * renderer:  the first and last items in the column, and the items with
+     * the minimum and maximum y-values.  This means that the drawing work is
+     * proportional to the width of the data area rather than the number of
+     * items, while a line connecting the representative items covers the
+     * same pixels as a line connecting all the items.  Items with a
+     * <code>NaN</code> x- or y-value are always passed to the renderer, so
+     * that gaps in the series are preserved.  The items in each series are
+     * assumed to be in ascending order of x-value (if they are not,
+     * decimation is less effective but the results are still correct).
+     * <P>
+     * A renderer that enables decimation should connect each item to the
+     * item returned by {@link #getPreviousItem(int)}, not to the item with
+     * the preceding index.
+     *
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param domainAxis  the domain axis (<code>null</code> not permitted).
+     * @param domainEdge  the domain axis edge (<code>null</code> not
+     *     permitted).
+     *
+     * @see #isPixelDecimation()
+     */
+    public void enablePixelDecimation(Rectangle2D dataArea,
+            ValueAxis domainAxis, RectangleEdge domainEdge) {
+        this.decimationArea = dataArea;
+        this.decimationAxis = domainAxis;
+        this.decimationEdge = domainEdge;
+        this.decimatedDataset = null;
+    }
+
+    /**
+     * Returns <code>true</code> if per-pixel decimation is enabled, and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     *
+     * @see #enablePixelDecimation(Rectangle2D, ValueAxis, RectangleEdge)
+     */
+    public boolean isPixelDecimation() {
+        return this.decimationArea != null;
+    }
+
+    /**
+     * Returns the number of items to render in the current series pass when
+     * decimation is enabled.
+     *
+     * @return The item count.
+     */
+    public int getDecimatedItemCount() {
+        return this.decimatedItemCount;
+    }
+
+    /**
+     * Returns the index (in the series) of an item to render in the current
+     * series pass when decimation is enabled.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>getDecimatedItemCount() - 1</code>).
+     *
+     * @return The item index.
+     */
+    public int getDecimatedItem(int index) {
+        return this.decimatedItems[index];
+    }
+
+    /**
+     * Returns the index of the item that is rendered before the specified
+     * item in the current series pass.  This is <code>item - 1</code> unless
+     * decimation is enabled.
+     *
+     * @param item  the item index.
+     *
+     * @return The index of the previous item (-1 if there is none).
+     */
+    public int getPreviousItem(int item) {
+        if (this.decimationArea != null) {
+            int index = Arrays.binarySearch(this.decimatedItems, 0,
+                    this.decimatedItemCount, item);
+            if (index >= 0) {
+                return index > 0 ? this.decimatedItems[index - 1] : -1;
+            }
+        }
+        return item - 1;
+    }
+
+    /**
+     * Finds the representative items for each pixel column.  If the dataset
+     * provides a multi-resolution index for the series (see
+     * {@link XYPyramidInfo}) and there are many items per pixel column, the
+     * candidates are read from the index (a few buckets per column) rather
+     * than by visiting every item.  The buckets do not line up exactly with
+     * the pixel columns, so at each column boundary the representative items
+     * may be out by up to one bucket (a small fraction of a pixel).
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     */
+    private void decimate(XYDataset dataset, int series, int firstItem,
+            int lastItem) {
+        if (this.decimatedItems == null) {
+            this.decimatedItems = new int[256];
+        }
+        this.decimatedItemCount = 0;
+        this.decimatedDataset = dataset;
+        this.decimatedSeries = series;
+        this.columnOpen = false;
+        XYPyramid pyramid = null;
+        int level = -1;
+        double pixels = RectangleEdge.isTopOrBottom(this.decimationEdge)
+                ? this.decimationArea.getWidth()
+                : this.decimationArea.getHeight();
+        long minBuckets = 4 * ((long) Math.ceil(pixels) + 1);
+        long n = (long) lastItem - firstItem + 1;
+        if (dataset instanceof XYPyramidInfo
+                && n >= minBuckets * XYPyramid.MINIMUM_BUCKET_SIZE) {
+            pyramid = ((XYPyramidInfo) dataset).getPyramid(series);
+            if (pyramid != null && pyramid.isAscending()
+                    && pyramid.getItemCount() == dataset.getItemCount(series)) {
+                level = pyramid.getLevelCount() - 1;
+                while (level >= 0
+                        && pyramid.getBucketSize(level) * minBuckets > n) {
+                    level--;
+                }
+            }
+        }
+        if (level < 0) {
+            for (int item = firstItem; item <= lastItem; item++) {
+                decimateItem(dataset, series, item);
+            }
+        } else {
+            int size = pyramid.getBucketSize(level);
+            int item = firstItem;
+            while (item <= lastItem) {
+                int start = pyramid.getBucketStart(level, item);
+                int end = start + size - 1;
+                if (start < firstItem || end > lastItem
+                        || pyramid.hasNaN(level, item)) {
+                    // visit every item in a partial bucket or one with gaps
+                    int last = Math.min(end, lastItem);
+                    for (int i = Math.max(start, firstItem); i <= last; i++) {
+                        decimateItem(dataset, series, i);
+                    }
+                } else {
+                    int minItem = pyramid.getMinItem(level, item);
+                    int maxItem = pyramid.getMaxItem(level, item);
+                    int a = Math.min(minItem, maxItem);
+                    int b = Math.max(minItem, maxItem);
+                    decimateItem(dataset, series, start);
+                    if (a > start) {
+                        decimateItem(dataset, series, a);
+                    }
+                    if (b > a) {
+                        decimateItem(dataset, series, b);
+                    }
+                    if (end > b) {
+                        decimateItem(dataset, series, end);
+                    }
+                }
+                item = end + 1;
+            }
+        }
+        closeColumn();
+    }
+
+    /**
+     * Processes one item (or candidate item) during decimation.  The items
+     * must be passed in ascending order.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     */
+    private void decimateItem(XYDataset dataset, int series, int item) {
+        double x = dataset.getXValue(series, item);
+        double y = dataset.getYValue(series, item);
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            closeColumn();
+            addDecimatedItem(item);
+            return;
+        }
+        int c = (int) Math.floor(this.decimationAxis.valueToJava2D(x,
+                this.decimationArea, this.decimationEdge));
+        if (this.columnOpen && c == this.column) {
+            if (y < this.columnMinY) {
+                this.columnMinY = y;
+                this.columnMinItem = item;
+            } else if (y > this.columnMaxY) {
+                this.columnMaxY = y;
+                this.columnMaxItem = item;
+            }
+            this.columnLastItem = item;
+        } else {
+            closeColumn();
+            this.columnOpen = true;
+            this.column = c;
+            this.columnFirstItem = item;
+            this.columnLastItem = item;
+            this.columnMinItem = item;
+            this.columnMaxItem = item;
+            this.columnMinY = y;
+            this.columnMaxY = y;
+        }
+    }
+
+    /**
+     * Adds the representative items for the current pixel column (if there
+     * is one) in ascending order, without duplicates.
+     */
+    private void closeColumn() {
+        if (!this.columnOpen) {
+            return;
+        }
+        this.columnOpen = false;
+        int a = Math.min(this.columnMinItem, this.columnMaxItem);
+        int b = Math.max(this.columnMinItem, this.columnMaxItem);
+        addDecimatedItem(this.columnFirstItem);
+        if (a > this.columnFirstItem) {
+            addDecimatedItem(a);
+        }
+        if (b > a) {
+            addDecimatedItem(b);
+        }
+        if (this.columnLastItem > b) {
+            addDecimatedItem(this.columnLastItem);
+        }
+    }
+
+    /**
+     * Adds an item to the decimated items.
+     *
+     * @param item  the item index.
+     */
+    private void addDecimatedItem(int item) {
+        if (this.decimatedItemCount == this.decimatedItems.length) {
+            this.decimatedItems = Arrays.copyOf(this.decimatedItems,
+                    this.decimatedItemCount * 2);
+        }
+        this.decimatedItems[this.decimatedItemCount++] = item;
     }
 
     /**
@@ -27,10 +27,10 @@
  * ---------------------------
  * XYLineAndShapeRenderer.java
  * ---------------------------
- * (C) Copyright 2004-2016, by Object Refinery Limited.
+ * (C) Copyright 2004-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes:
  * --------
@@ -67,6 +67,7 @@
  * 18-May-2009 : Clip lines in drawPrimaryLine() (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
  * 01-Jul-2012 : Remove deprecated code (DG);
+ * 17-Oct-2026 : Added pixelDecimation flag (agent);
  * 
  */
 
@@ -169,6 +170,12 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the items in each pixel column are
+     * reduced to a few representative items before drawing.
+     */
+    private boolean pixelDecimation;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -200,6 +207,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.pixelDecimation = false;
     }
 
     /**
@@ -230,6 +238,42 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns the flag that controls whether or not the items in each pixel
+     * column of the data area are reduced to a few representative items
+     * before drawing.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setPixelDecimation(boolean)
+     */
+    public boolean getPixelDecimation() {
+        return this.pixelDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the items in each pixel
+     * column of the data area are reduced to a few representative items
+     * (the first and last items, and the items with the minimum and maximum
+     * y-values) before drawing, and sends a {@link RendererChangeEvent} to
+     * all registered listeners.  For series with many more items than there
+     * are pixels across the data area, this makes drawing much faster while
+     * the lines look the same.  Shapes, item labels and entities are only
+     * created for the representative items.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getPixelDecimation()
+     * @see XYItemRendererState#enablePixelDecimation(Rectangle2D, ValueAxis,
+     *     RectangleEdge)
+     */
+    public void setPixelDecimation(boolean flag) {
+        if (this.pixelDecimation != flag) {
+            this.pixelDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -712,6 +756,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
 
         State state = new State(info);
         state.seriesPath = new GeneralPath();
+        if (this.pixelDecimation) {
+            int index = plot.indexOf(data);
+            ValueAxis domainAxis = index >= 0
+                    ? plot.getDomainAxisForDataset(index) : null;
+            if (domainAxis != null) {
+                state.enablePixelDecimation(dataArea, domainAxis,
+                        plot.getDomainAxisEdge());
+            }
+        }
         return state;
 
     }
@@ -830,7 +883,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                    ValueAxis domainAxis,
                                    ValueAxis rangeAxis,
                                    Rectangle2D dataArea) {
-        if (item == 0) {
+        int previous = state.getPreviousItem(item);
+        if (previous < 0) {
             return;
         }
 
@@ -841,8 +895,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             return;
         }
 
-        double x0 = dataset.getXValue(series, item - 1);
-        double y0 = dataset.getYValue(series, item - 1);
+        double x0 = dataset.getXValue(series, previous);
+        double y0 = dataset.getYValue(series, previous);
         if (Double.isNaN(y0) || Double.isNaN(x0)) {
             return;
         }
@@ -1203,6 +1257,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.pixelDecimation != that.pixelDecimation) {
+            return false;
+        }
         return true;
     }
 
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2016, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -36,6 +36,7 @@
  *                   Ulrich Voigt (patch 1874890);
  *                   Martin Hoeller (contribution to patch 1874890);
  *                   Matthias Noebl (for Cropster GmbH);
+ *                   agent;
  *
  * Changes
  * -------
@@ -68,6 +69,7 @@
  *               labels (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
  * 29-Feb-2016 : Improved performance by only drawing visible lines (MN);
+ * 17-Oct-2026 : Connect to the previous rendered item (agent);
  *
  */
 
@@ -224,10 +226,11 @@ public class XYStepRenderer extends XYLineAndShapeRenderer
         double transY1 = (Double.isNaN(y1) ? Double.NaN
                 : rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation));
 
-        if (pass == 0 && item > 0) {
+        int previous = state.getPreviousItem(item);
+        if (pass == 0 && previous >= 0) {
             // get the previous data point...
-            double x0 = dataset.getXValue(series, item - 1);
-            double y0 = dataset.getYValue(series, item - 1);
+            double x0 = dataset.getXValue(series, previous);
+            double y0 = dataset.getYValue(series, previous);
             double transX0 = domainAxis.valueToJava2D(x0, dataArea,
                     xAxisLocation);
             double transY0 = (Double.isNaN(y0) ? Double.NaN
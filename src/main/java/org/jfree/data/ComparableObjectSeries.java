@@ -27,10 +27,10 @@
  * ---------------------------
  * ComparableObjectSeries.java
  * ---------------------------
- * (C) Copyright 2006-2012, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -38,6 +38,9 @@
  * 31-Oct-2007 : Implemented faster hashCode() (DG);
  * 27-Nov-2007 : Changed clear() from protected to public (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Store items in a circular buffer so that the oldest item can
+ *               be dropped in constant time (agent);
+ * 17-Oct-2026 : Track the order of the x-values (agent);
  *
  */
 
@@ -48,6 +51,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jfree.chart.util.ObjectUtils;
+import org.jfree.data.general.RingBufferList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -72,6 +76,12 @@ public class ComparableObjectSeries extends Series
     /** A flag that controls whether or not duplicate x-values are allowed. */
     private boolean allowDuplicateXValues;
 
+    /**
+     * The order of the x-values in an unsorted series (<code>null</code> if
+     * it has to be found by iterating over the items).
+     */
+    private transient DomainOrder domainOrder;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -96,9 +106,10 @@ public class ComparableObjectSeries extends Series
     public ComparableObjectSeries(Comparable key, boolean autoSort,
             boolean allowDuplicateXValues) {
         super(key);
-        this.data = new java.util.ArrayList<ComparableObjectItem>();
+        this.data = new RingBufferList<ComparableObjectItem>();
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
+        this.domainOrder = DomainOrder.ASCENDING;
     }
 
     /**
@@ -112,6 +123,55 @@ public class ComparableObjectSeries extends Series
         return this.autoSort;
     }
 
+    /**
+     * Returns the order of the x-values in the series.  This is always
+     * {@link DomainOrder#ASCENDING} for a series that is automatically
+     * sorted.  For other series, the order is updated as items are added
+     * and removed, so this method usually takes constant time.
+     *
+     * @return The domain order (either {@link DomainOrder#ASCENDING} or
+     *     {@link DomainOrder#NONE}).
+     */
+    public DomainOrder getDomainOrder() {
+        if (this.autoSort) {
+            return DomainOrder.ASCENDING;
+        }
+        if (this.domainOrder == null) {
+            this.domainOrder = DomainOrder.ASCENDING;
+            updateOrderForAppendedItems(1);
+        }
+        return this.domainOrder;
+    }
+
+    /**
+     * Updates the domain order after items have been appended to an unsorted
+     * series.
+     *
+     * @param start  the index of the first appended item.
+     */
+    private void updateOrderForAppendedItems(int start) {
+        if (this.domainOrder != DomainOrder.ASCENDING) {
+            return;
+        }
+        for (int i = Math.max(start, 1); i < this.data.size(); i++) {
+            if (this.data.get(i - 1).compareTo(this.data.get(i)) > 0) {
+                this.domainOrder = DomainOrder.NONE;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Updates the domain order after items have been removed from the
+     * series.  Removing items can't make ascending x-values unsorted, but it
+     * can make unsorted x-values ascending.
+     */
+    private void updateOrderForRemovedItems() {
+        if (this.domainOrder == DomainOrder.NONE) {
+            this.domainOrder = null;
+        }
+    }
+
     /**
      * Returns a flag that controls whether duplicate x-values are allowed.
      * This flag can only be set in the constructor.
@@ -165,6 +225,7 @@ public class ComparableObjectSeries extends Series
             dataRemoved = true;
         }
         if (dataRemoved) {
+            updateOrderForRemovedItems();
             fireSeriesChanged();
         }
     }
@@ -253,9 +314,11 @@ public class ComparableObjectSeries extends Series
                 }
             }
             this.data.add(item);
+            updateOrderForAppendedItems(this.data.size() - 1);
         }
         if (getItemCount() > this.maximumItemCount) {
             this.data.remove(0);
+            updateOrderForRemovedItems();
         }
         if (notify) {
             fireSeriesChanged();
@@ -344,6 +407,7 @@ public class ComparableObjectSeries extends Series
         for (int i = start; i <= end; i++) {
             this.data.remove(start);
         }
+        updateOrderForRemovedItems();
         fireSeriesChanged();
     }
 
@@ -355,6 +419,7 @@ public class ComparableObjectSeries extends Series
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            updateOrderForRemovedItems();
             fireSeriesChanged();
         }
     }
@@ -370,6 +435,7 @@ public class ComparableObjectSeries extends Series
     protected ComparableObjectItem remove(int index) {
         ComparableObjectItem result = this.data.remove(
                 index);
+        updateOrderForRemovedItems();
         fireSeriesChanged();
         return result;
     }
@@ -27,21 +27,26 @@
  * --------------------------------
  * XYDatasetSelectionExtension.java
  * --------------------------------
- * (C) Copyright 2013, 2014, by Michael Zinsmaier and Contributors.
+ * (C) Copyright 2013-2026, by Michael Zinsmaier and Contributors.
  *
  * Original Author:  Michael Zinsmaier;
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
+ *                   agent;
  *
  * Changes
  * -------
  * 17-Sep-2013 : Version 1 (MZ);
+ * 17-Oct-2026 : Keep the selection when a change event describes the
+ *               items that changed (agent);
  *
  */
 
 package org.jfree.data.extension.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.jfree.data.extension.DatasetCursor;
 import org.jfree.data.extension.DatasetIterator;
@@ -49,6 +54,7 @@ import org.jfree.data.extension.DatasetSelectionExtension;
 import org.jfree.data.extension.IterableSelection;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.SelectionChangeListener;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.xy.XYDataset;
 
 /**
@@ -102,13 +108,84 @@ public class XYDatasetSelectionExtension extends
     
     /**
      * A change of the underlying dataset clears the selection and 
-     * reinitializes it.
+     * reinitializes it, unless the event describes the items that changed in
+     * a single series.  In that case the selection state of the other items
+     * is kept (new items are not selected).
      * 
      * @param event  the event details.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        initSelection();
+        SeriesChangeInfo info = event.getSeriesChangeInfo();
+        int series = event.getSeriesIndex();
+        if (info == null || series < 0 || series >= selectionData.length
+                || selectionData.length != dataset.getSeriesCount()
+                || !updateSelection(series, info)) {
+            initSelection();
+        }
+    }
+
+    /**
+     * Updates the selection attributes for one series to match a change to
+     * the items in the series.
+     * 
+     * @param series  the series index.
+     * @param info  a description of the change.
+     * 
+     * @return A boolean that indicates whether the selection attributes are
+     *     now consistent with the dataset.
+     */
+    private boolean updateSelection(int series, SeriesChangeInfo info) {
+        ArrayList<Boolean> selection = selectionData[series];
+        int start = info.getStartIndex();
+        int count = info.getItemCount();
+        boolean deselected = false;
+        switch (info.getType()) {
+            case ITEMS_APPENDED:
+                int removed = Math.min(info.getRemovedFromStart(),
+                        selection.size());
+                deselected = clear(selection.subList(0, removed));
+                selection.addAll(Collections.nCopies(count, Boolean.FALSE));
+                break;
+            case ITEMS_INSERTED:
+                if (start > selection.size()) {
+                    return false;
+                }
+                selection.addAll(start, Collections.nCopies(count,
+                        Boolean.FALSE));
+                break;
+            case ITEMS_REMOVED:
+                if (start + count > selection.size()) {
+                    return false;
+                }
+                deselected = clear(selection.subList(start, start + count));
+                break;
+            case ITEMS_UPDATED:
+                break;
+            default:
+                return false;
+        }
+        if (selection.size() != dataset.getItemCount(series)) {
+            return false;
+        }
+        if (deselected) {
+            notifyIfRequired();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the selection attributes in a list, and returns {@code true} 
+     * if any of them was selected.
+     * 
+     * @param selection  the selection attributes.
+     * 
+     * @return A boolean.
+     */
+    private static boolean clear(List<Boolean> selection) {
+        boolean result = selection.contains(Boolean.TRUE);
+        selection.clear();
+        return result;
     }
 
     /**
@@ -27,11 +27,12 @@
  * --------------------
  * AbstractDataset.java
  * --------------------
- * (C)opyright 2000-2008, by Object Refinery Limited.
+ * (C)opyright 2000-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Nicolas Brodu (for Astrium and EADS Corporate Research
  *                   Center);
+ *                   agent;
  *
  * Changes (from 21-Aug-2001)
  * --------------------------
@@ -52,6 +53,7 @@
  * 08-Sep-2003 : Serialization fixes (NB);
  * 11-Sep-2003 : Cloning Fixes (NB);
  * 01-Jun-2005 : Added hasListener() method for unit testing (DG);
+ * 17-Oct-2026 : Added beginUpdate() and endUpdate() methods (agent);
  *
  */
 
@@ -82,6 +84,15 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
 
+    /** The number of update scopes that are open (see beginUpdate()). */
+    private transient int updateDepth;
+
+    /** The first change event that was held back during an update. */
+    private transient DatasetChangeEvent pendingEvent;
+
+    /** The number of change events that were held back during an update. */
+    private transient int pendingEventCount;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -132,6 +143,56 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         return list.contains(listener);
     }
 
+    /**
+     * Starts an update to the dataset.  Until the matching call to
+     * {@link #endUpdate()}, change events are held back rather than being
+     * sent to the registered listeners, so that a sequence of changes (for
+     * example, to many series in the dataset) results in a single change
+     * event.  Calls to this method can be nested.
+     *
+     * @see #endUpdate()
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update to the dataset that was started with
+     * {@link #beginUpdate()}.  When the outermost update ends, a single
+     * change event is sent to the registered listeners if the dataset
+     * changed during the update.  If exactly one change event was held back,
+     * that event is sent (so that any description of the change is kept),
+     * otherwise a general event is sent.
+     *
+     * @throws IllegalStateException if there is no matching call to
+     *     {@link #beginUpdate()}.
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException(
+                    "There is no update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.pendingEvent != null) {
+            DatasetChangeEvent event = this.pendingEventCount == 1
+                    ? this.pendingEvent : new DatasetChangeEvent(this, this);
+            this.pendingEvent = null;
+            this.pendingEventCount = 0;
+            notifyListeners(event);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if an update to the dataset is in progress
+     * (that is, {@link #beginUpdate()} has been called more often than
+     * {@link #endUpdate()}), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed.
      *
@@ -152,6 +213,14 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     protected void notifyListeners(DatasetChangeEvent event) {
 
+        if (this.updateDepth > 0) {
+            // hold the event back until the update ends
+            if (this.pendingEvent == null) {
+                this.pendingEvent = event;
+            }
+            this.pendingEventCount++;
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -176,6 +245,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.pendingEvent = null;
+        clone.pendingEventCount = 0;
         return clone;
     }
 
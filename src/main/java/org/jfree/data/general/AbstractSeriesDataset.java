@@ -27,10 +27,10 @@
  * --------------------------
  * AbstractSeriesDataset.java
  * --------------------------
- * (C) Copyright 2001-2014, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -39,6 +39,7 @@
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 04-Feb-2003 : Removed redundant methods (DG);
  * 27-Mar-2003 : Implemented Serializable (DG);
+ * 17-Oct-2026 : Pass series change info on to dataset listeners (agent);
  *
  */
 
@@ -105,12 +106,24 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
     }
 
     /**
-     * Called when a series belonging to the dataset changes.
+     * Called when a series belonging to the dataset changes.  If the event
+     * describes the change, the {@link DatasetChangeEvent} that is sent to
+     * the dataset's listeners carries the series index and the same
+     * description.
      *
      * @param event  information about the change.
      */
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
+        SeriesChangeInfo info = event.getChangeInfo();
+        if (info != null && event.getSource() instanceof Series) {
+            int series = indexOf(((Series) event.getSource()).getKey());
+            if (series >= 0) {
+                notifyListeners(new DatasetChangeEvent(this, this, series,
+                        info));
+                return;
+            }
+        }
         fireDatasetChanged();
     }
 
@@ -27,10 +27,10 @@
  * -----------------------
  * DatasetChangeEvent.java
  * -----------------------
- * (C) Copyright 2000-2008, by Object Refinery Limited.
+ * (C) Copyright 2000-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes (from 24-Aug-2001)
  * --------------------------
@@ -42,6 +42,7 @@
  *               Updated Javadocs (DG);
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 05-Oct-2004 : Minor Javadoc updates (DG);
+ * 17-Oct-2026 : Added optional series index and change info (agent);
  *
  */
 
@@ -49,6 +50,10 @@ package org.jfree.data.general;
 
 /**
  * A change event that encapsulates information about a change to a dataset.
+ * When the change is confined to a range of items in a single series, the
+ * event may carry the series index and a {@link SeriesChangeInfo} describing
+ * the change; otherwise listeners should assume that the whole dataset has
+ * changed.
  */
 public class DatasetChangeEvent extends java.util.EventObject {
 
@@ -57,6 +62,12 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private Dataset dataset;
 
+    /** The index of the series that changed (-1 if not known). */
+    private int seriesIndex;
+
+    /** A description of the change to the series (possibly null). */
+    private SeriesChangeInfo seriesChangeInfo;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +79,26 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, -1, null);
+    }
+
+    /**
+     * Constructs a new event for a change to a single series in a dataset.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     * @param seriesIndex  the index of the series that changed (-1 if not
+     *     known).
+     * @param seriesChangeInfo  a description of the change to the series
+     *     (<code>null</code> permitted).
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset, int seriesIndex,
+            SeriesChangeInfo seriesChangeInfo) {
         super(source);
         this.dataset = dataset;
+        this.seriesIndex = seriesIndex;
+        this.seriesChangeInfo = seriesChangeInfo;
     }
 
     /**
@@ -83,4 +112,26 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns the index of the series that changed, or -1 if the change is
+     * not confined to a single (known) series.
+     *
+     * @return The series index.
+     */
+    public int getSeriesIndex() {
+        return this.seriesIndex;
+    }
+
+    /**
+     * Returns a description of the change to the series with index
+     * {@link #getSeriesIndex()}, or <code>null</code> if the change is not
+     * described (in which case the whole dataset should be assumed to have
+     * changed).
+     *
+     * @return The change info (possibly <code>null</code>).
+     */
+    public SeriesChangeInfo getSeriesChangeInfo() {
+        return this.seriesChangeInfo;
+    }
+
 }
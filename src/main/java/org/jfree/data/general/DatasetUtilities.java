@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2015, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -38,6 +38,7 @@
  *                   Jerome David (patch 2131001);
  *                   Peter Kolb (patch 2791407);
  *                   Martin Hoeller (patch 2952086);
+ *                   agent;
  *
  * Changes (from 18-Sep-2001)
  * --------------------------
@@ -122,6 +123,7 @@
  *               MultiValueCategoryDataset (PK);
  * 10-Sep-2009 : Fix bug 2849731 for IntervalCategoryDataset (DG);
  * 16-Feb-2010 : Patch 2952086 - find z-bounds (MH);
+ * 17-Oct-2026 : Added findDomainOrder() and iterateDomainOrder() (agent);
  *
  */
 
@@ -152,6 +154,7 @@ import org.jfree.data.xy.OHLCDataset;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYDomainOrderInfo;
 import org.jfree.data.xy.XYRangeInfo;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -2174,6 +2177,64 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Returns the order of the x-values in one series of a dataset.  If the
+     * dataset reports an order for all its series, that order is returned.
+     * Otherwise, if the dataset implements {@link XYDomainOrderInfo}, the
+     * order for the individual series is returned.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     *
+     * @return The domain order (never {@code null}).
+     */
+    public static DomainOrder findDomainOrder(XYDataset dataset, int series) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        DomainOrder result = dataset.getDomainOrder();
+        if (result == DomainOrder.NONE
+                && dataset instanceof XYDomainOrderInfo) {
+            result = ((XYDomainOrderInfo) dataset).getDomainOrder(series);
+        }
+        return result;
+    }
+
+    /**
+     * Iterates over the items in one series of a dataset to find the order of
+     * the x-values.  A series with fewer than two items is reported as being
+     * in ascending order, and a series that contains {@code Double.NaN}
+     * x-values is reported as having no order.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     *
+     * @return The domain order (never {@code null}).
+     */
+    public static DomainOrder iterateDomainOrder(XYDataset dataset,
+            int series) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        int itemCount = dataset.getItemCount(series);
+        boolean ascending = true;
+        boolean descending = itemCount > 1;
+        double previous = itemCount > 0 ? dataset.getXValue(series, 0)
+                : Double.NaN;
+        if (itemCount > 0 && Double.isNaN(previous)) {
+            return DomainOrder.NONE;
+        }
+        for (int item = 1; item < itemCount; item++) {
+            double x = dataset.getXValue(series, item);
+            if (Double.isNaN(x)) {
+                return DomainOrder.NONE;
+            }
+            ascending = ascending && previous <= x;
+            descending = descending && previous >= x;
+            if (!ascending && !descending) {
+                return DomainOrder.NONE;
+            }
+            previous = x;
+        }
+        return ascending ? DomainOrder.ASCENDING : DomainOrder.DESCENDING;
+    }
+
     /**
      * Returns the interpolated value of y that corresponds to the specified
      * x-value in the given series.  If the x-value falls outside the range of
@@ -2238,7 +2299,8 @@ public final class DatasetUtilities {
                 return new int[] {-1, -1};
             }
         }
-        if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+        DomainOrder order = findDomainOrder(dataset, series);
+        if (order == DomainOrder.ASCENDING) {
             int low = 0;
             int high = itemCount - 1;
             double lowValue = dataset.getXValue(series, low);
@@ -2271,7 +2333,7 @@ public final class DatasetUtilities {
             }
             return new int[] {low, high};
         }
-        else if (dataset.getDomainOrder() == DomainOrder.DESCENDING) {
+        else if (order == DomainOrder.DESCENDING) {
             int high = 0;
             int low = itemCount - 1;
             double lowValue = dataset.getXValue(series, low);
@@ -0,0 +1,333 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list that stores its elements in a circular array.  Adding or removing
+ * an element at either end of the list is an O(1) operation (an
+ * <code>ArrayList</code> has to shift all the remaining elements when the
+ * first element is removed), which makes this class suitable for storing the
+ * items in a series with a maximum item count, where the oldest item is
+ * removed each time a new item is appended.  Inserting or removing elements
+ * elsewhere in the list shifts the elements on the shorter side of the
+ * index.
+ *
+ * @param <E>  the element type.
+ */
+public class RingBufferList<E> extends AbstractList<E>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2871316480245313327L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the elements. */
+    private Object[] elements;
+
+    /** The position of the first element in the storage array. */
+    private int head;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list with the default initial capacity.
+     */
+    public RingBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (must be non-negative).
+     */
+    public RingBufferList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative 'initialCapacity' "
+                    + "argument.");
+        }
+        this.elements = new Object[Math.max(initialCapacity, 1)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The element.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) this.elements[position(index)];
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @param index  the index (zero-based).
+     * @param element  the new element.
+     *
+     * @return The element that was replaced.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int p = position(index);
+        E result = (E) this.elements[p];
+        this.elements[p] = element;
+        return result;
+    }
+
+    /**
+     * Inserts an element at the specified index.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param element  the element.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        ensureCapacity(this.size + 1);
+        if (index < this.size - index) {
+            // move the leading elements one place towards the front
+            this.head = (this.head == 0 ? this.elements.length : this.head)
+                    - 1;
+            for (int i = 0; i < index; i++) {
+                this.elements[position(i)] = this.elements[position(i + 1)];
+            }
+        } else {
+            // move the trailing elements one place towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[position(i)] = this.elements[position(i - 1)];
+            }
+        }
+        this.elements[position(index)] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The element that was removed.
+     */
+    @Override
+    public E remove(int index) {
+        E result = get(index);
+        if (index < this.size - 1 - index) {
+            // move the leading elements one place towards the back
+            for (int i = index; i > 0; i--) {
+                this.elements[position(i)] = this.elements[position(i - 1)];
+            }
+            this.elements[this.head] = null;
+            this.head = position(1);
+        } else {
+            // move the trailing elements one place towards the front
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[position(i)] = this.elements[position(i + 1)];
+            }
+            this.elements[position(this.size - 1)] = null;
+        }
+        this.size--;
+        this.modCount++;
+        return result;
+    }
+
+    /**
+     * Removes the elements from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).  Removing elements from the front of
+     * the list takes time proportional to the number of elements removed
+     * (not the size of the list).
+     *
+     * @param fromIndex  the index of the first element to remove.
+     * @param toIndex  the index after the last element to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex
+                    + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        int n = toIndex - fromIndex;
+        if (n == 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            for (int i = 0; i < n; i++) {
+                this.elements[position(i)] = null;
+            }
+            this.head = position(n);
+        } else {
+            for (int i = fromIndex; i < this.size - n; i++) {
+                this.elements[position(i)] = this.elements[position(i + n)];
+            }
+            for (int i = this.size - n; i < this.size; i++) {
+                this.elements[position(i)] = null;
+            }
+        }
+        this.size -= n;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.elements, null);
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Increases the capacity of the list, if necessary, so that it can hold
+     * at least the specified number of elements.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = this.elements.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1)
+                    + 1);
+            this.elements = copyElements(newCapacity);
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Returns a new array containing the elements of the list in order,
+     * starting at index 0.
+     *
+     * @param capacity  the length of the new array (at least
+     *     <code>size()</code>).
+     *
+     * @return The new array.
+     */
+    private Object[] copyElements(int capacity) {
+        Object[] result = new Object[capacity];
+        int firstPart = Math.min(this.size, this.elements.length - this.head);
+        System.arraycopy(this.elements, this.head, result, 0, firstPart);
+        System.arraycopy(this.elements, 0, result, firstPart,
+                this.size - firstPart);
+        return result;
+    }
+
+    /**
+     * Returns the position in the storage array of the element with the
+     * specified index.
+     *
+     * @param index  the index (zero-based, in the range <code>0</code> to
+     *     <code>capacity</code>).
+     *
+     * @return The position.
+     */
+    private int position(int index) {
+        int p = this.head + index;
+        if (p >= this.elements.length) {
+            p -= this.elements.length;
+        }
+        return p;
+    }
+
+    /**
+     * Checks that the index refers to an element in the list.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns a shallow copy of this list (the elements themselves are not
+     * cloned).
+     *
+     * @return A clone.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public RingBufferList<E> clone() {
+        try {
+            RingBufferList<E> clone = (RingBufferList<E>) super.clone();
+            clone.elements = copyElements(this.elements.length);
+            clone.head = 0;
+            clone.modCount = 0;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+}
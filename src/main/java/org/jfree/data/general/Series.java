@@ -30,7 +30,7 @@
  * (C) Copyright 2001-2014, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -51,6 +51,7 @@
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
  * 16-Oct-2011 : Added vetoable property change support for series name (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added fireSeriesChanged(SeriesChangeInfo) (agent);
  * 
  */
 
@@ -331,6 +332,20 @@ public abstract class Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Signals to registered listeners that a range of items in the series
+     * has been changed.
+     *
+     * @param info  a description of the change (<code>null</code> permitted,
+     *     in which case listeners will assume that the whole series has
+     *     changed).
+     */
+    public void fireSeriesChanged(SeriesChangeInfo info) {
+        if (this.notify) {
+            notifyListeners(new SeriesChangeEvent(this, info));
+        }
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
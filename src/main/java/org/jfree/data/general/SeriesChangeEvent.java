@@ -27,15 +27,16 @@
  * ----------------------
  * SeriesChangeEvent.java
  * ----------------------
- * (C) Copyright 2001-2008, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 15-Nov-2001 : Version 1 (DG);
  * 18-Aug-2003 : Implemented Serializable (DG);
+ * 17-Oct-2026 : Added optional change info (agent);
  *
  */
 
@@ -45,20 +46,48 @@ import java.io.Serializable;
 import java.util.EventObject;
 
 /**
- * An event with details of a change to a series.
+ * An event with details of a change to a series.  The event may carry a
+ * {@link SeriesChangeInfo} describing the range of items that changed; if it
+ * doesn't, listeners should assume that the whole series has changed.
  */
 public class SeriesChangeEvent extends EventObject implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /** A description of the change (<code>null</code> if unknown). */
+    private SeriesChangeInfo changeInfo;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructs a new event.
+     *
+     * @param source  the source of the change event.
+     * @param changeInfo  a description of the change (<code>null</code>
+     *     permitted).
+     */
+    public SeriesChangeEvent(Object source, SeriesChangeInfo changeInfo) {
         super(source);
+        this.changeInfo = changeInfo;
+    }
+
+    /**
+     * Returns a description of the range of items that changed, or
+     * <code>null</code> if the change is not described (in which case the
+     * whole series should be assumed to have changed).
+     *
+     * @return The change info (possibly <code>null</code>).
+     */
+    public SeriesChangeInfo getChangeInfo() {
+        return this.changeInfo;
     }
 
 }
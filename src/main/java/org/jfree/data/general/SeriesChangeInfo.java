@@ -0,0 +1,239 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeInfo.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A description of a change to a contiguous range of items in a series.  A
+ * {@link SeriesChangeEvent} (and the {@link DatasetChangeEvent} that a
+ * dataset sends in response) may carry an instance of this class, so that
+ * listeners can update their own state incrementally rather than assuming
+ * that everything in the series has changed.  Instances of this class are
+ * immutable.
+ * <p>
+ * For {@link SeriesChangeType#ITEMS_APPENDED}, {@link
+ * SeriesChangeType#ITEMS_INSERTED} and {@link SeriesChangeType#ITEMS_UPDATED}
+ * the item indices refer to the series after the change, while for {@link
+ * SeriesChangeType#ITEMS_REMOVED} they refer to the series before the change.
+ *
+ * @see SeriesChangeEvent#getChangeInfo()
+ */
+public final class SeriesChangeInfo implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6312855093287417306L;
+
+    /** The type of change. */
+    private final SeriesChangeType type;
+
+    /** The index of the first item in the range. */
+    private final int startIndex;
+
+    /** The index of the last item in the range. */
+    private final int endIndex;
+
+    /**
+     * The number of items removed from the start of the series (only for
+     * {@link SeriesChangeType#ITEMS_APPENDED}).
+     */
+    private final int removedFromStart;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param startIndex  the index of the first item in the range.
+     * @param endIndex  the index of the last item in the range.
+     */
+    public SeriesChangeInfo(SeriesChangeType type, int startIndex,
+            int endIndex) {
+        this(type, startIndex, endIndex, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param startIndex  the index of the first item in the range.
+     * @param endIndex  the index of the last item in the range.
+     * @param removedFromStart  the number of items that were removed from
+     *     the start of the series (this must be zero unless the change type
+     *     is {@link SeriesChangeType#ITEMS_APPENDED}).
+     */
+    public SeriesChangeInfo(SeriesChangeType type, int startIndex,
+            int endIndex, int removedFromStart) {
+        ParamChecks.nullNotPermitted(type, "type");
+        if (startIndex < 0 || endIndex < startIndex) {
+            throw new IllegalArgumentException("Invalid index range: "
+                    + startIndex + " to " + endIndex + ".");
+        }
+        if (removedFromStart < 0 || (removedFromStart > 0
+                && type != SeriesChangeType.ITEMS_APPENDED)) {
+            throw new IllegalArgumentException(
+                    "Invalid 'removedFromStart' argument.");
+        }
+        this.type = type;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.removedFromStart = removedFromStart;
+    }
+
+    /**
+     * Returns the type of change.
+     *
+     * @return The type of change (never <code>null</code>).
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item in the range.
+     *
+     * @return The index.
+     */
+    public int getStartIndex() {
+        return this.startIndex;
+    }
+
+    /**
+     * Returns the index of the last item in the range.
+     *
+     * @return The index.
+     */
+    public int getEndIndex() {
+        return this.endIndex;
+    }
+
+    /**
+     * Returns the number of items in the range.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.endIndex - this.startIndex + 1;
+    }
+
+    /**
+     * Returns the number of items that were removed from the start of the
+     * series (for example, because the series has a maximum item count).
+     * This is always zero unless the change type is
+     * {@link SeriesChangeType#ITEMS_APPENDED}.
+     *
+     * @return The number of items removed.
+     */
+    public int getRemovedFromStart() {
+        return this.removedFromStart;
+    }
+
+    /**
+     * Returns <code>true</code> if the only change to the series was the
+     * addition of items at the end (so that the existing items are unchanged
+     * and keep their indices), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isAppendOnly() {
+        return this.type == SeriesChangeType.ITEMS_APPENDED
+                && this.removedFromStart == 0;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SeriesChangeInfo)) {
+            return false;
+        }
+        SeriesChangeInfo that = (SeriesChangeInfo) obj;
+        if (this.type != that.type) {
+            return false;
+        }
+        if (this.startIndex != that.startIndex) {
+            return false;
+        }
+        if (this.endIndex != that.endIndex) {
+            return false;
+        }
+        if (this.removedFromStart != that.removedFromStart) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.type.hashCode();
+        result = 29 * result + this.startIndex;
+        result = 29 * result + this.endIndex;
+        result = 29 * result + this.removedFromStart;
+        return result;
+    }
+
+    /**
+     * Returns a string representing this instance, primarily for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "SeriesChangeInfo[" + this.type + ", " + this.startIndex
+                + " to " + this.endIndex + ", removedFromStart="
+                + this.removedFromStart + "]";
+    }
+
+}
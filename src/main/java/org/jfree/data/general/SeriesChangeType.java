@@ -0,0 +1,87 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeType.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * The type of change to a range of items in a series, as described by a
+ * {@link SeriesChangeInfo} instance.
+ */
+public enum SeriesChangeType {
+
+    /**
+     * Items were added at the end of the series (and, possibly, some items
+     * were removed from the start of the series).  The other items are
+     * unchanged.
+     */
+    ITEMS_APPENDED("SeriesChangeType.ITEMS_APPENDED"),
+
+    /** Items were inserted into the series. */
+    ITEMS_INSERTED("SeriesChangeType.ITEMS_INSERTED"),
+
+    /** Items were removed from the series. */
+    ITEMS_REMOVED("SeriesChangeType.ITEMS_REMOVED"),
+
+    /** The values of some existing items were changed. */
+    ITEMS_UPDATED("SeriesChangeType.ITEMS_UPDATED");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private SeriesChangeType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string.
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
@@ -0,0 +1,323 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * SlidingWindowMinMax.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values where values are
+ * appended at the end and removed from the front (a sliding window), and
+ * where any value in the window can be replaced.  Each of these operations
+ * takes O(log n) time and the current minimum and maximum are always
+ * available in constant time, so a series with a maximum item count can
+ * maintain its bounds without iterating over its items each time the oldest
+ * item (possibly the current minimum or maximum) is dropped, or an item is
+ * updated.
+ * <P>
+ * The values are held in a circular buffer, with a binary tree over the
+ * buffer that records the minimum and maximum of each subtree.
+ * <code>Double.NaN</code> values occupy a position in the window but are
+ * otherwise ignored.
+ */
+public class SlidingWindowMinMax implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4016436817596640265L;
+
+    /** The initial capacity of the buffer (a power of two). */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The values, in a circular buffer with a length that is a power of two.
+     * Positions that are not in the window hold <code>Double.NaN</code>.
+     */
+    private double[] values;
+
+    /**
+     * The minimum for each node of the tree (node 1 is the root, and the
+     * children of node i are nodes 2i and 2i + 1, where the nodes from
+     * <code>values.length</code> onwards are the values themselves).
+     */
+    private double[] minimums;
+
+    /** The maximum for each node of the tree. */
+    private double[] maximums;
+
+    /** The position of the oldest value in the buffer. */
+    private int head;
+
+    /** The number of values in the window. */
+    private int count;
+
+    /**
+     * Creates a new empty window.
+     */
+    public SlidingWindowMinMax() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The number of values in the window.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the minimum value in the window, ignoring <code>Double.NaN</code>
+     * values.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the window
+     *     contains no values other than <code>Double.NaN</code>).
+     */
+    public double getMinimum() {
+        return minimum(1);
+    }
+
+    /**
+     * Returns the maximum value in the window, ignoring <code>Double.NaN</code>
+     * values.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the window
+     *     contains no values other than <code>Double.NaN</code>).
+     */
+    public double getMaximum() {
+        return maximum(1);
+    }
+
+    /**
+     * Appends a value to the end of the window.
+     *
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void append(double value) {
+        if (this.count == this.values.length) {
+            grow();
+        }
+        this.count++;
+        store(position(this.count - 1), value);
+    }
+
+    /**
+     * Removes the oldest value from the front of the window.
+     */
+    public void removeFirst() {
+        if (this.count == 0) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        store(this.head, Double.NaN);
+        this.head = position(1);
+        this.count--;
+    }
+
+    /**
+     * Replaces a value in the window.
+     *
+     * @param index  the index of the value, counting from the front of the
+     *     window (zero-based).
+     * @param value  the new value (<code>Double.NaN</code> permitted).
+     */
+    public void set(int index, double value) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index " + index
+                    + " is outside the window (size " + this.count + ").");
+        }
+        store(position(index), value);
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns an independent copy of this window.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        SlidingWindowMinMax clone = (SlidingWindowMinMax) super.clone();
+        clone.values = Arrays.copyOf(this.values, this.values.length);
+        clone.minimums = Arrays.copyOf(this.minimums, this.minimums.length);
+        clone.maximums = Arrays.copyOf(this.maximums, this.maximums.length);
+        return clone;
+    }
+
+    /**
+     * Creates an empty buffer and tree with the specified capacity.
+     *
+     * @param capacity  the capacity (a power of two).
+     */
+    private void allocate(int capacity) {
+        this.values = new double[capacity];
+        this.minimums = new double[capacity];
+        this.maximums = new double[capacity];
+        Arrays.fill(this.values, Double.NaN);
+        Arrays.fill(this.minimums, Double.NaN);
+        Arrays.fill(this.maximums, Double.NaN);
+        this.head = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Doubles the capacity of the buffer, moving the values in the window to
+     * the start of the new buffer and rebuilding the tree.
+     */
+    private void grow() {
+        double[] old = this.values;
+        int oldHead = this.head;
+        int oldCount = this.count;
+        allocate(old.length * 2);
+        int firstPart = Math.min(oldCount, old.length - oldHead);
+        System.arraycopy(old, oldHead, this.values, 0, firstPart);
+        System.arraycopy(old, 0, this.values, firstPart,
+                oldCount - firstPart);
+        this.count = oldCount;
+        for (int node = this.values.length - 1; node >= 1; node--) {
+            this.minimums[node] = minIgnoreNaN(minimum(2 * node),
+                    minimum(2 * node + 1));
+            this.maximums[node] = maxIgnoreNaN(maximum(2 * node),
+                    maximum(2 * node + 1));
+        }
+    }
+
+    /**
+     * Stores a value in the buffer and updates the tree nodes above it.
+     *
+     * @param p  the position in the buffer.
+     * @param value  the value.
+     */
+    private void store(int p, double value) {
+        this.values[p] = value;
+        int node = (this.values.length + p) >> 1;
+        while (node >= 1) {
+            this.minimums[node] = minIgnoreNaN(minimum(2 * node),
+                    minimum(2 * node + 1));
+            this.maximums[node] = maxIgnoreNaN(maximum(2 * node),
+                    maximum(2 * node + 1));
+            node >>= 1;
+        }
+    }
+
+    /**
+     * Returns the minimum for a node of the tree.
+     *
+     * @param node  the node.
+     *
+     * @return The minimum (possibly <code>Double.NaN</code>).
+     */
+    private double minimum(int node) {
+        int capacity = this.values.length;
+        return node >= capacity ? this.values[node - capacity]
+                : this.minimums[node];
+    }
+
+    /**
+     * Returns the maximum for a node of the tree.
+     *
+     * @param node  the node.
+     *
+     * @return The maximum (possibly <code>Double.NaN</code>).
+     */
+    private double maximum(int node) {
+        int capacity = this.values.length;
+        return node >= capacity ? this.values[node - capacity]
+                : this.maximums[node];
+    }
+
+    /**
+     * Returns the buffer position for the specified offset from the front
+     * of the window.
+     *
+     * @param offset  the offset.
+     *
+     * @return The buffer position.
+     */
+    private int position(int offset) {
+        return (this.head + offset) & (this.values.length - 1);
+    }
+
+    /**
+     * Returns the minimum of two values, ignoring <code>Double.NaN</code>.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Returns the maximum of two values, ignoring <code>Double.NaN</code>.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * --------
  * Day.java
  * --------
- * (C) Copyright 2001-2014, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -58,6 +58,8 @@
  * 06-Oct-2006 : Refactored to cache first and last millisecond values (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 17-Oct-2026 : Calculate the first and last milliseconds without the
+ *               calendar where possible (agent);
  *
  */
 
@@ -314,6 +316,11 @@ public class Day extends RegularTimePeriod implements Serializable {
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month, day, 0, 0, 0, 0);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month - 1, day, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
@@ -335,6 +342,11 @@ public class Day extends RegularTimePeriod implements Serializable {
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month, day, 23, 59, 59, 999);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month - 1, day, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,11 +27,12 @@
  * --------------------------------
  * DynamicTimeSeriesCollection.java
  * --------------------------------
- * (C) Copyright 2002-2014, by I. H. Thomae and Contributors.
+ * (C) Copyright 2002-2026, by I. H. Thomae and Contributors.
  *
  * Original Author:  I. H. Thomae (ithomae@ists.dartmouth.edu);
  * Contributor(s):   David Gilbert (for Object Refinery Limited);
  *                   Ricardo JL Rufino (patch #310);
+ *                   agent;
  *
  * Changes
  * -------
@@ -55,15 +56,25 @@
  * 11-Jan-2004 : Removed deprecated code in preparation for the 1.0.0
  *               release (DG);
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 17-Oct-2026 : Override getDomainOrder() (agent);
+ * 17-Oct-2026 : Added lock-free snapshots for readers, and maintain the
+ *               value range incrementally (agent);
+ * 17-Oct-2026 : No longer implements XYResolutionInfo, render a snapshot
+ *               explicitly instead (agent);
  *
  */
 
 package org.jfree.data.time;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.TimeZone;
+import java.util.concurrent.locks.StampedLock;
 
 import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -79,12 +90,29 @@ import org.jfree.data.xy.IntervalXYDataset;
  * real-time applications this subclass adds the ability to append new
  * data and discard the oldest.
  * In this class, the arrays used in FastTimeSeriesCollection become FIFO's.
- * NOTE:As presented here, all data is assumed &gt;= 0, an assumption which is
- * embodied only in methods associated with interface RangeInfo.
+ * <p>
+ * The methods that modify the data are synchronized, but the methods that
+ * read it are not, so a thread that reads the data while another thread is
+ * appending to it can see a mixture of old and new values.  Such threads
+ * (for example, the thread that draws a chart) should read from a
+ * {@link Snapshot} instead (see {@link #getSnapshot()}), which is a
+ * consistent copy of the data that is obtained without locking in the usual
+ * case.  To draw a chart from a snapshot, pass the snapshot to the plot in
+ * place of this collection each time the chart is refreshed (for example
+ * {@code plot.setDataset(collection.getSnapshot())}).  The entities, and
+ * the items in any selection extension for the plot's dataset, then refer
+ * to the items in the snapshot that is being drawn (a new snapshot is
+ * created each time the data changes).
+ * <p>
+ * The range of the y-values (for the {@link RangeInfo} interface) is
+ * maintained incrementally as time advances, in constant amortised time.
  */
 public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
         implements IntervalXYDataset, DomainInfo, RangeInfo {
 
+    /** For serialization. */
+    private static final long serialVersionUID = -5494120550045159787L;
+
     /**
      * Useful constant for controlling the x-value returned for a time
      * period.
@@ -207,17 +235,53 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
     /** Cached domain range (for use by DomainInfo). */
     private Range domainRange;
 
-    // Cached values used for interface RangeInfo: (note minValue pinned at 0)
+    // Cached values used for interface RangeInfo:
     //   A single set of extrema covers the entire SeriesCollection
 
-    /** The minimum value. */
-    private Float minValue = 0.0f;
+    /** The value range ({@code null} if it needs to be recalculated). */
+    private volatile Range valueRange;
+
+    /**
+     * A flag that indicates that the range state (below) must be rebuilt
+     * before the value range can be calculated.
+     */
+    private transient boolean rangeDirty = true;
+
+    /** The minimum value (across all series) for each time period. */
+    private transient float[] periodMin;
+
+    /** The maximum value (across all series) for each time period. */
+    private transient float[] periodMax;
+
+    /**
+     * The time periods (excluding the newest) that can hold the minimum
+     * value as the oldest periods are dropped.
+     */
+    private transient PeriodDeque minDeque;
+
+    /**
+     * The time periods (excluding the newest) that can hold the maximum
+     * value as the oldest periods are dropped.
+     */
+    private transient PeriodDeque maxDeque;
+
+    /** The first millisecond of each time period. */
+    private long[] firstMillis;
+
+    /** The last millisecond of each time period. */
+    private long[] lastMillis;
 
-    /** The maximum value. */
-    private Float maxValue = null;
+    /**
+     * The lock used to give readers a consistent view of the data without
+     * blocking the writer (the writer also holds the lock on this dataset).
+     */
+    private transient StampedLock lock = new StampedLock();
 
-    /** The value range. */
-    private Range valueRange;  // autoinit's to null.
+    /** The number of changes made to the data. */
+    private volatile long sequence;
+
+    /** The most recent snapshot ({@code null} until one is requested). */
+    private transient volatile Snapshot snapshot;
 
     /**
      * Constructs a dataset with capacity for N series, tied to default
@@ -290,6 +354,8 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
             this.pointsInTime = new Hour[nMoments];
         }
         ///  .. etc....
+        this.firstMillis = new long[nMoments];
+        this.lastMillis = new long[nMoments];
         this.workingCalendar = Calendar.getInstance(zone);
         this.position = START;
         this.domainIsPointsInTime = true;
@@ -307,21 +373,45 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return ??.
      */
     public synchronized long setTimeBase(RegularTimePeriod start) {
-        if (this.pointsInTime[0] == null) {
-            this.pointsInTime[0] = start;
-            for (int i = 1; i < this.historyCount; i++) {
-                this.pointsInTime[i] = this.pointsInTime[i - 1].next();
+        long stamp = this.lock.writeLock();
+        try {
+            if (this.pointsInTime[0] == null) {
+                this.pointsInTime[0] = start;
+                for (int i = 1; i < this.historyCount; i++) {
+                    this.pointsInTime[i] = this.pointsInTime[i - 1].next();
+                }
+            }
+            for (int i = 0; i < this.historyCount; i++) {
+                updateMillis(i);
             }
+            long oldestL = this.pointsInTime[0].getFirstMillisecond(
+                    this.workingCalendar);
+            long nextL = this.pointsInTime[1].getFirstMillisecond(
+                    this.workingCalendar);
+            this.deltaTime = nextL - oldestL;
+            this.oldestAt = 0;
+            this.newestAt = this.historyCount - 1;
+            findDomainLimits();
+            invalidateRangeInfo();
+            this.sequence++;
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
-        long oldestL = this.pointsInTime[0].getFirstMillisecond(
+        return this.deltaTime;
+    }
+
+    /**
+     * Records the first and last milliseconds of the time period at the
+     * specified index (in the time zone of the working calendar).
+     *
+     * @param index  the index.
+     */
+    private void updateMillis(int index) {
+        RegularTimePeriod period = this.pointsInTime[index];
+        this.firstMillis[index] = period.getFirstMillisecond(
                 this.workingCalendar);
-        long nextL = this.pointsInTime[1].getFirstMillisecond(
+        this.lastMillis[index] = period.getLastMillisecond(
                 this.workingCalendar);
-        this.deltaTime = nextL - oldestL;
-        this.oldestAt = 0;
-        this.newestAt = this.historyCount - 1;
-        findDomainLimits();
-        return this.deltaTime;
     }
 
     /**
@@ -371,10 +461,9 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * Use this as-is during setup only, or add the synchronized keyword around
      * the copy loop.
      */
-    public void addSeries(float[] values, int seriesNumber, 
+    public synchronized void addSeries(float[] values, int seriesNumber,
             Comparable seriesKey) {
 
-        invalidateRangeInfo();
         int i;
         if (values == null) {
             throw new IllegalArgumentException("TimeSeriesDataset.addSeries(): "
@@ -384,34 +473,41 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException("TimeSeriesDataset.addSeries(): "
                 + "cannot add more series than specified in c'tor");
         }
-        if (this.valueHistory[seriesNumber] == null) {
-            this.valueHistory[seriesNumber]
-                = new ValueSequence(this.historyCount);
-            this.seriesCount++;
-        }
-        // But if that series array already exists, just overwrite its contents
-
-        // Avoid IndexOutOfBoundsException:
-        int srcLength = values.length;
-        int copyLength = this.historyCount;
-        boolean fillNeeded = false;
-        if (srcLength < this.historyCount) {
-            fillNeeded = true;
-            copyLength = srcLength;
-        }
-        //{
-        for (i = 0; i < copyLength; i++) { // deep copy from values[], caller
-                                           // can safely discard that array
-            this.valueHistory[seriesNumber].enterData(i, values[i]);
-        }
-        if (fillNeeded) {
-            for (i = copyLength; i < this.historyCount; i++) {
-                this.valueHistory[seriesNumber].enterData(i, 0.0f);
+        long stamp = this.lock.writeLock();
+        try {
+            if (this.valueHistory[seriesNumber] == null) {
+                this.valueHistory[seriesNumber]
+                    = new ValueSequence(this.historyCount);
+                this.seriesCount++;
             }
-        }
-      //}
-        if (seriesKey != null) {
-            this.seriesKeys[seriesNumber] = seriesKey;
+            // But if that series array already exists, just overwrite its
+            // contents
+
+            // Avoid IndexOutOfBoundsException:
+            int srcLength = values.length;
+            int copyLength = this.historyCount;
+            boolean fillNeeded = false;
+            if (srcLength < this.historyCount) {
+                fillNeeded = true;
+                copyLength = srcLength;
+            }
+            for (i = 0; i < copyLength; i++) { // deep copy from values[],
+                                               // caller can safely discard
+                                               // that array
+                this.valueHistory[seriesNumber].enterData(i, values[i]);
+            }
+            if (fillNeeded) {
+                for (i = copyLength; i < this.historyCount; i++) {
+                    this.valueHistory[seriesNumber].enterData(i, 0.0f);
+                }
+            }
+            if (seriesKey != null) {
+                this.seriesKeys[seriesNumber] = seriesKey;
+            }
+            invalidateRangeInfo();
+            this.sequence++;
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
         fireSeriesChanged();
     }
@@ -422,8 +518,14 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @param seriesNumber  the series.
      * @param key  the new key.
      */
-    public void setSeriesKey(int seriesNumber, Comparable key) {
-        this.seriesKeys[seriesNumber] = key;
+    public synchronized void setSeriesKey(int seriesNumber, Comparable key) {
+        long stamp = this.lock.writeLock();
+        try {
+            this.seriesKeys[seriesNumber] = key;
+            this.sequence++;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
     }
 
     /**
@@ -433,24 +535,30 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @param index  ??.
      * @param value  the value.
      */
-    public void addValue(int seriesNumber, int index, float value) {
-        invalidateRangeInfo();
+    public synchronized void addValue(int seriesNumber, int index,
+            float value) {
         if (seriesNumber >= this.valueHistory.length) {
             throw new IllegalArgumentException(
                 "TimeSeriesDataset.addValue(): series #"
                 + seriesNumber + "unspecified in c'tor"
             );
         }
-        if (this.valueHistory[seriesNumber] == null) {
-            this.valueHistory[seriesNumber]
-                = new ValueSequence(this.historyCount);
-            this.seriesCount++;
-        }
-        // But if that series array already exists, just overwrite its contents
-        //synchronized(this)
-        //{
+        long stamp = this.lock.writeLock();
+        try {
+            if (this.valueHistory[seriesNumber] == null) {
+                this.valueHistory[seriesNumber]
+                    = new ValueSequence(this.historyCount);
+                this.seriesCount++;
+                invalidateRangeInfo();
+            }
+            // But if that series array already exists, just overwrite its
+            // contents
             this.valueHistory[seriesNumber].enterData(index, value);
-        //}
+            valueChanged(index);
+            this.sequence++;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
         fireSeriesChanged();
     }
 
@@ -548,60 +656,145 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The new time period.
      */
     public synchronized RegularTimePeriod advanceTime() {
-        RegularTimePeriod nextInstant = this.pointsInTime[this.newestAt].next();
-        this.newestAt = this.oldestAt;  // newestAt takes value previously held
-                                        // by oldestAT
-        /***
-         * The next 10 lines or so should be expanded if data can be negative
-         ***/
-        // if the oldest data contained a maximum Y-value, invalidate the stored
-        //   Y-max and Y-range data:
-        boolean extremaChanged = false;
-        float oldMax = 0.0f;
-        if (this.maxValue != null) {
-            oldMax = this.maxValue;
-        }
-        for (int s = 0; s < getSeriesCount(); s++) {
-            if (this.valueHistory[s].getData(this.oldestAt) == oldMax) {
-                extremaChanged = true;
+        long stamp = this.lock.writeLock();
+        RegularTimePeriod nextInstant;
+        try {
+            nextInstant = this.pointsInTime[this.newestAt].next();
+            // the newest time period is complete, so it joins the periods
+            // that are tracked for the value range, and the oldest leaves
+            if (!this.rangeDirty) {
+                updatePeriodRange(this.newestAt);
+                this.minDeque.add(this.newestAt, this.periodMin, false);
+                this.maxDeque.add(this.newestAt, this.periodMax, true);
+                this.minDeque.remove(this.oldestAt);
+                this.maxDeque.remove(this.oldestAt);
+            }
+            this.newestAt = this.oldestAt;  // newestAt takes value previously
+                                            // held by oldestAT
+            //  wipe the next (about to be used) set of data slots
+            float wiper = (float) 0.0;
+            for (int s = 0; s < getSeriesCount(); s++) {
+                this.valueHistory[s].enterData(this.newestAt, wiper);
             }
-            if (extremaChanged) {
-                break;
+            // Update the array of TimePeriods:
+            this.pointsInTime[this.newestAt] = nextInstant;
+            updateMillis(this.newestAt);
+            // Now advance "oldestAt", wrapping at end of the array
+            this.oldestAt++;
+            if (this.oldestAt >= this.historyCount) {
+                this.oldestAt = 0;
             }
-        }  /*** If data can be < 0, add code here to check the minimum    **/
-        if (extremaChanged) {
+            // Update the domain limits:
+            long startL = this.domainStart;  //(time is kept in msec)
+            this.domainStart = startL + this.deltaTime;
+            long endL = this.domainEnd;
+            this.domainEnd = endL + this.deltaTime;
+            this.domainRange = new Range(startL, endL);
+            updateValueRange();
+            this.sequence++;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+        fireSeriesChanged();
+        return nextInstant;
+    }
+
+    /**
+     * Invalidates the range info, so that it is recalculated (from all the
+     * values) the next time it is required.
+     */
+    public synchronized void invalidateRangeInfo() {
+        this.rangeDirty = true;
+        this.valueRange = null;
+    }
+
+    /**
+     * Updates the range info after a value has changed.  This must be called
+     * with the lock on this dataset held.
+     *
+     * @param index  the index of the value in the storage arrays.
+     */
+    private void valueChanged(int index) {
+        if (index != this.newestAt) {
+            // a period that is tracked by the deques has changed
             invalidateRangeInfo();
         }
-        //  wipe the next (about to be used) set of data slots
-        float wiper = (float) 0.0;
+        updateValueRange();
+    }
+
+    /**
+     * Calculates the minimum and maximum values (across all series) for one
+     * time period.
+     *
+     * @param index  the index of the time period in the storage arrays.
+     */
+    private void updatePeriodRange(int index) {
+        float min = Float.POSITIVE_INFINITY;
+        float max = Float.NEGATIVE_INFINITY;
         for (int s = 0; s < getSeriesCount(); s++) {
-            this.valueHistory[s].enterData(this.newestAt, wiper);
-        }
-        // Update the array of TimePeriods:
-        this.pointsInTime[this.newestAt] = nextInstant;
-        // Now advance "oldestAt", wrapping at end of the array
-        this.oldestAt++;
-        if (this.oldestAt >= this.historyCount) {
-            this.oldestAt = 0;
+            if (this.valueHistory[s] != null) {
+                float v = this.valueHistory[s].getData(index);
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
+            }
         }
-        // Update the domain limits:
-        long startL = this.domainStart;  //(time is kept in msec)
-        this.domainStart = startL + this.deltaTime;
-        long endL = this.domainEnd;
-        this.domainEnd = endL + this.deltaTime;
-        this.domainRange = new Range(startL, endL);
-        fireSeriesChanged();
-        return nextInstant;
+        this.periodMin[index] = min;
+        this.periodMax[index] = max;
     }
 
-    //  If data can be < 0, the next 2 methods should be modified
+    /**
+     * Updates the value range from the deques and the newest time period
+     * (if the range state is valid).  This must be called with the lock on
+     * this dataset held.
+     */
+    private void updateValueRange() {
+        if (this.rangeDirty) {
+            return;
+        }
+        updatePeriodRange(this.newestAt);
+        float min = this.periodMin[this.newestAt];
+        float max = this.periodMax[this.newestAt];
+        int first = this.minDeque.first();
+        if (first >= 0) {
+            min = Math.min(min, this.periodMin[first]);
+        }
+        first = this.maxDeque.first();
+        if (first >= 0) {
+            max = Math.max(max, this.periodMax[first]);
+        }
+        this.valueRange = min <= max ? new Range(min, max) : null;
+    }
 
     /**
-     * Invalidates the range info.
+     * Rebuilds the range state from all the values, if necessary, and
+     * returns the value range.
+     *
+     * @return The value range (possibly {@code null}).
      */
-    public void invalidateRangeInfo() {
-        this.maxValue = null;
-        this.valueRange = null;
+    private synchronized Range rebuildRangeInfo() {
+        if (this.rangeDirty) {
+            if (this.periodMin == null) {
+                this.periodMin = new float[this.historyCount];
+                this.periodMax = new float[this.historyCount];
+                this.minDeque = new PeriodDeque(this.historyCount);
+                this.maxDeque = new PeriodDeque(this.historyCount);
+            }
+            this.minDeque.clear();
+            this.maxDeque.clear();
+            for (int i = 0; i < this.historyCount - 1; i++) {
+                int index = translateGet(i);
+                updatePeriodRange(index);
+                this.minDeque.add(index, this.periodMin, false);
+                this.maxDeque.add(index, this.periodMax, true);
+            }
+            this.rangeDirty = false;
+            updateValueRange();
+        }
+        return this.valueRange;
     }
 
     /**
@@ -649,20 +842,28 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      *
      * @param newData  the data.
      */
-    public void appendData(float[] newData) {
+    public synchronized void appendData(float[] newData) {
         int nDataPoints = newData.length;
         if (nDataPoints > this.valueHistory.length) {
             throw new IllegalArgumentException(
                     "More data than series to put them in");
         }
-        int s;   // index to select the "series"
-        for (s = 0; s < nDataPoints; s++) {
-            // check whether the "valueHistory" array member exists; if not,
-            // create them:
-            if (this.valueHistory[s] == null) {
-                this.valueHistory[s] = new ValueSequence(this.historyCount);
+        long stamp = this.lock.writeLock();
+        try {
+            int s;   // index to select the "series"
+            for (s = 0; s < nDataPoints; s++) {
+                // check whether the "valueHistory" array member exists; if
+                // not, create them:
+                if (this.valueHistory[s] == null) {
+                    this.valueHistory[s] = new ValueSequence(
+                            this.historyCount);
+                }
+                this.valueHistory[s].enterData(this.newestAt, newData[s]);
             }
-            this.valueHistory[s].enterData(this.newestAt, newData[s]);
+            valueChanged(this.newestAt);
+            this.sequence++;
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
         fireSeriesChanged();
     }
@@ -675,17 +876,26 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @param  refresh  value of n in "refresh the display on every nth call"
      *                 (ignored if &lt;= 0)
      */
-     public void appendData(float[] newData, int insertionIndex, int refresh) {
+     public synchronized void appendData(float[] newData, int insertionIndex,
+             int refresh) {
          int nDataPoints = newData.length;
          if (nDataPoints > this.valueHistory.length) {
              throw new IllegalArgumentException(
                     "More data than series to put them in");
          }
-         for (int s = 0; s < nDataPoints; s++) {
-             if (this.valueHistory[s] == null) {
-                this.valueHistory[s] = new ValueSequence(this.historyCount);
+         long stamp = this.lock.writeLock();
+         try {
+             for (int s = 0; s < nDataPoints; s++) {
+                 if (this.valueHistory[s] == null) {
+                    this.valueHistory[s] = new ValueSequence(
+                            this.historyCount);
+                 }
+                 this.valueHistory[s].enterData(insertionIndex, newData[s]);
              }
-             this.valueHistory[s].enterData(insertionIndex, newData[s]);
+             valueChanged(insertionIndex);
+             this.sequence++;
+         } finally {
+             this.lock.unlockWrite(stamp);
          }
          if (refresh > 0) {
              insertionIndex++;
@@ -713,6 +923,18 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
         return this.pointsInTime[this.oldestAt];
     }
 
+    /**
+     * Returns the order of the domain (x-) values in the dataset.  The items
+     * are always ordered from the oldest time period to the newest, so this
+     * method returns {@link DomainOrder#ASCENDING}.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
     /**
      * Returns the x-value.
      *
@@ -912,10 +1134,8 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      }
 
     // The next 3 functions implement the RangeInfo interface.
-    // Using saved limits (updated by each updateTime() call) significantly
-    // improves performance.  WARNING: this code makes the simplifying
-    // assumption that data is never negative.  Expand as needed for the
-    // general case.
+    // Using saved limits (updated by each advanceTime() call) significantly
+    // improves performance.
 
     /**
      * Returns the minimum range value.
@@ -928,8 +1148,9 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public double getRangeLowerBound(boolean includeInterval) {
         double result = Double.NaN;
-        if (this.minValue != null) {
-            result = this.minValue.doubleValue();
+        Range range = getRangeBounds(includeInterval);
+        if (range != null) {
+            result = range.getLowerBound();
         }
         return result;
     }
@@ -945,8 +1166,9 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public double getRangeUpperBound(boolean includeInterval) {
         double result = Double.NaN;
-        if (this.maxValue != null) {
-            result = this.maxValue.doubleValue();
+        Range range = getRangeBounds(includeInterval);
+        if (range != null) {
+            result = range.getUpperBound();
         }
         return result;
     }
@@ -957,15 +1179,359 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
      * @param includeInterval  a flag that determines whether or not the
      *                         y-interval is taken into account.
      *
-     * @return The range.
+     * @return The range ({@code null} if there are no values).
      */
     @Override
     public Range getRangeBounds(boolean includeInterval) {
-        if (this.valueRange == null) {
-            double max = getRangeUpperBound(includeInterval);
-            this.valueRange = new Range(0.0, max);
+        Range result = this.valueRange;
+        if (result == null) {
+            result = rebuildRangeInfo();
         }
-        return this.valueRange;
+        return result;
+    }
+
+    /**
+     * Returns the number of changes that have been made to the data.  A
+     * {@link Snapshot} with the same sequence number contains the current
+     * data.
+     *
+     * @return The sequence number.
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Returns a snapshot of the current data.  The snapshot is copied
+     * without locking unless the data is modified while the copy is being
+     * made (in which case the copy is repeated while holding a read lock),
+     * and is reused until the data is next modified.
+     *
+     * @return The snapshot (never {@code null}).
+     */
+    public Snapshot getSnapshot() {
+        Snapshot result = this.snapshot;
+        if (result != null && result.getSequence() == this.sequence) {
+            return result;
+        }
+        long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                result = createSnapshot();
+            } catch (RuntimeException e) {
+                // the data changed while it was being copied
+                result = null;
+            }
+        }
+        if (result == null || !this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                result = createSnapshot();
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        this.snapshot = result;
+        return result;
+    }
+
+    /**
+     * Copies the current data into a new snapshot.  The copy must be
+     * validated (or made while holding a read lock) because the data can
+     * be modified while it is being copied.
+     *
+     * @return The snapshot.
+     */
+    private Snapshot createSnapshot() {
+        long seq = this.sequence;
+        int oldest = this.oldestAt;
+        int n = this.historyCount;
+        int count = this.seriesCount;
+        int tail = n - oldest;
+        float[][] values = new float[count][n];
+        for (int s = 0; s < count; s++) {
+            ValueSequence history = this.valueHistory[s];
+            if (history != null) {
+                float[] data = history.dataPoints;
+                System.arraycopy(data, oldest, values[s], 0, tail);
+                System.arraycopy(data, 0, values[s], tail, oldest);
+            }
+        }
+        long[] first = new long[n];
+        System.arraycopy(this.firstMillis, oldest, first, 0, tail);
+        System.arraycopy(this.firstMillis, 0, first, tail, oldest);
+        long[] last = new long[n];
+        System.arraycopy(this.lastMillis, oldest, last, 0, tail);
+        System.arraycopy(this.lastMillis, 0, last, tail, oldest);
+        return new Snapshot(seq, Arrays.copyOf(this.seriesKeys, count),
+                values, first, last, this.position);
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.lock = new StampedLock();
+        this.rangeDirty = true;
+    }
+
+    /**
+     * A queue of time period indices, ordered from oldest to newest, in
+     * which each period's value (minimum or maximum) is strictly better
+     * than the values of the periods after it.  The first period holds the
+     * extreme value for all the periods added but not yet removed, and each
+     * period is added and removed at most once, so maintaining the extreme
+     * value takes constant amortised time.
+     */
+    private static final class PeriodDeque {
+
+        /** Storage for the indices (circular). */
+        private final int[] indices;
+
+        /** The position of the first index. */
+        private int head;
+
+        /** The number of indices. */
+        private int size;
+
+        /**
+         * Creates an empty deque.
+         *
+         * @param capacity  the capacity (the number of time periods).
+         */
+        PeriodDeque(int capacity) {
+            this.indices = new int[Math.max(capacity, 1)];
+        }
+
+        /**
+         * Removes all the indices.
+         */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Adds a time period (the newest) to the end of the deque, first
+         * discarding any periods that can no longer hold the extreme value.
+         *
+         * @param index  the time period index.
+         * @param values  the minimum or maximum value for each time period.
+         * @param max  {@code true} to track the maximum, {@code false} for
+         *     the minimum.
+         */
+        void add(int index, float[] values, boolean max) {
+            float v = values[index];
+            while (this.size > 0) {
+                float last = values[this.indices[position(this.size - 1)]];
+                if (max ? last > v : last < v) {
+                    break;
+                }
+                this.size--;
+            }
+            this.indices[position(this.size)] = index;
+            this.size++;
+        }
+
+        /**
+         * Removes a time period (the oldest) from the front of the deque, if
+         * it is there.
+         *
+         * @param index  the time period index.
+         */
+        void remove(int index) {
+            if (this.size > 0 && this.indices[this.head] == index) {
+                this.head = position(1);
+                this.size--;
+            }
+        }
+
+        /**
+         * Returns the time period with the extreme value.
+         *
+         * @return The time period index, or -1 if the deque is empty.
+         */
+        int first() {
+            return this.size > 0 ? this.indices[this.head] : -1;
+        }
+
+        /**
+         * Returns the position in the storage array of the i-th index.
+         *
+         * @param i  the index (zero-based).
+         *
+         * @return The position.
+         */
+        private int position(int i) {
+            int p = this.head + i;
+            if (p >= this.indices.length) {
+                p -= this.indices.length;
+            }
+            return p;
+        }
+
+    }
+
+    /**
+     * An immutable copy of the data in a {@link DynamicTimeSeriesCollection}
+     * at one moment, with the items ordered from the oldest time period to
+     * the newest.  The values for each series are stored in a
+     * {@code float[]} column.
+     */
+    public static final class Snapshot extends AbstractIntervalXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3164530286716354209L;
+
+        /** The sequence number of the data. */
+        private final long sequence;
+
+        /** The series keys. */
+        private final Comparable<?>[] seriesKeys;
+
+        /** The values, indexed by series then item. */
+        private final float[][] values;
+
+        /** The first millisecond of each time period. */
+        private final long[] firstMillis;
+
+        /** The last millisecond of each time period. */
+        private final long[] lastMillis;
+
+        /** The position within a time period used for the x-value. */
+        private final int position;
+
+        /**
+         * Creates a new snapshot (the arrays are not copied).
+         *
+         * @param sequence  the sequence number.
+         * @param seriesKeys  the series keys.
+         * @param values  the values.
+         * @param firstMillis  the first millisecond of each time period.
+         * @param lastMillis  the last millisecond of each time period.
+         * @param position  the x position (START, MIDDLE or END).
+         */
+        Snapshot(long sequence, Comparable<?>[] seriesKeys, float[][] values,
+                long[] firstMillis, long[] lastMillis, int position) {
+            this.sequence = sequence;
+            this.seriesKeys = seriesKeys;
+            this.values = values;
+            this.firstMillis = firstMillis;
+            this.lastMillis = lastMillis;
+            this.position = position;
+        }
+
+        /**
+         * Returns the sequence number of the data in this snapshot (see
+         * {@link DynamicTimeSeriesCollection#getSequence()}).
+         *
+         * @return The sequence number.
+         */
+        public long getSequence() {
+            return this.sequence;
+        }
+
+        /**
+         * Returns {@link DomainOrder#ASCENDING}.
+         *
+         * @return The domain order.
+         */
+        @Override
+        public DomainOrder getDomainOrder() {
+            return DomainOrder.ASCENDING;
+        }
+
+        @Override
+        public int getSeriesCount() {
+            return this.values.length;
+        }
+
+        @Override
+        public Comparable<?> getSeriesKey(int series) {
+            return this.seriesKeys[series];
+        }
+
+        @Override
+        public int getItemCount(int series) {
+            return this.firstMillis.length;
+        }
+
+        @Override
+        public double getXValue(int series, int item) {
+            long first = this.firstMillis[item];
+            long last = this.lastMillis[item];
+            switch (this.position) {
+                case (START) :
+                    return first;
+                case (END) :
+                    return last;
+                default:
+                    return first + (last - first) / 2;
+            }
+        }
+
+        @Override
+        public Number getX(int series, int item) {
+            return (long) getXValue(series, item);
+        }
+
+        @Override
+        public double getStartXValue(int series, int item) {
+            return this.firstMillis[item];
+        }
+
+        @Override
+        public Number getStartX(int series, int item) {
+            return this.firstMillis[item];
+        }
+
+        @Override
+        public double getEndXValue(int series, int item) {
+            return this.lastMillis[item];
+        }
+
+        @Override
+        public Number getEndX(int series, int item) {
+            return this.lastMillis[item];
+        }
+
+        @Override
+        public double getYValue(int series, int item) {
+            return this.values[series][item];
+        }
+
+        @Override
+        public Number getY(int series, int item) {
+            return this.values[series][item];
+        }
+
+        @Override
+        public double getStartYValue(int series, int item) {
+            return this.values[series][item];
+        }
+
+        @Override
+        public Number getStartY(int series, int item) {
+            return getY(series, item);
+        }
+
+        @Override
+        public double getEndYValue(int series, int item) {
+            return this.values[series][item];
+        }
+
+        @Override
+        public Number getEndY(int series, int item) {
+            return getY(series, item);
+        }
+
     }
 
 }
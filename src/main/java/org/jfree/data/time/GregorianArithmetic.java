@@ -0,0 +1,235 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * GregorianArithmetic.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Calculates the millisecond for a date and time of day directly from the
+ * fields, without setting the fields of a {@code Calendar} and asking it to
+ * compute the time (which is comparatively slow and is done twice for every
+ * time period that is pegged to a calendar).  The local time is converted
+ * using the days-from-civil algorithm and the offset for the calendar's time
+ * zone is taken from the precomputed transition tables of the
+ * {@code java.time} zone rules.
+ * <P>
+ * The result is only calculated when it is guaranteed to be the same as the
+ * result from the calendar, that is when the calendar is a
+ * {@code GregorianCalendar} (not a subclass) with the default Gregorian
+ * change date, the year is 1900 or later, the time zone is one of the
+ * standard time zones and the local time is not in a gap or an overlap
+ * caused by a change to the offset of the time zone (these are resolved
+ * differently by {@code Calendar} and {@code java.time}).  In all other cases
+ * {@link #UNSUPPORTED} is returned and the caller should fall back to the
+ * calendar.
+ */
+final class GregorianArithmetic {
+
+    /**
+     * The value returned when the millisecond cannot be calculated without
+     * the calendar.
+     */
+    static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    /** The number of milliseconds in a day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /** The default Gregorian change date for a {@code GregorianCalendar}. */
+    private static final long DEFAULT_GREGORIAN_CHANGE = -12219292800000L;
+
+    /**
+     * The first supported year (the time zones returned by
+     * {@code TimeZone.getTimeZone(String)} ignore transitions before 1900).
+     */
+    private static final int FIRST_SUPPORTED_YEAR = 1900;
+
+    /**
+     * The class of the time zones returned by
+     * {@code TimeZone.getTimeZone(String)}, which use the same time zone
+     * database as {@code java.time}.
+     */
+    private static final Class<?> STANDARD_ZONE_CLASS
+            = TimeZone.getTimeZone("UTC").getClass();
+
+    /** The rules for the most recently used time zone. */
+    private static volatile ZoneRulesEntry lastRules;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private GregorianArithmetic() {
+        // no requirements
+    }
+
+    /**
+     * Returns the millisecond (in the time zone of the calendar) for the
+     * specified date and time, or {@link #UNSUPPORTED} if it cannot be
+     * calculated without using the calendar.  The calendar is not modified.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month (1 to 31).
+     * @param hour  the hour of the day (0 to 23).
+     * @param minute  the minute (0 to 59).
+     * @param second  the second (0 to 59).
+     * @param millisecond  the millisecond (0 to 999).
+     *
+     * @return The millisecond, or {@link #UNSUPPORTED}.
+     */
+    static long getMillisecond(Calendar calendar, int year, int month,
+            int day, int hour, int minute, int second, int millisecond) {
+        if (year < FIRST_SUPPORTED_YEAR
+                || calendar.getClass() != GregorianCalendar.class) {
+            return UNSUPPORTED;
+        }
+        Date change = ((GregorianCalendar) calendar).getGregorianChange();
+        if (change.getTime() != DEFAULT_GREGORIAN_CHANGE) {
+            return UNSUPPORTED;
+        }
+        ZoneRules rules = getRules(calendar.getTimeZone());
+        if (rules == null) {
+            return UNSUPPORTED;
+        }
+        ZoneOffset offset;
+        if (rules.isFixedOffset()) {
+            offset = rules.getOffset(LocalDateTime.MIN);
+        } else {
+            List<ZoneOffset> offsets = rules.getValidOffsets(LocalDateTime.of(
+                    year, month, day, hour, minute, second));
+            if (offsets.size() != 1) {
+                return UNSUPPORTED;  // gap or overlap
+            }
+            offset = offsets.get(0);
+        }
+        long local = daysFromCivil(year, month, day) * MILLIS_PER_DAY
+                + ((hour * 60L + minute) * 60L + second) * 1000L
+                + millisecond;
+        return local - offset.getTotalSeconds() * 1000L;
+    }
+
+    /**
+     * Returns the number of days from 1 January 1970 to the specified date
+     * in the proleptic Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month (1 to 31).
+     *
+     * @return The number of days.
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+                + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns the {@code java.time} rules for a time zone, or {@code null}
+     * if the time zone is not a standard time zone.  The rules for the most
+     * recently used time zone are cached, since the calendars used to peg
+     * time periods are typically all in the same time zone.
+     *
+     * @param zone  the time zone.
+     *
+     * @return The rules (possibly {@code null}).
+     */
+    private static ZoneRules getRules(TimeZone zone) {
+        ZoneRulesEntry entry = lastRules;
+        if (entry == null || !entry.zone.equals(zone)) {
+            ZoneRules rules = null;
+            if (zone.getClass() == STANDARD_ZONE_CLASS) {
+                try {
+                    // a standard time zone can have its raw offset changed
+                    ZoneId id = zone.toZoneId();
+                    if (zone.hasSameRules(TimeZone.getTimeZone(id))) {
+                        rules = id.getRules();
+                    }
+                } catch (DateTimeException e) {
+                    rules = null;
+                }
+            }
+            // keep a copy, the time zone itself is mutable
+            entry = new ZoneRulesEntry((TimeZone) zone.clone(), rules);
+            lastRules = entry;
+        }
+        return entry.rules;
+    }
+
+    /**
+     * A time zone and its rules.
+     */
+    private static final class ZoneRulesEntry {
+
+        /** The time zone. */
+        private final TimeZone zone;
+
+        /** The rules ({@code null} if the zone is not supported). */
+        private final ZoneRules rules;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param zone  the time zone.
+         * @param rules  the rules.
+         */
+        ZoneRulesEntry(TimeZone zone, ZoneRules rules) {
+            this.zone = zone;
+            this.rules = rules;
+        }
+
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * ---------
  * Hour.java
  * ---------
- * (C) Copyright 2001-2014, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -59,6 +59,8 @@
  *               time zone (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 17-Oct-2026 : Calculate the first and last milliseconds without the
+ *               calendar where possible (agent);
  *
  */
 
@@ -321,6 +323,11 @@ public class Hour extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month + 1, dom, this.hour, 0, 0, 0);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.set(year, month, dom, this.hour, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -340,6 +347,11 @@ public class Hour extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month + 1, dom, this.hour, 59, 59, 999);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.set(year, month, dom, this.hour, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
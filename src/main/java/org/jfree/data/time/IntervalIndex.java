@@ -0,0 +1,330 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * IntervalIndex.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Arrays;
+
+/**
+ * An immutable index (a centered interval tree) of a set of intervals, that
+ * finds the intervals overlapping a range in O(log n + k) time, where k is the
+ * number of intervals found.  Each node of the tree has a center point, and
+ * holds the intervals that contain the center point (sorted by start and by
+ * end), while the intervals entirely before and after the center point are in
+ * the left and right subtrees.  The center point of each node is the start of
+ * the median interval, so every node holds at least one interval and the
+ * tree is balanced.
+ * <P>
+ * The index refers to the arrays it is built from (without copying them), so
+ * it must be discarded when the intervals change.
+ */
+final class IntervalIndex {
+
+    /** The start of each interval. */
+    private final long[] starts;
+
+    /** The end of each interval. */
+    private final long[] ends;
+
+    /** The intervals for each node, sorted by ascending start. */
+    private final int[] byStart;
+
+    /** The intervals for each node, sorted by descending end. */
+    private final int[] byEnd;
+
+    /** The center point for each node. */
+    private final long[] centers;
+
+    /** The left child of each node (-1 if there is none). */
+    private final int[] lefts;
+
+    /** The right child of each node (-1 if there is none). */
+    private final int[] rights;
+
+    /** The position of the first interval for each node. */
+    private final int[] groupStarts;
+
+    /** The position after the last interval for each node. */
+    private final int[] groupEnds;
+
+    /** The number of nodes. */
+    private int nodeCount;
+
+    /** The number of intervals assigned to nodes so far (during building). */
+    private int groupCount;
+
+    /** The root node (-1 if there are no intervals). */
+    private final int root;
+
+    /**
+     * Creates an index for the first {@code count} intervals in the arrays.
+     *
+     * @param starts  the start of each interval.
+     * @param ends  the end of each interval (not less than the start).
+     * @param count  the number of intervals.
+     */
+    IntervalIndex(long[] starts, long[] ends, int count) {
+        this.starts = starts;
+        this.ends = ends;
+        this.byStart = new int[count];
+        this.byEnd = new int[count];
+        this.centers = new long[count];
+        this.lefts = new int[count];
+        this.rights = new int[count];
+        this.groupStarts = new int[count];
+        this.groupEnds = new int[count];
+        int[] items = new int[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = i;
+        }
+        sort(items, 0, count, starts, false);
+        this.root = build(items, 0, count, new int[count]);
+    }
+
+    /**
+     * Builds the subtree for some intervals.
+     *
+     * @param items  the intervals (the range is sorted by ascending start,
+     *     and is reordered by this method).
+     * @param from  the position of the first interval.
+     * @param to  the position after the last interval.
+     * @param scratch  a working array.
+     *
+     * @return The node (-1 if there are no intervals).
+     */
+    private int build(int[] items, int from, int to, int[] scratch) {
+        if (from >= to) {
+            return -1;
+        }
+        int mid = (from + to) >>> 1;
+        long center = this.starts[items[mid]];
+        // the intervals from 'split' onwards start after the center
+        int split = mid + 1;
+        while (split < to && this.starts[items[split]] <= center) {
+            split++;
+        }
+        // the remaining intervals either end before the center (these are
+        // moved to the front, keeping their order) or contain it
+        int leftCount = 0;
+        int centerCount = 0;
+        for (int i = from; i < split; i++) {
+            int item = items[i];
+            if (this.ends[item] < center) {
+                items[from + leftCount] = item;
+                leftCount++;
+            } else {
+                scratch[centerCount] = item;
+                centerCount++;
+            }
+        }
+        int node = this.nodeCount;
+        this.nodeCount++;
+        this.centers[node] = center;
+        int first = this.groupCount;
+        System.arraycopy(scratch, 0, this.byStart, first, centerCount);
+        System.arraycopy(scratch, 0, this.byEnd, first, centerCount);
+        sort(this.byEnd, first, first + centerCount, this.ends, true);
+        this.groupCount += centerCount;
+        this.groupStarts[node] = first;
+        this.groupEnds[node] = this.groupCount;
+        this.lefts[node] = build(items, from, from + leftCount, scratch);
+        this.rights[node] = build(items, split, to, scratch);
+        return node;
+    }
+
+    /**
+     * Returns the intervals that overlap a range (that is, the intervals
+     * that start on or before the end of the range and end on or after the
+     * start of the range).
+     *
+     * @param start  the start of the range.
+     * @param end  the end of the range.
+     *
+     * @return The indices of the intervals, in ascending order.
+     */
+    int[] findOverlapping(long start, long end) {
+        if (this.root < 0 || start > end) {
+            return new int[0];
+        }
+        ItemList result = new ItemList();
+        findOverlapping(this.root, start, end, result);
+        int[] items = Arrays.copyOf(result.items, result.size);
+        Arrays.sort(items);
+        return items;
+    }
+
+    /**
+     * Adds the intervals in a subtree that overlap a range to a list.
+     *
+     * @param node  the root of the subtree.
+     * @param start  the start of the range.
+     * @param end  the end of the range.
+     * @param result  the list.
+     */
+    private void findOverlapping(int node, long start, long end,
+            ItemList result) {
+        long center = this.centers[node];
+        int first = this.groupStarts[node];
+        int last = this.groupEnds[node];
+        if (end < center) {
+            // the intervals all end after the range, but some may start after
+            for (int i = first; i < last; i++) {
+                int item = this.byStart[i];
+                if (this.starts[item] > end) {
+                    break;
+                }
+                result.add(item);
+            }
+        } else if (start > center) {
+            // the intervals all start before the range, but some may end before
+            for (int i = first; i < last; i++) {
+                int item = this.byEnd[i];
+                if (this.ends[item] < start) {
+                    break;
+                }
+                result.add(item);
+            }
+        } else {
+            for (int i = first; i < last; i++) {
+                result.add(this.byStart[i]);
+            }
+        }
+        if (start < center && this.lefts[node] >= 0) {
+            findOverlapping(this.lefts[node], start, end, result);
+        }
+        if (end > center && this.rights[node] >= 0) {
+            findOverlapping(this.rights[node], start, end, result);
+        }
+    }
+
+    /**
+     * Sorts a range of interval indices by their keys (a stable merge sort).
+     *
+     * @param items  the interval indices.
+     * @param from  the position of the first index to sort.
+     * @param to  the position after the last index to sort.
+     * @param keys  the keys.
+     * @param descending  sort in descending order?
+     */
+    private static void sort(int[] items, int from, int to, long[] keys,
+            boolean descending) {
+        if (to - from < 2) {
+            return;
+        }
+        int[] buffer = new int[to - from];
+        mergeSort(items, from, to, keys, descending, buffer);
+    }
+
+    /**
+     * Sorts a range of interval indices by their keys.
+     *
+     * @param items  the interval indices.
+     * @param from  the position of the first index to sort.
+     * @param to  the position after the last index to sort.
+     * @param keys  the keys.
+     * @param descending  sort in descending order?
+     * @param buffer  a working array (at least as long as the range).
+     */
+    private static void mergeSort(int[] items, int from, int to,
+            long[] keys, boolean descending, int[] buffer) {
+        if (to - from <= 16) {
+            // insertion sort
+            for (int i = from + 1; i < to; i++) {
+                int item = items[i];
+                long key = keys[item];
+                int j = i - 1;
+                while (j >= from && (descending ? keys[items[j]] < key
+                        : keys[items[j]] > key)) {
+                    items[j + 1] = items[j];
+                    j--;
+                }
+                items[j + 1] = item;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(items, from, mid, keys, descending, buffer);
+        mergeSort(items, mid, to, keys, descending, buffer);
+        System.arraycopy(items, from, buffer, 0, mid - from);
+        int i = 0;
+        int iEnd = mid - from;
+        int j = mid;
+        int k = from;
+        while (i < iEnd && j < to) {
+            long a = keys[buffer[i]];
+            long b = keys[items[j]];
+            if (descending ? b > a : b < a) {
+                items[k++] = items[j++];
+            } else {
+                items[k++] = buffer[i++];
+            }
+        }
+        while (i < iEnd) {
+            items[k++] = buffer[i++];
+        }
+    }
+
+    /**
+     * A growable list of interval indices.
+     */
+    private static final class ItemList {
+
+        /** Storage for the indices. */
+        private int[] items = new int[16];
+
+        /** The number of indices. */
+        private int size;
+
+        /**
+         * Adds an index to the list.
+         *
+         * @param item  the index.
+         */
+        void add(int item) {
+            if (this.size == this.items.length) {
+                this.items = Arrays.copyOf(this.items, this.size * 2);
+            }
+            this.items[this.size] = item;
+            this.size++;
+        }
+
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * ----------------
  * Millisecond.java
  * ----------------
- * (C) Copyright 2001-2014, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -54,6 +54,8 @@
  *               see http://www.jfree.org/phpBB2/viewtopic.php?t=24805 (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 17-Oct-2026 : Calculate the first and last milliseconds without the
+ *               calendar where possible (agent);
  *
  */
 
@@ -402,6 +404,12 @@ public class Millisecond extends RegularTimePeriod implements Serializable,
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int day = this.day.getDayOfMonth();
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month + 1, day, this.hour, this.minute, this.second,
+                this.millisecond);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month, day, this.hour, this.minute, this.second);
         calendar.set(Calendar.MILLISECOND, this.millisecond);
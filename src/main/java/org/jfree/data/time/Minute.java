@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * -----------
  * Minute.java
  * -----------
- * (C) Copyright 2001-2014, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -60,6 +60,8 @@
  * 11-Dec-2006 : Fix for previous() - bug 1611872 (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor that specifies Locale (DG);
+ * 17-Oct-2026 : Calculate the first and last milliseconds without the
+ *               calendar where possible (agent);
  *
  */
 
@@ -330,6 +332,11 @@ public class Minute extends RegularTimePeriod implements Serializable {
         int month = this.day.getMonth() - 1;
         int day = this.day.getDayOfMonth();
 
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month + 1, day, this.hour, this.minute, 0, 0);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month, day, this.hour, this.minute, 0);
         calendar.set(Calendar.MILLISECOND, 0);
@@ -352,6 +359,11 @@ public class Minute extends RegularTimePeriod implements Serializable {
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
 
+        long result = GregorianArithmetic.getMillisecond(calendar, year,
+                month + 1, d, this.hour, this.minute, 59, 999);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month, d, this.hour, this.minute, 59);
         calendar.set(Calendar.MILLISECOND, 999);
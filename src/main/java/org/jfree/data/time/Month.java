@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,11 @@
  * ----------
  * Month.java
  * ----------
- * (C) Copyright 2001-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2001-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Chris Boek;
+ *                   agent;
  *
  * Changes
  * -------
@@ -60,6 +61,8 @@
  *               extended range in Year (DG);
  * 25-Nov-2008 : Added new constructor with Locale (DG);
  * 04-Feb-2009 : Fix for new constructor with Locale - bug 2564636 (DG);
+ * 17-Oct-2026 : Calculate the first and last milliseconds without the
+ *               calendar where possible (agent);
  *
  */
 
@@ -397,6 +400,11 @@ public class Month extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = GregorianArithmetic.getMillisecond(calendar, this.year,
+                this.month, 1, 0, 0, 0, 0);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.set(this.year, this.month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -415,6 +423,11 @@ public class Month extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int eom = SerialDate.lastDayOfMonth(this.month, this.year);
+        long result = GregorianArithmetic.getMillisecond(calendar, this.year,
+                this.month, eom, 23, 59, 59, 999);
+        if (result != GregorianArithmetic.UNSUPPORTED) {
+            return result;
+        }
         calendar.set(this.year, this.month - 1, eom, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
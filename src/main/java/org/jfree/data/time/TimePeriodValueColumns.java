@@ -0,0 +1,285 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * TimePeriodValueColumns.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list of {@link TimePeriodValue} objects that is backed by growable
+ * arrays of primitives (the start and end of each time period in
+ * milliseconds, and the value).  Items are created on demand when they are
+ * requested through the <code>List</code> interface, with a
+ * {@link SimpleTimePeriod} for the time period.
+ * <P>
+ * A <code>null</code> value is stored as <code>Double.NaN</code>, so items
+ * created by this list report a <code>null</code> value for any
+ * <code>Double.NaN</code> that was stored.
+ * <P>
+ * This class is used by {@link TimePeriodValues} to implement the columnar
+ * storage mode.
+ */
+class TimePeriodValueColumns extends AbstractList<TimePeriodValue>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4480117226573914393L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the start of each time period (in milliseconds). */
+    private long[] starts;
+
+    /** Storage for the end of each time period (in milliseconds). */
+    private long[] ends;
+
+    /** Storage for the values (<code>Double.NaN</code> for null). */
+    private double[] values;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public TimePeriodValueColumns() {
+        this.starts = new long[DEFAULT_CAPACITY];
+        this.ends = new long[DEFAULT_CAPACITY];
+        this.values = new double[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The number of items in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the start of the time period for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The start of the time period (in milliseconds).
+     */
+    public long getStartMillis(int index) {
+        checkIndex(index);
+        return this.starts[index];
+    }
+
+    /**
+     * Returns the end of the time period for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The end of the time period (in milliseconds).
+     */
+    public long getEndMillis(int index) {
+        checkIndex(index);
+        return this.ends[index];
+    }
+
+    /**
+     * Sets the value for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     * @param value  the new value (<code>Double.NaN</code> for a missing
+     *     value).
+     */
+    public void setValue(int index, double value) {
+        checkIndex(index);
+        this.values[index] = value;
+    }
+
+    /**
+     * Returns the storage array for the start of each time period.  The
+     * array can be longer than the list, and is replaced when the list
+     * grows.
+     *
+     * @return The array (never <code>null</code>).
+     */
+    long[] getStartArray() {
+        return this.starts;
+    }
+
+    /**
+     * Returns the storage array for the end of each time period.  The array
+     * can be longer than the list, and is replaced when the list grows.
+     *
+     * @return The array (never <code>null</code>).
+     */
+    long[] getEndArray() {
+        return this.ends;
+    }
+
+    /**
+     * Returns a new data item for the item at the specified index.  Changes
+     * to the returned item are not reflected in this list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return A new data item (never <code>null</code>).
+     */
+    @Override
+    public TimePeriodValue get(int index) {
+        checkIndex(index);
+        double value = this.values[index];
+        return new TimePeriodValue(new SimpleTimePeriod(this.starts[index],
+                this.ends[index]), Double.isNaN(value) ? null
+                : Double.valueOf(value));
+    }
+
+    /**
+     * Inserts an item into the list at the specified index.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(int index, TimePeriodValue item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        if (this.size == this.starts.length) {
+            int capacity = this.size + (this.size >> 1) + 1;
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+        int n = this.size - index;
+        System.arraycopy(this.starts, index, this.starts, index + 1, n);
+        System.arraycopy(this.ends, index, this.ends, index + 1, n);
+        System.arraycopy(this.values, index, this.values, index + 1, n);
+        TimePeriod period = item.getPeriod();
+        this.starts[index] = period.getStart().getTime();
+        this.ends[index] = period.getEnd().getTime();
+        Number value = item.getValue();
+        this.values[index] = value != null ? value.doubleValue() : Double.NaN;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The item that was removed.
+     */
+    @Override
+    public TimePeriodValue remove(int index) {
+        TimePeriodValue result = get(index);
+        removeRange(index, index + 1);
+        return result;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).
+     *
+     * @param fromIndex  the index of the first item to remove.
+     * @param toIndex  the index after the last item to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex
+                    + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        int n = this.size - toIndex;
+        System.arraycopy(this.starts, toIndex, this.starts, fromIndex, n);
+        System.arraycopy(this.ends, toIndex, this.ends, fromIndex, n);
+        System.arraycopy(this.values, toIndex, this.values, fromIndex, n);
+        this.size -= toIndex - fromIndex;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    @Override
+    public void clear() {
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Checks that an index refers to an item in the list.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns a clone of the list.
+     *
+     * @return A clone.
+     */
+    @Override
+    public TimePeriodValueColumns clone() {
+        try {
+            TimePeriodValueColumns clone
+                    = (TimePeriodValueColumns) super.clone();
+            clone.starts = Arrays.copyOf(this.starts, this.size);
+            clone.ends = Arrays.copyOf(this.ends, this.size);
+            clone.values = Arrays.copyOf(this.values, this.size);
+            clone.modCount = 0;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+}
@@ -27,10 +27,10 @@
  * ---------------------
  * TimePeriodValues.java
  * ---------------------
- * (C) Copyright 2003-2012, by Object Refinery Limited.
+ * (C) Copyright 2003-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -43,6 +43,8 @@
  *               add() method, updated API docs (DG);
  * 07-Apr-2008 : Fixed bug with maxMiddleIndex in updateBounds() (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added an index to find the items overlapping a range, and
+ *               a columnar storage mode (agent);
  *
  */
 
@@ -64,6 +66,20 @@ import org.jfree.data.general.SeriesException;
  * <p>
  * This is similar to the {@link TimeSeries} class, except that the time
  * periods can have irregular lengths.
+ * <p>
+ * The items that overlap a range of milliseconds can be found using an
+ * interval index (see {@link #getOverlappingItems(long, long)}), which is
+ * built when it is first needed and discarded when items are added or
+ * deleted.
+ * <p>
+ * A series created with the <code>columnar</code> flag set stores the start
+ * and end of each time period (in milliseconds) and the value in arrays of
+ * primitives instead of a list of {@link TimePeriodValue} objects, which
+ * is recommended for series with a large number of items.  In this mode the
+ * items returned by {@link #getDataItem(int)} are created on demand (with a
+ * {@link SimpleTimePeriod} for the time period and a <code>Double</code>
+ * for the value), so changes to them are not reflected in the series (use
+ * {@link #update(int, Number)} instead).
  */
 public class TimePeriodValues extends Series implements Serializable {
 
@@ -103,6 +119,18 @@ public class TimePeriodValues extends Series implements Serializable {
     /** Index of the time period with the maximum end milliseconds. */
     private int maxEndIndex = -1;
 
+    /**
+     * The list of data pairs as columns (<code>null</code> unless the series
+     * is columnar, in which case this is the same as {@link #data}).
+     */
+    private TimePeriodValueColumns columns;
+
+    /**
+     * An index of the time periods ({@code null} until it is needed, and
+     * after the time periods change).
+     */
+    private transient IntervalIndex index;
+
     /**
      * Creates a new (empty) collection of time period values.
      *
@@ -124,10 +152,32 @@ public class TimePeriodValues extends Series implements Serializable {
      * @param range  the range description.
      */
     public TimePeriodValues(String name, String domain, String range) {
+        this(name, domain, range, false);
+    }
+
+    /**
+     * Creates a new time series that contains no data.  If the
+     * <code>columnar</code> flag is set, the start and end of each time
+     * period (in milliseconds) and the value are stored in arrays of
+     * primitives instead of a list of {@link TimePeriodValue} objects.
+     *
+     * @param name  the name of the series (<code>null</code> not permitted).
+     * @param domain  the domain description.
+     * @param range  the range description.
+     * @param columnar  a flag that controls whether or not the data is
+     *                  stored in arrays of primitives.
+     */
+    public TimePeriodValues(String name, String domain, String range,
+            boolean columnar) {
         super(name);
         this.domain = domain;
         this.range = range;
-        this.data = new ArrayList<TimePeriodValue>();
+        if (columnar) {
+            this.columns = new TimePeriodValueColumns();
+            this.data = this.columns;
+        } else {
+            this.data = new ArrayList<TimePeriodValue>();
+        }
     }
 
     /**
@@ -182,6 +232,18 @@ public class TimePeriodValues extends Series implements Serializable {
         firePropertyChange("Range", old, description);
     }
 
+    /**
+     * Returns <code>true</code> if the data for this series is stored in
+     * arrays of primitives, and <code>false</code> if it is stored as a list
+     * of {@link TimePeriodValue} objects.  This flag can only be set in the
+     * constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean isColumnar() {
+        return this.columns != null;
+    }
+
     /**
      * Returns the number of items in the series.
      *
@@ -193,7 +255,8 @@ public class TimePeriodValues extends Series implements Serializable {
     }
 
     /**
-     * Returns one data item for the series.
+     * Returns one data item for the series.  For a columnar series, a new
+     * item is returned each time.
      *
      * @param index  the item index (in the range <code>0</code> to
      *     <code>getItemCount() - 1</code>).
@@ -232,6 +295,73 @@ public class TimePeriodValues extends Series implements Serializable {
         return getDataItem(index).getValue();
     }
 
+    /**
+     * Returns the start of the time period at the specified index, in
+     * milliseconds.
+     *
+     * @param index  the item index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The start of the time period.
+     */
+    public long getStartMillis(int index) {
+        if (this.columns != null) {
+            return this.columns.getStartMillis(index);
+        }
+        return getDataItem(index).getPeriod().getStart().getTime();
+    }
+
+    /**
+     * Returns the end of the time period at the specified index, in
+     * milliseconds.
+     *
+     * @param index  the item index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The end of the time period.
+     */
+    public long getEndMillis(int index) {
+        if (this.columns != null) {
+            return this.columns.getEndMillis(index);
+        }
+        return getDataItem(index).getPeriod().getEnd().getTime();
+    }
+
+    /**
+     * Returns the indices of the items whose time periods overlap a range of
+     * milliseconds (that is, the time periods that start on or before
+     * <code>end</code> and end on or after <code>start</code>).  The first
+     * call after the series changes builds an index of the time periods (in
+     * O(n log n) time), after which each call takes O(log n + k) time, where
+     * k is the number of items found.  Unless the series is columnar, the
+     * index holds a copy of the start and end of each time period.
+     *
+     * @param start  the start of the range (in milliseconds).
+     * @param end  the end of the range (in milliseconds).
+     *
+     * @return The item indices, in ascending order (possibly empty, but
+     *     never <code>null</code>).
+     */
+    public int[] getOverlappingItems(long start, long end) {
+        if (this.index == null) {
+            int count = this.data.size();
+            if (this.columns != null) {
+                this.index = new IntervalIndex(this.columns.getStartArray(),
+                        this.columns.getEndArray(), count);
+            } else {
+                long[] starts = new long[count];
+                long[] ends = new long[count];
+                for (int i = 0; i < count; i++) {
+                    TimePeriod period = this.data.get(i).getPeriod();
+                    starts[i] = period.getStart().getTime();
+                    ends[i] = period.getEnd().getTime();
+                }
+                this.index = new IntervalIndex(starts, ends, count);
+            }
+        }
+        return this.index.findOverlapping(start, end);
+    }
+
     /**
      * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
      * all registered listeners.
@@ -243,25 +373,24 @@ public class TimePeriodValues extends Series implements Serializable {
             throw new IllegalArgumentException("Null item not allowed.");
         }
         this.data.add(item);
-        updateBounds(item.getPeriod(), this.data.size() - 1);
+        updateBounds(this.data.size() - 1);
+        this.index = null;
         fireSeriesChanged();
     }
 
     /**
      * Update the index values for the maximum and minimum bounds.
      *
-     * @param period  the time period.
      * @param index  the index of the time period.
      */
-    private void updateBounds(TimePeriod period, int index) {
+    private void updateBounds(int index) {
 
-        long start = period.getStart().getTime();
-        long end = period.getEnd().getTime();
+        long start = getStartMillis(index);
+        long end = getEndMillis(index);
         long middle = start + ((end - start) / 2);
 
         if (this.minStartIndex >= 0) {
-            long minStart = getDataItem(this.minStartIndex).getPeriod()
-                .getStart().getTime();
+            long minStart = getStartMillis(this.minStartIndex);
             if (start < minStart) {
                 this.minStartIndex = index;
             }
@@ -271,8 +400,7 @@ public class TimePeriodValues extends Series implements Serializable {
         }
 
         if (this.maxStartIndex >= 0) {
-            long maxStart = getDataItem(this.maxStartIndex).getPeriod()
-                .getStart().getTime();
+            long maxStart = getStartMillis(this.maxStartIndex);
             if (start > maxStart) {
                 this.maxStartIndex = index;
             }
@@ -282,10 +410,8 @@ public class TimePeriodValues extends Series implements Serializable {
         }
 
         if (this.minMiddleIndex >= 0) {
-            long s = getDataItem(this.minMiddleIndex).getPeriod().getStart()
-                .getTime();
-            long e = getDataItem(this.minMiddleIndex).getPeriod().getEnd()
-                .getTime();
+            long s = getStartMillis(this.minMiddleIndex);
+            long e = getEndMillis(this.minMiddleIndex);
             long minMiddle = s + (e - s) / 2;
             if (middle < minMiddle) {
                 this.minMiddleIndex = index;
@@ -296,10 +422,8 @@ public class TimePeriodValues extends Series implements Serializable {
         }
 
         if (this.maxMiddleIndex >= 0) {
-            long s = getDataItem(this.maxMiddleIndex).getPeriod().getStart()
-                .getTime();
-            long e = getDataItem(this.maxMiddleIndex).getPeriod().getEnd()
-                .getTime();
+            long s = getStartMillis(this.maxMiddleIndex);
+            long e = getEndMillis(this.maxMiddleIndex);
             long maxMiddle = s + (e - s) / 2;
             if (middle > maxMiddle) {
                 this.maxMiddleIndex = index;
@@ -310,8 +434,7 @@ public class TimePeriodValues extends Series implements Serializable {
         }
 
         if (this.minEndIndex >= 0) {
-            long minEnd = getDataItem(this.minEndIndex).getPeriod().getEnd()
-                .getTime();
+            long minEnd = getEndMillis(this.minEndIndex);
             if (end < minEnd) {
                 this.minEndIndex = index;
             }
@@ -321,8 +444,7 @@ public class TimePeriodValues extends Series implements Serializable {
         }
 
         if (this.maxEndIndex >= 0) {
-            long maxEnd = getDataItem(this.maxEndIndex).getPeriod().getEnd()
-                .getTime();
+            long maxEnd = getEndMillis(this.maxEndIndex);
             if (end > maxEnd) {
                 this.maxEndIndex = index;
             }
@@ -344,8 +466,7 @@ public class TimePeriodValues extends Series implements Serializable {
         this.maxMiddleIndex = -1;
         this.maxEndIndex = -1;
         for (int i = 0; i < this.data.size(); i++) {
-            TimePeriodValue tpv = this.data.get(i);
-            updateBounds(tpv.getPeriod(), i);
+            updateBounds(i);
         }
     }
 
@@ -383,8 +504,13 @@ public class TimePeriodValues extends Series implements Serializable {
      * @param value  the new value (<code>null</code> not permitted).
      */
     public void update(int index, Number value) {
-        TimePeriodValue item = getDataItem(index);
-        item.setValue(value);
+        if (this.columns != null) {
+            this.columns.setValue(index, value != null ? value.doubleValue()
+                    : Double.NaN);
+        } else {
+            TimePeriodValue item = getDataItem(index);
+            item.setValue(value);
+        }
         fireSeriesChanged();
     }
 
@@ -396,9 +522,10 @@ public class TimePeriodValues extends Series implements Serializable {
      * @param end  the index of the last period to delete.
      */
     public void delete(int start, int end) {
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        if (end >= start) {
+            this.data.subList(start, end + 1).clear();
         }
+        this.index = null;
         recalculateBounds();
         fireSeriesChanged();
     }
@@ -499,7 +626,19 @@ public class TimePeriodValues extends Series implements Serializable {
 
         TimePeriodValues copy = (TimePeriodValues) super.clone();
 
-        copy.data = new ArrayList<TimePeriodValue>();
+        if (this.columns != null) {
+            copy.columns = new TimePeriodValueColumns();
+            copy.data = copy.columns;
+        } else {
+            copy.data = new ArrayList<TimePeriodValue>();
+        }
+        copy.index = null;
+        copy.minStartIndex = -1;
+        copy.maxStartIndex = -1;
+        copy.minMiddleIndex = -1;
+        copy.maxMiddleIndex = -1;
+        copy.minEndIndex = -1;
+        copy.maxEndIndex = -1;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimePeriodValue item = this.data.get(index);
@@ -27,10 +27,10 @@
  * -------------------------------
  * TimePeriodValuesCollection.java
  * -------------------------------
- * (C) Copyright 2003-2012, by Object Refinery Limited.
+ * (C) Copyright 2003-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -45,6 +45,8 @@
  * 11-Jun-2007 : Fixed bug in getDomainBounds() method, and changed default
  *               value for domainIsPointsInTime to false (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Read the x-values from the primitive storage in the series,
+ *               and implemented XYIntervalIndexInfo (agent);
  *
  */
 
@@ -58,6 +60,7 @@ import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYIntervalIndexInfo;
 
 /**
  * A collection of {@link TimePeriodValues} objects.
@@ -68,7 +71,8 @@ import org.jfree.data.xy.IntervalXYDataset;
  * class.
  */
 public class TimePeriodValuesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, Serializable {
+        implements IntervalXYDataset, DomainInfo, XYIntervalIndexInfo,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -3077934065236454199L;
@@ -238,29 +242,41 @@ public class TimePeriodValuesCollection extends AbstractIntervalXYDataset
     @Override
     public Number getX(int series, int item) {
         TimePeriodValues ts = this.data.get(series);
-        TimePeriodValue dp = ts.getDataItem(item);
-        TimePeriod period = dp.getPeriod();
-        return getX(period);
+        return getX(ts.getStartMillis(item), ts.getEndMillis(item));
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value for the specified series and item.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        TimePeriodValues ts = this.data.get(series);
+        return getX(ts.getStartMillis(item), ts.getEndMillis(item));
     }
 
     /**
      * Returns the x-value for a time period.
      *
-     * @param period  the time period.
+     * @param start  the start of the time period (in milliseconds).
+     * @param end  the end of the time period (in milliseconds).
      *
      * @return The x-value.
      */
-    private long getX(TimePeriod period) {
+    private long getX(long start, long end) {
 
         if (this.xPosition == TimePeriodAnchor.START) {
-            return period.getStart().getTime();
+            return start;
         }
         else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
-            return period.getStart().getTime()
-                / 2 + period.getEnd().getTime() / 2;
+            return start / 2 + end / 2;
         }
         else if (this.xPosition == TimePeriodAnchor.END) {
-            return period.getEnd().getTime();
+            return end;
         }
         else {
             throw new IllegalStateException("TimePeriodAnchor unknown.");
@@ -279,8 +295,20 @@ public class TimePeriodValuesCollection extends AbstractIntervalXYDataset
     @Override
     public Number getStartX(int series, int item) {
         TimePeriodValues ts = this.data.get(series);
-        TimePeriodValue dp = ts.getDataItem(item);
-        return dp.getPeriod().getStart().getTime();
+        return ts.getStartMillis(item);
+    }
+
+    /**
+     * Returns the starting x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value for the specified series and item.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.data.get(series).getStartMillis(item);
     }
 
     /**
@@ -294,8 +322,41 @@ public class TimePeriodValuesCollection extends AbstractIntervalXYDataset
     @Override
     public Number getEndX(int series, int item) {
         TimePeriodValues ts = this.data.get(series);
-        TimePeriodValue dp = ts.getDataItem(item);
-        return dp.getPeriod().getEnd().getTime();
+        return ts.getEndMillis(item);
+    }
+
+    /**
+     * Returns the ending x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value for the specified series and item.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.data.get(series).getEndMillis(item);
+    }
+
+    /**
+     * Returns the indices of the items in a series whose time periods
+     * overlap a range of x-values (see
+     * {@link TimePeriodValues#getOverlappingItems(long, long)}).
+     *
+     * @param series  the series (zero-based index).
+     * @param lowerX  the lower bound of the range.
+     * @param upperX  the upper bound of the range.
+     *
+     * @return The item indices, in ascending order.
+     */
+    @Override
+    public int[] getOverlappingItems(int series, double lowerX,
+            double upperX) {
+        if (Double.isNaN(lowerX) || Double.isNaN(upperX)) {
+            return new int[0];
+        }
+        return getSeries(series).getOverlappingItems(
+                (long) Math.ceil(lowerX), (long) Math.floor(upperX));
     }
 
     /**
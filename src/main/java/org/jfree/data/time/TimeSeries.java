@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2015, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,11 +27,12 @@
  * ---------------
  * TimeSeries.java
  * ---------------
- * (C) Copyright 2001-2015, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Bryan Scott;
  *                   Nick Guenther;
+ *                   agent;
  *
  * Changes
  * -------
@@ -86,12 +87,25 @@
  *               the series (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 06-Sep-2015 : Fix for findRangeBounds() with Double.NaN values (DG);
+ * 17-Oct-2026 : Store items in a circular buffer so that the oldest item can
+ *               be dropped in constant time (agent);
+ * 17-Oct-2026 : Track y-bounds with a sliding window when there is a maximum
+ *               item count or age (agent);
+ * 17-Oct-2026 : Added addAll() methods for bulk appends (agent);
+ * 17-Oct-2026 : Describe the changed items in change events (agent);
+ * 17-Oct-2026 : Added columnar storage mode (agent);
+ * 17-Oct-2026 : Find items without allocating objects, checking the last
+ *               item first (agent);
+ * 17-Oct-2026 : Count the changes to the time periods, so that cached
+ *               x-values can be checked (agent);
  *
  */
 
 package org.jfree.data.time;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -103,9 +117,13 @@ import java.util.TimeZone;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.Range;
+import org.jfree.data.general.RingBufferList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.SlidingWindowMinMax;
 
 /**
  * Represents a sequence of zero or more data items in the form (period, value)
@@ -113,6 +131,19 @@ import org.jfree.data.general.SeriesException;
  * The time series will ensure that (a) all data items have the same type of
  * period (for example, {@link Day}) and (b) that each period appears at
  * most one time in the series.
+ * <P>
+ * A series can be created in <i>columnar</i> mode (see
+ * {@link #TimeSeries(Comparable, String, String, boolean)}), in which case
+ * each item is stored as the first millisecond of its time period plus a
+ * primitive double value, rather than as a {@link TimeSeriesDataItem} object
+ * holding a time period and a {@code Number}.  The class of the time periods
+ * and the time zone used to convert them to milliseconds are recorded once
+ * for the series, and time periods and data items are only created when
+ * they are requested.  This uses much less memory for large series.  All the
+ * existing methods work in the same way in either mode, except that in
+ * columnar mode the values are stored as doubles (so they are returned as
+ * {@code Double} objects) and a {@code null} value is stored as
+ * {@code Double.NaN} (and vice versa).
  */
 public class TimeSeries extends Series implements Cloneable, Serializable {
 
@@ -137,6 +168,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     /** The list of data items in the series. */
     protected List<TimeSeriesDataItem> data;
 
+    /**
+     * The primitive storage for the series when it is in columnar mode
+     * (otherwise {@code null}).  When set, this is the same object as
+     * {@code data}.
+     */
+    private TimeSeriesDataColumns columns;
+
     /** The maximum number of items for the series. */
     private int maximumItemCount;
 
@@ -160,6 +198,22 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * Tracks the bounds of the y-values when the series has a maximum item
+     * count or a maximum item age (otherwise {@code null}), so that the
+     * bounds can be updated without iterating through all the items when the
+     * oldest items are dropped from the series.
+     */
+    private SlidingWindowMinMax window;
+
+    /**
+     * The number of method calls that have added or removed items (with or
+     * without sending a change event).  This is used by
+     * {@link TimeSeriesCollection} to check that its cached x-values are up
+     * to date.
+     */
+    private transient int modificationCount;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -167,7 +221,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *
      * @param name  the series name ({@code null} not permitted).
      */
-    public TimeSeries(Comparable name) {
+    public TimeSeries(Comparable<?> name) {
         this(name, DEFAULT_DOMAIN_DESCRIPTION, DEFAULT_RANGE_DESCRIPTION);
     }
 
@@ -184,18 +238,76 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *
      * @since 1.0.13
      */
-    public TimeSeries(Comparable name, String domain, String range) {
+    public TimeSeries(Comparable<?> name, String domain, String range) {
         super(name);
         this.domain = domain;
         this.range = range;
         this.timePeriodClass = null;
-        this.data = new java.util.ArrayList<TimeSeriesDataItem>();
+        this.data = new RingBufferList<TimeSeriesDataItem>();
         this.maximumItemCount = Integer.MAX_VALUE;
         this.maximumItemAge = Long.MAX_VALUE;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
     }
 
+    /**
+     * Creates a new time series that contains no data.  If the
+     * {@code columnar} flag is set, the items are stored in arrays of
+     * primitives instead of a list of {@link TimeSeriesDataItem} objects
+     * (with the time periods converted to milliseconds using the default
+     * time zone and locale), which is recommended for series with a large
+     * number of items.
+     *
+     * @param name  the name of the series ({@code null} not permitted).
+     * @param domain  the domain description ({@code null} permitted).
+     * @param range  the range description ({@code null} permitted).
+     * @param columnar  a flag that controls whether or not the data is
+     *     stored in arrays of primitives.
+     */
+    public TimeSeries(Comparable<?> name, String domain, String range,
+            boolean columnar) {
+        this(name, domain, range);
+        if (columnar) {
+            this.columns = new TimeSeriesDataColumns(TimeZone.getDefault(),
+                    Locale.getDefault());
+            this.data = this.columns;
+        }
+    }
+
+    /**
+     * Creates a new time series in columnar mode that contains no data.  The
+     * time periods for the series are converted to and from milliseconds
+     * using the specified time zone and locale.
+     *
+     * @param name  the name of the series ({@code null} not permitted).
+     * @param domain  the domain description ({@code null} permitted).
+     * @param range  the range description ({@code null} permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @see #TimeSeries(Comparable, String, String, boolean)
+     */
+    public TimeSeries(Comparable<?> name, String domain, String range,
+            TimeZone zone, Locale locale) {
+        this(name, domain, range);
+        ParamChecks.nullNotPermitted(zone, "zone");
+        ParamChecks.nullNotPermitted(locale, "locale");
+        this.columns = new TimeSeriesDataColumns(zone, locale);
+        this.data = this.columns;
+    }
+
+    /**
+     * Returns {@code true} if the data for this series is stored in arrays
+     * of primitives, and {@code false} if it is stored as a list of
+     * {@link TimeSeriesDataItem} objects.  This flag can only be set in the
+     * constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean isColumnar() {
+        return this.columns != null;
+    }
+
     /**
      * Returns the domain description.
      *
@@ -257,6 +369,18 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         return this.data.size();
     }
 
+    /**
+     * Returns the number of method calls that have added items to or removed
+     * items from this series.  The count is incremented once for each call,
+     * whether or not a change event is sent, so it can be used to check that
+     * information derived from the time periods is up to date.
+     *
+     * @return The modification count.
+     */
+    int getModificationCount() {
+        return this.modificationCount;
+    }
+
     /**
      * Returns the list of data items for the series (the list contains
      * {@link TimeSeriesDataItem} objects and is unmodifiable).
@@ -296,6 +420,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        configureWindow();
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
@@ -330,9 +455,26 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        configureWindow();
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
+    /**
+     * Creates or discards the sliding window used to track the bounds of the
+     * y-values, according to whether or not the series has a maximum item
+     * count or a maximum item age.
+     */
+    private void configureWindow() {
+        boolean bounded = this.maximumItemCount < Integer.MAX_VALUE
+                || this.maximumItemAge < Long.MAX_VALUE;
+        if (bounded && this.window == null) {
+            this.window = new SlidingWindowMinMax();
+            updateMinMaxYByIteration();
+        } else if (!bounded) {
+            this.window = null;
+        }
+    }
+
     /**
      * Returns the range of y-values in the time series.  Any {@code null} or 
      * {@code Double.NaN} data values in the series will be ignored (except for
@@ -502,6 +644,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * Returns a data item for the series.  This method returns the object
      * that is used for the underlying storage - you should not modify the
      * contents of the returned value unless you know what you are doing.
+     * In columnar mode, a new item is created by each call (so changing it
+     * has no effect on the series).
      *
      * @param index  the item index (zero-based).
      *
@@ -544,6 +688,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @return The time period.
      */
     public RegularTimePeriod getTimePeriod(int index) {
+        if (this.columns != null) {
+            return this.columns.getTimePeriod(index);
+        }
         return getRawDataItem(index).getPeriod();
     }
 
@@ -596,17 +743,45 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
     /**
      * Returns the index for the item (if any) that corresponds to a time
-     * period.
+     * period.  The last item in the series is checked first, so finding the
+     * last time period, or a time period after it, takes constant time.
+     * Otherwise, a binary search is used.  No objects are created by this
+     * method.
      *
      * @param period  the time period ({@code null} not permitted).
      *
-     * @return The index.
+     * @return The index, or {@code (-(insertion point) - 1)} if there is no
+     *     item for the time period.
      */
     public int getIndex(RegularTimePeriod period) {
         ParamChecks.nullNotPermitted(period, "period");
-        TimeSeriesDataItem dummy = new TimeSeriesDataItem(
-              period, Integer.MIN_VALUE);
-        return Collections.binarySearch(this.data, dummy);
+        if (this.columns != null) {
+            return this.columns.binarySearch(period);
+        }
+        int low = 0;
+        int high = this.data.size() - 1;
+        if (high >= 0) {
+            // most lookups are for the last period or the one after it
+            int c = this.data.get(high).getPeriod().compareTo(period);
+            if (c == 0) {
+                return high;
+            } else if (c < 0) {
+                return -(high + 2);
+            }
+            high--;
+        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = this.data.get(mid).getPeriod().compareTo(period);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
     }
 
     /**
@@ -617,6 +792,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @return The value (possibly {@code null}).
      */
     public Number getValue(int index) {
+        if (this.columns != null) {
+            double value = this.columns.getValue(index);
+            return Double.isNaN(value) ? null : Double.valueOf(value);
+        }
         return getRawDataItem(index).getValue();
     }
 
@@ -655,25 +834,26 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     public void add(TimeSeriesDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
-        item = (TimeSeriesDataItem) item.clone();
+        if (this.columns == null) {
+            item = (TimeSeriesDataItem) item.clone();
+        }
+        checkTimePeriodClass(item.getPeriod());
         Class<? extends TimePeriod> c = item.getPeriod().getClass();
         if (this.timePeriodClass == null) {
             this.timePeriodClass = c;
-        } else if (!this.timePeriodClass.equals(c)) {
-            StringBuilder b = new StringBuilder();
-            b.append("You are trying to add data where the time period class ");
-            b.append("is ");
-            b.append(item.getPeriod().getClass().getName());
-            b.append(", but the TimeSeries is expecting an instance of ");
-            b.append(this.timePeriodClass.getName());
-            b.append(".");
-            throw new SeriesException(b.toString());
         }
 
         // make the change (if it's not a duplicate time period)...
         boolean added;
         int count = getItemCount();
-        if (count == 0) {
+        int index = count;
+        if (this.columns != null) {
+            index = this.columns.insert(item.getPeriod(), valueOf(item));
+            if (index < 0) {
+                throw duplicatePeriodException(item.getPeriod());
+            }
+            added = true;
+        } else if (count == 0) {
             this.data.add(item);
             added = true;
         } else {
@@ -683,36 +863,32 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 added = true;
             }
             else {
-                int index = Collections.binarySearch(this.data, item);
+                index = getIndex(item.getPeriod());
                 if (index < 0) {
-                    this.data.add(-index - 1, item);
+                    index = -index - 1;
+                    this.data.add(index, item);
                     added = true;
                 }
                 else {
-                    StringBuilder b = new StringBuilder();
-                    b.append("You are attempting to add an observation for ");
-                    b.append("the time period ");
-                    b.append(item.getPeriod().toString());
-                    b.append(" but the series already contains an observation");
-                    b.append(" for that time period. Duplicates are not ");
-                    b.append("permitted.  Try using the addOrUpdate() method.");
-                    throw new SeriesException(b.toString());
+                    throw duplicatePeriodException(item.getPeriod());
                 }
             }
         }
         if (added) {
-            updateBoundsForAddedItem(item);
+            updateBoundsForInsertedItem(index, item);
+            int countAfterAdd = getItemCount();
             // check if this addition will exceed the maximum item count...
-            if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+            if (countAfterAdd > this.maximumItemCount) {
+                removeFirstItem();
             }
 
-            removeAgedItems(false);  // remove old items if necessary, but
-                                     // don't notify anyone, because that
-                                     // happens next anyway...
+            removeAgedItems();  // remove old items if necessary, but don't
+                                // notify anyone, because that happens next
+                                // anyway...
+            this.modificationCount++;
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(itemAddedInfo(index,
+                        countAfterAdd - getItemCount()));
             }
         }
 
@@ -771,6 +947,212 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         add(item, notify);
     }
 
+    /**
+     * Adds multiple data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param periods  the time periods ({@code null} not permitted).
+     * @param values  the values ({@code null} not permitted, and must have
+     *     the same length as {@code periods}).
+     *
+     * @see #addAll(RegularTimePeriod[], double[], boolean)
+     */
+    public void addAll(RegularTimePeriod[] periods, double[] values) {
+        addAll(periods, values, true);
+    }
+
+    /**
+     * Adds multiple data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  This is
+     * much faster than adding the items one at a time:  when all the new
+     * periods are later than the last period in the series (the usual case)
+     * the items are simply appended, otherwise they are merged with the
+     * existing items in a single pass.  If the series would exceed its
+     * maximum item count, the oldest items are removed (and aged items are
+     * removed in the usual way).  Nothing is added if an exception is thrown.
+     *
+     * @param periods  the time periods ({@code null} not permitted).
+     * @param values  the values ({@code null} not permitted, and must have
+     *     the same length as {@code periods}).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if a time period is of the wrong class, is
+     *     already in the series, or occurs more than once in the array.
+     */
+    public void addAll(RegularTimePeriod[] periods, double[] values,
+            boolean notify) {
+        ParamChecks.nullNotPermitted(periods, "periods");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (periods.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'periods' and 'values' arrays must have the same "
+                    + "length.");
+        }
+        if (periods.length == 0) {
+            return;
+        }
+        TimeSeriesDataItem[] items = new TimeSeriesDataItem[periods.length];
+        boolean ascending = true;
+        for (int i = 0; i < periods.length; i++) {
+            ParamChecks.nullNotPermitted(periods[i], "periods[" + i + "]");
+            checkTimePeriodClass(periods[i]);
+            if (!periods[i].getClass().equals(periods[0].getClass())) {
+                throw new SeriesException(
+                        "The time periods must all have the same class.");
+            }
+            items[i] = new TimeSeriesDataItem(periods[i], values[i]);
+            if (i > 0 && periods[i].compareTo(periods[i - 1]) <= 0) {
+                ascending = false;
+            }
+        }
+        if (!ascending) {
+            Arrays.sort(items);
+            for (int i = 1; i < items.length; i++) {
+                if (items[i].compareTo(items[i - 1]) == 0) {
+                    throw duplicatePeriodException(items[i].getPeriod());
+                }
+            }
+        }
+        int count = getItemCount();
+        boolean append = count == 0
+                || items[0].getPeriod().compareTo(getTimePeriod(count - 1)) > 0;
+        if (!append) {
+            for (TimeSeriesDataItem item : items) {
+                if (getIndex(item.getPeriod()) >= 0) {
+                    throw duplicatePeriodException(item.getPeriod());
+                }
+            }
+        }
+        if (this.timePeriodClass == null) {
+            this.timePeriodClass = periods[0].getClass();
+        }
+
+        if (append) {
+            if (this.columns != null) {
+                this.columns.ensureCapacity(count + items.length);
+            } else if (this.data instanceof RingBufferList) {
+                ((RingBufferList<TimeSeriesDataItem>) this.data)
+                        .ensureCapacity(count + items.length);
+            }
+            for (TimeSeriesDataItem item : items) {
+                this.data.add(item);
+                updateBoundsForAddedItem(item);
+                if (this.window != null) {
+                    this.window.append(valueOf(item));
+                }
+            }
+        } else {
+            List<TimeSeriesDataItem> merged = new ArrayList<TimeSeriesDataItem>(
+                    count + items.length);
+            int i = 0;
+            int j = 0;
+            while (i < count || j < items.length) {
+                if (j == items.length || (i < count
+                        && this.data.get(i).compareTo(items[j]) < 0)) {
+                    merged.add(this.data.get(i++));
+                } else {
+                    merged.add(items[j++]);
+                }
+            }
+            this.data.clear();
+            this.data.addAll(merged);
+        }
+
+        int countAfterAdd = getItemCount();
+        int remove = countAfterAdd - this.maximumItemCount;
+        if (remove > 0) {
+            this.data.subList(0, remove).clear();
+        }
+        if (!append || (remove > 0 && this.window == null)) {
+            updateMinMaxYByIteration();
+        } else if (remove > 0) {
+            for (int i = 0; i < remove; i++) {
+                this.window.removeFirst();
+            }
+            this.minY = this.window.getMinimum();
+            this.maxY = this.window.getMaximum();
+        }
+        removeAgedItems();
+        this.modificationCount++;
+        if (notify) {
+            SeriesChangeInfo info = null;
+            if (append) {
+                int itemCount = getItemCount();
+                info = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED,
+                        Math.max(itemCount - items.length, 0), itemCount - 1,
+                        countAfterAdd - itemCount);
+            }
+            fireSeriesChanged(info);
+        }
+    }
+
+    /**
+     * Returns a description of the change to the series after an item has
+     * been inserted at the specified index and then the specified number of
+     * items has been removed from the start of the series.
+     *
+     * @param index  the index at which the item was inserted.
+     * @param removed  the number of items removed from the start of the
+     *     series.
+     *
+     * @return The change info ({@code null} if the change can't be described
+     *     as a single range of items).
+     */
+    private SeriesChangeInfo itemAddedInfo(int index, int removed) {
+        int count = getItemCount();
+        if (index - removed == count - 1) {
+            return new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED,
+                    count - 1, count - 1, removed);
+        }
+        if (removed == 0) {
+            return new SeriesChangeInfo(SeriesChangeType.ITEMS_INSERTED,
+                    index, index);
+        }
+        return null;
+    }
+
+    /**
+     * Throws an exception if the specified time period is not an instance
+     * of the class used for the time periods in this series.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     *
+     * @throws SeriesException if the time period has the wrong class.
+     */
+    private void checkTimePeriodClass(RegularTimePeriod period) {
+        if (this.timePeriodClass != null
+                && !this.timePeriodClass.equals(period.getClass())) {
+            StringBuilder b = new StringBuilder();
+            b.append("You are trying to add data where the time period class ");
+            b.append("is ");
+            b.append(period.getClass().getName());
+            b.append(", but the TimeSeries is expecting an instance of ");
+            b.append(this.timePeriodClass.getName());
+            b.append(".");
+            throw new SeriesException(b.toString());
+        }
+    }
+
+    /**
+     * Creates the exception that is thrown when an attempt is made to add a
+     * data item for a time period that is already in the series.
+     *
+     * @param period  the time period.
+     *
+     * @return The exception.
+     */
+    private static SeriesException duplicatePeriodException(
+            RegularTimePeriod period) {
+        StringBuilder b = new StringBuilder();
+        b.append("You are attempting to add an observation for ");
+        b.append("the time period ");
+        b.append(period.toString());
+        b.append(" but the series already contains an observation");
+        b.append(" for that time period. Duplicates are not ");
+        b.append("permitted.  Try using the addOrUpdate() method.");
+        return new SeriesException(b.toString());
+    }
+
     /**
      * Updates (changes) the value for a time period.  Throws a
      * {@link SeriesException} if the period does not exist.
@@ -781,7 +1163,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.14
      */
     public void update(RegularTimePeriod period, double value) {
-      update(period, new Double(value));
+      update(period, Double.valueOf(value));
     }
 
     /**
@@ -792,8 +1174,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param value  the value ({@code null} permitted).
      */
     public void update(RegularTimePeriod period, Number value) {
-        TimeSeriesDataItem temp = new TimeSeriesDataItem(period, value);
-        int index = Collections.binarySearch(this.data, temp);
+        int index = getIndex(period);
         if (index < 0) {
             throw new SeriesException("There is no existing value for the "
                     + "specified 'period'.");
@@ -808,25 +1189,20 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param value  the new value ({@code null} permitted).
      */
     public void update(int index, Number value) {
-        TimeSeriesDataItem item = this.data.get(index);
-        boolean iterate = false;
-        Number oldYN = item.getValue();
-        if (oldYN != null) {
-            double oldY = oldYN.doubleValue();
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
-        }
-        item.setValue(value);
-        if (iterate) {
-            updateMinMaxYByIteration();
-        }
-        else if (value != null) {
-            double yy = value.doubleValue();
-            this.minY = minIgnoreNaN(this.minY, yy);
-            this.maxY = maxIgnoreNaN(this.maxY, yy);
+        double oldY;
+        if (this.columns != null) {
+            oldY = this.columns.getValue(index);
+            this.columns.setValue(index, value != null ? value.doubleValue()
+                    : Double.NaN);
+        } else {
+            TimeSeriesDataItem item = this.data.get(index);
+            oldY = valueOf(item);
+            item.setValue(value);
         }
-        fireSeriesChanged();
+        updateBoundsForUpdatedValue(index, oldY,
+                value != null ? value.doubleValue() : Double.NaN);
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED,
+                index, index));
     }
 
     /**
@@ -864,7 +1240,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     public TimeSeriesDataItem addOrUpdate(RegularTimePeriod period,
                                           double value) {
-        return addOrUpdate(period, new Double(value));
+        return addOrUpdate(period, Double.valueOf(value));
     }
 
     /**
@@ -909,44 +1285,46 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new SeriesException(msg);
         }
         TimeSeriesDataItem overwritten = null;
-        int index = Collections.binarySearch(this.data, item);
+        int index = getIndex(item.getPeriod());
+        int countAfterAdd = getItemCount();
+        SeriesChangeInfo info = null;
         if (index >= 0) {
             TimeSeriesDataItem existing
                     = this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
-            // figure out if we need to iterate through all the y-values
-            // to find the revised minY / maxY
-            boolean iterate = false;
-            Number oldYN = existing.getValue();
-            double oldY = oldYN != null ? oldYN.doubleValue() : Double.NaN;
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
+            double oldY = valueOf(existing);
             existing.setValue(item.getValue());
-            if (iterate) {
-                updateMinMaxYByIteration();
-            }
-            else if (item.getValue() != null) {
-                double yy = item.getValue().doubleValue();
-                this.minY = minIgnoreNaN(this.minY, yy);
-                this.maxY = maxIgnoreNaN(this.maxY, yy);
+            if (this.columns != null) {
+                this.columns.setValue(index, valueOf(existing));
             }
+            updateBoundsForUpdatedValue(index, oldY, valueOf(existing));
+            info = new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, index,
+                    index);
         }
         else {
+            index = -index - 1;
             item = (TimeSeriesDataItem) item.clone();
-            this.data.add(-index - 1, item);
-            updateBoundsForAddedItem(item);
+            this.data.add(index, item);
+            updateBoundsForInsertedItem(index, item);
+            countAfterAdd = getItemCount();
 
             // check if this addition will exceed the maximum item count...
-            if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+            if (countAfterAdd > this.maximumItemCount) {
+                removeFirstItem();
             }
         }
-        removeAgedItems(false);  // remove old items if necessary, but
-                                 // don't notify anyone, because that
-                                 // happens next anyway...
-        fireSeriesChanged();
+        int removed = removeAgedItems();  // remove old items if necessary,
+                                          // but don't notify anyone, because
+                                          // that happens next anyway...
+        if (overwritten == null || removed > 0) {
+            this.modificationCount++;
+        }
+        if (overwritten == null) {
+            info = itemAddedInfo(index, countAfterAdd - getItemCount());
+        } else if (countAfterAdd != getItemCount()) {
+            info = null;
+        }
+        fireSeriesChanged(info);
         return overwritten;
 
     }
@@ -960,23 +1338,35 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *                sent to registered listeners IF any items are removed.
      */
     public void removeAgedItems(boolean notify) {
+        int removed = removeAgedItems();
+        if (removed > 0) {
+            this.modificationCount++;
+            if (notify) {
+                fireSeriesChanged(new SeriesChangeInfo(
+                        SeriesChangeType.ITEMS_REMOVED, 0, removed - 1));
+            }
+        }
+    }
+
+    /**
+     * Removes the items that are older than the maximum item age (relative
+     * to the last item in the series).  No change event is sent.
+     *
+     * @return The number of items removed.
+     */
+    private int removeAgedItems() {
         // check if there are any values earlier than specified by the history
         // count...
-        if (getItemCount() > 1) {
+        int removed = 0;
+        if (getItemCount() > 1 && this.maximumItemAge < Long.MAX_VALUE) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
-                removed = true;
-            }
-            if (removed) {
-                updateMinMaxYByIteration();
-                if (notify) {
-                    fireSeriesChanged();
-                }
+                removeFirstItem();
+                removed++;
             }
         }
+        return removed;
     }
 
     /**
@@ -1001,16 +1391,17 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
+        int removed = 0;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
-            removed = true;
+            removeFirstItem();
+            removed++;
         }
-        if (removed) {
-            updateMinMaxYByIteration();
+        if (removed > 0) {
+            this.modificationCount++;
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(new SeriesChangeInfo(
+                        SeriesChangeType.ITEMS_REMOVED, 0, removed - 1));
             }
         }
     }
@@ -1022,9 +1413,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            if (this.window != null) {
+                this.window.clear();
+            }
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
+            this.modificationCount++;
             fireSeriesChanged();
         }
     }
@@ -1040,13 +1435,22 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void delete(RegularTimePeriod period) {
         int index = getIndex(period);
         if (index >= 0) {
-            TimeSeriesDataItem item = this.data.remove(
-                    index);
-            updateBoundsForRemovedItem(item);
+            if (index == 0) {
+                removeFirstItem();
+            } else {
+                TimeSeriesDataItem item = this.data.remove(index);
+                if (this.window != null) {
+                    updateMinMaxYByIteration();
+                } else {
+                    updateBoundsForRemovedValue(valueOf(item));
+                }
+            }
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
             }
-            fireSeriesChanged();
+            this.modificationCount++;
+            fireSeriesChanged(new SeriesChangeInfo(
+                    SeriesChangeType.ITEMS_REMOVED, index, index));
         }
     }
 
@@ -1073,15 +1477,15 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (end < start) {
             throw new IllegalArgumentException("Requires start <= end.");
         }
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
-        }
+        this.data.subList(start, end + 1).clear();
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
         }
+        this.modificationCount++;
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(new SeriesChangeInfo(
+                    SeriesChangeType.ITEMS_REMOVED, start, end));
         }
     }
 
@@ -1103,7 +1507,15 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
-        clone.data = ObjectUtils.deepClone(this.data);
+        if (this.columns != null) {
+            clone.columns = this.columns.clone();
+            clone.data = clone.columns;
+        } else {
+            clone.data = ObjectUtils.deepClone(this.data);
+        }
+        if (this.window != null) {
+            clone.window = (SlidingWindowMinMax) this.window.clone();
+        }
         return clone;
     }
 
@@ -1130,7 +1542,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         TimeSeries copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
-        copy.data = new java.util.ArrayList<TimeSeriesDataItem>();
+        copy.data = createEmptyList(copy);
+        if (this.window != null) {
+            copy.window = new SlidingWindowMinMax();
+        }
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -1188,12 +1603,34 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
-            copy.data = new java.util.ArrayList<TimeSeriesDataItem>();
+            copy.minY = Double.NaN;
+            copy.maxY = Double.NaN;
+            copy.data = createEmptyList(copy);
+            if (this.window != null) {
+                copy.window = new SlidingWindowMinMax();
+            }
             return copy;
         }
         return createCopy(startIndex, endIndex);
     }
 
+    /**
+     * Creates an empty list for the items in a copy of this series, using
+     * the same storage mode as this series.
+     *
+     * @param copy  the copy ({@code null} not permitted).
+     *
+     * @return The list.
+     */
+    private List<TimeSeriesDataItem> createEmptyList(TimeSeries copy) {
+        if (this.columns != null) {
+            copy.columns = new TimeSeriesDataColumns(
+                    this.columns.getTimeZone(), this.columns.getLocale());
+            return copy.columns;
+        }
+        return new RingBufferList<TimeSeriesDataItem>();
+    }
+
     /**
      * Tests the series for equality with an arbitrary object.
      *
@@ -1289,24 +1726,91 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
     /**
      * Updates the cached values for the minimum and maximum data values on
-     * the basis that the specified item has just been removed.
+     * the basis that an item with the specified value has just been removed.
      *
-     * @param item  the item added ({@code null} not permitted).
-     *
-     * @since 1.0.14
+     * @param y  the value of the item removed ({@code Double.NaN} for a
+     *     {@code null} value).
      */
-    private void updateBoundsForRemovedItem(TimeSeriesDataItem item) {
-        Number yN = item.getValue();
-        if (yN != null) {
-            double y = yN.doubleValue();
-            if (!Double.isNaN(y)) {
-                if (y <= this.minY || y >= this.maxY) {
-                    updateMinMaxYByIteration();
-                }
+    private void updateBoundsForRemovedValue(double y) {
+        if (!Double.isNaN(y)) {
+            if (y <= this.minY || y >= this.maxY) {
+                updateMinMaxYByIteration();
             }
         }
     }
 
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been inserted into the
+     * series at the specified index.
+     *
+     * @param index  the index of the new item.
+     * @param item  the item added ({@code null} not permitted).
+     */
+    private void updateBoundsForInsertedItem(int index,
+            TimeSeriesDataItem item) {
+        if (this.window == null) {
+            updateBoundsForAddedItem(item);
+        } else if (index == this.data.size() - 1) {
+            updateBoundsForAddedItem(item);
+            this.window.append(valueOf(item));
+        } else {
+            // the window only supports appending at the end of the series
+            updateMinMaxYByIteration();
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the value of an item has just been changed.  When the
+     * series has a maximum item count or age, the sliding window is updated
+     * in place, otherwise the items are only iterated over when the old
+     * value was the minimum or maximum.
+     *
+     * @param index  the index of the item.
+     * @param oldY  the previous value ({@code Double.NaN} for a
+     *     {@code null} value).
+     * @param newY  the new value ({@code Double.NaN} for a {@code null}
+     *     value).
+     */
+    private void updateBoundsForUpdatedValue(int index, double oldY,
+            double newY) {
+        if (this.window != null) {
+            this.window.set(index, newY);
+            this.minY = this.window.getMinimum();
+            this.maxY = this.window.getMaximum();
+        } else if (!Double.isNaN(oldY)
+                && (oldY <= this.minY || oldY >= this.maxY)) {
+            updateMinMaxYByIteration();
+        } else {
+            this.minY = minIgnoreNaN(this.minY, newY);
+            this.maxY = maxIgnoreNaN(this.maxY, newY);
+        }
+    }
+
+    /**
+     * Removes the first (oldest) item in the series and updates the cached
+     * values for the minimum and maximum data values.  When the series has a
+     * maximum item count or age, this doesn't require any iteration through
+     * the data items.  No change event is sent.
+     */
+    private void removeFirstItem() {
+        double y;
+        if (this.columns != null) {
+            y = this.columns.getValue(0);
+            this.columns.removeRange(0, 1);
+        } else {
+            y = valueOf(this.data.remove(0));
+        }
+        if (this.window != null) {
+            this.window.removeFirst();
+            this.minY = this.window.getMinimum();
+            this.maxY = this.window.getMaximum();
+        } else {
+            updateBoundsForRemovedValue(y);
+        }
+    }
+
     /**
      * Finds the bounds of the x and y values for the series, by iterating
      * through all the data items.
@@ -1316,12 +1820,33 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     private void updateMinMaxYByIteration() {
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
-        for (TimeSeriesDataItem aData : this.data) {
-            TimeSeriesDataItem item = aData;
-            updateBoundsForAddedItem(item);
+        if (this.window != null) {
+            this.window.clear();
+        }
+        int count = this.data.size();
+        for (int i = 0; i < count; i++) {
+            double y = this.columns != null ? this.columns.getValue(i)
+                    : valueOf(this.data.get(i));
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+            if (this.window != null) {
+                this.window.append(y);
+            }
         }
     }
 
+    /**
+     * Returns the value of a data item as a double primitive.
+     *
+     * @param item  the item ({@code null} not permitted).
+     *
+     * @return The value ({@code Double.NaN} for a {@code null} value).
+     */
+    private static double valueOf(TimeSeriesDataItem item) {
+        Number value = item.getValue();
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * -------------------------
  * TimeSeriesCollection.java
  * -------------------------
- * (C) Copyright 2001-2014, by Object Refinery Limited.
+ * (C) Copyright 2001-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -85,6 +85,10 @@
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 23-Feb-2014 : Improve implementation of getRangeBounds() (DG);
+ * 17-Oct-2026 : Cache the x-values for each series so that they can be read
+ *               without locking or calendar arithmetic (agent);
+ * 17-Oct-2026 : Check the series modification count before using the
+ *               cached x-values (agent);
  *
  */
 
@@ -107,6 +111,9 @@ import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -118,6 +125,17 @@ import org.jfree.data.xy.XYRangeInfo;
  * {@link XYDataset} interface, as well as the extended
  * {@link IntervalXYDataset} interface.  This makes it a convenient dataset for
  * use with the {@link org.jfree.chart.plot.XYPlot} class.
+ * <P>
+ * The first and last millisecond of each time period are cached by the
+ * collection (the cache is built when the x-values for a series are first
+ * requested, extended when items are appended to the series and discarded
+ * after any other change that moves the time periods), so that the methods
+ * that return x-values read them from an array instead of recalculating them
+ * with a {@code Calendar}.  These methods don't lock the collection, so
+ * several threads can read the x-values at the same time (but, as for the
+ * other datasets, the series should not be changed while they are being
+ * read).  The middle of a time period is calculated in the same way as
+ * {@link RegularTimePeriod#getMiddleMillisecond(Calendar)}.
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
@@ -139,6 +157,13 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     private TimePeriodAnchor xPosition;
 
+    /**
+     * The cached x-values for each series (the array, if not {@code null},
+     * has one element for each series, and an element is {@code null} until
+     * the cache for that series is built).
+     */
+    private transient volatile XCache[] xCaches;
+
     /**
      * Constructs an empty dataset, tied to the default timezone.
      */
@@ -339,6 +364,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     public void addSeries(TimeSeries series) {
         ParamChecks.nullNotPermitted(series, "series");
         this.data.add(series);
+        this.xCaches = null;
         series.addChangeListener(this);
         series.addVetoableChangeListener(this);
         fireDatasetChanged();
@@ -353,6 +379,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     public void removeSeries(TimeSeries series) {
         ParamChecks.nullNotPermitted(series, "series");
         this.data.remove(series);
+        this.xCaches = null;
         series.removeChangeListener(this);
         series.removeVetoableChangeListener(this);
         fireDatasetChanged();
@@ -385,6 +412,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
 
         // remove all the series from the collection and notify listeners.
         this.data.clear();
+        this.xCaches = null;
         fireDatasetChanged();
 
     }
@@ -412,9 +440,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public double getXValue(int series, int item) {
-        TimeSeries s = this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return getXCache(series).getX(item, this.xPosition);
     }
 
     /**
@@ -427,9 +453,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getX(int series, int item) {
-        TimeSeries ts = this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return getX(period);
+        return getXCache(series).getX(item, this.xPosition);
     }
 
     /**
@@ -462,10 +486,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
-        TimeSeries ts = this.data.get(series);
-        return ts.getTimePeriod(item).getFirstMillisecond(
-                this.workingCalendar);
+    public Number getStartX(int series, int item) {
+        return getXCache(series).getStart(item);
     }
 
     /**
@@ -477,10 +499,166 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
-        TimeSeries ts = this.data.get(series);
-        return ts.getTimePeriod(item).getLastMillisecond(
-                this.workingCalendar);
+    public Number getEndX(int series, int item) {
+        return getXCache(series).getEnd(item);
+    }
+
+    /**
+     * Returns the cached x-values for a series, building the cache if
+     * necessary.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The cached x-values (never {@code null}).
+     */
+    private XCache getXCache(int series) {
+        XCache[] caches = this.xCaches;
+        if (caches == null || caches.length != this.data.size()) {
+            caches = new XCache[this.data.size()];
+            this.xCaches = caches;
+        }
+        TimeSeries s = this.data.get(series);
+        XCache cache = caches[series];
+        if (cache == null || cache.count != s.getItemCount()
+                || cache.modificationCount != s.getModificationCount()) {
+            // if another thread builds the same cache at the same time, one
+            // of the (identical) results is simply discarded
+            cache = createXCache(s);
+            caches[series] = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Creates the cached x-values for a series.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The cached x-values.
+     */
+    private synchronized XCache createXCache(TimeSeries series) {
+        int modificationCount = series.getModificationCount();
+        int count = series.getItemCount();
+        XCache cache = new XCache(new long[Math.max(count, 1)],
+                new long[Math.max(count, 1)], 0, 0, modificationCount);
+        return appendToXCache(cache, series, 0, count - 1);
+    }
+
+    /**
+     * Returns a cache that contains the x-values in an existing cache plus
+     * the x-values for the specified items in a series.  The existing cache
+     * is not changed.  This method must be called while holding the lock on
+     * this collection (the working calendar is used).
+     *
+     * @param cache  the existing cache ({@code null} not permitted).
+     * @param series  the series ({@code null} not permitted).
+     * @param start  the index of the first item to append.
+     * @param end  the index of the last item to append.
+     *
+     * @return The new cache.
+     */
+    private XCache appendToXCache(XCache cache, TimeSeries series, int start,
+            int end) {
+        int n = end - start + 1;
+        long[] first = cache.first;
+        long[] last = cache.last;
+        int offset = cache.offset;
+        if (offset + cache.count + n > first.length) {
+            // copy the items to new arrays, since the positions after the
+            // items in the existing arrays might be read through other caches
+            int capacity = Math.max(cache.count + n,
+                    (cache.count + n) * 3 / 2);
+            first = new long[capacity];
+            last = new long[capacity];
+            System.arraycopy(cache.first, offset, first, 0, cache.count);
+            System.arraycopy(cache.last, offset, last, 0, cache.count);
+            offset = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            RegularTimePeriod period = series.getTimePeriod(start + i);
+            int p = offset + cache.count + i;
+            first[p] = period.getFirstMillisecond(this.workingCalendar);
+            last[p] = period.getLastMillisecond(this.workingCalendar);
+        }
+        return new XCache(first, last, offset, cache.count + n,
+                cache.modificationCount);
+    }
+
+    /**
+     * Returns the cache that reflects a change to a series, based on the
+     * cache from before the change.  The existing cache is only updated if
+     * the change is the only change to the time periods in the series since
+     * the cache was created (otherwise a change made without notification
+     * could be missed).
+     *
+     * @param cache  the cache from before the change ({@code null}
+     *     permitted).
+     * @param series  the series ({@code null} not permitted).
+     * @param info  a description of the change ({@code null} permitted).
+     *
+     * @return The cache after the change, or {@code null} if the cache
+     *     can't be updated (so that it will be rebuilt when required).
+     */
+    private synchronized XCache updateXCache(XCache cache, TimeSeries series,
+            SeriesChangeInfo info) {
+        if (cache == null) {
+            return null;
+        }
+        int modificationCount = series.getModificationCount();
+        if (modificationCount == cache.modificationCount) {
+            // the values changed but the time periods did not
+            return cache;
+        }
+        if (info == null
+                || modificationCount != cache.modificationCount + 1) {
+            return null;
+        }
+        XCache result = null;
+        SeriesChangeType type = info.getType();
+        if (type == SeriesChangeType.ITEMS_REMOVED
+                && info.getStartIndex() == 0
+                && info.getEndIndex() < cache.count) {
+            result = cache.removeFirst(info.getEndIndex() + 1);
+        } else if (type == SeriesChangeType.ITEMS_APPENDED
+                && info.getRemovedFromStart() <= cache.count) {
+            result = cache.removeFirst(info.getRemovedFromStart());
+            if (result.count == info.getStartIndex()) {
+                result = appendToXCache(result, series, info.getStartIndex(),
+                        info.getEndIndex());
+            } else {
+                result = null;
+            }
+        }
+        if (result != null) {
+            if (result.count == series.getItemCount()) {
+                result = result.withModificationCount(modificationCount);
+            } else {
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Receives notification that a series has changed, updates (or
+     * discards) the cached x-values for the series and passes the
+     * notification on to the dataset's listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        XCache[] caches = this.xCaches;
+        if (caches != null && caches.length == this.data.size()) {
+            for (int i = 0; i < caches.length; i++) {
+                TimeSeries series = this.data.get(i);
+                if (series == event.getSource()) {
+                    caches[i] = updateXCache(caches[i], series,
+                            event.getChangeInfo());
+                }
+            }
+        }
+        super.seriesChanged(event);
     }
 
     /**
@@ -598,21 +776,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Range getDomainBounds(boolean includeInterval) {
         Range result = null;
-        for (TimeSeries series : this.data) {
-            int count = series.getItemCount();
-            if (count > 0) {
-                RegularTimePeriod start = series.getTimePeriod(0);
-                RegularTimePeriod end = series.getTimePeriod(count - 1);
-                Range temp;
-                if (!includeInterval) {
-                    temp = new Range(getX(start), getX(end));
-                } else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
-                }
-                result = Range.combine(result, temp);
-            }
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result, getDomainBounds(s,
+                    includeInterval));
         }
         return result;
     }
@@ -632,25 +798,33 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
             boolean includeInterval) {
         Range result = null;
         for (Comparable seriesKey : visibleSeriesKeys) {
-            TimeSeries series = getSeries(seriesKey);
-            int count = series.getItemCount();
-            if (count > 0) {
-                RegularTimePeriod start = series.getTimePeriod(0);
-                RegularTimePeriod end = series.getTimePeriod(count - 1);
-                Range temp;
-                if (!includeInterval) {
-                    temp = new Range(getX(start), getX(end));
-                } else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
-                }
-                result = Range.combine(result, temp);
-            }
+            result = Range.combine(result, getDomainBounds(
+                    getSeriesIndex(seriesKey), includeInterval));
         }
         return result;
     }
 
+    /**
+     * Returns the bounds of the x-values for one series.
+     *
+     * @param series  the series index (zero-based).
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The range (possibly {@code null}).
+     */
+    private Range getDomainBounds(int series, boolean includeInterval) {
+        XCache cache = getXCache(series);
+        int count = cache.count;
+        if (count == 0) {
+            return null;
+        }
+        if (includeInterval) {
+            return new Range(cache.getStart(0), cache.getEnd(count - 1));
+        }
+        return new Range(cache.getX(0, this.xPosition),
+                cache.getX(count - 1, this.xPosition));
+    }
+
     /**
      * Returns the bounds for the y-values in the dataset.
      *
@@ -682,16 +856,68 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Range getRangeBounds(List<Comparable> visibleSeriesKeys, 
             Range xRange, boolean includeInterval) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
         Range result = null;
         for (Comparable seriesKey : visibleSeriesKeys) {
-            TimeSeries series = getSeries(seriesKey);
-            Range r = series.findValueRange(xRange, this.xPosition, 
-                    this.workingCalendar.getTimeZone());
+            int series = getSeriesIndex(seriesKey);
+            Range r = findValueRange(series, xRange);
             result = Range.combineIgnoringNaN(result, r);
         }
         return result;
     }
 
+    /**
+     * Returns the range of the y-values for the items in a series that have
+     * an x-value within the specified range.  Since the x-values are in
+     * ascending order, the first and last of these items are found with a
+     * binary search.  The result is the same as the result of
+     * {@link TimeSeries#findValueRange(Range, TimePeriodAnchor, TimeZone)}.
+     *
+     * @param series  the series index (zero-based).
+     * @param xRange  the range of x-values ({@code null} not permitted).
+     *
+     * @return The range of y-values (possibly {@code null}).
+     */
+    private Range findValueRange(int series, Range xRange) {
+        XCache cache = getXCache(series);
+        if (cache.count == 0) {
+            return null;
+        }
+        TimeSeries ts = this.data.get(series);
+        TimePeriodAnchor anchor = this.xPosition;
+        int low = 0;
+        int high = cache.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cache.getX(mid, anchor) < xRange.getLowerBound()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        double lowY = Double.POSITIVE_INFINITY;
+        double highY = Double.NEGATIVE_INFINITY;
+        for (int i = low; i < cache.count
+                && cache.getX(i, anchor) <= xRange.getUpperBound(); i++) {
+            Number n = ts.getValue(i);
+            if (n != null) {
+                double v = n.doubleValue();
+                if (!Double.isNaN(v)) {
+                    lowY = Math.min(lowY, v);
+                    highY = Math.max(highY, v);
+                }
+            }
+        }
+        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
+            if (lowY < highY) {
+                return new Range(lowY, highY);
+            } else {
+                return new Range(Double.NaN, Double.NaN);
+            }
+        }
+        return new Range(lowY, highY);
+    }
+
     /**
      * Receives notification that the key for one of the series in the 
      * collection has changed, and vetos it if the key is already present in 
@@ -777,7 +1003,141 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         TimeSeriesCollection clone = (TimeSeriesCollection) super.clone();
         clone.data = ObjectUtils.deepClone(this.data);
         clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.xCaches = null;
         return clone;
     }
 
+    /**
+     * The cached first and last milliseconds of the time periods in a
+     * series.  An instance is never changed after it has been created
+     * (although a new instance can share the arrays and add items after the
+     * last item of this instance), so it can be read by several threads
+     * without locking.
+     */
+    private static final class XCache {
+
+        /** The first millisecond of each time period. */
+        final long[] first;
+
+        /** The last millisecond of each time period. */
+        final long[] last;
+
+        /** The position of the first item in the arrays. */
+        final int offset;
+
+        /** The number of items. */
+        final int count;
+
+        /** The modification count of the series that the cache reflects. */
+        final int modificationCount;
+
+        /**
+         * Creates a new cache.
+         *
+         * @param first  the first milliseconds.
+         * @param last  the last milliseconds.
+         * @param offset  the position of the first item in the arrays.
+         * @param count  the number of items.
+         * @param modificationCount  the modification count of the series.
+         */
+        XCache(long[] first, long[] last, int offset, int count,
+                int modificationCount) {
+            this.first = first;
+            this.last = last;
+            this.offset = offset;
+            this.count = count;
+            this.modificationCount = modificationCount;
+        }
+
+        /**
+         * Returns the first millisecond of the time period for an item.
+         *
+         * @param item  the item index (zero-based).
+         *
+         * @return The first millisecond.
+         */
+        long getStart(int item) {
+            checkIndex(item);
+            return this.first[this.offset + item];
+        }
+
+        /**
+         * Returns the last millisecond of the time period for an item.
+         *
+         * @param item  the item index (zero-based).
+         *
+         * @return The last millisecond.
+         */
+        long getEnd(int item) {
+            checkIndex(item);
+            return this.last[this.offset + item];
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param item  the item index (zero-based).
+         * @param anchor  the position within the time period.
+         *
+         * @return The x-value.
+         */
+        long getX(int item, TimePeriodAnchor anchor) {
+            checkIndex(item);
+            long m1 = this.first[this.offset + item];
+            if (anchor == TimePeriodAnchor.START) {
+                return m1;
+            }
+            long m2 = this.last[this.offset + item];
+            if (anchor == TimePeriodAnchor.END) {
+                return m2;
+            }
+            return m1 + (m2 - m1) / 2;
+        }
+
+        /**
+         * Returns a cache that contains all but the first {@code n} items
+         * of this cache.
+         *
+         * @param n  the number of items to drop.
+         *
+         * @return The cache.
+         */
+        XCache removeFirst(int n) {
+            if (n == 0) {
+                return this;
+            }
+            return new XCache(this.first, this.last, this.offset + n,
+                    this.count - n, this.modificationCount);
+        }
+
+        /**
+         * Returns a cache with the same items as this cache and the
+         * specified modification count.
+         *
+         * @param m  the modification count.
+         *
+         * @return The cache.
+         */
+        XCache withModificationCount(int m) {
+            if (m == this.modificationCount) {
+                return this;
+            }
+            return new XCache(this.first, this.last, this.offset, this.count,
+                    m);
+        }
+
+        /**
+         * Checks that an item index is valid.
+         *
+         * @param item  the item index.
+         */
+        private void checkIndex(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index: " + item
+                        + ", Size: " + this.count);
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,646 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * TimeSeriesDataColumns.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ * 17-Oct-2026 : Check the last item first in binarySearch() (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.TimeZone;
+
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A list of {@link TimeSeriesDataItem} objects that is backed by two growable
+ * arrays of primitives:  one holding the first millisecond of each time
+ * period and one holding the values.  The class of the time periods, the
+ * time zone and the locale are recorded once for the whole list, and time
+ * periods and data items are created on demand when they are requested
+ * through the {@code List} interface.  The millisecond and value for an item
+ * can also be read directly (without any allocation) via the
+ * {@link #getMillisecond(int)} and {@link #getValue(int)} methods.
+ * <P>
+ * The first millisecond of each time period is calculated in the time zone
+ * of the list, and the time periods that are created on demand are
+ * constructed in the same time zone (and locale), so they are equal to the
+ * time periods that were added.
+ * <P>
+ * The arrays are used as circular buffers, so that items can be added to or
+ * removed from either end of the list in constant time.
+ * <P>
+ * A {@code null} value is stored as {@code Double.NaN}, so items created by
+ * this list report a {@code null} value for any {@code Double.NaN} that was
+ * stored.
+ * <P>
+ * This class is used by {@link TimeSeries} to implement the columnar storage
+ * mode.
+ */
+class TimeSeriesDataColumns extends AbstractList<TimeSeriesDataItem>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1848395836151260271L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The time zone used to convert between periods and milliseconds. */
+    private TimeZone zone;
+
+    /** The locale used to convert between periods and milliseconds. */
+    private Locale locale;
+
+    /**
+     * The class of the time periods in the list (or {@code null} if no item
+     * has been added yet).
+     */
+    private Class<? extends RegularTimePeriod> periodClass;
+
+    /** Storage for the first millisecond of each time period. */
+    private long[] millis;
+
+    /** Storage for the values ({@code Double.NaN} for null). */
+    private double[] values;
+
+    /** The position of the first item in the storage arrays. */
+    private int head;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /** A calendar for the time zone and locale (created when needed). */
+    private transient Calendar calendar;
+
+    /**
+     * Creates a new empty list with the default initial capacity.
+     *
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     */
+    public TimeSeriesDataColumns(TimeZone zone, Locale locale) {
+        this(zone, locale, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     * @param initialCapacity  the initial capacity (must be non-negative).
+     */
+    public TimeSeriesDataColumns(TimeZone zone, Locale locale,
+            int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative 'initialCapacity' "
+                    + "argument.");
+        }
+        this.zone = zone;
+        this.locale = locale;
+        this.millis = new long[Math.max(initialCapacity, 1)];
+        this.values = new double[Math.max(initialCapacity, 1)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the time zone used to convert between time periods and
+     * milliseconds.
+     *
+     * @return The time zone (never {@code null}).
+     */
+    public TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the locale used to convert between time periods and
+     * milliseconds.
+     *
+     * @return The locale (never {@code null}).
+     */
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The number of items in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the first millisecond of the time period for an item in the
+     * list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The first millisecond of the time period.
+     */
+    public long getMillisecond(int index) {
+        checkIndex(index);
+        return this.millis[position(index)];
+    }
+
+    /**
+     * Returns the value for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    public double getValue(int index) {
+        checkIndex(index);
+        return this.values[position(index)];
+    }
+
+    /**
+     * Sets the value for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     * @param value  the new value ({@code Double.NaN} for a missing value).
+     */
+    public void setValue(int index, double value) {
+        checkIndex(index);
+        this.values[position(index)] = value;
+    }
+
+    /**
+     * Returns a new time period for the item at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return A new time period (never {@code null}).
+     */
+    public RegularTimePeriod getTimePeriod(int index) {
+        return createPeriod(getMillisecond(index));
+    }
+
+    /**
+     * Returns a new data item for the item at the specified index.  Changes
+     * to the returned item are not reflected in this list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return A new data item (never {@code null}).
+     */
+    @Override
+    public TimeSeriesDataItem get(int index) {
+        checkIndex(index);
+        int p = position(index);
+        double value = this.values[p];
+        return new TimeSeriesDataItem(createPeriod(this.millis[p]),
+                Double.isNaN(value) ? null : Double.valueOf(value));
+    }
+
+    /**
+     * Replaces the item at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     * @param item  the item ({@code null} not permitted).
+     *
+     * @return The item that was replaced.
+     */
+    @Override
+    public TimeSeriesDataItem set(int index, TimeSeriesDataItem item) {
+        TimeSeriesDataItem result = get(index);
+        int p = position(index);
+        this.millis[p] = getMillisecond(item.getPeriod());
+        this.values[p] = valueOf(item);
+        return result;
+    }
+
+    /**
+     * Inserts an item into the list at the specified index.  The caller is
+     * responsible for keeping the items in ascending order of time period.
+     *
+     * @param index  the index (in the range {@code 0} to {@code size()}).
+     * @param item  the item ({@code null} not permitted).
+     */
+    @Override
+    public void add(int index, TimeSeriesDataItem item) {
+        RegularTimePeriod period = item.getPeriod();
+        if (this.size == 0) {
+            setPeriodClass(period.getClass());
+        }
+        add(index, getMillisecond(period), valueOf(item));
+    }
+
+    /**
+     * Inserts an item for the specified time period into the list, at the
+     * index that keeps the items in ascending order of time period.  When
+     * the time period is later than the last time period in the list (the
+     * usual case), the item is appended without any searching.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     *
+     * @return The index of the new item, or {@code -1} if the list already
+     *     contains an item for the time period (in which case nothing is
+     *     added).
+     */
+    public int insert(RegularTimePeriod period, double value) {
+        if (this.size == 0) {
+            setPeriodClass(period.getClass());
+        }
+        long m = getMillisecond(period);
+        int index = this.size;
+        if (this.size > 0 && m <= this.millis[position(this.size - 1)]) {
+            index = binarySearch(m);
+            if (index >= 0) {
+                return -1;
+            }
+            index = -index - 1;
+        }
+        add(index, m, value);
+        return index;
+    }
+
+    /**
+     * Inserts an item into the list at the specified index.
+     *
+     * @param index  the index (in the range {@code 0} to {@code size()}).
+     * @param m  the first millisecond of the time period.
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     */
+    private void add(int index, long m, double value) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        ensureCapacity(this.size + 1);
+        if (index < this.size - index) {
+            // move the leading items one place towards the front
+            this.head = (this.head == 0 ? this.millis.length : this.head) - 1;
+            for (int i = 0; i < index; i++) {
+                move(i + 1, i);
+            }
+        } else {
+            // move the trailing items one place towards the back
+            for (int i = this.size; i > index; i--) {
+                move(i - 1, i);
+            }
+        }
+        int p = position(index);
+        this.millis[p] = m;
+        this.values[p] = value;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The item that was removed.
+     */
+    @Override
+    public TimeSeriesDataItem remove(int index) {
+        TimeSeriesDataItem result = get(index);
+        if (index < this.size - 1 - index) {
+            // move the leading items one place towards the back
+            for (int i = index; i > 0; i--) {
+                move(i - 1, i);
+            }
+            this.head = position(1);
+            this.size--;
+            this.modCount++;
+        } else {
+            removeRange(index, index + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the items from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive).  Removing items from the front of the
+     * list takes constant time.
+     *
+     * @param fromIndex  the index of the first item to remove.
+     * @param toIndex  the index after the last item to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex
+                    + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        int n = toIndex - fromIndex;
+        if (fromIndex == 0) {
+            this.head = position(n);
+        } else {
+            for (int i = fromIndex; i < this.size - n; i++) {
+                move(i + n, i);
+            }
+        }
+        this.size -= n;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    @Override
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the index of the item for the specified time period, using a
+     * binary search.  The result follows the same conventions as
+     * {@code Collections.binarySearch()}.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     *
+     * @return The index of the item for the time period, or
+     *     {@code (-(insertion point) - 1)} if there is no such item.
+     */
+    public int binarySearch(RegularTimePeriod period) {
+        return binarySearch(getMillisecond(period));
+    }
+
+    /**
+     * Returns the index of the item with the specified first millisecond.
+     * The last item is checked first (so finding the last time period, or a
+     * time period after it, takes constant time), otherwise a binary search
+     * is used.
+     *
+     * @param m  the first millisecond of a time period.
+     *
+     * @return The index of the item, or {@code (-(insertion point) - 1)} if
+     *     there is no such item.
+     */
+    public int binarySearch(long m) {
+        int low = 0;
+        int high = this.size - 1;
+        if (high >= 0) {
+            long lastMillis = this.millis[position(high)];
+            if (lastMillis == m) {
+                return high;
+            } else if (lastMillis < m) {
+                return -(high + 2);
+            }
+            high--;
+        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midMillis = this.millis[position(mid)];
+            if (midMillis < m) {
+                low = mid + 1;
+            } else if (midMillis > m) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the first millisecond of a time period, calculated in the time
+     * zone of this list.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     *
+     * @return The first millisecond.
+     */
+    public long getMillisecond(RegularTimePeriod period) {
+        if (period instanceof FixedMillisecond) {
+            return period.getFirstMillisecond();
+        }
+        if (this.calendar == null) {
+            this.calendar = Calendar.getInstance(this.zone, this.locale);
+        }
+        return period.getFirstMillisecond(this.calendar);
+    }
+
+    /**
+     * Records the class of the time periods in the list, after checking that
+     * time periods of that class can be created from a millisecond.
+     *
+     * @param c  the time period class.
+     *
+     * @throws SeriesException if the class cannot be stored in a list of
+     *     this type.
+     */
+    private void setPeriodClass(Class<? extends RegularTimePeriod> c) {
+        if (c != this.periodClass) {
+            this.periodClass = c;
+            if (!isStandardPeriodClass(c) && RegularTimePeriod.createInstance(
+                    c, new Date(), this.zone, this.locale) == null) {
+                this.periodClass = null;
+                throw new SeriesException("The time period class "
+                        + c.getName() + " has no (Date, TimeZone, Locale) "
+                        + "constructor, so it can't be stored in columnar "
+                        + "mode.");
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified class is one of the time period
+     * classes that is created directly by {@link #createPeriod(long)}.
+     *
+     * @param c  the class.
+     *
+     * @return A boolean.
+     */
+    private static boolean isStandardPeriodClass(Class<?> c) {
+        return c == Millisecond.class || c == Second.class
+                || c == Minute.class || c == Hour.class || c == Day.class
+                || c == Week.class || c == Month.class || c == Quarter.class
+                || c == Year.class || c == FixedMillisecond.class;
+    }
+
+    /**
+     * Creates the time period that starts at the specified millisecond.
+     *
+     * @param m  the first millisecond of the time period.
+     *
+     * @return A new time period.
+     */
+    private RegularTimePeriod createPeriod(long m) {
+        Class<? extends RegularTimePeriod> c = this.periodClass;
+        if (c == FixedMillisecond.class) {
+            return new FixedMillisecond(m);
+        }
+        Date time = new Date(m);
+        if (c == Millisecond.class) {
+            return new Millisecond(time, this.zone, this.locale);
+        } else if (c == Second.class) {
+            return new Second(time, this.zone, this.locale);
+        } else if (c == Minute.class) {
+            return new Minute(time, this.zone, this.locale);
+        } else if (c == Hour.class) {
+            return new Hour(time, this.zone, this.locale);
+        } else if (c == Day.class) {
+            return new Day(time, this.zone, this.locale);
+        } else if (c == Week.class) {
+            return new Week(time, this.zone, this.locale);
+        } else if (c == Month.class) {
+            return new Month(time, this.zone, this.locale);
+        } else if (c == Quarter.class) {
+            return new Quarter(time, this.zone, this.locale);
+        } else if (c == Year.class) {
+            return new Year(time, this.zone, this.locale);
+        }
+        return RegularTimePeriod.createInstance(c, time, this.zone,
+                this.locale);
+    }
+
+    /**
+     * Returns the value of a data item as a double primitive.
+     *
+     * @param item  the item ({@code null} not permitted).
+     *
+     * @return The value ({@code Double.NaN} for a {@code null} value).
+     */
+    private static double valueOf(TimeSeriesDataItem item) {
+        Number value = item.getValue();
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Increases the capacity of the storage arrays, if necessary, so that
+     * they can hold at least the specified number of items.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = this.millis.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1)
+                    + 1);
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Replaces the storage arrays with new arrays of the specified length,
+     * with the first item at position 0.
+     *
+     * @param capacity  the new capacity (at least {@code size()}).
+     */
+    private void resize(int capacity) {
+        long[] m = new long[capacity];
+        double[] v = new double[capacity];
+        int firstPart = Math.min(this.size, this.millis.length - this.head);
+        System.arraycopy(this.millis, this.head, m, 0, firstPart);
+        System.arraycopy(this.millis, 0, m, firstPart, this.size - firstPart);
+        System.arraycopy(this.values, this.head, v, 0, firstPart);
+        System.arraycopy(this.values, 0, v, firstPart, this.size - firstPart);
+        this.millis = m;
+        this.values = v;
+        this.head = 0;
+    }
+
+    /**
+     * Copies the millisecond and value for one item to the position of
+     * another item.
+     *
+     * @param from  the index of the source item.
+     * @param to  the index of the destination item.
+     */
+    private void move(int from, int to) {
+        int pFrom = position(from);
+        int pTo = position(to);
+        this.millis[pTo] = this.millis[pFrom];
+        this.values[pTo] = this.values[pFrom];
+    }
+
+    /**
+     * Returns the position in the storage arrays of the item with the
+     * specified index.
+     *
+     * @param index  the index (zero-based, in the range {@code 0} to
+     *     {@code capacity}).
+     *
+     * @return The position.
+     */
+    private int position(int index) {
+        int p = this.head + index;
+        if (p >= this.millis.length) {
+            p -= this.millis.length;
+        }
+        return p;
+    }
+
+    /**
+     * Checks that the index refers to an item in the list.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns an independent copy of this list.
+     *
+     * @return A clone.
+     */
+    @Override
+    public TimeSeriesDataColumns clone() {
+        try {
+            TimeSeriesDataColumns clone
+                    = (TimeSeriesDataColumns) super.clone();
+            clone.resize(Math.max(this.size, 1));
+            clone.calendar = null;
+            clone.modCount = 0;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+}
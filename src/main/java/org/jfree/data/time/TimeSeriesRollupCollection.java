@@ -0,0 +1,962 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * TimeSeriesRollupCollection.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYResolutionInfo;
+
+/**
+ * A {@link TimeSeriesCollection} that also maintains coarser "tiers" of each
+ * series, in which the items are rolled up into longer time periods (by
+ * default {@link Minute}, {@link Hour} and {@link Day} periods) that keep
+ * the items with the minimum and maximum values in each period.  When the
+ * collection is drawn by an {@link org.jfree.chart.plot.XYPlot}, the plot
+ * draws the coarsest tier that still has at least one time period per pixel
+ * (see {@link #getDatasetForResolution(double, double, double)}), so a
+ * per-second series that is zoomed out to show a year is drawn from a few
+ * hundred daily items rather than millions of raw items.
+ * <P>
+ * Each tier is an {@link IntervalXYDataset} (see {@link #getTierDataset(int)})
+ * with two items for each time period:  the items from the series with the
+ * minimum and maximum values in the time period, in the order that they
+ * appear in the series (if the same item has both values, it appears twice).
+ * The x- and y-values of these items are the values from the series, so
+ * spikes in the data are still drawn when the series is zoomed out, the
+ * start and end x-values are the bounds of the time period, and the start
+ * and end y-values are the minimum and maximum values.  Time periods that
+ * contain no items are omitted, and null values are ignored (for a time
+ * period containing only null values, both items have a y-value of
+ * {@code Double.NaN} and an x-value taken from the time period, using the
+ * same anchor as the collection).
+ * <P>
+ * The tiers for a series are built when they are first requested.  They are
+ * kept up to date incrementally when items are appended to the series, or
+ * removed from the start of the series (for example by the maximum item
+ * count or age), and when the values of existing items are updated (only the
+ * time periods containing those items are recalculated, the next time the
+ * tier is read).  Any other change causes the tiers for the series to be
+ * rebuilt the next time they are requested.
+ * <P>
+ * The item indices in a tier are not the item indices in the series (use
+ * {@link #getSourceItem(int, int, int)} to find the item in the series), so
+ * the plot does not create entities for the items in a tier, and renderer
+ * settings that refer to items by index (such as the highlighting of
+ * selected items) are applied to the items in the tier.  Use a
+ * {@link TimeSeriesCollection} if every item must be drawn.
+ */
+public class TimeSeriesRollupCollection extends TimeSeriesCollection
+        implements XYResolutionInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2196462751316391870L;
+
+    /** The time zone used to create the time periods for the tiers. */
+    private TimeZone zone;
+
+    /** The locale used to create the time periods for the tiers. */
+    private Locale locale;
+
+    /** The time period classes for the tiers (in order of duration). */
+    private List<Class<? extends RegularTimePeriod>> tierClasses;
+
+    /** The (nominal) duration of the time periods for each tier. */
+    private long[] tierDurations;
+
+    /** A calendar used to find the first millisecond of each item. */
+    private Calendar calendar;
+
+    /**
+     * The tiers for each series (the array, if not {@code null}, has one
+     * element for each series, and an element is {@code null} until the
+     * tiers for that series are built).
+     */
+    private transient volatile Rollup[] rollups;
+
+    /** The datasets for the tiers (created on demand). */
+    private transient TierDataset[] tierDatasets;
+
+    /**
+     * Creates a new empty collection with {@link Minute}, {@link Hour} and
+     * {@link Day} tiers in the default time zone.
+     */
+    public TimeSeriesRollupCollection() {
+        this(TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new empty collection with {@link Minute}, {@link Hour} and
+     * {@link Day} tiers in the specified time zone.
+     *
+     * @param zone  the time zone ({@code null} permitted, will use
+     *     {@code TimeZone.getDefault()} in that case).
+     */
+    public TimeSeriesRollupCollection(TimeZone zone) {
+        this(zone, Arrays.<Class<? extends RegularTimePeriod>>asList(
+                Minute.class, Hour.class, Day.class));
+    }
+
+    /**
+     * Creates a new empty collection.
+     *
+     * @param zone  the time zone ({@code null} permitted, will use
+     *     {@code TimeZone.getDefault()} in that case).
+     * @param tierClasses  the time period classes for the tiers, in order of
+     *     increasing duration ({@code null} not permitted).  Each class must
+     *     have a constructor that accepts ({@code Date}, {@code TimeZone},
+     *     {@code Locale}) arguments.
+     */
+    public TimeSeriesRollupCollection(TimeZone zone,
+            List<Class<? extends RegularTimePeriod>> tierClasses) {
+        super(zone);
+        ParamChecks.nullNotPermitted(tierClasses, "tierClasses");
+        if (zone == null) {
+            zone = TimeZone.getDefault();
+        }
+        this.zone = zone;
+        this.locale = Locale.getDefault();
+        this.calendar = Calendar.getInstance(zone);
+        this.tierClasses = new ArrayList<Class<? extends RegularTimePeriod>>(
+                tierClasses);
+        this.tierDurations = new long[tierClasses.size()];
+        for (int t = 0; t < this.tierDurations.length; t++) {
+            Class<? extends RegularTimePeriod> c = this.tierClasses.get(t);
+            ParamChecks.nullNotPermitted(c, "tierClasses[" + t + "]");
+            RegularTimePeriod period = RegularTimePeriod.createInstance(c,
+                    new Date(0L), zone, this.locale);
+            if (period == null) {
+                throw new IllegalArgumentException("The period class "
+                        + c.getName() + " has no (Date, TimeZone, Locale) "
+                        + "constructor.");
+            }
+            this.tierDurations[t] = period.getLastMillisecond()
+                    - period.getFirstMillisecond() + 1;
+            if (t > 0 && this.tierDurations[t] <= this.tierDurations[t - 1]) {
+                throw new IllegalArgumentException(
+                        "The tiers must be in order of increasing duration.");
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tiers.
+     *
+     * @return The number of tiers.
+     */
+    public int getTierCount() {
+        return this.tierClasses.size();
+    }
+
+    /**
+     * Returns the time period classes for the tiers, in order of increasing
+     * duration.
+     *
+     * @return The classes (an unmodifiable list).
+     */
+    public List<Class<? extends RegularTimePeriod>> getTierClasses() {
+        return Collections.unmodifiableList(this.tierClasses);
+    }
+
+    /**
+     * Returns a dataset containing the rolled up items for a tier.  The
+     * dataset reflects later changes to the series in this collection, but
+     * does not send change events (listen to this collection instead).
+     *
+     * @param tier  the tier index (in the range {@code 0} to
+     *     {@code getTierCount() - 1}).
+     *
+     * @return The dataset.
+     */
+    public IntervalXYDataset getTierDataset(int tier) {
+        if (tier < 0 || tier >= this.tierClasses.size()) {
+            throw new IllegalArgumentException("Tier index out of bounds.");
+        }
+        TierDataset[] datasets = this.tierDatasets;
+        if (datasets == null) {
+            datasets = new TierDataset[this.tierClasses.size()];
+            this.tierDatasets = datasets;
+        }
+        if (datasets[tier] == null) {
+            datasets[tier] = new TierDataset(this, tier);
+        }
+        return datasets[tier];
+    }
+
+    /**
+     * Returns the index of the item in a series that an item in a tier was
+     * taken from.
+     *
+     * @param tier  the tier index (in the range {@code 0} to
+     *     {@code getTierCount() - 1}).
+     * @param series  the series index (zero-based).
+     * @param item  the item index in the tier (zero-based).
+     *
+     * @return The item index in the series, or -1 if the time period for
+     *     the item contains only null values.
+     */
+    public int getSourceItem(int tier, int series, int item) {
+        if (tier < 0 || tier >= this.tierClasses.size()) {
+            throw new IllegalArgumentException("Tier index out of bounds.");
+        }
+        Rollup rollup = getRollup(series);
+        long result = getTier(rollup, tier).getItem(item);
+        return result < 0 ? -1 : (int) (result - rollup.removedCount);
+    }
+
+    /**
+     * Returns the dataset for the coarsest tier that still has at least one
+     * time period per pixel, or this collection if even the finest tier is
+     * too coarse.
+     *
+     * @param lowerX  the lower bound of the visible x-values.
+     * @param upperX  the upper bound of the visible x-values.
+     * @param pixels  the number of pixels available for the x-values.
+     *
+     * @return The dataset to draw (never {@code null}).
+     */
+    @Override
+    public XYDataset getDatasetForResolution(double lowerX, double upperX,
+            double pixels) {
+        double millisPerPixel = (upperX - lowerX) / pixels;
+        for (int t = this.tierDurations.length - 1; t >= 0; t--) {
+            if (this.tierDurations[t] <= millisPerPixel) {
+                return getTierDataset(t);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Receives notification that a series has changed, updates (or
+     * discards) the tiers for the series and passes the notification on to
+     * the dataset's listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        updateRollups(event);
+        super.seriesChanged(event);
+    }
+
+    /**
+     * Updates (or discards) the tiers for the series that sent an event.
+     *
+     * @param event  the event.
+     */
+    private synchronized void updateRollups(SeriesChangeEvent event) {
+        Rollup[] r = this.rollups;
+        if (r == null) {
+            return;
+        }
+        for (int i = 0; i < r.length; i++) {
+            if (r[i] != null && r[i].series == event.getSource()
+                    && !updateRollup(r[i], event.getChangeInfo())) {
+                r[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Updates the tiers for a series to reflect a change.
+     *
+     * @param rollup  the tiers for the series.
+     * @param info  a description of the change ({@code null} permitted).
+     *
+     * @return A boolean indicating whether the tiers could be updated.
+     */
+    private boolean updateRollup(Rollup rollup, SeriesChangeInfo info) {
+        if (info == null) {
+            return false;
+        }
+        TimeSeries series = rollup.series;
+        SeriesChangeType type = info.getType();
+        if (type == SeriesChangeType.ITEMS_APPENDED) {
+            if (info.getRemovedFromStart() > 0) {
+                rollup.itemCount -= info.getRemovedFromStart();
+                rollup.removedCount += info.getRemovedFromStart();
+                removeFromStart(rollup);
+            }
+            if (info.getStartIndex() != rollup.itemCount) {
+                return false;
+            }
+            for (int i = info.getStartIndex(); i <= info.getEndIndex(); i++) {
+                if (!appendItem(rollup, i)) {
+                    return false;
+                }
+            }
+            rollup.itemCount = info.getEndIndex() + 1;
+        } else if (type == SeriesChangeType.ITEMS_REMOVED
+                && info.getStartIndex() == 0) {
+            rollup.itemCount -= info.getEndIndex() + 1;
+            rollup.removedCount += info.getEndIndex() + 1;
+            removeFromStart(rollup);
+        } else if (type == SeriesChangeType.ITEMS_UPDATED) {
+            if (info.getEndIndex() >= series.getItemCount()) {
+                return false;
+            }
+            long first = getMillisecond(series, info.getStartIndex());
+            long last = getMillisecond(series, info.getEndIndex());
+            for (Tier tier : rollup.tiers) {
+                tier.markDirty(tier.indexOf(first), tier.indexOf(last));
+            }
+        } else {
+            return false;
+        }
+        return rollup.itemCount == series.getItemCount();
+    }
+
+    /**
+     * Drops the time periods that are before the first item in a series,
+     * after items have been removed from the start of the series.  The first
+     * remaining time period is recalculated when it is next read.
+     *
+     * @param rollup  the tiers for the series.
+     */
+    private void removeFromStart(Rollup rollup) {
+        if (rollup.series.getItemCount() == 0) {
+            for (Tier tier : rollup.tiers) {
+                tier.removeFirst(tier.size);
+            }
+            return;
+        }
+        long first = getMillisecond(rollup.series, 0);
+        for (Tier tier : rollup.tiers) {
+            int n = 0;
+            while (n < tier.size && tier.end[n] < first) {
+                n++;
+            }
+            tier.removeFirst(n);
+            if (tier.size > 0) {
+                tier.markDirty(0, 0);
+            }
+        }
+    }
+
+    /**
+     * Adds an item at the end of a series to each tier.
+     *
+     * @param rollup  the tiers for the series.
+     * @param item  the item index.
+     *
+     * @return A boolean indicating whether the item could be added (it
+     *     can't if it is earlier than the last time period in a tier).
+     */
+    private boolean appendItem(Rollup rollup, int item) {
+        long millis = getMillisecond(rollup.series, item);
+        Number value = rollup.series.getValue(item);
+        double v = value != null ? value.doubleValue() : Double.NaN;
+        for (int t = 0; t < rollup.tiers.length; t++) {
+            Tier tier = rollup.tiers[t];
+            int last = tier.size - 1;
+            if (last < 0 || millis > tier.end[last]) {
+                RegularTimePeriod period = RegularTimePeriod.createInstance(
+                        this.tierClasses.get(t), new Date(millis), this.zone,
+                        this.locale);
+                tier.addPeriod(period.getFirstMillisecond(),
+                        period.getLastMillisecond());
+                last++;
+            } else if (millis < tier.start[last]) {
+                return false;
+            }
+            tier.addValue(last, v, rollup.removedCount + item);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first millisecond of an item in a series (in the time zone
+     * of this collection).  This method must be called while holding the
+     * lock on this collection (the calendar is used).
+     *
+     * @param series  the series.
+     * @param item  the item index.
+     *
+     * @return The first millisecond.
+     */
+    private long getMillisecond(TimeSeries series, int item) {
+        return series.getTimePeriod(item).getFirstMillisecond(this.calendar);
+    }
+
+    /**
+     * Returns the tiers for a series, building them if necessary.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The tiers.
+     */
+    private Rollup getRollup(int series) {
+        Rollup[] r = this.rollups;
+        TimeSeries s = getSeries(series);
+        if (r == null || r.length != getSeriesCount() || r[series] == null
+                || r[series].series != s
+                || r[series].itemCount != s.getItemCount()) {
+            r = buildRollup(series);
+        }
+        return r[series];
+    }
+
+    /**
+     * Returns a tier from the tiers for a series, recalculating it if
+     * necessary.
+     *
+     * @param rollup  the tiers for the series.
+     * @param tier  the tier index.
+     *
+     * @return The tier.
+     */
+    private Tier getTier(Rollup rollup, int tier) {
+        Tier result = rollup.tiers[tier];
+        if (result.dirtyTo >= 0) {
+            recalculate(rollup, result);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the tiers for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The tiers for each series.
+     */
+    private synchronized Rollup[] buildRollup(int series) {
+        Rollup[] r = this.rollups;
+        if (r == null || r.length != getSeriesCount()) {
+            r = new Rollup[getSeriesCount()];
+        }
+        TimeSeries s = getSeries(series);
+        Rollup rollup = new Rollup(s, this.tierClasses.size());
+        int count = s.getItemCount();
+        for (int i = 0; i < count; i++) {
+            appendItem(rollup, i);
+        }
+        rollup.itemCount = count;
+        r[series] = rollup;
+        this.rollups = r;
+        return r;
+    }
+
+    /**
+     * Recalculates the time periods in a tier that have been marked as
+     * dirty.
+     *
+     * @param rollup  the tiers for the series.
+     * @param tier  the tier.
+     */
+    private synchronized void recalculate(Rollup rollup, Tier tier) {
+        int from = tier.dirtyFrom;
+        int to = tier.dirtyTo;
+        if (to < 0) {
+            return;  // already done by another thread
+        }
+        for (int b = from; b <= to; b++) {
+            tier.clearValues(b);
+        }
+        // find the first item in the first dirty time period
+        TimeSeries series = rollup.series;
+        int low = 0;
+        int high = series.getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getMillisecond(series, mid) < tier.start[from]) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int b = from;
+        for (int i = low; i < series.getItemCount(); i++) {
+            long millis = getMillisecond(series, i);
+            while (b <= to && millis > tier.end[b]) {
+                b++;
+            }
+            if (b > to) {
+                break;
+            }
+            Number value = series.getValue(i);
+            if (value != null) {
+                tier.addValue(b, value.doubleValue(),
+                        rollup.removedCount + i);
+            }
+        }
+        tier.dirtyFrom = Integer.MAX_VALUE;
+        tier.dirtyTo = -1;
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TimeSeriesRollupCollection)) {
+            return false;
+        }
+        TimeSeriesRollupCollection that = (TimeSeriesRollupCollection) obj;
+        if (!this.zone.equals(that.zone)) {
+            return false;
+        }
+        if (!this.tierClasses.equals(that.tierClasses)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code for this collection.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + this.tierClasses.hashCode();
+    }
+
+    /**
+     * Returns a clone of this collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        TimeSeriesRollupCollection clone
+                = (TimeSeriesRollupCollection) super.clone();
+        clone.calendar = (Calendar) this.calendar.clone();
+        clone.tierClasses = new ArrayList<Class<? extends RegularTimePeriod>>(
+                this.tierClasses);
+        clone.rollups = null;
+        clone.tierDatasets = null;
+        return clone;
+    }
+
+    /**
+     * The tiers for one series.
+     */
+    private static final class Rollup {
+
+        /** The series. */
+        private final TimeSeries series;
+
+        /** The tiers. */
+        private final Tier[] tiers;
+
+        /** The number of items in the series that the tiers reflect. */
+        private int itemCount;
+
+        /**
+         * The number of items removed from the start of the series since
+         * the tiers were built (the tiers record the index of each item
+         * plus this count, so that they are not changed when items are
+         * removed).
+         */
+        private long removedCount;
+
+        /**
+         * Creates empty tiers for a series.
+         *
+         * @param series  the series.
+         * @param tierCount  the number of tiers.
+         */
+        Rollup(TimeSeries series, int tierCount) {
+            this.series = series;
+            this.tiers = new Tier[tierCount];
+            for (int t = 0; t < tierCount; t++) {
+                this.tiers[t] = new Tier();
+            }
+        }
+
+    }
+
+    /**
+     * The time periods and values for one tier of one series.
+     */
+    private static final class Tier {
+
+        /** The first millisecond of each time period. */
+        private long[] start = new long[16];
+
+        /** The last millisecond of each time period. */
+        private long[] end = new long[16];
+
+        /** The minimum value in each time period. */
+        private double[] min = new double[16];
+
+        /** The maximum value in each time period. */
+        private double[] max = new double[16];
+
+        /** The item with the minimum value in each time period (or -1). */
+        private long[] minItem = new long[16];
+
+        /** The item with the maximum value in each time period (or -1). */
+        private long[] maxItem = new long[16];
+
+        /** The number of time periods. */
+        private int size;
+
+        /** The first time period that needs to be recalculated. */
+        private int dirtyFrom = Integer.MAX_VALUE;
+
+        /** The last time period that needs to be recalculated (or -1). */
+        private int dirtyTo = -1;
+
+        /**
+         * Adds an empty time period at the end of the tier.
+         *
+         * @param first  the first millisecond of the time period.
+         * @param last  the last millisecond of the time period.
+         */
+        void addPeriod(long first, long last) {
+            if (this.size == this.start.length) {
+                int capacity = this.size * 3 / 2 + 1;
+                this.start = Arrays.copyOf(this.start, capacity);
+                this.end = Arrays.copyOf(this.end, capacity);
+                this.min = Arrays.copyOf(this.min, capacity);
+                this.max = Arrays.copyOf(this.max, capacity);
+                this.minItem = Arrays.copyOf(this.minItem, capacity);
+                this.maxItem = Arrays.copyOf(this.maxItem, capacity);
+            }
+            this.start[this.size] = first;
+            this.end[this.size] = last;
+            clearValues(this.size);
+            this.size++;
+        }
+
+        /**
+         * Clears the values for a time period.
+         *
+         * @param index  the time period index.
+         */
+        void clearValues(int index) {
+            this.min[index] = Double.NaN;
+            this.max[index] = Double.NaN;
+            this.minItem[index] = -1;
+            this.maxItem[index] = -1;
+        }
+
+        /**
+         * Adds an item to a time period ({@code Double.NaN} is ignored).  The
+         * items in a time period must be added in order.
+         *
+         * @param index  the time period index.
+         * @param value  the value.
+         * @param item  the item index (plus the number of items removed from
+         *     the start of the series).
+         */
+        void addValue(int index, double value, long item) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            if (this.minItem[index] < 0) {
+                this.min[index] = value;
+                this.max[index] = value;
+                this.minItem[index] = item;
+                this.maxItem[index] = item;
+            } else if (value < this.min[index]) {
+                this.min[index] = value;
+                this.minItem[index] = item;
+            } else if (value > this.max[index]) {
+                this.max[index] = value;
+                this.maxItem[index] = item;
+            }
+        }
+
+        /**
+         * Returns the item for an item index in the tier:  the earlier of the
+         * minimum and maximum items in a time period for an even index, and
+         * the later one for an odd index.
+         *
+         * @param item  the item index in the tier.
+         *
+         * @return The item (plus the number of items removed from the start
+         *     of the series), or -1 if the time period has no values.
+         */
+        long getItem(int item) {
+            int index = item / 2;
+            if (item % 2 == 0) {
+                return Math.min(this.minItem[index], this.maxItem[index]);
+            }
+            return Math.max(this.minItem[index], this.maxItem[index]);
+        }
+
+        /**
+         * Returns the value of the item for an item index in the tier.
+         *
+         * @param item  the item index in the tier.
+         *
+         * @return The value ({@code Double.NaN} if the time period has no
+         *     values).
+         */
+        double getValue(int item) {
+            int index = item / 2;
+            return getItem(item) == this.minItem[index] ? this.min[index]
+                    : this.max[index];
+        }
+
+        /**
+         * Removes time periods from the start of the tier.
+         *
+         * @param n  the number of time periods to remove.
+         */
+        void removeFirst(int n) {
+            if (n == 0) {
+                return;
+            }
+            int remaining = this.size - n;
+            System.arraycopy(this.start, n, this.start, 0, remaining);
+            System.arraycopy(this.end, n, this.end, 0, remaining);
+            System.arraycopy(this.min, n, this.min, 0, remaining);
+            System.arraycopy(this.max, n, this.max, 0, remaining);
+            System.arraycopy(this.minItem, n, this.minItem, 0, remaining);
+            System.arraycopy(this.maxItem, n, this.maxItem, 0, remaining);
+            this.size = remaining;
+            if (this.dirtyTo >= 0) {
+                this.dirtyFrom = Math.max(this.dirtyFrom - n, 0);
+                this.dirtyTo -= n;
+                if (this.dirtyTo < 0) {
+                    this.dirtyFrom = Integer.MAX_VALUE;
+                }
+            }
+        }
+
+        /**
+         * Returns the index of the time period that contains a millisecond.
+         *
+         * @param millis  the millisecond.
+         *
+         * @return The index (or a negative value if there is no such time
+         *     period).
+         */
+        int indexOf(long millis) {
+            int low = 0;
+            int high = this.size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (this.end[mid] < millis) {
+                    low = mid + 1;
+                } else if (this.start[mid] > millis) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Marks a range of time periods as needing to be recalculated.
+         *
+         * @param from  the first time period index.
+         * @param to  the last time period index.
+         */
+        void markDirty(int from, int to) {
+            if (from < 0 || to < 0) {
+                // every item is in a time period, so this shouldn't happen
+                from = 0;
+                to = this.size - 1;
+            }
+            this.dirtyFrom = Math.min(this.dirtyFrom, from);
+            this.dirtyTo = Math.max(this.dirtyTo, to);
+        }
+
+    }
+
+    /**
+     * A dataset that presents one tier of a {@link TimeSeriesRollupCollection}.
+     */
+    private static final class TierDataset extends AbstractIntervalXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 5730651838106307417L;
+
+        /** The collection. */
+        private final TimeSeriesRollupCollection collection;
+
+        /** The tier index. */
+        private final int tier;
+
+        /**
+         * Creates a new dataset.
+         *
+         * @param collection  the collection.
+         * @param tier  the tier index.
+         */
+        TierDataset(TimeSeriesRollupCollection collection, int tier) {
+            this.collection = collection;
+            this.tier = tier;
+        }
+
+        /**
+         * Returns the tier for a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The tier.
+         */
+        private Tier getTier(int series) {
+            return this.collection.getTier(this.collection.getRollup(series),
+                    this.tier);
+        }
+
+        /**
+         * Returns {@link DomainOrder#ASCENDING}.
+         *
+         * @return The domain order.
+         */
+        @Override
+        public DomainOrder getDomainOrder() {
+            return DomainOrder.ASCENDING;
+        }
+
+        @Override
+        public int getSeriesCount() {
+            return this.collection.getSeriesCount();
+        }
+
+        @Override
+        public Comparable<?> getSeriesKey(int series) {
+            return this.collection.getSeriesKey(series);
+        }
+
+        @Override
+        public int getItemCount(int series) {
+            return getTier(series).size * 2;
+        }
+
+        @Override
+        public double getXValue(int series, int item) {
+            int sourceItem = this.collection.getSourceItem(this.tier, series,
+                    item);
+            if (sourceItem >= 0) {
+                return this.collection.getXValue(series, sourceItem);
+            }
+            Tier t = getTier(series);
+            int index = item / 2;
+            TimePeriodAnchor anchor = this.collection.getXPosition();
+            if (anchor == TimePeriodAnchor.START) {
+                return t.start[index];
+            } else if (anchor == TimePeriodAnchor.END) {
+                return t.end[index];
+            }
+            return t.start[index] + (t.end[index] - t.start[index]) / 2;
+        }
+
+        @Override
+        public Number getX(int series, int item) {
+            return (long) getXValue(series, item);
+        }
+
+        @Override
+        public double getStartXValue(int series, int item) {
+            return getTier(series).start[item / 2];
+        }
+
+        @Override
+        public Number getStartX(int series, int item) {
+            return getTier(series).start[item / 2];
+        }
+
+        @Override
+        public double getEndXValue(int series, int item) {
+            return getTier(series).end[item / 2];
+        }
+
+        @Override
+        public Number getEndX(int series, int item) {
+            return getTier(series).end[item / 2];
+        }
+
+        @Override
+        public double getYValue(int series, int item) {
+            return getTier(series).getValue(item);
+        }
+
+        @Override
+        public Number getY(int series, int item) {
+            return getYValue(series, item);
+        }
+
+        @Override
+        public double getStartYValue(int series, int item) {
+            return getTier(series).min[item / 2];
+        }
+
+        @Override
+        public Number getStartY(int series, int item) {
+            return getStartYValue(series, item);
+        }
+
+        @Override
+        public double getEndYValue(int series, int item) {
+            return getTier(series).max[item / 2];
+        }
+
+        @Override
+        public Number getEndY(int series, int item) {
+            return getEndYValue(series, item);
+        }
+
+    }
+
+}
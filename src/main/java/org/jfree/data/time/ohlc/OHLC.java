@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2011, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,31 +27,38 @@
  * ---------
  * OHLC.java
  * ---------
- * (C) Copyright 2006, 2009, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 23-May-2009 : Implemented hashCode() (DG);
+ * 17-Oct-2026 : Added volume (agent);
+ * 17-Oct-2026 : Read instances serialized without a volume (agent);
  *
  */
 
 package org.jfree.data.time.ohlc;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import org.jfree.chart.util.HashUtils;
 
 /**
- * A high low data record (immutable).  This class is used internally by the
- * {@link OHLCItem} class.
+ * An open-high-low-close data record with an optional volume (immutable).
+ * This class is used internally by the {@link OHLCItem} class.
  *
  * @since 1.0.4
  */
 public class OHLC implements Serializable {
 
+    /** For serialization. */
+    private static final long serialVersionUID = 601747095563683939L;
+
     /** The open value. */
     private double open;
 
@@ -64,8 +71,11 @@ public class OHLC implements Serializable {
     /** The low value. */
     private double low;
 
+    /** The volume (<code>Double.NaN</code> if not recorded). */
+    private double volume;
+
     /**
-     * Creates a new instance of <code>OHLC</code>.
+     * Creates a new instance of <code>OHLC</code> with no volume.
      *
      * @param open  the open value.
      * @param close  the close value.
@@ -73,10 +83,25 @@ public class OHLC implements Serializable {
      * @param low  the low value.
      */
     public OHLC(double open, double high, double low, double close) {
+        this(open, high, low, close, Double.NaN);
+    }
+
+    /**
+     * Creates a new instance of <code>OHLC</code>.
+     *
+     * @param open  the open value.
+     * @param high  the high value.
+     * @param low  the low value.
+     * @param close  the close value.
+     * @param volume  the volume (<code>Double.NaN</code> if not recorded).
+     */
+    public OHLC(double open, double high, double low, double close,
+            double volume) {
         this.open = open;
         this.close = close;
         this.high = high;
         this.low = low;
+        this.volume = volume;
     }
 
     /**
@@ -115,6 +140,15 @@ public class OHLC implements Serializable {
         return this.low;
     }
 
+    /**
+     * Returns the volume.
+     *
+     * @return The volume (<code>Double.NaN</code> if not recorded).
+     */
+    public double getVolume() {
+        return this.volume;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.
      *
@@ -143,6 +177,10 @@ public class OHLC implements Serializable {
         if (this.low != that.low) {
             return false;
         }
+        if (Double.doubleToLongBits(this.volume)
+                != Double.doubleToLongBits(that.volume)) {
+            return false;
+        }
         return true;
     }
 
@@ -158,7 +196,28 @@ public class OHLC implements Serializable {
         result = HashUtils.hashCode(result, this.high);
         result = HashUtils.hashCode(result, this.low);
         result = HashUtils.hashCode(result, this.close);
+        result = HashUtils.hashCode(result, this.volume);
         return result;
     }
 
+    /**
+     * Provides serialization support.  Instances that were serialized
+     * before the volume was added are restored with a volume of
+     * <code>Double.NaN</code>.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.open = fields.get("open", Double.NaN);
+        this.close = fields.get("close", Double.NaN);
+        this.high = fields.get("high", Double.NaN);
+        this.low = fields.get("low", Double.NaN);
+        this.volume = fields.get("volume", Double.NaN);
+    }
+
 }
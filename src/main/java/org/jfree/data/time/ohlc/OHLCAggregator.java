@@ -0,0 +1,376 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * OHLCAggregator.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.RegularTimePeriod;
+
+/**
+ * Aggregates a stream of (time, price, volume) ticks into open-high-low-close
+ * items in an {@link OHLCSeries}, one item per time period (for example, one
+ * per {@link org.jfree.data.time.Minute}).
+ * <P>
+ * The values for the current (open) period are accumulated in this object
+ * as each tick is added, and the item for the period is written to the
+ * series when the period closes (that is, when a tick for a later period is
+ * added, or when {@link #flush()} is called).  The item is appended to the
+ * series the first time it is written and updated in place after that, and
+ * each write sends a single {@link SeriesChangeEvent} that describes the
+ * appended or updated item, so a chart showing the series (via an
+ * {@link OHLCSeriesCollection}) is repainted once per period rather than
+ * once per tick.  To show the open period while it is still forming, set an
+ * update interval with {@link #setUpdateInterval(long)}.
+ * <P>
+ * Ticks must be added in time order, although ticks within the open period
+ * may arrive in any order (the close is the price of the last tick added).
+ * No items are created for periods without any ticks.  If the last item in
+ * the series is for the same period as the first tick, the tick is merged
+ * into that item, so an aggregator can resume from an existing series.
+ * <P>
+ * This class is not thread-safe, ticks should be added on the same thread
+ * that is used to update the series.
+ */
+public class OHLCAggregator {
+
+    /** The series that the items are written to. */
+    private OHLCSeries series;
+
+    /** The class of the time periods. */
+    private Class<? extends RegularTimePeriod> periodClass;
+
+    /** The time zone used to create the time periods. */
+    private TimeZone timeZone;
+
+    /** The locale used to create the time periods. */
+    private Locale locale;
+
+    /**
+     * The minimum interval (in milliseconds of tick time) between writes of
+     * the open period to the series.
+     */
+    private long updateInterval;
+
+    /** The open period ({@code null} until the first tick is added). */
+    private RegularTimePeriod period;
+
+    /** The first millisecond of the open period. */
+    private long periodStart;
+
+    /** The last millisecond of the open period. */
+    private long periodEnd;
+
+    /** The open price for the open period. */
+    private double open;
+
+    /** The high price for the open period. */
+    private double high;
+
+    /** The low price for the open period. */
+    private double low;
+
+    /** The close price for the open period. */
+    private double close;
+
+    /** The volume for the open period. */
+    private double volume;
+
+    /**
+     * A flag that indicates that the open period has changed since it was
+     * last written to the series.
+     */
+    private boolean dirty;
+
+    /**
+     * The time of the tick that last caused a write to the series
+     * ({@code Long.MIN_VALUE} before the first write).
+     */
+    private long lastWrite;
+
+    /** The time of the last tick. */
+    private long lastTick;
+
+    /**
+     * Creates a new aggregator that uses the default time zone and locale
+     * for the time periods.
+     *
+     * @param series  the series ({@code null} not permitted).
+     * @param periodClass  the class of the time periods ({@code null} not
+     *     permitted).
+     */
+    public OHLCAggregator(OHLCSeries series,
+            Class<? extends RegularTimePeriod> periodClass) {
+        this(series, periodClass, TimeZone.getDefault(), Locale.getDefault());
+    }
+
+    /**
+     * Creates a new aggregator.
+     *
+     * @param series  the series ({@code null} not permitted).
+     * @param periodClass  the class of the time periods ({@code null} not
+     *     permitted).  The class must have a constructor that accepts
+     *     ({@code Date}, {@code TimeZone}, {@code Locale}) arguments.
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     */
+    public OHLCAggregator(OHLCSeries series,
+            Class<? extends RegularTimePeriod> periodClass, TimeZone zone,
+            Locale locale) {
+        ParamChecks.nullNotPermitted(series, "series");
+        ParamChecks.nullNotPermitted(periodClass, "periodClass");
+        ParamChecks.nullNotPermitted(zone, "zone");
+        ParamChecks.nullNotPermitted(locale, "locale");
+        if (RegularTimePeriod.createInstance(periodClass, new Date(0L), zone,
+                locale) == null) {
+            throw new IllegalArgumentException("The period class "
+                    + periodClass.getName() + " has no (Date, TimeZone, "
+                    + "Locale) constructor.");
+        }
+        this.series = series;
+        this.periodClass = periodClass;
+        this.timeZone = zone;
+        this.locale = locale;
+        this.updateInterval = Long.MAX_VALUE;
+        this.lastWrite = Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the series that the items are written to.
+     *
+     * @return The series (never {@code null}).
+     */
+    public OHLCSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the class of the time periods.
+     *
+     * @return The class (never {@code null}).
+     */
+    public Class<? extends RegularTimePeriod> getPeriodClass() {
+        return this.periodClass;
+    }
+
+    /**
+     * Returns the time zone that is used to create the time periods.
+     *
+     * @return The time zone (never {@code null}).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Returns the locale that is used to create the time periods.
+     *
+     * @return The locale (never {@code null}).
+     */
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Returns the minimum interval (in milliseconds of tick time) between
+     * writes of the open period to the series.  The default value is
+     * {@code Long.MAX_VALUE}, which means that the open period is only
+     * written when it closes (or when {@link #flush()} is called).
+     *
+     * @return The update interval.
+     *
+     * @see #setUpdateInterval(long)
+     */
+    public long getUpdateInterval() {
+        return this.updateInterval;
+    }
+
+    /**
+     * Sets the minimum interval (in milliseconds of tick time) between
+     * writes of the open period to the series.  An interval of zero writes
+     * the open period after every tick.
+     *
+     * @param interval  the interval (must be non-negative).
+     *
+     * @see #getUpdateInterval()
+     */
+    public void setUpdateInterval(long interval) {
+        if (interval < 0L) {
+            throw new IllegalArgumentException("Negative 'interval' argument.");
+        }
+        this.updateInterval = interval;
+    }
+
+    /**
+     * Returns the open period.
+     *
+     * @return The open period ({@code null} if no ticks have been added).
+     */
+    public RegularTimePeriod getPeriod() {
+        return this.period;
+    }
+
+    /**
+     * Adds a tick.  If the tick is in a later period than the open period,
+     * the open period is written to the series and a new period is opened.
+     *
+     * @param millis  the time of the tick (in milliseconds since 1 January
+     *     1970, 00:00:00 GMT).
+     * @param price  the price.
+     * @param volume  the volume ({@code Double.NaN} if volumes are not
+     *     recorded).
+     *
+     * @throws SeriesException if the tick is earlier than the open period.
+     */
+    public void add(long millis, double price, double volume) {
+        if (this.period == null || millis > this.periodEnd) {
+            if (this.dirty) {
+                write(millis);
+            }
+            openPeriod(millis, price, volume);
+        }
+        else if (millis < this.periodStart) {
+            throw new SeriesException("The tick at " + millis
+                    + " is earlier than the open period (" + this.period
+                    + ").");
+        }
+        else {
+            if (price > this.high) {
+                this.high = price;
+            }
+            if (price < this.low) {
+                this.low = price;
+            }
+            this.close = price;
+            this.volume += volume;
+        }
+        this.dirty = true;
+        this.lastTick = millis;
+        if (this.updateInterval != Long.MAX_VALUE
+                && (this.lastWrite == Long.MIN_VALUE
+                || millis - this.lastWrite >= this.updateInterval)) {
+            write(millis);
+        }
+    }
+
+    /**
+     * Writes the open period to the series, if it has changed since it was
+     * last written.
+     */
+    public void flush() {
+        if (this.dirty) {
+            write(this.lastTick);
+        }
+    }
+
+    /**
+     * Opens a new period for a tick.
+     *
+     * @param millis  the time of the tick.
+     * @param price  the price.
+     * @param volume  the volume.
+     */
+    private void openPeriod(long millis, double price, double volume) {
+        this.period = RegularTimePeriod.createInstance(this.periodClass,
+                new Date(millis), this.timeZone, this.locale);
+        this.periodStart = this.period.getFirstMillisecond();
+        this.periodEnd = this.period.getLastMillisecond();
+        this.open = price;
+        this.high = price;
+        this.low = price;
+        this.close = price;
+        this.volume = volume;
+        int index = indexOfPeriod();
+        if (index >= 0) {
+            // resume from the item that is already in the series
+            OHLCItem item = (OHLCItem) this.series.getDataItem(index);
+            this.open = item.getOpenValue();
+            this.high = Math.max(item.getHighValue(), price);
+            this.low = Math.min(item.getLowValue(), price);
+            if (!Double.isNaN(item.getVolumeValue())) {
+                this.volume += item.getVolumeValue();
+            }
+        }
+    }
+
+    /**
+     * Writes the open period to the series.
+     *
+     * @param millis  the time of the tick that caused the write.
+     */
+    private void write(long millis) {
+        int index = indexOfPeriod();
+        if (index >= 0) {
+            this.series.update(index, new OHLC(this.open, this.high,
+                    this.low, this.close, this.volume));
+        }
+        else {
+            this.series.append(new OHLCItem(this.period, this.open,
+                    this.high, this.low, this.close, this.volume));
+        }
+        this.dirty = false;
+        this.lastWrite = millis;
+    }
+
+    /**
+     * Returns the index of the item for the open period in the series, or
+     * a negative value if there is no such item.  The last item is checked
+     * first, since that is almost always the item for the open period.
+     *
+     * @return The index.
+     */
+    private int indexOfPeriod() {
+        int last = this.series.getItemCount() - 1;
+        if (last < 0) {
+            return -1;
+        }
+        OHLCItem item = (OHLCItem) this.series.getDataItem(last);
+        if (item.getPeriod().equals(this.period)) {
+            return last;
+        }
+        return this.series.indexOf(this.period);
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2011, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,14 +27,15 @@
  * -------------
  * OHLCItem.java
  * -------------
- * (C) Copyright 2006, 2007, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 17-Oct-2026 : Added volume (agent);
  *
  */
 
@@ -44,14 +45,18 @@ import org.jfree.data.ComparableObjectItem;
 import org.jfree.data.time.RegularTimePeriod;
 
 /**
- * An item representing data in the form (period, open, high, low, close).
+ * An item representing data in the form (period, open, high, low, close),
+ * with an optional volume.
  *
  * @since 1.0.4
  */
 public class OHLCItem extends ComparableObjectItem {
 
+    /** For serialization. */
+    private static final long serialVersionUID = -2037305235343073140L;
+
     /**
-     * Creates a new instance of <code>OHLCItem</code>.
+     * Creates a new instance of <code>OHLCItem</code> with no volume.
      *
      * @param period  the time period.
      * @param open  the open-value.
@@ -64,6 +69,21 @@ public class OHLCItem extends ComparableObjectItem {
         super(period, new OHLC(open, high, low, close));
     }
 
+    /**
+     * Creates a new instance of <code>OHLCItem</code>.
+     *
+     * @param period  the time period.
+     * @param open  the open-value.
+     * @param high  the high-value.
+     * @param low  the low-value.
+     * @param close  the close-value.
+     * @param volume  the volume (<code>Double.NaN</code> if not recorded).
+     */
+    public OHLCItem(RegularTimePeriod period, double open, double high,
+            double low, double close, double volume) {
+        super(period, new OHLC(open, high, low, close, volume));
+    }
+
     /**
      * Returns the period.
      *
@@ -142,4 +162,29 @@ public class OHLCItem extends ComparableObjectItem {
         }
     }
 
+    /**
+     * Returns the volume.
+     *
+     * @return The volume (<code>Double.NaN</code> if not recorded).
+     */
+    public double getVolumeValue() {
+        OHLC ohlc = (OHLC) getObject();
+        if (ohlc != null) {
+            return ohlc.getVolume();
+        }
+        else {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Replaces the values for this item (used by {@link OHLCSeries} to
+     * update an item in place).
+     *
+     * @param ohlc  the new values.
+     */
+    void setOHLC(OHLC ohlc) {
+        setObject(ohlc);
+    }
+
 }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,15 +27,17 @@
  * ---------------
  * OHLCSeries.java
  * ---------------
- * (C) Copyright 2006-2013, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 17-Jun-2009 : Added remove(int) method (DG);
+ * 17-Oct-2026 : Added volume, and methods to append and update items for
+ *               OHLCAggregator (agent);
  *
  */
 
@@ -44,6 +46,9 @@ package org.jfree.data.time.ohlc;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.ComparableObjectItem;
 import org.jfree.data.ComparableObjectSeries;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.time.RegularTimePeriod;
 
 /**
@@ -55,6 +60,9 @@ import org.jfree.data.time.RegularTimePeriod;
  */
 public class OHLCSeries extends ComparableObjectSeries {
 
+    /** For serialization. */
+    private static final long serialVersionUID = 8830417599373881612L;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by period, and duplicate periods will
@@ -91,7 +99,7 @@ public class OHLCSeries extends ComparableObjectSeries {
     }
 
     /**
-     * Adds a data item to the series.
+     * Adds a data item (with no volume) to the series.
      *
      * @param period  the period.
      * @param open  the open-value.
@@ -101,14 +109,23 @@ public class OHLCSeries extends ComparableObjectSeries {
      */
     public void add(RegularTimePeriod period, double open, double high,
             double low, double close) {
-        if (getItemCount() > 0) {
-            OHLCItem item0 = (OHLCItem) this.getDataItem(0);
-            if (!period.getClass().equals(item0.getPeriod().getClass())) {
-                throw new IllegalArgumentException(
-                        "Can't mix RegularTimePeriod class types.");
-            }
-        }
-        super.add(new OHLCItem(period, open, high, low, close), true);
+        add(period, open, high, low, close, Double.NaN);
+    }
+
+    /**
+     * Adds a data item to the series.
+     *
+     * @param period  the period.
+     * @param open  the open-value.
+     * @param high  the high-value.
+     * @param low  the low-value.
+     * @param close  the close-value.
+     * @param volume  the volume (<code>Double.NaN</code> if not recorded).
+     */
+    public void add(RegularTimePeriod period, double open, double high,
+            double low, double close, double volume) {
+        checkPeriodClass(period);
+        super.add(new OHLCItem(period, open, high, low, close, volume), true);
     }
 
     /**
@@ -122,7 +139,61 @@ public class OHLCSeries extends ComparableObjectSeries {
     public void add(OHLCItem item) {
         ParamChecks.nullNotPermitted(item, "item");
         add(item.getPeriod(), item.getOpenValue(), item.getHighValue(),
-                item.getLowValue(), item.getCloseValue());
+                item.getLowValue(), item.getCloseValue(),
+                item.getVolumeValue());
+    }
+
+    /**
+     * Checks that a time period is the same class as the time periods that
+     * are already in the series.
+     *
+     * @param period  the period.
+     */
+    private void checkPeriodClass(RegularTimePeriod period) {
+        if (getItemCount() > 0) {
+            OHLCItem item0 = (OHLCItem) this.getDataItem(0);
+            if (!period.getClass().equals(item0.getPeriod().getClass())) {
+                throw new IllegalArgumentException(
+                        "Can't mix RegularTimePeriod class types.");
+            }
+        }
+    }
+
+    /**
+     * Adds an item to the series (without copying it) and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If the item is
+     * added at the end of the series, the event describes the appended item.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    void append(OHLCItem item) {
+        checkPeriodClass(item.getPeriod());
+        int count = getItemCount();
+        super.add(item, false);
+        int last = getItemCount() - 1;
+        if (last >= 0 && getDataItem(last) == item) {
+            fireSeriesChanged(new SeriesChangeInfo(
+                    SeriesChangeType.ITEMS_APPENDED, last, last,
+                    count - last));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Replaces the values for an item in the series and sends a
+     * {@link SeriesChangeEvent} (describing the updated item) to all
+     * registered listeners.
+     *
+     * @param index  the item index.
+     * @param ohlc  the new values (<code>null</code> not permitted).
+     */
+    void update(int index, OHLC ohlc) {
+        OHLCItem item = (OHLCItem) getDataItem(index);
+        item.setOHLC(ohlc);
+        fireSeriesChanged(new SeriesChangeInfo(
+                SeriesChangeType.ITEMS_UPDATED, index, index));
     }
 
     /**
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * -------------------------
  * OHLCSeriesCollection.java
  * -------------------------
- * (C) Copyright 2006-2012, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -39,6 +39,8 @@
  * 23-May-2009 : Added hashCode() implementation (DG);
  * 26-Jun-2009 : Added removeSeries() methods (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
+ * 17-Oct-2026 : Return the volume recorded in each item (agent);
  *
  */
 
@@ -49,12 +51,14 @@ import java.util.List;
 
 import org.jfree.chart.util.HashUtils;
 import org.jfree.chart.util.ObjectUtils;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimePeriodAnchor;
 import org.jfree.data.xy.AbstractXYDataset;
 import org.jfree.data.xy.OHLCDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDomainOrderInfo;
 
 /**
  * A collection of {@link OHLCSeries} objects.
@@ -64,7 +68,7 @@ import org.jfree.data.xy.XYDataset;
  * @see OHLCSeries
  */
 public class OHLCSeriesCollection extends AbstractXYDataset
-                                implements OHLCDataset, Serializable {
+        implements OHLCDataset, XYDomainOrderInfo, Serializable {
 
     /** Storage for the data series. */
     private List<OHLCSeries> data;
@@ -149,6 +153,20 @@ public class OHLCSeriesCollection extends AbstractXYDataset
         return this.data.get(series);
     }
 
+    /**
+     * Returns the order of the x-values in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     *
+     * @see org.jfree.data.ComparableObjectSeries#getDomainOrder()
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return getSeries(series).getDomainOrder();
+    }
+
     /**
      * Returns the key for a series.
      *
@@ -360,31 +378,36 @@ public class OHLCSeriesCollection extends AbstractXYDataset
     }
 
     /**
-     * Returns <code>null</code> always, because this dataset doesn't record
-     * any volume data.
+     * Returns the volume for an item within a series.
      *
-     * @param series  the series index (ignored).
-     * @param item  the item index (ignored).
+     * @param series  the series index.
+     * @param item  the item index.
      *
-     * @return <code>null</code>.
+     * @return The volume (<code>null</code> if the item has no volume).
+     *
+     * @see OHLCItem#getVolumeValue()
      */
     @Override
     public Number getVolume(int series, int item) {
-        return null;
+        double volume = getVolumeValue(series, item);
+        return Double.isNaN(volume) ? null : volume;
     }
 
     /**
-     * Returns <code>Double.NaN</code> always, because this dataset doesn't
-     * record any volume data.
+     * Returns the volume for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
      *
-     * @param series  the series index (ignored).
-     * @param item  the item index (ignored).
+     * @return The volume (<code>Double.NaN</code> if the item has no volume).
      *
-     * @return <code>Double.NaN</code>.
+     * @see OHLCItem#getVolumeValue()
      */
     @Override
     public double getVolumeValue(int series, int item) {
-        return Double.NaN;
+        OHLCSeries s = this.data.get(series);
+        OHLCItem di = (OHLCItem) s.getDataItem(item);
+        return di.getVolumeValue();
     }
 
     /**
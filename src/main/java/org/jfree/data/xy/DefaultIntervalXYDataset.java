@@ -27,10 +27,10 @@
  * -----------------------------
  * DefaultIntervalXYDataset.java
  * -----------------------------
- * (C) Copyright 2006-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2006-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -41,6 +41,7 @@
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 10-Aug-2009 : Fixed typo in Javadocs - see bug 2830419 (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -48,11 +49,15 @@ package org.jfree.data.xy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetUtilities;
 
 /**
  * A dataset that defines a range (interval) for both the x-values and the
@@ -65,7 +70,7 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @since 1.0.3
  */
 public class DefaultIntervalXYDataset extends AbstractIntervalXYDataset
-        implements PublicCloneable {
+        implements XYDomainOrderInfo, PublicCloneable {
 
     /**
      * Storage for the series keys.  This list must be kept in sync with the
@@ -80,6 +85,12 @@ public class DefaultIntervalXYDataset extends AbstractIntervalXYDataset
      */
     private List<double[][]> seriesList;
 
+    /**
+     * The order of the x-values in each series (keyed by the data array,
+     * found on demand).
+     */
+    private transient Map<double[][], DomainOrder> domainOrders;
+
     /**
      * Creates a new <code>DefaultIntervalXYDataset</code> instance, initially
      * containing no data.
@@ -384,6 +395,31 @@ public class DefaultIntervalXYDataset extends AbstractIntervalXYDataset
         return getYValue(series, item);
     }
 
+    /**
+     * Returns the order of the x-values in a series.  The order is found by
+     * iterating over the items the first time it is requested, and is then
+     * remembered until the series is replaced or removed.  If you modify the
+     * data arrays for a series after adding them to the dataset, you should
+     * call {@link #addSeries(Comparable, double[][])} again.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        double[][] data = this.seriesList.get(series);
+        if (this.domainOrders == null) {
+            this.domainOrders = new IdentityHashMap<double[][], DomainOrder>();
+        }
+        DomainOrder result = this.domainOrders.get(data);
+        if (result == null) {
+            result = DatasetUtilities.iterateDomainOrder(this, series);
+            this.domainOrders.put(data, result);
+        }
+        return result;
+    }
+
     /**
      * Adds a series or if a series with the same key already exists replaces
      * the data for that series, then sends a {@link DatasetChangeEvent} to
@@ -415,12 +451,24 @@ public class DefaultIntervalXYDataset extends AbstractIntervalXYDataset
             this.seriesList.add(data);
         }
         else {  // replace an existing series
-            this.seriesList.remove(seriesIndex);
+            discardDomainOrder(this.seriesList.remove(seriesIndex));
             this.seriesList.add(seriesIndex, data);
         }
+        discardDomainOrder(data);
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
+    /**
+     * Discards the domain order (if any) that was found for a data array.
+     *
+     * @param data  the data array.
+     */
+    private void discardDomainOrder(double[][] data) {
+        if (this.domainOrders != null) {
+            this.domainOrders.remove(data);
+        }
+    }
+
     /**
      * Tests this <code>DefaultIntervalXYDataset</code> instance for equality
      * with an arbitrary object.  This method returns <code>true</code> if and
@@ -536,6 +584,7 @@ public class DefaultIntervalXYDataset extends AbstractIntervalXYDataset
             clone.seriesList.add(i, new double[][] {xx, xxStart, xxEnd, yy,
                     yyStart, yyEnd});
         }
+        clone.domainOrders = null;
         return clone;
     }
 
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,12 +27,13 @@
  * --------------------------
  * DefaultTableXYDataset.java
  * --------------------------
- * (C) Copyright 2003-2014, by Richard Atkinson and Contributors.
+ * (C) Copyright 2003-2026, by Richard Atkinson and Contributors.
  *
  * Original Author:  Richard Atkinson;
  * Contributor(s):   Jody Brownell;
  *                   David Gilbert (for Object Refinery Limited);
  *                   Andreas Schroeder;
+ *                   agent;
  *
  * Changes:
  * --------
@@ -58,6 +59,7 @@
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 10-Jun-2009 : Simplified getX() and getY() (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -71,6 +73,7 @@ import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
@@ -82,7 +85,7 @@ import org.jfree.data.general.SeriesChangeEvent;
  */
 public class DefaultTableXYDataset extends AbstractIntervalXYDataset
         implements TableXYDataset, IntervalXYDataset, DomainInfo,
-        PublicCloneable {
+        XYDomainOrderInfo, PublicCloneable {
 
     /**
      * Storage for the data - this list will contain zero, one or many
@@ -237,6 +240,20 @@ public class DefaultTableXYDataset extends AbstractIntervalXYDataset
         return this.data.get(series);
     }
 
+    /**
+     * Returns the order of the x-values in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     *
+     * @see XYSeries#getDomainOrder()
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return getSeries(series).getDomainOrder();
+    }
+
     /**
      * Returns the key for a series.
      *
@@ -27,10 +27,10 @@
  * ---------------------
  * DefaultXYDataset.java
  * ---------------------
- * (C) Copyright 2006-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2006-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -39,6 +39,8 @@
  *               as an existing series (see bug 1589392) (DG);
  * 25-Jan-2007 : Implemented PublicCloneable (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYPyramidInfo (agent);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -46,11 +48,14 @@ package org.jfree.data.xy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetUtilities;
 
 /**
  * A default implementation of the {@link XYDataset} interface that stores
@@ -59,7 +64,8 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @since 1.0.2
  */
 public class DefaultXYDataset extends AbstractXYDataset
-        implements XYDataset, PublicCloneable {
+        implements XYDataset, XYDomainOrderInfo, XYPyramidInfo,
+        PublicCloneable {
 
     /**
      * Storage for the series keys.  This list must be kept in sync with the
@@ -74,6 +80,18 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     private List<double[][]> seriesList;
 
+    /**
+     * The multi-resolution indices that have been created for the series
+     * (keyed by the data array, created on demand).
+     */
+    private transient Map<double[][], XYPyramid> pyramids;
+
+    /**
+     * The order of the x-values in each series (keyed by the data array,
+     * found on demand).
+     */
+    private transient Map<double[][], DomainOrder> domainOrders;
+
     /**
      * Creates a new <code>DefaultXYDataset</code> instance, initially
      * containing no data.
@@ -239,6 +257,57 @@ public class DefaultXYDataset extends AbstractXYDataset
         return getYValue(series, item);
     }
 
+    /**
+     * Returns the order of the x-values in a series.  The order is found by
+     * iterating over the items the first time it is requested, and is then
+     * remembered until the series is replaced or removed.  If you modify the
+     * data arrays for a series after adding them to the dataset, you should
+     * call {@link #addSeries(Comparable, double[][])} again.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        double[][] data = this.seriesList.get(series);
+        if (this.domainOrders == null) {
+            this.domainOrders = new IdentityHashMap<double[][], DomainOrder>();
+        }
+        DomainOrder result = this.domainOrders.get(data);
+        if (result == null) {
+            result = DatasetUtilities.iterateDomainOrder(this, series);
+            this.domainOrders.put(data, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the multi-resolution index for a series.  The index is created
+     * the first time it is requested, and discarded when the series is
+     * replaced or removed.  If you modify the data arrays for a series after
+     * adding them to the dataset, you should call
+     * {@link #addSeries(Comparable, double[][])} again so that the index is
+     * rebuilt.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The index (never <code>null</code>).
+     */
+    @Override
+    public XYPyramid getPyramid(int series) {
+        double[][] data = this.seriesList.get(series);
+        if (this.pyramids == null) {
+            this.pyramids = new IdentityHashMap<double[][], XYPyramid>();
+        }
+        XYPyramid result = this.pyramids.get(data);
+        if (result == null) {
+            result = XYPyramid.createPyramid(this, series);
+            this.pyramids.put(data, result);
+        }
+        return result;
+    }
+
     /**
      * Adds a series or if a series with the same key already exists replaces
      * the data for that series, then sends a {@link DatasetChangeEvent} to
@@ -271,9 +340,10 @@ public class DefaultXYDataset extends AbstractXYDataset
             this.seriesList.add(data);
         }
         else {  // replace an existing series
-            this.seriesList.remove(seriesIndex);
+            discardCachedInfo(this.seriesList.remove(seriesIndex));
             this.seriesList.add(seriesIndex, data);
         }
+        discardCachedInfo(data);
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
@@ -288,11 +358,26 @@ public class DefaultXYDataset extends AbstractXYDataset
         int seriesIndex = indexOf(seriesKey);
         if (seriesIndex >= 0) {
             this.seriesKeys.remove(seriesIndex);
-            this.seriesList.remove(seriesIndex);
+            discardCachedInfo(this.seriesList.remove(seriesIndex));
             notifyListeners(new DatasetChangeEvent(this, this));
         }
     }
 
+    /**
+     * Discards the domain order and multi-resolution index (if any) for a
+     * data array.
+     *
+     * @param data  the data array.
+     */
+    private void discardCachedInfo(double[][] data) {
+        if (this.domainOrders != null) {
+            this.domainOrders.remove(data);
+        }
+        if (this.pyramids != null) {
+            this.pyramids.remove(data);
+        }
+    }
+
     /**
      * Tests this <code>DefaultXYDataset</code> instance for equality with an
      * arbitrary object.  This method returns <code>true</code> if and only if:
@@ -374,6 +459,8 @@ public class DefaultXYDataset extends AbstractXYDataset
             System.arraycopy(y, 0, yy, 0, y.length);
             clone.seriesList.add(i, new double[][] {xx, yy});
         }
+        clone.domainOrders = null;
+        clone.pyramids = null;
         return clone;
     }
 
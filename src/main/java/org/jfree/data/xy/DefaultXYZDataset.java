@@ -27,10 +27,10 @@
  * ----------------------
  * DefaultXYZDataset.java
  * ----------------------
- * (C) Copyright 2006-2012, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -40,6 +40,7 @@
  *               as an existing series (see bug 1589392) (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -47,12 +48,15 @@ package org.jfree.data.xy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetUtilities;
 
 /**
  * A default implementation of the {@link XYZDataset} interface that stores
@@ -61,7 +65,7 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @since 1.0.2
  */
 public class DefaultXYZDataset extends AbstractXYZDataset
-        implements XYZDataset, PublicCloneable {
+        implements XYZDataset, XYDomainOrderInfo, PublicCloneable {
 
     /**
      * Storage for the series keys.  This list must be kept in sync with the
@@ -76,6 +80,12 @@ public class DefaultXYZDataset extends AbstractXYZDataset
      */
     private List<double[][]> seriesList;
 
+    /**
+     * The order of the x-values in each series (keyed by the data array,
+     * found on demand).
+     */
+    private transient Map<double[][], DomainOrder> domainOrders;
+
     /**
      * Creates a new <code>DefaultXYZDataset</code> instance, initially
      * containing no data.
@@ -282,6 +292,31 @@ public class DefaultXYZDataset extends AbstractXYZDataset
         return getZValue(series, item);
     }
 
+    /**
+     * Returns the order of the x-values in a series.  The order is found by
+     * iterating over the items the first time it is requested, and is then
+     * remembered until the series is replaced or removed.  If you modify the
+     * data arrays for a series after adding them to the dataset, you should
+     * call {@link #addSeries(Comparable, double[][])} again.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        double[][] data = this.seriesList.get(series);
+        if (this.domainOrders == null) {
+            this.domainOrders = new IdentityHashMap<double[][], DomainOrder>();
+        }
+        DomainOrder result = this.domainOrders.get(data);
+        if (result == null) {
+            result = DatasetUtilities.iterateDomainOrder(this, series);
+            this.domainOrders.put(data, result);
+        }
+        return result;
+    }
+
     /**
      * Adds a series or if a series with the same key already exists replaces
      * the data for that series, then sends a {@link DatasetChangeEvent} to
@@ -311,9 +346,10 @@ public class DefaultXYZDataset extends AbstractXYZDataset
             this.seriesList.add(data);
         }
         else {  // replace an existing series
-            this.seriesList.remove(seriesIndex);
+            discardDomainOrder(this.seriesList.remove(seriesIndex));
             this.seriesList.add(seriesIndex, data);
         }
+        discardDomainOrder(data);
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
@@ -328,11 +364,22 @@ public class DefaultXYZDataset extends AbstractXYZDataset
         int seriesIndex = indexOf(seriesKey);
         if (seriesIndex >= 0) {
             this.seriesKeys.remove(seriesIndex);
-            this.seriesList.remove(seriesIndex);
+            discardDomainOrder(this.seriesList.remove(seriesIndex));
             notifyListeners(new DatasetChangeEvent(this, this));
         }
     }
 
+    /**
+     * Discards the domain order (if any) that was found for a data array.
+     *
+     * @param data  the data array.
+     */
+    private void discardDomainOrder(double[][] data) {
+        if (this.domainOrders != null) {
+            this.domainOrders.remove(data);
+        }
+    }
+
     /**
      * Tests this <code>DefaultXYDataset</code> instance for equality with an
      * arbitrary object.  This method returns <code>true</code> if and only if:
@@ -422,6 +469,7 @@ public class DefaultXYZDataset extends AbstractXYZDataset
             System.arraycopy(z, 0, zz, 0, z.length);
             clone.seriesList.add(i, new double[][] {xx, yy, zz});
         }
+        clone.domainOrders = null;
         return clone;
     }
 
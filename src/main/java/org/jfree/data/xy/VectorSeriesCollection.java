@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * ---------------------------
  * VectorSeriesCollection.java
  * ---------------------------
- * (C) Copyright 2007-2014, by Object Refinery Limited.
+ * (C) Copyright 2007-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -40,6 +40,7 @@
  * 25-May-2007 : Moved from experimental to the main source tree (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -50,6 +51,7 @@ import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
 
 /**
@@ -58,7 +60,8 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @since 1.0.6
  */
 public class VectorSeriesCollection extends AbstractXYDataset
-        implements VectorXYDataset, PublicCloneable, Serializable {
+        implements VectorXYDataset, XYDomainOrderInfo, PublicCloneable,
+        Serializable {
 
     /** Storage for the data series. */
     private List<VectorSeries> data;
@@ -144,6 +147,20 @@ public class VectorSeriesCollection extends AbstractXYDataset
         return this.data.get(series);
     }
 
+    /**
+     * Returns the order of the x-values in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     *
+     * @see org.jfree.data.ComparableObjectSeries#getDomainOrder()
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return getSeries(series).getDomainOrder();
+    }
+
     /**
      * Returns the key for a series.
      *
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * ------------------------------
  * XIntervalSeriesCollection.java
  * ------------------------------
- * (C) Copyright 2006-2014, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -39,6 +39,7 @@
  * 18-Jan-2008 : Added removeSeries() and removeAllSeries() methods (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -49,6 +50,7 @@ import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
 
 /**
@@ -59,7 +61,8 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @see XIntervalSeries
  */
 public class XIntervalSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, PublicCloneable, Serializable {
+        implements IntervalXYDataset, XYDomainOrderInfo, PublicCloneable,
+        Serializable {
 
     /** Storage for the data series. */
     private List<XIntervalSeries> data;
@@ -111,6 +114,20 @@ public class XIntervalSeriesCollection extends AbstractIntervalXYDataset
         return this.data.get(series);
     }
 
+    /**
+     * Returns the order of the x-values in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     *
+     * @see org.jfree.data.ComparableObjectSeries#getDomainOrder()
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return getSeries(series).getDomainOrder();
+    }
+
     /**
      * Returns the key for a series.
      *
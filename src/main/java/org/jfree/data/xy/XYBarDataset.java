@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * -----------------
  * XYBarDataset.java
  * -----------------
- * (C) Copyright 2004-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2004-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -45,21 +45,25 @@
  *               creation (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
 package org.jfree.data.xy;
 
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
 
 /**
  * A dataset wrapper class that converts a standard {@link XYDataset} into an
  * {@link IntervalXYDataset} suitable for use in creating XY bar charts.
  */
 public class XYBarDataset extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DatasetChangeListener, PublicCloneable {
+        implements IntervalXYDataset, XYDomainOrderInfo, DatasetChangeListener,
+        PublicCloneable {
 
     /** The underlying dataset. */
     private XYDataset underlying;
@@ -117,6 +121,19 @@ public class XYBarDataset extends AbstractIntervalXYDataset
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
+    /**
+     * Returns the order of the x-values in a series of the underlying
+     * dataset.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return DatasetUtilities.findDomainOrder(this.underlying, series);
+    }
+
     /**
      * Returns the number of series in the dataset.
      *
@@ -0,0 +1,502 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * XYDataColumns.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A list of {@link XYDataItem} objects that is backed by two growable arrays
+ * of primitive doubles (one for the x-values and one for the y-values).
+ * Items are created on demand when they are requested through the
+ * <code>List</code> interface, but the x and y-values can also be read
+ * directly (without any allocation) via the {@link #getXValue(int)} and
+ * {@link #getYValue(int)} methods.
+ * <P>
+ * The arrays are used as circular buffers, so that items can be added to or
+ * removed from either end of the list in constant time (this is important
+ * for a series with a maximum item count, where the oldest item is removed
+ * each time a new item is appended).
+ * <P>
+ * A <code>null</code> y-value is stored as <code>Double.NaN</code>, so items
+ * created by this list report a <code>null</code> y-value for any
+ * <code>Double.NaN</code> that was stored.
+ * <P>
+ * This class is used by {@link XYSeries} to implement the columnar storage
+ * mode.
+ */
+class XYDataColumns extends AbstractList<XYDataItem>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3406391638327458512L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values (<code>Double.NaN</code> for null). */
+    private double[] yValues;
+
+    /** The position of the first item in the storage arrays. */
+    private int head;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list with the default initial capacity.
+     */
+    public XYDataColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (must be non-negative).
+     */
+    public XYDataColumns(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative 'initialCapacity' "
+                    + "argument.");
+        }
+        this.xValues = new double[Math.max(initialCapacity, 1)];
+        this.yValues = new double[Math.max(initialCapacity, 1)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The number of items in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the x-value for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[position(index)];
+    }
+
+    /**
+     * Returns the y-value for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[position(index)];
+    }
+
+    /**
+     * Sets the y-value for an item in the list.
+     *
+     * @param index  the item index (zero-based).
+     * @param y  the new y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public void setYValue(int index, double y) {
+        checkIndex(index);
+        this.yValues[position(index)] = y;
+    }
+
+    /**
+     * Returns a new data item for the item at the specified index.  Changes
+     * to the returned item are not reflected in this list.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return A new data item (never <code>null</code>).
+     */
+    @Override
+    public XYDataItem get(int index) {
+        checkIndex(index);
+        int p = position(index);
+        double y = this.yValues[p];
+        return new XYDataItem(Double.valueOf(this.xValues[p]),
+                Double.isNaN(y) ? null : Double.valueOf(y));
+    }
+
+    /**
+     * Replaces the item at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     * @param item  the item (<code>null</code> not permitted).
+     *
+     * @return The item that was replaced.
+     */
+    @Override
+    public XYDataItem set(int index, XYDataItem item) {
+        XYDataItem result = get(index);
+        int p = position(index);
+        this.xValues[p] = item.getXValue();
+        this.yValues[p] = item.getYValue();
+        return result;
+    }
+
+    /**
+     * Inserts an item into the list at the specified index.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(int index, XYDataItem item) {
+        add(index, item.getXValue(), item.getYValue());
+    }
+
+    /**
+     * Appends an (x, y) item to the end of the list.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public void add(double x, double y) {
+        add(this.size, x, y);
+    }
+
+    /**
+     * Inserts an (x, y) item into the list at the specified index.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public void add(int index, double x, double y) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        ensureCapacity(this.size + 1);
+        if (index < this.size - index) {
+            // move the leading items one place towards the front
+            this.head = (this.head == 0 ? this.xValues.length : this.head) - 1;
+            for (int i = 0; i < index; i++) {
+                move(i + 1, i);
+            }
+        } else {
+            // move the trailing items one place towards the back
+            for (int i = this.size; i > index; i--) {
+                move(i - 1, i);
+            }
+        }
+        int p = position(index);
+        this.xValues[p] = x;
+        this.yValues[p] = y;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Appends items to the end of the list, growing the storage arrays at
+     * most once.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, same length
+     *     as <code>x</code>, <code>Double.NaN</code> for missing values).
+     */
+    public void addAll(double[] x, double[] y) {
+        ensureCapacity(this.size + x.length);
+        for (int i = 0; i < x.length; i++) {
+            int p = position(this.size + i);
+            this.xValues[p] = x[i];
+            this.yValues[p] = y[i];
+        }
+        this.size += x.length;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The item that was removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        XYDataItem result = get(index);
+        if (index < this.size - 1 - index) {
+            // move the leading items one place towards the back
+            for (int i = index; i > 0; i--) {
+                move(i - 1, i);
+            }
+            this.head = position(1);
+            this.size--;
+            this.modCount++;
+        } else {
+            removeRange(index, index + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).  Removing items from the front of
+     * the list takes constant time.
+     *
+     * @param fromIndex  the index of the first item to remove.
+     * @param toIndex  the index after the last item to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex
+                    + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        int n = toIndex - fromIndex;
+        if (fromIndex == 0) {
+            this.head = position(n);
+        } else {
+            for (int i = fromIndex; i < this.size - n; i++) {
+                move(i + n, i);
+            }
+        }
+        this.size -= n;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    @Override
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the index of an item with the specified x-value, using a
+     * binary search (so the items must be sorted in ascending order of
+     * x-value).  The result follows the same conventions as
+     * <code>Collections.binarySearch()</code> with
+     * {@link XYDataItem#compareTo(XYDataItem)}.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index of an item with the specified x-value, or
+     *     <code>(-(insertion point) - 1)</code> if there is no such item.
+     */
+    public int binarySearch(double x) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double compare = this.xValues[position(mid)] - x;
+            if (compare < 0.0) {
+                low = mid + 1;
+            } else if (compare > 0.0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first item with the specified x-value, found
+     * by iterating through the items.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index, or <code>-1</code> if there is no such item.
+     */
+    public int indexOf(double x) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.xValues[position(i)] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the x-values into the specified array.
+     *
+     * @param dest  the destination array (length at least
+     *     <code>size()</code>).
+     */
+    public void copyXValues(double[] dest) {
+        copy(this.xValues, dest);
+    }
+
+    /**
+     * Copies the y-values into the specified array.
+     *
+     * @param dest  the destination array (length at least
+     *     <code>size()</code>).
+     */
+    public void copyYValues(double[] dest) {
+        copy(this.yValues, dest);
+    }
+
+    /**
+     * Copies the values for the items in the list from one of the storage
+     * arrays into the specified array, starting at index 0.
+     *
+     * @param src  the storage array.
+     * @param dest  the destination array.
+     */
+    private void copy(double[] src, double[] dest) {
+        int firstPart = Math.min(this.size, src.length - this.head);
+        System.arraycopy(src, this.head, dest, 0, firstPart);
+        System.arraycopy(src, 0, dest, firstPart, this.size - firstPart);
+    }
+
+    /**
+     * Increases the capacity of the storage arrays, if necessary, so that
+     * they can hold at least the specified number of items.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = this.xValues.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1)
+                    + 1);
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of the storage arrays to the current size.
+     */
+    public void trimToSize() {
+        if (this.xValues.length > this.size) {
+            resize(Math.max(this.size, 1));
+        }
+    }
+
+    /**
+     * Replaces the storage arrays with new arrays of the specified length,
+     * with the first item at position 0.
+     *
+     * @param capacity  the new capacity (at least <code>size()</code>).
+     */
+    private void resize(int capacity) {
+        double[] x = new double[capacity];
+        double[] y = new double[capacity];
+        copy(this.xValues, x);
+        copy(this.yValues, y);
+        this.xValues = x;
+        this.yValues = y;
+        this.head = 0;
+    }
+
+    /**
+     * Copies the x and y-values for one item to the position of another item.
+     *
+     * @param from  the index of the source item.
+     * @param to  the index of the destination item.
+     */
+    private void move(int from, int to) {
+        int pFrom = position(from);
+        int pTo = position(to);
+        this.xValues[pTo] = this.xValues[pFrom];
+        this.yValues[pTo] = this.yValues[pFrom];
+    }
+
+    /**
+     * Returns the position in the storage arrays of the item with the
+     * specified index.
+     *
+     * @param index  the index (zero-based, in the range <code>0</code> to
+     *     <code>capacity</code>).
+     *
+     * @return The position.
+     */
+    private int position(int index) {
+        int p = this.head + index;
+        if (p >= this.xValues.length) {
+            p -= this.xValues.length;
+        }
+        return p;
+    }
+
+    /**
+     * Checks that the index refers to an item in the list.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns an independent copy of this list.
+     *
+     * @return A clone.
+     */
+    @Override
+    public XYDataColumns clone() {
+        try {
+            XYDataColumns clone = (XYDataColumns) super.clone();
+            clone.resize(Math.max(this.size, 1));
+            clone.modCount = 0;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYDomainOrderInfo.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.DomainOrder;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * to report the order of the x-values in each series.  A dataset whose
+ * series are not all sorted can still allow a binary search of the series
+ * that are (see
+ * {@link org.jfree.chart.renderer.RendererUtilities#findLiveItems(XYDataset,
+ * int, double, double)}).
+ */
+public interface XYDomainOrderInfo {
+
+    /**
+     * Returns the order of the x-values in a series.  Implementations should
+     * return this in constant (or amortised constant) time.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order (never <code>null</code>).
+     */
+    public DomainOrder getDomainOrder(int series);
+
+}
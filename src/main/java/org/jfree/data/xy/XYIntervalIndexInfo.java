@@ -0,0 +1,70 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * XYIntervalIndexInfo.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An interface that can (optionally) be implemented by an
+ * {@link IntervalXYDataset} whose x-values are not sorted, to find the items
+ * whose x-intervals (from the start x-value to the end x-value) overlap a
+ * range without visiting every item.  This is used to find the visible items
+ * in a series (see
+ * {@link org.jfree.chart.renderer.RendererUtilities#findLiveItems(XYDataset,
+ * int, double, double)}).
+ */
+public interface XYIntervalIndexInfo {
+
+    /**
+     * Returns the indices of the items in a series whose x-intervals overlap
+     * a range (that is, the items with a start x-value less than or equal to
+     * <code>upperX</code> and an end x-value greater than or equal to
+     * <code>lowerX</code>).
+     *
+     * @param series  the series index (zero-based).
+     * @param lowerX  the lower bound of the range.
+     * @param upperX  the upper bound of the range.
+     *
+     * @return The item indices, in ascending order (never
+     *     <code>null</code>).
+     */
+    public int[] getOverlappingItems(int series, double lowerX,
+            double upperX);
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * -------------------------------
  * XYIntervalSeriesCollection.java
  * -------------------------------
- * (C) Copyright 2006-2014, by Object Refinery Limited.
+ * (C) Copyright 2006-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -41,6 +41,7 @@
  * 18-Jan-2008 : Added removeSeries() and removeAllSeries() methods (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -51,6 +52,7 @@ import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
 
 /**
@@ -61,7 +63,8 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @see XYIntervalSeries
  */
 public class XYIntervalSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, PublicCloneable, Serializable {
+        implements IntervalXYDataset, XYDomainOrderInfo, PublicCloneable,
+        Serializable {
 
     /** Storage for the data series. */
     private List<XYIntervalSeries> data;
@@ -113,6 +116,20 @@ public class XYIntervalSeriesCollection extends AbstractIntervalXYDataset
         return this.data.get(series);
     }
 
+    /**
+     * Returns the order of the x-values in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     *
+     * @see org.jfree.data.ComparableObjectSeries#getDomainOrder()
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return getSeries(series).getDomainOrder();
+    }
+
     /**
      * Returns the key for a series.
      *
@@ -391,4 +408,4 @@ public class XYIntervalSeriesCollection extends AbstractIntervalXYDataset
         return clone;
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
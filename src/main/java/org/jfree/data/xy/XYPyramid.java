@@ -0,0 +1,449 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * XYPyramid.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A multi-resolution (level of detail) index of the items in one series of
+ * an {@link XYDataset}.  At each level the items are divided into buckets of
+ * equal size (32 items at level 0, doubling at each level above), and for
+ * each bucket the index records the items with the minimum and maximum
+ * y-values.  A renderer that only needs the first, last, minimum and maximum
+ * items in each pixel column can then read a few aggregates per column
+ * instead of every item in the series.
+ * <P>
+ * The index is built incrementally:  appending an item or removing items
+ * from the front of the series takes time proportional to the number of
+ * levels (which grows with the logarithm of the item count).  Any other
+ * change to the series requires the index to be rebuilt.
+ *
+ * @see XYPyramidInfo
+ */
+public class XYPyramid {
+
+    /** The number of items in each bucket at level 0. */
+    public static final int MINIMUM_BUCKET_SIZE = 32;
+
+    /** The base 2 logarithm of the bucket size at level 0. */
+    private static final int BASE_SHIFT = 5;
+
+    /** The levels (level 0 always exists). */
+    private List<Level> levels;
+
+    /**
+     * The sequence number of the first item (equal to the number of items
+     * that have been removed from the front of the series).
+     */
+    private long origin;
+
+    /** The number of items. */
+    private int itemCount;
+
+    /** The x-value of the last item. */
+    private double lastX;
+
+    /** A flag that records whether or not the x-values are ascending. */
+    private boolean ascending;
+
+    /**
+     * Creates a new empty index.
+     */
+    public XYPyramid() {
+        this.levels = new ArrayList<Level>();
+        clear();
+    }
+
+    /**
+     * Creates a new index for one series in a dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index (zero-based).
+     *
+     * @return The index.
+     */
+    public static XYPyramid createPyramid(XYDataset dataset, int series) {
+        XYPyramid result = new XYPyramid();
+        int itemCount = dataset.getItemCount(series);
+        for (int item = 0; item < itemCount; item++) {
+            result.add(dataset.getXValue(series, item),
+                    dataset.getYValue(series, item));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of items in the index.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns <code>true</code> if the x-values of the items are in ascending
+     * order (ignoring <code>Double.NaN</code> values), and <code>false</code>
+     * otherwise.  The buckets are only useful for finding the items in each
+     * pixel column if the x-values are ascending.
+     *
+     * @return A boolean.
+     */
+    public boolean isAscending() {
+        return this.ascending;
+    }
+
+    /**
+     * Returns the number of levels in the index.
+     *
+     * @return The level count (always at least 1).
+     */
+    public int getLevelCount() {
+        return this.levels.size();
+    }
+
+    /**
+     * Returns the number of items in each bucket at the specified level.
+     *
+     * @param level  the level (in the range <code>0</code> to
+     *     <code>getLevelCount() - 1</code>).
+     *
+     * @return The bucket size.
+     */
+    public int getBucketSize(int level) {
+        return 1 << this.levels.get(level).shift;
+    }
+
+    /**
+     * Returns the index of the first item in the bucket (at the specified
+     * level) that contains an item.  The result is negative if the first
+     * items in the bucket have been removed from the series.
+     *
+     * @param level  the level.
+     * @param item  the item index (zero-based).
+     *
+     * @return The index of the first item in the bucket.
+     */
+    public int getBucketStart(int level, int item) {
+        int shift = this.levels.get(level).shift;
+        long start = ((this.origin + item) >> shift) << shift;
+        return (int) (start - this.origin);
+    }
+
+    /**
+     * Returns the index of the item with the minimum y-value in the bucket
+     * (at the specified level) that contains an item.  If the bucket contains
+     * items that have been removed from the front of the series, the result
+     * may refer to one of those items.
+     *
+     * @param level  the level.
+     * @param item  the item index (zero-based).
+     *
+     * @return The item index (-1 if all the y-values in the bucket are
+     *     <code>Double.NaN</code>).
+     */
+    public int getMinItem(int level, int item) {
+        Level l = this.levels.get(level);
+        int p = l.position(this.origin + item);
+        return l.minOffset[p] < 0 ? -1
+                : getBucketStart(level, item) + l.minOffset[p];
+    }
+
+    /**
+     * Returns the index of the item with the maximum y-value in the bucket
+     * (at the specified level) that contains an item.  If the bucket contains
+     * items that have been removed from the front of the series, the result
+     * may refer to one of those items.
+     *
+     * @param level  the level.
+     * @param item  the item index (zero-based).
+     *
+     * @return The item index (-1 if all the y-values in the bucket are
+     *     <code>Double.NaN</code>).
+     */
+    public int getMaxItem(int level, int item) {
+        Level l = this.levels.get(level);
+        int p = l.position(this.origin + item);
+        return l.maxOffset[p] < 0 ? -1
+                : getBucketStart(level, item) + l.maxOffset[p];
+    }
+
+    /**
+     * Returns <code>true</code> if the bucket (at the specified level) that
+     * contains an item also contains an item with a <code>Double.NaN</code>
+     * x- or y-value.
+     *
+     * @param level  the level.
+     * @param item  the item index (zero-based).
+     *
+     * @return A boolean.
+     */
+    public boolean hasNaN(int level, int item) {
+        Level l = this.levels.get(level);
+        return l.nan[l.position(this.origin + item)];
+    }
+
+    /**
+     * Adds an item to the end of the index.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        if (!Double.isNaN(x)) {
+            if (x < this.lastX) {
+                this.ascending = false;
+            }
+            this.lastX = x;
+        }
+        long n = this.origin + this.itemCount;
+        boolean nan = Double.isNaN(x) || Double.isNaN(y);
+        for (Level level : this.levels) {
+            level.add(n, y, nan);
+        }
+        this.itemCount++;
+        Level top = this.levels.get(this.levels.size() - 1);
+        while (top.count > 2) {
+            top = new Level(top);
+            this.levels.add(top);
+        }
+    }
+
+    /**
+     * Removes items from the front of the index.
+     *
+     * @param count  the number of items to remove.
+     */
+    public void removeFirst(int count) {
+        if (count < 0 || count > this.itemCount) {
+            throw new IllegalArgumentException("Invalid 'count' argument.");
+        }
+        if (count == this.itemCount) {
+            clear();
+            return;
+        }
+        this.origin += count;
+        this.itemCount -= count;
+        for (Level level : this.levels) {
+            level.removeBefore(this.origin);
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        this.levels.clear();
+        this.levels.add(new Level(BASE_SHIFT));
+        this.origin = 0L;
+        this.itemCount = 0;
+        this.lastX = Double.NEGATIVE_INFINITY;
+        this.ascending = true;
+    }
+
+    /**
+     * The buckets at one level of the index.
+     */
+    private static class Level {
+
+        /** The base 2 logarithm of the bucket size. */
+        private final int shift;
+
+        /** The bucket number of the first bucket in the arrays. */
+        private long base;
+
+        /** The number of buckets in the arrays. */
+        private int count;
+
+        /** The offset of the minimum item in each bucket (or -1). */
+        private int[] minOffset;
+
+        /** The offset of the maximum item in each bucket (or -1). */
+        private int[] maxOffset;
+
+        /** The minimum y-value in each bucket. */
+        private double[] minY;
+
+        /** The maximum y-value in each bucket. */
+        private double[] maxY;
+
+        /** Flags for the buckets that contain NaN values. */
+        private boolean[] nan;
+
+        /**
+         * Creates an empty level.
+         *
+         * @param shift  the base 2 logarithm of the bucket size.
+         */
+        Level(int shift) {
+            this.shift = shift;
+            this.base = 0L;
+            this.count = 0;
+            this.minOffset = new int[16];
+            this.maxOffset = new int[16];
+            this.minY = new double[16];
+            this.maxY = new double[16];
+            this.nan = new boolean[16];
+        }
+
+        /**
+         * Creates a level by merging pairs of buckets from the level below.
+         *
+         * @param below  the level below.
+         */
+        Level(Level below) {
+            this(below.shift + 1);
+            this.base = below.base >> 1;
+            int half = 1 << below.shift;
+            for (int i = 0; i < below.count; i++) {
+                long bucket = below.base + i;
+                int p = (int) ((bucket >> 1) - this.base);
+                if (p == this.count) {
+                    newBucket();
+                }
+                int offset = (bucket & 1) == 0 ? 0 : half;
+                this.nan[p] |= below.nan[i];
+                if (below.minOffset[i] >= 0) {
+                    update(p, offset + below.minOffset[i], below.minY[i]);
+                    update(p, offset + below.maxOffset[i], below.maxY[i]);
+                }
+            }
+        }
+
+        /**
+         * Returns the position in the arrays of the bucket containing the
+         * item with the specified sequence number.
+         *
+         * @param n  the sequence number.
+         *
+         * @return The position.
+         */
+        int position(long n) {
+            return (int) ((n >> this.shift) - this.base);
+        }
+
+        /**
+         * Adds an item.
+         *
+         * @param n  the sequence number of the item.
+         * @param y  the y-value.
+         * @param nan  a flag indicating that the x- or y-value is NaN.
+         */
+        void add(long n, double y, boolean nan) {
+            int p = position(n);
+            if (p == this.count) {
+                newBucket();
+            }
+            if (nan) {
+                this.nan[p] = true;
+            } else {
+                update(p, (int) (n - ((n >> this.shift) << this.shift)), y);
+            }
+        }
+
+        /**
+         * Appends an empty bucket to the arrays.
+         */
+        private void newBucket() {
+            if (this.count == this.minOffset.length) {
+                int capacity = this.count * 2;
+                this.minOffset = Arrays.copyOf(this.minOffset, capacity);
+                this.maxOffset = Arrays.copyOf(this.maxOffset, capacity);
+                this.minY = Arrays.copyOf(this.minY, capacity);
+                this.maxY = Arrays.copyOf(this.maxY, capacity);
+                this.nan = Arrays.copyOf(this.nan, capacity);
+            }
+            this.minOffset[this.count] = -1;
+            this.maxOffset[this.count] = -1;
+            this.nan[this.count] = false;
+            this.count++;
+        }
+
+        /**
+         * Updates the minimum and maximum for a bucket.
+         *
+         * @param p  the position of the bucket.
+         * @param offset  the offset of the item within the bucket.
+         * @param y  the y-value (not NaN).
+         */
+        private void update(int p, int offset, double y) {
+            if (this.minOffset[p] < 0) {
+                this.minOffset[p] = offset;
+                this.maxOffset[p] = offset;
+                this.minY[p] = y;
+                this.maxY[p] = y;
+            } else if (y < this.minY[p]) {
+                this.minOffset[p] = offset;
+                this.minY[p] = y;
+            } else if (y > this.maxY[p]) {
+                this.maxOffset[p] = offset;
+                this.maxY[p] = y;
+            }
+        }
+
+        /**
+         * Discards the buckets that only contain items before the specified
+         * sequence number.  The arrays are only compacted once at least half
+         * the buckets can be discarded, so the amortised cost is constant.
+         *
+         * @param n  the sequence number of the first remaining item.
+         */
+        void removeBefore(long n) {
+            int drop = position(n);
+            if (drop > 0 && drop * 2 >= this.count) {
+                int remaining = this.count - drop;
+                System.arraycopy(this.minOffset, drop, this.minOffset, 0,
+                        remaining);
+                System.arraycopy(this.maxOffset, drop, this.maxOffset, 0,
+                        remaining);
+                System.arraycopy(this.minY, drop, this.minY, 0, remaining);
+                System.arraycopy(this.maxY, drop, this.maxY, 0, remaining);
+                System.arraycopy(this.nan, drop, this.nan, 0, remaining);
+                this.base += drop;
+                this.count = remaining;
+            }
+        }
+
+    }
+
+}
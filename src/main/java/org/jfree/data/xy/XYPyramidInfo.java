@@ -0,0 +1,63 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * XYPyramidInfo.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * to provide a multi-resolution index of the items in each series.
+ * Renderers that decimate the data items (see
+ * {@link org.jfree.chart.renderer.xy.XYItemRendererState}) use the index to
+ * avoid reading every item in a large series.
+ */
+public interface XYPyramidInfo {
+
+    /**
+     * Returns the multi-resolution index for a series.  The index must be up
+     * to date with the items in the series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The index (possibly <code>null</code>, if no index is
+     *     available for the series).
+     */
+    public XYPyramid getPyramid(int series);
+
+}
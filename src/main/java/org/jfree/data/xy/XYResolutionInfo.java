@@ -0,0 +1,76 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * XYResolutionInfo.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * that can supply a coarser (aggregated) version of its data for drawing
+ * when there are many items per pixel.  The
+ * {@link org.jfree.chart.plot.XYPlot} class asks for the dataset that matches
+ * the current range of the domain axis and the size of the data area each
+ * time the dataset is drawn, and passes the items from that dataset to the
+ * renderer.
+ * <P>
+ * The items in the dataset returned are not the items in this dataset, so
+ * the plot does not create entities for them (the entities would refer to
+ * the other dataset), and renderer settings that refer to items by their
+ * series and item indices (for example, the highlighting of selected items)
+ * are applied to the items in the other dataset.
+ */
+public interface XYResolutionInfo {
+
+    /**
+     * Returns the dataset that should be drawn in place of this dataset when
+     * the x-values from <code>lowerX</code> to <code>upperX</code> are drawn
+     * across the specified number of pixels.  The dataset returned must
+     * contain the same series, in the same order, as this dataset (but can
+     * contain fewer items), and it can be this dataset.
+     *
+     * @param lowerX  the lower bound of the visible x-values.
+     * @param upperX  the upper bound of the visible x-values.
+     * @param pixels  the number of pixels available for the x-values.
+     *
+     * @return The dataset to draw (never <code>null</code>).
+     */
+    public XYDataset getDatasetForResolution(double lowerX, double upperX,
+            double pixels);
+
+}
@@ -35,6 +35,7 @@
  *                   Richard Atkinson;
  *                   Michel Santos;
  *                   Ted Schwartz (fix for bug 1955483);
+ *                   agent;
  *
  * Changes
  * -------
@@ -75,19 +76,36 @@
  * 10-Jun-2009 : Make clones to isolate XYDataItem instances used
  *               for data storage (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added columnar storage mode and primitive accessors (agent);
+ * 17-Oct-2026 : Store items in a circular buffer so that the oldest item can
+ *               be dropped in constant time (agent);
+ * 17-Oct-2026 : Track bounds with sliding windows when there is a maximum
+ *               item count (agent);
+ * 17-Oct-2026 : Added addAll() methods for bulk appends (agent);
+ * 17-Oct-2026 : Describe the changed items in change events (agent);
+ * 17-Oct-2026 : Track the order of the x-values (agent);
  * 
  */
 
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.RingBufferList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.SlidingWindowMinMax;
 
 /**
  * Represents a sequence of zero or more data items in the form (x, y).  By
@@ -95,6 +113,16 @@ import org.jfree.data.general.SeriesException;
  * and duplicate x-values are permitted.  Both the sorting and duplicate
  * defaults can be changed in the constructor.  Y-values can be
  * <code>null</code> to represent missing values.
+ * <P>
+ * A series can be created in <i>columnar</i> mode (see
+ * {@link #XYSeries(Comparable, boolean, boolean, boolean)}), in which case
+ * the x and y-values are stored in arrays of primitive doubles rather than
+ * as a list of {@link XYDataItem} objects.  This uses much less memory for
+ * large series, and the {@link #getXValue(int)} and {@link #getYValue(int)}
+ * methods can read the values without any object allocation.  All the
+ * existing methods (including the <code>add()</code> methods) work in the
+ * same way in either mode, except that in columnar mode a <code>null</code>
+ * y-value is stored as <code>Double.NaN</code> (and vice versa).
  */
 public class XYSeries extends Series implements Cloneable, Serializable {
 
@@ -108,6 +136,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** Storage for the data items in the series. */
     protected List<XYDataItem> data;
 
+    /**
+     * The primitive storage for the series when it is in columnar mode
+     * (otherwise <code>null</code>).  When set, this is the same object as
+     * <code>data</code>.
+     */
+    private XYDataColumns columns;
+
     /** The maximum number of items for the series. */
     private int maximumItemCount = Integer.MAX_VALUE;
 
@@ -132,6 +167,26 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * Tracks the bounds of the x-values when the series has a maximum item
+     * count and is not sorted (otherwise <code>null</code>).
+     */
+    private SlidingWindowMinMax xWindow;
+
+    /**
+     * Tracks the bounds of the y-values when the series has a maximum item
+     * count (otherwise <code>null</code>).  This allows the bounds to be
+     * updated without iterating through all the items when the oldest item
+     * is dropped from the series.
+     */
+    private SlidingWindowMinMax yWindow;
+
+    /**
+     * The order of the x-values in an unsorted series (<code>null</code> if
+     * it has to be found by iterating over the items).
+     */
+    private transient DomainOrder domainOrder;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -139,7 +194,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *
      * @param key  the series key (<code>null</code> not permitted).
      */
-    public XYSeries(Comparable key) {
+    public XYSeries(Comparable<?> key) {
         this(key, true, true);
     }
 
@@ -151,7 +206,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @param autoSort  a flag that controls whether or not the items in the
      *                  series are sorted.
      */
-    public XYSeries(Comparable key, boolean autoSort) {
+    public XYSeries(Comparable<?> key, boolean autoSort) {
         this(key, autoSort, true);
     }
 
@@ -165,16 +220,43 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @param allowDuplicateXValues  a flag that controls whether duplicate
      *                               x-values are allowed.
      */
-    public XYSeries(Comparable key, boolean autoSort,
+    public XYSeries(Comparable<?> key, boolean autoSort,
             boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, false);
+    }
+
+    /**
+     * Constructs a new xy-series that contains no data.  If the
+     * <code>columnar</code> flag is set, the x and y-values are stored in
+     * arrays of primitive doubles instead of a list of {@link XYDataItem}
+     * objects, which is recommended for series with a large number of items.
+     * Existing code that populates a series via the <code>add()</code>
+     * methods works unchanged with a columnar series.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param columnar  a flag that controls whether or not the data is
+     *                  stored in arrays of primitive doubles.
+     */
+    public XYSeries(Comparable<?> key, boolean autoSort,
+            boolean allowDuplicateXValues, boolean columnar) {
         super(key);
-        this.data = new java.util.ArrayList<XYDataItem>();
+        if (columnar) {
+            this.columns = new XYDataColumns();
+            this.data = this.columns;
+        } else {
+            this.data = new RingBufferList<XYDataItem>();
+        }
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
         this.minX = Double.NaN;
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        this.domainOrder = DomainOrder.ASCENDING;
     }
 
     /**
@@ -240,19 +322,15 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
-     * @param item  the item added (<code>null</code> not permitted).
-     *
-     * @since 1.0.13
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added (<code>Double.NaN</code> for a
+     *     missing value).
      */
-    private void updateBoundsForAddedItem(XYDataItem item) {
-        double x = item.getXValue();
+    private void updateBoundsForAddedItem(double x, double y) {
         this.minX = minIgnoreNaN(this.minX, x);
         this.maxX = maxIgnoreNaN(this.maxX, x);
-        if (item.getY() != null) {
-            double y = item.getYValue();
-            this.minY = minIgnoreNaN(this.minY, y);
-            this.maxY = maxIgnoreNaN(this.maxY, y);
-        }
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
     }
 
     /**
@@ -264,34 +342,136 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.13
      */
     private void updateBoundsForRemovedItem(XYDataItem item) {
+        updateBoundsForRemovedItem(item.getXValue(), item.getYValue());
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that an item with the specified values has just been removed.
+     *
+     * @param x  the x-value of the item removed.
+     * @param y  the y-value of the item removed (<code>Double.NaN</code> for
+     *     a missing value).
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
         boolean itemContributesToXBounds = false;
         boolean itemContributesToYBounds = false;
-        double x = item.getXValue();
         if (!Double.isNaN(x)) {
             if (x <= this.minX || x >= this.maxX) {
                 itemContributesToXBounds = true;
             }
         }
-        if (item.getY() != null) {
-            double y = item.getYValue();
-            if (!Double.isNaN(y)) {
-                if (y <= this.minY || y >= this.maxY) {
-                    itemContributesToYBounds = true;
-                }
+        if (!Double.isNaN(y)) {
+            if (y <= this.minY || y >= this.maxY) {
+                itemContributesToYBounds = true;
             }
         }
         if (itemContributesToYBounds) {
             findBoundsByIteration();
         } else if (itemContributesToXBounds) {
-            if (getAutoSort()) {
-                this.minX = getX(0).doubleValue();
-                this.maxX = getX(getItemCount() - 1).doubleValue();
+            if (getAutoSort() && getItemCount() > 0) {
+                this.minX = getXValue(0);
+                this.maxX = getXValue(getItemCount() - 1);
             } else {
                 findBoundsByIteration();
             }
         }
     }
 
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been inserted into the
+     * series at the specified index.
+     *
+     * @param index  the index of the new item.
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added (<code>Double.NaN</code> for a
+     *     missing value).
+     */
+    private void updateBoundsForInsertedItem(int index, double x, double y) {
+        if (this.yWindow == null) {
+            updateBoundsForAddedItem(x, y);
+        } else if (index == getItemCount() - 1) {
+            updateBoundsForAddedItem(x, y);
+            this.yWindow.append(y);
+            if (this.xWindow != null) {
+                this.xWindow.append(x);
+            }
+        } else {
+            // the windows only support appending at the end of the series
+            findBoundsByIteration();
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the y-value of an item has just been changed.  When the
+     * series has a maximum item count, the sliding window is updated in
+     * place, otherwise the items are only iterated over when the old value
+     * was the minimum or maximum.
+     *
+     * @param index  the index of the item.
+     * @param oldY  the previous y-value (<code>Double.NaN</code> for a
+     *     missing value).
+     * @param newY  the new y-value (<code>Double.NaN</code> for a missing
+     *     value).
+     */
+    private void updateBoundsForUpdatedItem(int index, double oldY,
+            double newY) {
+        if (this.yWindow != null) {
+            this.yWindow.set(index, newY);
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
+        } else if (!Double.isNaN(oldY)
+                && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        } else {
+            this.minY = minIgnoreNaN(this.minY, newY);
+            this.maxY = maxIgnoreNaN(this.maxY, newY);
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the first item in the series has just been removed.
+     * When the series has a maximum item count, this doesn't require any
+     * iteration through the data items.
+     *
+     * @param x  the x-value of the item removed.
+     * @param y  the y-value of the item removed (<code>Double.NaN</code> for
+     *     a missing value).
+     */
+    private void updateBoundsForRemovedFirstItem(double x, double y) {
+        if (this.yWindow == null) {
+            updateBoundsForRemovedItem(x, y);
+            return;
+        }
+        this.yWindow.removeFirst();
+        if (this.xWindow != null) {
+            this.xWindow.removeFirst();
+        }
+        updateBoundsFromWindows();
+    }
+
+    /**
+     * Sets the cached values for the minimum and maximum data values from
+     * the sliding windows (which must not be <code>null</code>).
+     */
+    private void updateBoundsFromWindows() {
+        this.minY = this.yWindow.getMinimum();
+        this.maxY = this.yWindow.getMaximum();
+        if (this.xWindow != null) {
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+        } else if (getItemCount() > 0) {
+            this.minX = getXValue(0);
+            this.maxX = getXValue(getItemCount() - 1);
+        } else {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+    }
+
     /**
      * Finds the bounds of the x and y values for the series, by iterating
      * through all the data items.
@@ -303,8 +483,23 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
-        for (XYDataItem item : this.data) {
-            updateBoundsForAddedItem(item);
+        if (this.yWindow != null) {
+            this.yWindow.clear();
+        }
+        if (this.xWindow != null) {
+            this.xWindow.clear();
+        }
+        int count = getItemCount();
+        for (int i = 0; i < count; i++) {
+            double x = getXValue(i);
+            double y = getYValue(i);
+            updateBoundsForAddedItem(x, y);
+            if (this.yWindow != null) {
+                this.yWindow.append(y);
+            }
+            if (this.xWindow != null) {
+                this.xWindow.append(x);
+            }
         }
     }
 
@@ -319,6 +514,59 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.autoSort;
     }
 
+    /**
+     * Returns the order of the x-values in the series.  This is always
+     * {@link DomainOrder#ASCENDING} for a series that is automatically
+     * sorted.  For other series, the order is updated as items are added
+     * and removed, so this method usually takes constant time (an unsorted
+     * series that happens to have ascending x-values is still reported as
+     * ascending, which allows renderers to find the visible items with a
+     * binary search).
+     *
+     * @return The domain order (either {@link DomainOrder#ASCENDING} or
+     *     {@link DomainOrder#NONE}).
+     */
+    public DomainOrder getDomainOrder() {
+        if (this.autoSort) {
+            return DomainOrder.ASCENDING;
+        }
+        if (this.domainOrder == null) {
+            this.domainOrder = DomainOrder.ASCENDING;
+            updateOrderForAppendedItems(1);
+        }
+        return this.domainOrder;
+    }
+
+    /**
+     * Updates the domain order after items have been appended to an unsorted
+     * series.
+     *
+     * @param start  the index of the first appended item.
+     */
+    private void updateOrderForAppendedItems(int start) {
+        if (this.autoSort || this.domainOrder != DomainOrder.ASCENDING) {
+            return;
+        }
+        int count = getItemCount();
+        for (int i = Math.max(start, 1); i < count; i++) {
+            if (!(getXValue(i - 1) <= getXValue(i))) {
+                this.domainOrder = DomainOrder.NONE;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Updates the domain order after items have been removed from the
+     * series.  Removing items can't make ascending x-values unsorted, but it
+     * can make unsorted x-values ascending.
+     */
+    private void updateOrderForRemovedItems() {
+        if (this.domainOrder == DomainOrder.NONE) {
+            this.domainOrder = null;
+        }
+    }
+
     /**
      * Returns a flag that controls whether duplicate x-values are allowed.
      * The default value is {@code true}.  This flag can only be set in the 
@@ -332,6 +580,18 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.allowDuplicateXValues;
     }
 
+    /**
+     * Returns <code>true</code> if the data for this series is stored in
+     * arrays of primitive doubles, and <code>false</code> if it is stored as
+     * a list of {@link XYDataItem} objects.  This flag can only be set in the
+     * constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean isColumnar() {
+        return this.columns != null;
+    }
+
     /**
      * Returns the number of items in the series.
      *
@@ -377,15 +637,38 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * but if it is applied later, it may cause some items to be removed from
      * the series (in which case a {@link SeriesChangeEvent} will be sent to
      * all registered listeners).
+     * <p>
+     * While a maximum item count is set, the bounds of the x and y-values
+     * are maintained with a {@link SlidingWindowMinMax} so that dropping the
+     * oldest item never requires an iteration through the series.
      *
      * @param maximum  the maximum number of items for the series.
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
+        boolean recalculate = false;
+        if (maximum < Integer.MAX_VALUE) {
+            if (this.yWindow == null) {
+                this.yWindow = new SlidingWindowMinMax();
+                if (!this.autoSort) {
+                    this.xWindow = new SlidingWindowMinMax();
+                }
+                recalculate = true;
+            }
+        } else {
+            this.xWindow = null;
+            this.yWindow = null;
+        }
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            updateOrderForRemovedItems();
+            recalculate = true;
+        }
+        if (recalculate) {
             findBoundsByIteration();
+        }
+        if (remove > 0) {
             fireSeriesChanged();
         }
     }
@@ -409,7 +692,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @param y  the y value.
      */
     public void add(double x, double y) {
-        add(new Double(x), new Double(y), true);
+        add(Double.valueOf(x), Double.valueOf(y), true);
     }
 
     /**
@@ -423,7 +706,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *                listeners.
      */
     public void add(double x, double y, boolean notify) {
-        add(new Double(x), new Double(y), notify);
+        if (this.columns != null) {
+            addToColumns(x, y, notify);
+        } else {
+            add(Double.valueOf(x), Double.valueOf(y), notify);
+        }
     }
 
     /**
@@ -435,7 +722,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @param y  the y value (<code>null</code> permitted).
      */
     public void add(double x, Number y) {
-        add(new Double(x), y);
+        add(Double.valueOf(x), y);
     }
 
     /**
@@ -450,7 +737,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *                listeners.
      */
     public void add(double x, Number y, boolean notify) {
-        add(new Double(x), y, notify);
+        add(Double.valueOf(x), y, notify);
     }
 
     /**
@@ -502,11 +789,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void add(XYDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
+        if (this.columns != null) {
+            addToColumns(item.getXValue(), item.getYValue(), notify);
+            return;
+        }
         item = item.copy();
+        int index = this.data.size();
         if (this.autoSort) {
-            int index = Collections.binarySearch(this.data, item);
+            index = Collections.binarySearch(this.data, item);
             if (index < 0) {
-                this.data.add(-index - 1, item);
+                index = -index - 1;
             } else {
                 if (this.allowDuplicateXValues) {
                     // need to make sure we are adding *after* any duplicates
@@ -515,11 +807,6 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                             this.data.get(index)) == 0) {
                         index++;
                     }
-                    if (index < this.data.size()) {
-                        this.data.add(index, item);
-                    } else {
-                        this.data.add(item);
-                    }
                 } else {
                     throw new SeriesException("X-value already exists.");
                 }
@@ -529,23 +816,338 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             if (!this.allowDuplicateXValues) {
                 // can't allow duplicate values, so we need to check whether
                 // there is an item with the given x-value already
-                int index = indexOf(item.getX());
-                if (index >= 0) {
+                if (indexOf(item.getX()) >= 0) {
                     throw new SeriesException("X-value already exists.");
                 }
             }
-            this.data.add(item);
         }
-        updateBoundsForAddedItem(item);
+        this.data.add(index, item);
+        updateBoundsForInsertedItem(index, item.getXValue(),
+                item.getYValue());
+        updateOrderForAppendedItems(index);
+        int removedCount = 0;
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            updateBoundsForRemovedFirstItem(removed.getXValue(),
+                    removed.getYValue());
+            updateOrderForRemovedItems();
+            removedCount = 1;
         }
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(itemAddedInfo(index, removedCount));
         }
     }
 
+    /**
+     * Adds an (x, y) item to the primitive storage used in columnar mode and,
+     * if requested, sends a {@link SeriesChangeEvent} to all registered
+     * listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     * @param notify  notify listeners?
+     */
+    private void addToColumns(double x, double y, boolean notify) {
+        int index = this.columns.size();
+        if (this.autoSort) {
+            index = this.columns.binarySearch(x);
+            if (index < 0) {
+                index = -index - 1;
+            } else if (this.allowDuplicateXValues) {
+                // need to make sure we are adding *after* any duplicates
+                int size = this.columns.size();
+                while (index < size && this.columns.getXValue(index) == x) {
+                    index++;
+                }
+            } else {
+                throw new SeriesException("X-value already exists.");
+            }
+        } else if (!this.allowDuplicateXValues) {
+            if (this.columns.indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        this.columns.add(index, x, y);
+        updateBoundsForInsertedItem(index, x, y);
+        updateOrderForAppendedItems(index);
+        int removedCount = 0;
+        if (getItemCount() > this.maximumItemCount) {
+            double removedX = this.columns.getXValue(0);
+            double removedY = this.columns.getYValue(0);
+            this.columns.removeRange(0, 1);
+            updateBoundsForRemovedFirstItem(removedX, removedY);
+            updateOrderForRemovedItems();
+            removedCount = 1;
+        }
+        if (notify) {
+            fireSeriesChanged(itemAddedInfo(index, removedCount));
+        }
+    }
+
+    /**
+     * Returns a description of the change to the series after an item has
+     * been inserted at the specified index and then the specified number of
+     * items has been removed from the start of the series.
+     *
+     * @param index  the index at which the item was inserted.
+     * @param removed  the number of items removed from the start of the
+     *     series.
+     *
+     * @return The change info (<code>null</code> if the change can't be
+     *     described as a single range of items).
+     */
+    private SeriesChangeInfo itemAddedInfo(int index, int removed) {
+        int count = getItemCount();
+        if (index - removed == count - 1) {
+            return new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED,
+                    count - 1, count - 1, removed);
+        }
+        if (removed == 0) {
+            return new SeriesChangeInfo(SeriesChangeType.ITEMS_INSERTED,
+                    index, index);
+        }
+        return null;
+    }
+
+    /**
+     * Adds multiple data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, and must have
+     *     the same length as <code>x</code>).
+     *
+     * @throws SeriesException if any x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     *
+     * @see #addAll(double[], double[], boolean)
+     */
+    public void addAll(double[] x, double[] y) {
+        addAll(x, y, true);
+    }
+
+    /**
+     * Adds multiple data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  This is
+     * much faster than adding the items one at a time:  the x-values are
+     * validated in one pass, and (for a sorted series) the new items are
+     * merged with the existing items in one pass.  When all the new x-values
+     * are greater than or equal to the last x-value in the series (the usual
+     * case), the items are simply appended.
+     * <P>
+     * For a sorted series, new items with the same x-value as an existing
+     * item are placed after the existing item, and new items with equal
+     * x-values keep the order in which they are supplied.  If the series
+     * would exceed the maximum item count, the first items in the series are
+     * removed.  Nothing is added if an exception is thrown.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, and must have
+     *     the same length as <code>x</code>).  In a series that is not in
+     *     columnar mode, <code>Double.NaN</code> values are stored as
+     *     <code>Double.NaN</code> (not <code>null</code>).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if any x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void addAll(double[] x, double[] y, boolean notify) {
+        ParamChecks.nullNotPermitted(x, "x");
+        ParamChecks.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        if (x.length == 0) {
+            return;
+        }
+        double[] xx = x;
+        double[] yy = y;
+        if (this.autoSort && !isAscending(x)) {
+            // sort the new items (the sort is stable, so items with equal
+            // x-values stay in the order given)...
+            XYDataItem[] items = new XYDataItem[x.length];
+            for (int i = 0; i < x.length; i++) {
+                items[i] = new XYDataItem(x[i], y[i]);
+            }
+            Arrays.sort(items);
+            xx = new double[x.length];
+            yy = new double[x.length];
+            for (int i = 0; i < items.length; i++) {
+                xx[i] = items[i].getXValue();
+                yy[i] = items[i].getYValue();
+            }
+        }
+        if (!this.allowDuplicateXValues) {
+            checkNoDuplicates(xx);
+        }
+
+        int count = getItemCount();
+        boolean append = !this.autoSort || count == 0
+                || xx[0] >= getXValue(count - 1);
+        if (append) {
+            if (this.columns != null) {
+                this.columns.addAll(xx, yy);
+            } else {
+                if (this.data instanceof RingBufferList) {
+                    ((RingBufferList<XYDataItem>) this.data).ensureCapacity(
+                            count + xx.length);
+                }
+                for (int i = 0; i < xx.length; i++) {
+                    this.data.add(new XYDataItem(xx[i], yy[i]));
+                }
+            }
+            for (int i = 0; i < xx.length; i++) {
+                updateBoundsForAddedItem(xx[i], yy[i]);
+                if (this.yWindow != null) {
+                    this.yWindow.append(yy[i]);
+                }
+                if (this.xWindow != null) {
+                    this.xWindow.append(xx[i]);
+                }
+            }
+            updateOrderForAppendedItems(count);
+        } else {
+            merge(xx, yy);
+        }
+
+        int remove = getItemCount() - this.maximumItemCount;
+        if (remove > 0) {
+            this.data.subList(0, remove).clear();
+            updateOrderForRemovedItems();
+        }
+        if (!append || (remove > 0 && this.yWindow == null)) {
+            findBoundsByIteration();
+        } else if (remove > 0) {
+            for (int i = 0; i < remove; i++) {
+                this.yWindow.removeFirst();
+                if (this.xWindow != null) {
+                    this.xWindow.removeFirst();
+                }
+            }
+            updateBoundsFromWindows();
+        }
+        if (notify) {
+            SeriesChangeInfo info = null;
+            if (append) {
+                int itemCount = getItemCount();
+                info = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED,
+                        Math.max(itemCount - xx.length, 0), itemCount - 1,
+                        Math.max(remove, 0));
+            }
+            fireSeriesChanged(info);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the values in the array are in ascending
+     * order, and <code>false</code> otherwise.
+     *
+     * @param values  the values.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAscending(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Throws an exception if any of the specified x-values is already in
+     * the series, or occurs more than once in the array.
+     *
+     * @param x  the x-values (sorted in ascending order if the series is
+     *     sorted).
+     *
+     * @throws SeriesException if there is a duplicate x-value.
+     */
+    private void checkNoDuplicates(double[] x) {
+        if (this.autoSort) {
+            for (int i = 0; i < x.length; i++) {
+                if ((i > 0 && x[i] == x[i - 1]) || indexOf(x[i]) >= 0) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        } else {
+            Set<Double> existing = new HashSet<Double>();
+            for (int i = 0; i < getItemCount(); i++) {
+                existing.add(getXValue(i));
+            }
+            for (double d : x) {
+                if (!existing.add(d)) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges new items (sorted in ascending order of x-value) with the items
+     * in this (sorted) series.  New items are placed after any existing
+     * items with the same x-value.  The cached bounds are not updated.
+     *
+     * @param x  the x-values for the new items.
+     * @param y  the y-values for the new items.
+     */
+    private void merge(double[] x, double[] y) {
+        int count = getItemCount();
+        int total = count + x.length;
+        if (this.columns != null) {
+            double[] mx = new double[total];
+            double[] my = new double[total];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < total; k++) {
+                if (j < x.length && (i == count || x[j] < getXValue(i))) {
+                    mx[k] = x[j];
+                    my[k] = y[j++];
+                } else {
+                    mx[k] = getXValue(i);
+                    my[k] = getYValue(i++);
+                }
+            }
+            this.columns.clear();
+            this.columns.addAll(mx, my);
+        } else {
+            List<XYDataItem> merged = new ArrayList<XYDataItem>(total);
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < total; k++) {
+                if (j < x.length && (i == count || x[j] < getXValue(i))) {
+                    merged.add(new XYDataItem(x[j], y[j]));
+                    j++;
+                } else {
+                    merged.add(this.data.get(i++));
+                }
+            }
+            this.data.clear();
+            this.data.addAll(merged);
+        }
+    }
+
+    /**
+     * Returns the index of an item with the specified x-value (found by a
+     * binary search if the series is sorted), or a negative value if there
+     * is no such item.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int indexOf(double x) {
+        if (this.columns != null) {
+            return this.autoSort ? this.columns.binarySearch(x)
+                    : this.columns.indexOf(x);
+        }
+        return indexOf(Double.valueOf(x));
+    }
+
     /**
      * Deletes a range of items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -556,7 +1158,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
         findBoundsByIteration();
-        fireSeriesChanged();
+        updateOrderForRemovedItems();
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.ITEMS_REMOVED,
+                start, end));
     }
 
     /**
@@ -569,8 +1173,17 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = this.data.remove(index);
-        updateBoundsForRemovedItem(removed);
-        fireSeriesChanged();
+        updateOrderForRemovedItems();
+        if (index == 0) {
+            updateBoundsForRemovedFirstItem(removed.getXValue(),
+                    removed.getYValue());
+        } else if (this.yWindow != null) {
+            findBoundsByIteration();
+        } else {
+            updateBoundsForRemovedItem(removed);
+        }
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.ITEMS_REMOVED,
+                index, index));
         return removed;
     }
 
@@ -595,10 +1208,17 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            if (this.yWindow != null) {
+                this.yWindow.clear();
+            }
+            if (this.xWindow != null) {
+                this.xWindow.clear();
+            }
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
+            updateOrderForRemovedItems();
             fireSeriesChanged();
         }
     }
@@ -612,6 +1232,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem getDataItem(int index) {
         XYDataItem item = this.data.get(index);
+        if (this.columns != null) {
+            return item; // already a new instance
+        }
         return item.copy();
     }
 
@@ -650,6 +1273,41 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value at the specified index as a double primitive.  For
+     * a series in columnar mode, no object allocation is performed.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @see #getX(int)
+     */
+    public double getXValue(int index) {
+        if (this.columns != null) {
+            return this.columns.getXValue(index);
+        }
+        return this.data.get(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value at the specified index as a double primitive.  For
+     * a series in columnar mode, no object allocation is performed.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     *
+     * @see #getY(int)
+     */
+    public double getYValue(int index) {
+        if (this.columns != null) {
+            return this.columns.getYValue(index);
+        }
+        return this.data.get(index).getYValue();
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -698,24 +1356,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.1
      */
     public void updateByIndex(int index, Number y) {
-        XYDataItem item = getRawDataItem(index);
-        // figure out if we need to iterate through all the y-values
-        boolean iterate = false;
-        double oldY = item.getYValue();
-        if (!Double.isNaN(oldY)) {
-            iterate = oldY <= this.minY || oldY >= this.maxY;
-        }
-        item.setY(y);
-
-        if (iterate) {
-            findBoundsByIteration();
-        }
-        else if (y != null) {
-            double yy = y.doubleValue();
-            this.minY = minIgnoreNaN(this.minY, yy);
-            this.maxY = maxIgnoreNaN(this.maxY, yy);
-        }
-        fireSeriesChanged();
+        double oldY = getYValue(index);
+        setY(index, y);
+        updateBoundsForUpdatedItem(index, oldY, getYValue(index));
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED,
+                index, index));
     }
 
     /**
@@ -747,7 +1392,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.10
      */
     public XYDataItem addOrUpdate(double x, double y) {
-        return addOrUpdate(new Double(x), new Double(y));
+        return addOrUpdate(Double.valueOf(x), Double.valueOf(y));
     }
 
     /**
@@ -785,26 +1430,15 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
         // if we get to here, we know that duplicate X values are not permitted
         XYDataItem overwritten = null;
+        SeriesChangeInfo info;
         int index = indexOf(item.getX());
         if (index >= 0) {
-            XYDataItem existing = this.data.get(index);
-            overwritten = existing.copy();
-            // figure out if we need to iterate through all the y-values
-            boolean iterate = false;
-            double oldY = existing.getYValue();
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
-            existing.setY(item.getY());
-
-            if (iterate) {
-                findBoundsByIteration();
-            }
-            else if (item.getY() != null) {
-                double yy = item.getY().doubleValue();
-                this.minY = minIgnoreNaN(this.minY, yy);
-                this.maxY = maxIgnoreNaN(this.maxY, yy);
-            }
+            overwritten = getDataItem(index);
+            setY(index, item.getY());
+            updateBoundsForUpdatedItem(index, overwritten.getYValue(),
+                    getYValue(index));
+            info = new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, index,
+                    index);
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -813,23 +1447,47 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // append the value to the list...
             item = item.copy();
             if (this.autoSort) {
-                this.data.add(-index - 1, item);
+                index = -index - 1;
             }
             else {
-                this.data.add(item);
+                index = this.data.size();
             }
-            updateBoundsForAddedItem(item);
+            this.data.add(index, item);
+            updateBoundsForInsertedItem(index, item.getXValue(),
+                    item.getYValue());
+            updateOrderForAppendedItems(index);
 
             // check if this addition will exceed the maximum item count...
+            int removedCount = 0;
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                updateBoundsForRemovedFirstItem(removed.getXValue(),
+                        removed.getYValue());
+                updateOrderForRemovedItems();
+                removedCount = 1;
             }
+            info = itemAddedInfo(index, removedCount);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(info);
         return overwritten;
     }
 
+    /**
+     * Sets the y-value for the item at the specified index, without updating
+     * the cached bounds or notifying listeners.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value (<code>null</code> permitted).
+     */
+    private void setY(int index, Number y) {
+        if (this.columns != null) {
+            this.columns.setYValue(index, y != null ? y.doubleValue()
+                    : Double.NaN);
+        } else {
+            this.data.get(index).setY(y);
+        }
+    }
+
     /**
      * Returns the index of the item with the specified x-value, or a negative
      * index if the series does not contain an item with that x-value.  Be
@@ -841,6 +1499,12 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @return The index.
      */
     public int indexOf(Number x) {
+        if (this.columns != null) {
+            if (this.autoSort) {
+                return this.columns.binarySearch(x.doubleValue());
+            }
+            return this.columns.indexOf(x.doubleValue());
+        }
         if (this.autoSort) {
             return Collections.binarySearch(this.data, new XYDataItem(x, null));
         }
@@ -865,6 +1529,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public double[][] toArray() {
         int itemCount = getItemCount();
         double[][] result = new double[2][itemCount];
+        if (this.columns != null) {
+            this.columns.copyXValues(result[0]);
+            this.columns.copyYValues(result[1]);
+            return result;
+        }
         for (int i = 0; i < itemCount; i++) {
             result[0][i] = this.getX(i).doubleValue();
             Number y = getY(i);
@@ -888,7 +1557,18 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
-        clone.data = ObjectUtils.deepClone(this.data);
+        if (this.xWindow != null) {
+            clone.xWindow = (SlidingWindowMinMax) this.xWindow.clone();
+        }
+        if (this.yWindow != null) {
+            clone.yWindow = (SlidingWindowMinMax) this.yWindow.clone();
+        }
+        if (this.columns != null) {
+            clone.columns = this.columns.clone();
+            clone.data = clone.columns;
+        } else {
+            clone.data = ObjectUtils.deepClone(this.data);
+        }
         return clone;
     }
 
@@ -906,7 +1586,22 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList<XYDataItem>();
+        copy.minX = Double.NaN;
+        copy.maxX = Double.NaN;
+        copy.minY = Double.NaN;
+        copy.maxY = Double.NaN;
+        if (this.xWindow != null) {
+            copy.xWindow = new SlidingWindowMinMax();
+        }
+        if (this.yWindow != null) {
+            copy.yWindow = new SlidingWindowMinMax();
+        }
+        if (this.columns != null) {
+            copy.columns = new XYDataColumns();
+            copy.data = copy.columns;
+        } else {
+            copy.data = new RingBufferList<XYDataItem>();
+        }
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = this.data.get(index);
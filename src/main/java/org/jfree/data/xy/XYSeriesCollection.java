@@ -27,10 +27,11 @@
  * -----------------------
  * XYSeriesCollection.java
  * -----------------------
- * (C) Copyright 2001-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2001-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Aaron Metzger;
+ *                   agent;
  *
  * Changes
  * -------
@@ -58,6 +59,10 @@
  * 06-Mar-2009 : Fixed equals() implementation (DG);
  * 10-Jun-2009 : Simplified code in getX() and getY() methods (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Override primitive value accessors to read directly from
+ *               the series (agent);
+ * 17-Oct-2026 : Implemented XYPyramidInfo (agent);
+ * 17-Oct-2026 : Implemented XYDomainOrderInfo (agent);
  *
  */
 
@@ -68,7 +73,9 @@ import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.chart.util.HashUtils;
 import org.jfree.chart.util.ObjectUtils;
@@ -81,14 +88,18 @@ import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 
 /**
  * Represents a collection of {@link XYSeries} objects that can be used as a
  * dataset.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYPyramidInfo,
+        XYDomainOrderInfo, VetoableChangeListener, PublicCloneable,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -99,6 +110,12 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
 
+    /**
+     * The multi-resolution indices that have been created for the series
+     * (created on demand, then updated as items are appended).
+     */
+    private transient Map<XYSeries, XYPyramid> pyramids;
+
     /**
      * Constructs an empty dataset.
      */
@@ -132,13 +149,27 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         int seriesCount = getSeriesCount();
         for (int i = 0; i < seriesCount; i++) {
             XYSeries s = getSeries(i);
-            if (!s.getAutoSort()) {
-                return DomainOrder.NONE;  // we can't be sure of the order
+            if (s.getDomainOrder() != DomainOrder.ASCENDING) {
+                return DomainOrder.NONE;
             }
         }
         return DomainOrder.ASCENDING;
     }
 
+    /**
+     * Returns the order of the x-values in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The domain order.
+     *
+     * @see XYSeries#getDomainOrder()
+     */
+    @Override
+    public DomainOrder getDomainOrder(int series) {
+        return getSeries(series).getDomainOrder();
+    }
+
     /**
      * Adds a series to the collection and sends a {@link DatasetChangeEvent}
      * to all registered listeners.
@@ -189,6 +220,9 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
             series.removeChangeListener(this);
             series.removeVetoableChangeListener(this);
             this.data.remove(series);
+            if (this.pyramids != null) {
+                this.pyramids.remove(series);
+            }
             fireDatasetChanged();
         }
     }
@@ -205,6 +239,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
           series.removeVetoableChangeListener(this);
         }
         this.data.clear();
+        this.pyramids = null;
         fireDatasetChanged();
     }
 
@@ -350,6 +385,50 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value (as a double primitive) for the specified series
+     * and item.  For a series in columnar mode, the value is read directly
+     * from the primitive storage.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries s = this.data.get(series);
+        return s.getXValue(item);
+    }
+
+    /**
+     * Returns the starting x-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.intervalDelegate.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending x-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.intervalDelegate.getEndXValue(series, item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -390,6 +469,51 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getY(index);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for the specified series
+     * and item.  For a series in columnar mode, the value is read directly
+     * from the primitive storage.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries s = this.data.get(series);
+        return s.getYValue(item);
+    }
+
+    /**
+     * Returns the starting y-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -451,6 +575,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         clone.data = (List) ObjectUtils.deepClone(this.data);
         clone.intervalDelegate
                 = (IntervalXYDelegate) this.intervalDelegate.clone();
+        clone.pyramids = null;
         return clone;
     }
 
@@ -567,6 +692,80 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
     }
 
+    /**
+     * Returns the multi-resolution index for a series.  The index is created
+     * the first time it is requested, after which it is updated incrementally
+     * each time the series reports that items have been appended (with or
+     * without removing items from the front).  Any other change to the series
+     * causes the index to be discarded and rebuilt when it is next requested.
+     * Changes that are made without notifying the series' listeners are not
+     * seen by the index, so {@link Series#fireSeriesChanged()} should be
+     * called after making such changes.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The index (never <code>null</code>).
+     */
+    @Override
+    public XYPyramid getPyramid(int series) {
+        XYSeries s = getSeries(series);
+        if (this.pyramids == null) {
+            this.pyramids = new IdentityHashMap<XYSeries, XYPyramid>();
+        }
+        XYPyramid result = this.pyramids.get(s);
+        if (result == null || result.getItemCount() != s.getItemCount()) {
+            result = XYPyramid.createPyramid(this, series);
+            this.pyramids.put(s, result);
+        }
+        return result;
+    }
+
+    /**
+     * Receives notification that a series has changed, updates the
+     * multi-resolution index for the series (if there is one) and passes the
+     * notification on to the dataset's listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (this.pyramids != null && event.getSource() instanceof XYSeries) {
+            XYSeries series = (XYSeries) event.getSource();
+            XYPyramid pyramid = this.pyramids.get(series);
+            if (pyramid != null && !updatePyramid(pyramid, series,
+                    event.getChangeInfo())) {
+                this.pyramids.remove(series);
+            }
+        }
+        super.seriesChanged(event);
+    }
+
+    /**
+     * Updates a multi-resolution index after items have been appended to a
+     * series.
+     *
+     * @param pyramid  the index.
+     * @param series  the series.
+     * @param info  the change info (<code>null</code> permitted).
+     *
+     * @return A boolean indicating whether or not the index could be updated.
+     */
+    private boolean updatePyramid(XYPyramid pyramid, XYSeries series,
+            SeriesChangeInfo info) {
+        if (info == null || info.getType() != SeriesChangeType.ITEMS_APPENDED
+                || info.getRemovedFromStart() > pyramid.getItemCount()) {
+            return false;
+        }
+        pyramid.removeFirst(info.getRemovedFromStart());
+        if (pyramid.getItemCount() != info.getStartIndex()) {
+            return false;
+        }
+        for (int i = info.getStartIndex(); i <= info.getEndIndex(); i++) {
+            pyramid.add(series.getXValue(i), series.getYValue(i));
+        }
+        return pyramid.getItemCount() == series.getItemCount();
+    }
+
     /**
      * Returns the interval width. This is used to calculate the start and end
      * x-values, if/when the dataset is used as an {@link IntervalXYDataset}.
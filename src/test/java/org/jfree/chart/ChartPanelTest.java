@@ -46,15 +46,20 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
 import java.util.List;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
 
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.junit.Test;
@@ -338,4 +343,105 @@ public class ChartPanelTest
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * In background rendering mode, the chart is drawn on a worker thread and
+     * the completed image is shown by the next repaint.
+     */
+    @Test
+    public void testBackgroundRendering() throws Exception {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", dataset);
+        final ChartPanel panel = new ChartPanel(chart);
+        assertFalse(panel.isBackgroundRendering());
+        panel.setBackgroundRendering(true);
+        assertTrue(panel.isBackgroundRendering());
+        panel.setSize(400, 300);
+
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (panel.getChartRenderingInfo().getChartArea().isEmpty()
+                && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+            // let the render task publish its result on the EDT
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    // nothing to do
+                }
+            });
+        }
+        assertEquals(new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0),
+                panel.getChartRenderingInfo().getChartArea());
+        panel.paintComponent(g2);
+        g2.dispose();
+        assertTrue((image.getRGB(200, 150) >>> 24) != 0);
+    }
+
+    /**
+     * An image that goes out of date while it is being drawn should still be
+     * shown, and another image should be requested.
+     */
+    @Test
+    public void testBackgroundRenderingWhileChartChanges() throws Exception {
+        final DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", dataset);
+        final boolean[] changed = new boolean[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() != ChartProgressEvent.DRAWING_STARTED
+                        || changed[0]) {
+                    return;
+                }
+                changed[0] = true;
+                // change the data on another thread while the chart is
+                // being drawn
+                Thread feed = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        dataset.addSeries("S2", new double[][] {{1.0, 2.0},
+                                {5.0, 6.0}});
+                    }
+                });
+                feed.start();
+                try {
+                    feed.join();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setBackgroundRendering(true);
+        panel.setSize(400, 300);
+
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (panel.getChartRenderingInfo().getChartArea().isEmpty()
+                && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    // nothing to do
+                }
+            });
+        }
+        g2.dispose();
+        assertTrue(changed[0]);
+        assertEquals(new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0),
+                panel.getChartRenderingInfo().getChartArea());
+        assertTrue(panel.getRefreshBuffer());
+    }
 }
@@ -64,24 +64,34 @@ import java.awt.RenderingHints;
 import java.net.URL;
 import java.util.List;
 import javax.swing.ImageIcon;
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.drawable.ColorPainter;
 import org.jfree.chart.drawable.BorderPainter;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.plot.PiePlot;
 import org.jfree.chart.plot.RingPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.chart.ui.Align;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.RectangleInsets;
+import org.jfree.data.Range;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * Tests for the {@link JFreeChart} class.
@@ -479,6 +489,108 @@ public class JFreeChartTest  implements ChartChangeListener {
                 new DefaultPieDataset()).getTitle().getText());
     }
 
+    /**
+     * Changes made between beginUpdate() and endUpdate() should result in a
+     * single change event.
+     */
+    @Test
+    public void testBeginEndUpdate() {
+        TimeSeries s1 = new TimeSeries("S1");
+        TimeSeries s2 = new TimeSeries("S2");
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1);
+        dataset.addSeries(s2);
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("title", "x",
+                "y", dataset);
+        final int[] events = new int[1];
+        chart.addChangeListener(new ChartChangeListener() {
+            @Override
+            public void chartChanged(ChartChangeEvent event) {
+                events[0]++;
+            }
+        });
+        chart.beginUpdate();
+        chart.beginUpdate();
+        assertTrue(chart.isUpdating());
+        RegularTimePeriod day = new Day();
+        for (int i = 0; i < 10; i++) {
+            s1.add(day, i);
+            s2.add(day, i);
+            day = day.next();
+        }
+        chart.setTitle("New title");
+        chart.endUpdate();
+        assertEquals(0, events[0]);
+        chart.endUpdate();
+        assertFalse(chart.isUpdating());
+        assertEquals(1, events[0]);
+
+        // no event if nothing changed
+        chart.beginUpdate();
+        chart.endUpdate();
+        assertEquals(1, events[0]);
+
+        try {
+            chart.endUpdate();
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * An update should also hold back the dataset change events, so that the
+     * plot and its axes respond once to all the changes.
+     */
+    @Test
+    public void testBeginEndUpdatePlotAndAxes() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        final int[] configured = new int[1];
+        NumberAxis yAxis = new NumberAxis("y") {
+            @Override
+            public void configure() {
+                configured[0]++;
+                super.configure();
+            }
+        };
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("x"), yAxis,
+                new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        final int[] plotEvents = new int[1];
+        plot.addChangeListener(new PlotChangeListener() {
+            @Override
+            public void plotChanged(PlotChangeEvent event) {
+                plotEvents[0]++;
+            }
+        });
+        final int[] datasetEvents = new int[1];
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                datasetEvents[0]++;
+            }
+        });
+        configured[0] = 0;
+
+        chart.beginUpdate();
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i);
+            s2.add(i, -i);
+        }
+        assertEquals(0, datasetEvents[0]);
+        assertEquals(0, plotEvents[0]);
+        assertEquals(0, configured[0]);
+        chart.endUpdate();
+        assertFalse(dataset.isUpdating());
+        assertEquals(1, datasetEvents[0]);
+        assertEquals(1, plotEvents[0]);
+        assertEquals(1, configured[0]);
+        Range range = yAxis.getRange();
+        assertTrue(range.contains(-9.0) && range.contains(9.0));
+    }
+
     /** The last ChartChangeEvent received. */
     private ChartChangeEvent lastChartChangeEvent;
 
@@ -27,10 +27,10 @@
  * ------------------
  * DateAxisTests.java
  * ------------------
- * (C) Copyright 2003-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2003-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -45,6 +45,7 @@
  * 25-Nov-2008 : Added testBug2201869 (DG);
  * 08-Feb-2012 : Added testBug3484403 (MH);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 17-Oct-2026 : Added testTickCache (agent);
  *
  */
 
@@ -1190,4 +1191,57 @@ public class DateAxisTest  {
         assertEquals("31-May-2008", t3.getText());
     }
 
+    /**
+     * Repeated calls to refreshTicks() with the same inputs are served from
+     * the tick cache, but changes to the axis are still picked up.
+     */
+    @Test
+    public void testTickCache() {
+        TimeZone tz = TimeZone.getTimeZone("GMT");
+        GregorianCalendar c = new GregorianCalendar(tz, Locale.UK);
+        DateAxis axis = new DateAxis("Date", tz, Locale.UK);
+        Day d1 = new Day(1, 3, 2008);
+        d1.peg(c);
+        Day d2 = new Day(30, 6, 2008);
+        d2.peg(c);
+        axis.setRange(d1.getStart(), d2.getEnd());
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200, 100);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        DateTickUnit unit = axis.getTickUnit();
+        List ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals(ticks1, ticks2);
+        assertNotSame(ticks1, ticks2);
+
+        // the automatically selected tick unit is restored from the cache
+        axis.setTickUnit(new DateTickUnit(DateTickUnitType.YEAR, 10), false,
+                false);
+        ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals(ticks1, ticks2);
+        assertEquals(unit, axis.getTickUnit());
+
+        // a range change without notification is picked up
+        Day d3 = new Day(30, 9, 2008);
+        d3.peg(c);
+        axis.setRange(new DateRange(d1.getStart(), d3.getEnd()), false,
+                false);
+        ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertFalse(ticks1.equals(ticks2));
+
+        // a change to the date format (which sends a change event) clears
+        // the cache
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy", Locale.UK);
+        sdf.setTimeZone(tz);
+        axis.setDateFormatOverride(sdf);
+        ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals("2008", ((DateTick) ticks2.get(0)).getText());
+    }
+
 }
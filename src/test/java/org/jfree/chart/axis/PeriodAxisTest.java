@@ -27,10 +27,10 @@
  * --------------------
  * PeriodAxisTests.java
  * --------------------
- * (C) Copyright 2004-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2004-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -39,6 +39,7 @@
  * 08-Apr-2008 : Added test1932146() (DG);
  * 16-Jan-2009 : Added test2490803() (DG);
  * 02-Mar-2009 : Added testEqualsWithLocale (DG);
+ * 17-Oct-2026 : Added testDrawWithTickCache (agent);
  *
  */
 
@@ -46,6 +47,7 @@ package org.jfree.chart.axis;
 
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.event.AxisChangeListener;
+import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Day;
@@ -58,7 +60,10 @@ import org.junit.Test;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -67,6 +72,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.SimpleTimeZone;
@@ -76,6 +82,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests for the {@link PeriodAxis} class.
@@ -316,4 +323,57 @@ public class PeriodAxisTest  implements AxisChangeListener {
         }
     }
 
+    /**
+     * Draws the axis into an image and returns the pixels.
+     *
+     * @param axis  the axis.
+     * @param state  an array to hold the axis state.
+     *
+     * @return The pixels.
+     */
+    private int[] draw(PeriodAxis axis, AxisState[] state) {
+        BufferedImage image = new BufferedImage(400, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D plotArea = new Rectangle2D.Double(0.0, 0.0, 400, 100);
+        Rectangle2D dataArea = new Rectangle2D.Double(10.0, 0.0, 380, 50);
+        state[0] = axis.draw(g2, 50.0, plotArea, dataArea,
+                RectangleEdge.BOTTOM, null);
+        g2.dispose();
+        return image.getRGB(0, 0, 400, 100, null, 0, 400);
+    }
+
+    /**
+     * Repeated paints are served from the tick cache, but changes to the
+     * axis are still picked up.
+     */
+    @Test
+    public void testDrawWithTickCache() {
+        TimeZone tz = TimeZone.getTimeZone("GMT");
+        PeriodAxis axis = new PeriodAxis("Test", new Day(1, 1, 2008),
+                new Day(31, 12, 2008), tz, Locale.UK);
+        axis.setMajorTickTimePeriodClass(Month.class);
+        axis.setMinorTickMarksVisible(true);
+        AxisState[] state = new AxisState[1];
+        int[] pixels1 = draw(axis, state);
+        double cursor1 = state[0].getCursor();
+        assertEquals(13, state[0].getTicks().size());
+        int[] pixels2 = draw(axis, state);
+        assertTrue(Arrays.equals(pixels1, pixels2));
+        assertEquals(cursor1, state[0].getCursor(), EPSILON);
+        assertEquals(13, state[0].getTicks().size());
+
+        // a range change without notification is picked up
+        axis.setRange(new Range(new Day(1, 1, 2008).getFirstMillisecond(),
+                new Day(30, 6, 2008).getLastMillisecond()), false, false);
+        pixels2 = draw(axis, state);
+        assertEquals(7, state[0].getTicks().size());
+        assertFalse(Arrays.equals(pixels1, pixels2));
+
+        // as is a change that sends an event
+        axis.setMajorTickTimePeriodClass(Quarter.class);
+        draw(axis, state);
+        assertEquals(3, state[0].getTicks().size());
+    }
+
 }
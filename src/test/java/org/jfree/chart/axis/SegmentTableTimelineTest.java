@@ -0,0 +1,303 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * SegmentTableTimelineTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.ui.RectangleEdge;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link SegmentTableTimeline} class.
+ */
+public class SegmentTableTimelineTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a timeline with segments [100, 200), [300, 350) and
+     * [400, 500).
+     *
+     * @return The timeline.
+     */
+    private SegmentTableTimeline createTimeline() {
+        return new SegmentTableTimeline(new long[] {100L, 300L, 400L},
+                new long[] {200L, 350L, 500L});
+    }
+
+    /**
+     * Some checks for the toTimelineValue() method.
+     */
+    @Test
+    public void testToTimelineValue() {
+        SegmentTableTimeline t = createTimeline();
+        assertEquals(50L, t.toTimelineValue(50L));
+        assertEquals(100L, t.toTimelineValue(100L));
+        assertEquals(199L, t.toTimelineValue(199L));
+        // in a gap: the start of the next segment
+        assertEquals(200L, t.toTimelineValue(200L));
+        assertEquals(200L, t.toTimelineValue(299L));
+        assertEquals(200L, t.toTimelineValue(300L));
+        assertEquals(249L, t.toTimelineValue(349L));
+        assertEquals(250L, t.toTimelineValue(375L));
+        assertEquals(250L, t.toTimelineValue(new Date(400L)));
+        assertEquals(349L, t.toTimelineValue(499L));
+        // after the table
+        assertEquals(350L, t.toTimelineValue(500L));
+        assertEquals(360L, t.toTimelineValue(510L));
+    }
+
+    /**
+     * Some checks for the toMillisecond() method.
+     */
+    @Test
+    public void testToMillisecond() {
+        SegmentTableTimeline t = createTimeline();
+        assertEquals(50L, t.toMillisecond(50L));
+        assertEquals(150L, t.toMillisecond(150L));
+        assertEquals(300L, t.toMillisecond(200L));
+        assertEquals(349L, t.toMillisecond(249L));
+        assertEquals(400L, t.toMillisecond(250L));
+        assertEquals(510L, t.toMillisecond(360L));
+        for (long m = 0L; m < 600L; m++) {
+            if (t.containsDomainValue(m)) {
+                assertEquals(m, t.toMillisecond(t.toTimelineValue(m)));
+            }
+        }
+    }
+
+    /**
+     * Some checks for the containsDomainValue() and containsDomainRange()
+     * methods.
+     */
+    @Test
+    public void testContains() {
+        SegmentTableTimeline t = createTimeline();
+        assertTrue(t.containsDomainValue(50L));
+        assertTrue(t.containsDomainValue(100L));
+        assertFalse(t.containsDomainValue(200L));
+        assertFalse(t.containsDomainValue(new Date(250L)));
+        assertTrue(t.containsDomainValue(349L));
+        assertFalse(t.containsDomainValue(350L));
+        assertTrue(t.containsDomainValue(500L));
+        assertTrue(t.containsDomainRange(0L, 99L));
+        assertFalse(t.containsDomainRange(0L, 100L));
+        assertTrue(t.containsDomainRange(100L, 199L));
+        assertFalse(t.containsDomainRange(100L, 200L));
+        assertFalse(t.containsDomainRange(250L, 260L));
+        assertTrue(t.containsDomainRange(new Date(450L), new Date(900L)));
+    }
+
+    /**
+     * The batch conversion should match the single value conversion, for
+     * values in and out of order.
+     */
+    @Test
+    public void testToTimelineValues() {
+        SegmentTableTimeline t = createTimeline();
+        double[] millis = new double[] {0.0, 150.0, 250.0, 320.0, 450.0,
+                600.0, 120.0, Double.NaN, 460.0};
+        double[] result = new double[millis.length];
+        t.toTimelineValues(millis, result);
+        for (int i = 0; i < millis.length; i++) {
+            if (Double.isNaN(millis[i])) {
+                assertTrue(Double.isNaN(result[i]));
+            } else {
+                assertEquals(t.toTimelineValue((long) millis[i]), result[i],
+                        EPSILON);
+            }
+        }
+        try {
+            t.toTimelineValues(millis, new double[2]);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Check that the constructor rejects an invalid table.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new SegmentTableTimeline(new long[] {100L, 150L},
+                    new long[] {200L, 250L});
+            fail("Overlapping segments should be rejected.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SegmentTableTimeline(new long[] {100L}, new long[] {100L});
+            fail("Empty segments should be rejected.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        SegmentTableTimeline t = new SegmentTableTimeline(new long[0],
+                new long[0]);
+        assertEquals(123L, t.toTimelineValue(123L));
+        assertEquals(123L, t.toMillisecond(123L));
+        assertTrue(t.containsDomainValue(123L));
+    }
+
+    /**
+     * Check the weekday sessions, including a daylight saving transition.
+     */
+    @Test
+    public void testCreateWeekdayTimeline() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        Calendar c = new GregorianCalendar(zone);
+        c.clear();
+        // Friday 6 March 2026 to Tuesday 10 March 2026 (clocks go forward
+        // on Sunday 8 March)
+        c.set(2026, Calendar.MARCH, 6, 12, 0);
+        long from = c.getTimeInMillis();
+        c.set(2026, Calendar.MARCH, 10, 12, 0);
+        long to = c.getTimeInMillis();
+        SegmentTableTimeline t = SegmentTableTimeline.createWeekdayTimeline(
+                from, to, 9 * 60 + 30, 16 * 60, zone);
+        assertEquals(3, t.getSegmentCount());
+        c.set(2026, Calendar.MARCH, 9, 9, 30);
+        assertEquals(c.getTimeInMillis(), t.getSegmentStart(1));
+        c.set(2026, Calendar.MARCH, 9, 16, 0);
+        assertEquals(c.getTimeInMillis(), t.getSegmentEnd(1));
+
+        // the weekend is excluded
+        c.set(2026, Calendar.MARCH, 7, 12, 0);
+        assertFalse(t.containsDomainValue(c.getTimeInMillis()));
+        assertEquals(t.toTimelineValue(t.getSegmentEnd(0)),
+                t.toTimelineValue(t.getSegmentStart(1)));
+    }
+
+    /**
+     * Check the weekday sessions in a time zone where daylight saving time
+     * starts at midnight, so that the first hour of the day does not exist.
+     */
+    @Test
+    public void testCreateWeekdayTimelineMidnightTransition() {
+        TimeZone zone = TimeZone.getTimeZone("America/Sao_Paulo");
+        Calendar c = new GregorianCalendar(zone);
+        c.clear();
+        // Friday 13 October 2017 to Friday 20 October 2017 (clocks went
+        // forward at midnight on Sunday 15 October)
+        c.set(2017, Calendar.OCTOBER, 13, 0, 0);
+        long from = c.getTimeInMillis();
+        c.set(2017, Calendar.OCTOBER, 20, 12, 0);
+        long to = c.getTimeInMillis();
+        SegmentTableTimeline t = SegmentTableTimeline.createWeekdayTimeline(
+                from, to, 9 * 60, 17 * 60, zone);
+        assertEquals(6, t.getSegmentCount());
+        for (int i = 0; i < t.getSegmentCount(); i++) {
+            c.setTimeInMillis(t.getSegmentStart(i));
+            assertEquals(9, c.get(Calendar.HOUR_OF_DAY));
+            assertEquals(0, c.get(Calendar.MINUTE));
+            c.setTimeInMillis(t.getSegmentEnd(i));
+            assertEquals(17, c.get(Calendar.HOUR_OF_DAY));
+        }
+    }
+
+    /**
+     * A date axis with the timeline should close up the gaps.
+     */
+    @Test
+    public void testDateAxis() {
+        DateAxis axis = new DateAxis("Test");
+        axis.setTimeline(createTimeline());
+        axis.setRange(100.0, 500.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 250.0, 50.0);
+        assertEquals(0.0, axis.valueToJava2D(100.0, area,
+                RectangleEdge.BOTTOM), EPSILON);
+        assertEquals(100.0, axis.valueToJava2D(200.0, area,
+                RectangleEdge.BOTTOM), EPSILON);
+        assertEquals(100.0, axis.valueToJava2D(300.0, area,
+                RectangleEdge.BOTTOM), EPSILON);
+        assertEquals(250.0, axis.valueToJava2D(500.0, area,
+                RectangleEdge.BOTTOM), EPSILON);
+        assertEquals(400.0, axis.java2DToValue(150.0, area,
+                RectangleEdge.BOTTOM), EPSILON);
+        assertTrue(axis.isHiddenValue(250L));
+        assertFalse(axis.isHiddenValue(450L));
+
+        // a change of range is picked up
+        axis.setRange(300.0, 500.0);
+        assertEquals(0.0, axis.valueToJava2D(300.0, area,
+                RectangleEdge.BOTTOM), EPSILON);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        SegmentTableTimeline t1 = createTimeline();
+        SegmentTableTimeline t2 = createTimeline();
+        assertEquals(t1, t2);
+        assertEquals(t1.hashCode(), t2.hashCode());
+        t1 = new SegmentTableTimeline(new long[] {100L}, new long[] {200L});
+        assertFalse(t1.equals(t2));
+        t2 = new SegmentTableTimeline(new long[] {100L}, new long[] {200L});
+        assertEquals(t1, t2);
+        t1 = new SegmentTableTimeline(new long[] {100L}, new long[] {250L});
+        assertFalse(t1.equals(t2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SegmentTableTimeline t1 = createTimeline();
+        SegmentTableTimeline t2 = (SegmentTableTimeline) TestUtils.serialised(
+                t1);
+        assertEquals(t1, t2);
+    }
+
+}
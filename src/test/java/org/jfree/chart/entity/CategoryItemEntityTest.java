@@ -41,6 +41,8 @@
 package org.jfree.chart.entity;
 
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.urls.StandardCategoryURLGenerator;
 import org.junit.Test;
 
 import java.awt.geom.Rectangle2D;
@@ -55,6 +57,7 @@ import java.io.ObjectOutputStream;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 /**
@@ -152,4 +155,39 @@ public class CategoryItemEntityTest  {
         assertEquals(e1, e2);
     }
 
+    /**
+     * The tool tip and URL text can be generated on demand, and the result
+     * should match an entity created with the text up front.
+     */
+    @Test
+    public void testGeneratedText() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        StandardCategoryToolTipGenerator tg
+                = new StandardCategoryToolTipGenerator();
+        StandardCategoryURLGenerator ug = new StandardCategoryURLGenerator();
+        Rectangle2D area = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        CategoryItemEntity e1 = new CategoryItemEntity(area, tg, ug, d, 0, 1);
+        CategoryItemEntity e2 = new CategoryItemEntity(area,
+                tg.generateToolTip(d, 0, 1), ug.generateURL(d, 0, 1), d, "R1",
+                "C2");
+        assertEquals("R1", e1.getRowKey());
+        assertEquals("C2", e1.getColumnKey());
+        assertEquals(e2.getToolTipText(), e1.getToolTipText());
+        assertEquals(e2.getURLText(), e1.getURLText());
+        assertEquals(e2, e1);
+
+        // an explicit setting replaces the generator
+        CategoryItemEntity e3 = new CategoryItemEntity(area, tg, ug, d, 0, 1);
+        e3.setToolTipText(null);
+        assertNull(e3.getToolTipText());
+
+        // no generators means no text
+        CategoryItemEntity e4 = new CategoryItemEntity(area, null, null, d, 0,
+                0);
+        assertNull(e4.getToolTipText());
+        assertNull(e4.getURLText());
+    }
+
 }
@@ -0,0 +1,370 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * CompactEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.util.ShapeUtils;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link CompactEntityCollection} class.
+ */
+public class CompactEntityCollectionTest  {
+
+    /**
+     * Creates a dataset with one series.
+     *
+     * @param count  the number of items.
+     *
+     * @return The dataset.
+     */
+    private static XYSeriesCollection createDataset(int count) {
+        XYSeries s = new XYSeries("S1");
+        Random random = new Random(42L);
+        for (int i = 0; i < count; i++) {
+            s.add(i, random.nextDouble() * 100.0);
+        }
+        return new XYSeriesCollection(s);
+    }
+
+    /**
+     * Returns a triangle with its top vertex at (x, y).
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The triangle.
+     */
+    private static Shape triangle(double x, double y) {
+        GeneralPath p = new GeneralPath();
+        p.moveTo(0.0f, 0.0f);
+        p.lineTo(4.0f, 8.0f);
+        p.lineTo(-4.0f, 8.0f);
+        p.closePath();
+        return ShapeUtils.createTranslatedShape(p, x, y);
+    }
+
+    /**
+     * Populates a standard and a compact collection with the same entities.
+     *
+     * @param c1  the standard collection.
+     * @param c2  the compact collection.
+     * @param dataset  the dataset.
+     */
+    private static void populate(EntityCollection c1,
+            CompactEntityCollection c2, XYSeriesCollection dataset) {
+        StandardXYToolTipGenerator tg = new StandardXYToolTipGenerator();
+        Random random = new Random(7L);
+        ChartEntity background = new ChartEntity(new Rectangle2D.Double(0.0,
+                0.0, 500.0, 400.0), "Background");
+        c1.add(background);
+        c2.add(background);
+        for (int i = 0; i < dataset.getItemCount(0); i++) {
+            float x = random.nextInt(5000) / 10.0f;
+            float y = random.nextInt(4000) / 10.0f;
+            Shape s;
+            if (i % 3 == 0) {
+                s = new Rectangle2D.Double(x, y, 6.0, 6.0);
+            } else if (i % 3 == 1) {
+                s = new Ellipse2D.Double(x, y, 6.0, 6.0);
+            } else {
+                s = triangle(x, y);
+            }
+            c1.add(new XYItemEntity(s, tg, null, dataset, 0, i));
+            c2.addXYItem(s, tg, null, dataset, 0, i);
+        }
+    }
+
+    /**
+     * The entities created by the collection should match the ones that
+     * were added.
+     */
+    @Test
+    public void testGetEntity() {
+        XYSeriesCollection dataset = createDataset(300);
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        populate(c1, c2, dataset);
+        assertEquals(c1.getEntityCount(), c2.getEntityCount());
+        assertEquals(1, c2.getSharedShapeCount());
+        assertSame(c1.getEntity(0), c2.getEntity(0));
+        for (int i = 1; i < c1.getEntityCount(); i++) {
+            XYItemEntity e1 = (XYItemEntity) c1.getEntity(i);
+            XYItemEntity e2 = (XYItemEntity) c2.getEntity(i);
+            assertEquals(e1.getSeriesIndex(), e2.getSeriesIndex());
+            assertEquals(e1.getItem(), e2.getItem());
+            assertSame(dataset, e2.getDataset());
+            assertEquals(e1.getToolTipText(), e2.getToolTipText());
+            assertEquals(e1.getArea().getBounds2D(),
+                    e2.getArea().getBounds2D());
+            if (e1.getArea() instanceof Rectangle2D
+                    || e1.getArea() instanceof Ellipse2D) {
+                assertEquals(e1, e2);
+            }
+        }
+    }
+
+    /**
+     * The text for an entity is not generated if the item it refers to has
+     * changed since it was added.
+     */
+    @Test
+    public void testGetEntityAfterItemsShifted() {
+        XYSeries s = new XYSeries("S1");
+        s.add(1.0, 2.0);
+        s.add(2.0, 3.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        CompactEntityCollection c = new CompactEntityCollection();
+        StandardXYToolTipGenerator tg = new StandardXYToolTipGenerator();
+        c.addXYItem(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0), tg, null,
+                dataset, 0, 0);
+        c.addXYItem(new Rectangle2D.Double(5.0, 6.0, 3.0, 4.0), tg, null,
+                dataset, 0, 1);
+        assertEquals("S1: (1, 2)", c.getEntity(0).getToolTipText());
+        s.remove(0);
+        assertNull(c.getEntity(0).getToolTipText());
+        assertNull(c.getEntity(1).getToolTipText());
+
+        // the item at index 1 is (2.0, 3.0) again
+        s.add(0.5, 1.0);
+        assertNull(c.getEntity(0).getToolTipText());
+        assertEquals("S1: (2, 3)", c.getEntity(1).getToolTipText());
+    }
+
+    /**
+     * Point queries should return the same (top-most) entity as the
+     * standard collection.
+     */
+    @Test
+    public void testGetEntityAtPoint() {
+        XYSeriesCollection dataset = createDataset(1000);
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        populate(c1, c2, dataset);
+        Random random = new Random(11L);
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 540.0 - 20.0;
+            double y = random.nextDouble() * 440.0 - 20.0;
+            ChartEntity e1 = c1.getEntity(x, y);
+            ChartEntity e2 = c2.getEntity(x, y);
+            if (e1 == null) {
+                assertNull(e2);
+            } else if (e1 instanceof XYItemEntity) {
+                assertEquals(((XYItemEntity) e1).getItem(),
+                        ((XYItemEntity) e2).getItem());
+            } else {
+                assertSame(e1, e2);
+            }
+        }
+    }
+
+    /**
+     * Rectangle queries should return the entities that intersect the
+     * rectangle, in the order they were added.
+     */
+    @Test
+    public void testGetEntitiesInRectangle() {
+        XYSeriesCollection dataset = createDataset(1000);
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        populate(c1, c2, dataset);
+        Rectangle2D region = new Rectangle2D.Double(100.0, 50.0, 60.0, 30.0);
+        List<String> expected = new ArrayList<String>();
+        for (ChartEntity entity : c1) {
+            if (entity.getArea().intersects(region)) {
+                expected.add(entity.getToolTipText());
+            }
+        }
+        List<String> actual = new ArrayList<String>();
+        for (ChartEntity entity : c2.getEntities(region)) {
+            actual.add(entity.getToolTipText());
+        }
+        assertTrue(expected.size() > 1);
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * A renderer should add its item entities to the compact collection
+     * without changing the result.
+     */
+    @Test
+    public void testDrawChart() {
+        XYSeriesCollection dataset = createDataset(200);
+        JFreeChart chart = ChartFactory.createScatterPlot("Title", "X", "Y",
+                dataset);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 400,
+                300), info1);
+        CompactEntityCollection entities = new CompactEntityCollection();
+        ChartRenderingInfo info2 = new ChartRenderingInfo(entities);
+        chart.draw(image.createGraphics(), new Rectangle2D.Double(0, 0, 400,
+                300), info2);
+        EntityCollection c1 = info1.getEntityCollection();
+        assertEquals(c1.getEntityCount(), entities.getEntityCount());
+        for (int i = 0; i < c1.getEntityCount(); i++) {
+            ChartEntity e1 = c1.getEntity(i);
+            ChartEntity e2 = entities.getEntity(i);
+            assertEquals(e1.getToolTipText(), e2.getToolTipText());
+            assertEquals(e1.getArea().getBounds(), e2.getArea().getBounds());
+        }
+        assertEquals(1, entities.getSharedShapeCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        XYSeriesCollection dataset = createDataset(10);
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        assertEquals(c1, c2);
+        c1.addXYItem(triangle(1.0, 2.0), null, null, dataset, 0, 1);
+        assertFalse(c1.equals(c2));
+        c2.addXYItem(triangle(1.0, 2.0), null, null, dataset, 0, 1);
+        assertEquals(c1, c2);
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertFalse(c1.equals(c2));
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertEquals(c1, c2);
+        c1.addXYItem(triangle(5.0, 2.0), null, null, dataset, 0, 2);
+        c2.addXYItem(triangle(5.0, 2.0), null, null, dataset, 0, 3);
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYSeriesCollection dataset = createDataset(50);
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        populate(new StandardEntityCollection(), c1, dataset);
+        CompactEntityCollection c2 = (CompactEntityCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+
+        // check independence
+        c1.clear();
+        assertFalse(c1.equals(c2));
+        assertEquals(51, c2.getEntityCount());
+    }
+
+    /**
+     * An instance is serialized as a standard entity collection.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        XYSeriesCollection dataset = createDataset(50);
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        populate(new StandardEntityCollection(), c1, dataset);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(c1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        EntityCollection c2 = (EntityCollection) in.readObject();
+        in.close();
+
+        assertEquals(c1.getEntityCount(), c2.getEntityCount());
+        for (int i = 0; i < c1.getEntityCount(); i++) {
+            assertEquals(c1.getEntity(i).getToolTipText(),
+                    c2.getEntity(i).getToolTipText());
+        }
+    }
+
+    /**
+     * The region queries should give the same results as the standard
+     * collection.
+     */
+    @Test
+    public void testGetEntitiesInRegion() {
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        StandardEntityCollectionTest.populateShapes(c1, 3000);
+        StandardEntityCollectionTest.populateShapes(c2, 3000);
+        for (Shape region : StandardEntityCollectionTest.createRegions()) {
+            assertEquals(StandardEntityCollectionTest.toolTips(
+                    c1.getEntities(region, false)),
+                    StandardEntityCollectionTest.toolTips(
+                    c2.getEntities(region, false)));
+            assertEquals(StandardEntityCollectionTest.toolTips(
+                    c1.getEntities(region, true)),
+                    StandardEntityCollectionTest.toolTips(
+                    c2.getEntities(region, true)));
+        }
+    }
+
+}
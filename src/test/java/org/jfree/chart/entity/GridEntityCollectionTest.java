@@ -0,0 +1,223 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * GridEntityCollectionTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import org.junit.Test;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for the {@link GridEntityCollection} class.
+ */
+public class GridEntityCollectionTest  {
+
+    /**
+     * Creates a collection containing a background entity followed by a
+     * number of randomly placed entities.
+     *
+     * @param c  the collection to populate.
+     * @param count  the number of entities.
+     */
+    private static void populate(EntityCollection c, int count) {
+        Random random = new Random(42L);
+        c.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 500.0, 400.0),
+                "Background"));
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 500.0;
+            double y = random.nextDouble() * 400.0;
+            double w = 1.0 + random.nextDouble() * 20.0;
+            Shape s = (i % 2 == 0) ? new Rectangle2D.Double(x, y, w, w)
+                    : new Ellipse2D.Double(x, y, w, w);
+            c.add(new ChartEntity(s, "E" + i));
+        }
+    }
+
+    /**
+     * Point queries should return the same (top-most) entity as the
+     * standard collection.
+     */
+    @Test
+    public void testGetEntityAtPoint() {
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        populate(c1, 2000);
+        populate(c2, 2000);
+        Random random = new Random(7L);
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 540.0 - 20.0;
+            double y = random.nextDouble() * 440.0 - 20.0;
+            assertEquals(c1.getEntity(x, y), c2.getEntity(x, y));
+        }
+        assertNull(c2.getEntity(-1.0, -1.0));
+        assertEquals("Background", c2.getEntity(0.5, 399.5).getToolTipText());
+
+        // entities added after a query are included
+        c2.add(new ChartEntity(new Rectangle2D.Double(250.0, 200.0, 1.0, 1.0),
+                "Top"));
+        assertEquals("Top", c2.getEntity(250.5, 200.5).getToolTipText());
+
+        c2.clear();
+        assertNull(c2.getEntity(250.5, 200.5));
+    }
+
+    /**
+     * Rectangle queries should return the entities that intersect the
+     * rectangle, in the order they were added.
+     */
+    @Test
+    public void testGetEntitiesInRectangle() {
+        GridEntityCollection c = new GridEntityCollection();
+        populate(c, 2000);
+        Rectangle2D region = new Rectangle2D.Double(100.0, 50.0, 60.0, 30.0);
+        List<ChartEntity> expected = new ArrayList<ChartEntity>();
+        for (ChartEntity entity : c) {
+            if (entity.getArea().intersects(region)) {
+                expected.add(entity);
+            }
+        }
+        assertEquals(expected, c.getEntities(region));
+        assertEquals(0, c.getEntities(new Rectangle2D.Double(600.0, 500.0,
+                10.0, 10.0)).size());
+        assertEquals(c.getEntityCount(), c.getEntities(
+                new Rectangle2D.Double(-10.0, -10.0, 600.0, 500.0)).size());
+    }
+
+    /**
+     * The index can be rebuilt after an entity's area is changed.
+     */
+    @Test
+    public void testInvalidateIndex() {
+        GridEntityCollection c = new GridEntityCollection();
+        ChartEntity e = new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 1.0,
+                1.0), "A");
+        c.add(e);
+        c.add(new ChartEntity(new Rectangle2D.Double(5.0, 5.0, 1.0, 1.0),
+                "B"));
+        assertSame(e, c.getEntity(0.5, 0.5));
+        e.setArea(new Rectangle2D.Double(2.0, 2.0, 1.0, 1.0));
+        c.invalidateIndex();
+        assertNull(c.getEntity(0.5, 0.5));
+        assertSame(e, c.getEntity(2.5, 2.5));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        GridEntityCollection c1 = new GridEntityCollection();
+        populate(c1, 10);
+        c1.getEntity(1.0, 1.0);
+        GridEntityCollection c2 = (GridEntityCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+
+        // check independence
+        c1.clear();
+        assertFalse(c1.equals(c2));
+        assertEquals("Background", c2.getEntity(0.5, 0.5).getToolTipText());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        GridEntityCollection c1 = new GridEntityCollection();
+        populate(c1, 10);
+        c1.getEntity(1.0, 1.0);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(c1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        GridEntityCollection c2 = (GridEntityCollection) in.readObject();
+        in.close();
+
+        assertEquals(c1, c2);
+        assertEquals(c1.getEntity(250.0, 200.0), c2.getEntity(250.0, 200.0));
+    }
+
+    /**
+     * The region queries should give the same results as the standard
+     * collection.
+     */
+    @Test
+    public void testGetEntitiesInRegion() {
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        StandardEntityCollectionTest.populateShapes(c1, 3000);
+        StandardEntityCollectionTest.populateShapes(c2, 3000);
+        for (Shape region : StandardEntityCollectionTest.createRegions()) {
+            assertEquals(StandardEntityCollectionTest.toolTips(
+                    c1.getEntities(region, false)),
+                    StandardEntityCollectionTest.toolTips(
+                    c2.getEntities(region, false)));
+            assertEquals(StandardEntityCollectionTest.toolTips(
+                    c1.getEntities(region, true)),
+                    StandardEntityCollectionTest.toolTips(
+                    c2.getEntities(region, true)));
+        }
+    }
+
+}
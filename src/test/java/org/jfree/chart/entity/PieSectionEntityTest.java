@@ -41,6 +41,8 @@
 package org.jfree.chart.entity;
 
 import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.chart.labels.StandardPieToolTipGenerator;
+import org.jfree.chart.urls.StandardPieURLGenerator;
 import org.junit.Test;
 
 import java.awt.geom.Rectangle2D;
@@ -55,6 +57,7 @@ import java.io.ObjectOutputStream;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 /**
@@ -150,4 +153,29 @@ public class PieSectionEntityTest  {
         assertEquals(e1, e2);
     }
 
+    /**
+     * The tool tip and URL text can be generated on demand, and the result
+     * should match an entity created with the text up front.
+     */
+    @Test
+    public void testGeneratedText() {
+        DefaultPieDataset d = new DefaultPieDataset();
+        d.setValue("A", 1.0);
+        d.setValue("B", 3.0);
+        StandardPieToolTipGenerator tg = new StandardPieToolTipGenerator();
+        StandardPieURLGenerator ug = new StandardPieURLGenerator();
+        Rectangle2D area = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        PieSectionEntity e1 = new PieSectionEntity(area, tg, ug, d, 2, 1, "B");
+        PieSectionEntity e2 = new PieSectionEntity(area, d, 2, 1, "B",
+                tg.generateToolTip(d, "B"), ug.generateURL(d, "B", 2));
+        assertEquals("B: (3, 75%)", e1.getToolTipText());
+        assertEquals(e2.getURLText(), e1.getURLText());
+        assertEquals(e2, e1);
+
+        // an explicit setting replaces the generator
+        PieSectionEntity e3 = new PieSectionEntity(area, tg, ug, d, 2, 1, "B");
+        e3.setURLText("URL");
+        assertEquals("URL", e3.getURLText());
+    }
+
 }
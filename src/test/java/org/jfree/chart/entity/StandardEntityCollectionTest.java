@@ -44,6 +44,16 @@ import org.jfree.data.general.DefaultPieDataset;
 import org.junit.Test;
 
 import java.awt.geom.Rectangle2D;
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -53,6 +63,7 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
@@ -133,4 +144,188 @@ public class StandardEntityCollectionTest  {
         assertEquals(c1, c2);
     }
 
+    /**
+     * Creates a collection containing randomly placed rectangles, ellipses
+     * and triangles.
+     *
+     * @param c  the collection to populate.
+     * @param count  the number of entities.
+     */
+    static void populateShapes(EntityCollection c, int count) {
+        Random random = new Random(3L);
+        for (int i = 0; i < count; i++) {
+            float x = random.nextInt(4000) / 10.0f;
+            float y = random.nextInt(3000) / 10.0f;
+            Shape s;
+            if (i % 3 == 0) {
+                s = new Rectangle2D.Double(x, y, 8.0, 5.0);
+            } else if (i % 3 == 1) {
+                s = new Ellipse2D.Double(x, y, 6.0, 6.0);
+            } else {
+                GeneralPath p = new GeneralPath();
+                p.moveTo(x, y);
+                p.lineTo(x + 6.0f, y + 9.0f);
+                p.lineTo(x - 6.0f, y + 9.0f);
+                p.closePath();
+                s = p;
+            }
+            c.add(new ChartEntity(s, "E" + i));
+        }
+    }
+
+    /**
+     * Returns the regions used to test the region queries: a rectangle, a
+     * circle and a polygon.
+     *
+     * @return The regions.
+     */
+    static Shape[] createRegions() {
+        GeneralPath polygon = new GeneralPath();
+        polygon.moveTo(120.0f, 40.0f);
+        polygon.lineTo(300.0f, 90.0f);
+        polygon.lineTo(210.0f, 250.0f);
+        polygon.lineTo(180.0f, 120.0f);
+        polygon.closePath();
+        return new Shape[] {new Rectangle2D.Double(100.0, 50.0, 60.0, 30.0),
+                new Ellipse2D.Double(200.0, 100.0, 80.0, 80.0), polygon};
+    }
+
+    /**
+     * Returns the tool tips of the entities that match a region, using
+     * <code>Area</code> objects to test every entity.
+     *
+     * @param c  the collection.
+     * @param region  the region.
+     * @param contained  require the entity to be inside the region?
+     *
+     * @return The tool tip text for the matching entities.
+     */
+    static List<String> expectedMatches(EntityCollection c, Shape region,
+            boolean contained) {
+        List<String> result = new ArrayList<String>();
+        for (ChartEntity entity : c) {
+            Area a = new Area(entity.getArea());
+            if (contained) {
+                a.subtract(new Area(region));
+                if (a.isEmpty()) {
+                    result.add(entity.getToolTipText());
+                }
+            } else {
+                a.intersect(new Area(region));
+                if (!a.isEmpty()) {
+                    result.add(entity.getToolTipText());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tool tips for a list of entities.
+     *
+     * @param entities  the entities.
+     *
+     * @return The tool tip text.
+     */
+    static List<String> toolTips(List<ChartEntity> entities) {
+        List<String> result = new ArrayList<String>();
+        for (ChartEntity entity : entities) {
+            result.add(entity.getToolTipText());
+        }
+        return result;
+    }
+
+    /**
+     * Checks the region queries against a direct test of each entity.
+     */
+    @Test
+    public void testGetEntitiesInRegion() {
+        StandardEntityCollection c = new StandardEntityCollection();
+        populateShapes(c, 3000);
+        for (Shape region : createRegions()) {
+            List<String> intersecting = expectedMatches(c, region, false);
+            List<String> inside = expectedMatches(c, region, true);
+            assertTrue(inside.size() > 0);
+            assertTrue(intersecting.size() > inside.size());
+            assertEquals(intersecting, toolTips(c.getEntities(region, false)));
+            assertEquals(inside, toolTips(c.getEntities(region, true)));
+        }
+        Rectangle2D r = new Rectangle2D.Double(10.0, 20.0, 50.0, 40.0);
+        assertEquals(expectedMatches(c, r, false), toolTips(c.getEntities(r)));
+    }
+
+    /**
+     * A collection that only implements the methods that were in the
+     * interface before the region queries were added.
+     */
+    static class ListEntityCollection implements EntityCollection {
+
+        private List<ChartEntity> entities = new ArrayList<ChartEntity>();
+
+        @Override
+        public void clear() {
+            this.entities.clear();
+        }
+
+        @Override
+        public void add(ChartEntity entity) {
+            this.entities.add(entity);
+        }
+
+        @Override
+        public void addAll(EntityCollection collection) {
+            this.entities.addAll(collection.getEntities());
+        }
+
+        @Override
+        public ChartEntity getEntity(double x, double y) {
+            for (int i = this.entities.size() - 1; i >= 0; i--) {
+                ChartEntity entity = this.entities.get(i);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public ChartEntity getEntity(int index) {
+            return this.entities.get(index);
+        }
+
+        @Override
+        public int getEntityCount() {
+            return this.entities.size();
+        }
+
+        @Override
+        public Collection<ChartEntity> getEntities() {
+            return Collections.unmodifiableCollection(this.entities);
+        }
+
+        @Override
+        public Iterator<ChartEntity> iterator() {
+            return getEntities().iterator();
+        }
+
+    }
+
+    /**
+     * A collection that does not override the region queries gets the
+     * default implementations, which should give the same results.
+     */
+    @Test
+    public void testDefaultRegionQueries() {
+        ListEntityCollection c = new ListEntityCollection();
+        populateShapes(c, 3000);
+        for (Shape region : createRegions()) {
+            assertEquals(expectedMatches(c, region, false),
+                    toolTips(c.getEntities(region, false)));
+            assertEquals(expectedMatches(c, region, true),
+                    toolTips(c.getEntities(region, true)));
+        }
+        Rectangle2D r = new Rectangle2D.Double(10.0, 20.0, 50.0, 40.0);
+        assertEquals(expectedMatches(c, r, false), toolTips(c.getEntities(r)));
+    }
+
 }
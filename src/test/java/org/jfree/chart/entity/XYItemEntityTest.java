@@ -40,10 +40,24 @@
 
 package org.jfree.chart.entity;
 
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.chart.imagemap.StandardToolTipTagFragmentGenerator;
+import org.jfree.chart.imagemap.StandardURLTagFragmentGenerator;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -54,7 +68,9 @@ import java.io.ObjectOutputStream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 /**
@@ -136,4 +152,155 @@ public class XYItemEntityTest  {
         assertEquals(e1, e2);
     }
 
+    /**
+     * The tool tip and URL text can be generated on demand, and the result
+     * should match an entity created with the text up front.
+     */
+    @Test
+    public void testGeneratedText() {
+        XYSeries s = new XYSeries("S1");
+        s.add(1.0, 2.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection d = new XYSeriesCollection(s);
+        final int[] calls = new int[1];
+        final XYToolTipGenerator tg = new StandardXYToolTipGenerator();
+        XYToolTipGenerator counter = new XYToolTipGenerator() {
+            @Override
+            public String generateToolTip(XYDataset dataset, int series,
+                    int item) {
+                calls[0]++;
+                return tg.generateToolTip(dataset, series, item);
+            }
+        };
+        StandardXYURLGenerator ug = new StandardXYURLGenerator();
+        Rectangle2D area = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        XYItemEntity e1 = new XYItemEntity(area, counter, ug, d, 0, 1);
+        assertEquals(0, calls[0]);
+        XYItemEntity e2 = new XYItemEntity(area, d, 0, 1,
+                tg.generateToolTip(d, 0, 1), ug.generateURL(d, 0, 1));
+        assertEquals(e2.getToolTipText(), e1.getToolTipText());
+        assertEquals(e2.getURLText(), e1.getURLText());
+        assertEquals(e2, e1);
+        StandardToolTipTagFragmentGenerator ttg
+                = new StandardToolTipTagFragmentGenerator();
+        StandardURLTagFragmentGenerator utg
+                = new StandardURLTagFragmentGenerator();
+        assertEquals(e2.getImageMapAreaTag(ttg, utg),
+                e1.getImageMapAreaTag(ttg, utg));
+        assertEquals(1, calls[0]);
+
+        // an explicit setting replaces the generator
+        XYItemEntity e3 = new XYItemEntity(area, counter, ug, d, 0, 1);
+        e3.setToolTipText("ToolTip");
+        e3.setURLText(null);
+        assertEquals("ToolTip", e3.getToolTipText());
+        assertNull(e3.getURLText());
+        assertEquals(1, calls[0]);
+    }
+
+    /**
+     * The generated text is written out when an entity is serialized.
+     */
+    @Test
+    public void testSerializationWithGenerators() throws IOException,
+            ClassNotFoundException {
+        XYSeriesCollection d = new XYSeriesCollection(new XYSeries("S1"));
+        d.getSeries(0).add(1.0, 2.0);
+        XYItemEntity e1 = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0,
+                3.0, 4.0), new StandardXYToolTipGenerator(),
+                new StandardXYURLGenerator(), d, 0, 0);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(e1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        XYItemEntity e2 = (XYItemEntity) in.readObject();
+        in.close();
+        assertEquals("S1: (1, 2)", e2.getToolTipText());
+        assertEquals(e1, e2);
+    }
+
+    /**
+     * If items are removed from the dataset after the chart is drawn, the
+     * text for an entity that refers to a removed item is not generated.
+     */
+    @Test
+    public void testGeneratedTextAfterItemsRemoved() {
+        XYSeries s = new XYSeries("S1");
+        s.add(1.0, 2.0);
+        s.add(2.0, 3.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection d = new XYSeriesCollection(s);
+        JFreeChart chart = ChartFactory.createScatterPlot("Title", "X", "Y",
+                d);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getRenderer().setURLGenerator(new StandardXYURLGenerator());
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+        g2.dispose();
+        XYItemEntity first = null;
+        XYItemEntity last = null;
+        for (Object obj : info.getEntityCollection().getEntities()) {
+            if (obj instanceof XYItemEntity) {
+                XYItemEntity entity = (XYItemEntity) obj;
+                if (entity.getItem() == 0) {
+                    first = entity;
+                } else if (entity.getItem() == 2) {
+                    last = entity;
+                }
+            }
+        }
+        assertNotNull(first);
+        assertNotNull(last);
+
+        s.remove(2);
+        s.remove(1);
+        assertNull(last.getToolTipText());
+        assertNull(last.getURLText());
+        assertEquals("S1: (1, 2)", first.getToolTipText());
+        assertNotNull(first.getURLText());
+
+        // the series is gone too
+        XYItemEntity e = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0,
+                3.0, 4.0), new StandardXYToolTipGenerator(),
+                new StandardXYURLGenerator(), d, 0, 0);
+        d.removeAllSeries();
+        assertNull(e.getToolTipText());
+        assertNull(e.getURLText());
+    }
+
+    /**
+     * If items are removed from the start of a series, the indices of the
+     * remaining items change, and an entity's index may refer to a different
+     * item.  No text should be generated for it.
+     */
+    @Test
+    public void testGeneratedTextAfterItemsShifted() {
+        XYSeries s = new XYSeries("S1");
+        s.setMaximumItemCount(3);
+        s.add(1.0, 2.0);
+        s.add(2.0, 3.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection d = new XYSeriesCollection(s);
+        Rectangle2D area = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        XYItemEntity e0 = new XYItemEntity(area,
+                new StandardXYToolTipGenerator(), new StandardXYURLGenerator(),
+                d, 0, 0);
+        XYItemEntity e1 = new XYItemEntity(area,
+                new StandardXYToolTipGenerator(), new StandardXYURLGenerator(),
+                d, 0, 1);
+        assertEquals("S1: (1, 2)", e0.getToolTipText());
+
+        // the first item is dropped, item 1 is now (3.0, 4.0)
+        s.add(4.0, 5.0);
+        assertNull(e1.getToolTipText());
+        assertNull(e1.getURLText());
+        assertEquals("S1: (1, 2)", e0.getToolTipText());
+    }
+
 }
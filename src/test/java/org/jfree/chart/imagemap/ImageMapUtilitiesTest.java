@@ -40,6 +40,15 @@
 
 package org.jfree.chart.imagemap;
 
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -83,4 +92,31 @@ public class ImageMapUtilitiesTest  {
         assertEquals("\\\\", ImageMapUtilities.javascriptEscape("\\"));
     }
 
+    /**
+     * The image map for entities that generate their text on demand should
+     * be identical to the image map for entities created with the text.
+     */
+    @Test
+    public void testGetImageMapWithGeneratedText() {
+        XYSeries s = new XYSeries("S1");
+        s.add(1.0, 2.0);
+        s.add(2.0, 5.0);
+        XYSeriesCollection d = new XYSeriesCollection(s);
+        StandardXYToolTipGenerator tg = new StandardXYToolTipGenerator();
+        StandardXYURLGenerator ug = new StandardXYURLGenerator();
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        EntityCollection ec1 = info1.getEntityCollection();
+        EntityCollection ec2 = info2.getEntityCollection();
+        for (int i = 0; i < 2; i++) {
+            Rectangle2D area = new Rectangle2D.Double(i * 10.0, 5.0, 4.0,
+                    4.0);
+            ec1.add(new XYItemEntity(area, tg, ug, d, 0, i));
+            ec2.add(new XYItemEntity(area, d, 0, i,
+                    tg.generateToolTip(d, 0, i), ug.generateURL(d, 0, i)));
+        }
+        assertEquals(ImageMapUtilities.getImageMap("map", info2),
+                ImageMapUtilities.getImageMap("map", info1));
+    }
+
 }
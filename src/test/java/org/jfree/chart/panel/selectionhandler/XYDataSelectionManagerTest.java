@@ -0,0 +1,416 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * XYDataSelectionManagerTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.panel.selectionhandler;
+
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.AxisLocation;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.data.extension.DatasetSelectionExtension;
+import org.jfree.data.extension.impl.DatasetExtensionManager;
+import org.jfree.data.extension.impl.XYCursor;
+import org.jfree.data.extension.impl.XYDatasetSelectionExtension;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link XYDataSelectionManager} class.
+ */
+public class XYDataSelectionManagerTest {
+
+    /**
+     * Creates a dataset with two series of randomly placed items, with
+     * ascending x-values.
+     *
+     * @return The dataset.
+     */
+    private static DefaultXYDataset createDataset() {
+        Random random = new Random(42L);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        for (int s = 0; s < 2; s++) {
+            double[][] data = new double[2][2000];
+            for (int i = 0; i < 2000; i++) {
+                data[0][i] = i;
+                // a slowly varying y-value, so that the index can skip
+                // buckets
+                data[1][i] = Math.sin(i / 200.0) * 50.0
+                        + random.nextDouble() * 10.0;
+            }
+            data[1][100] = Double.NaN;
+            dataset.addSeries("S" + s, data);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a panel for a scatter plot of the dataset, and paints it so
+     * that the rendering info is populated.
+     *
+     * @param dataset  the dataset.
+     * @param orientation  the plot orientation.
+     *
+     * @return The panel.
+     */
+    private static ChartPanel createPanel(XYDataset dataset,
+            PlotOrientation orientation) {
+        JFreeChart chart = ChartFactory.createScatterPlot("Title", "X", "Y",
+                dataset);
+        ((XYPlot) chart.getPlot()).setOrientation(orientation);
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setSize(600, 400);
+        BufferedImage image = new BufferedImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        return panel;
+    }
+
+    /**
+     * Checks that the selected items are exactly the items whose location
+     * lies inside the region.
+     *
+     * @param panel  the panel.
+     * @param dataset  the dataset.
+     * @param extension  the selection extension.
+     * @param region  the region.
+     *
+     * @return The number of selected items.
+     */
+    private static int checkSelection(ChartPanel panel, XYDataset dataset,
+            DatasetSelectionExtension<XYCursor> extension, Shape region) {
+        XYPlot plot = (XYPlot) panel.getChart().getPlot();
+        Rectangle2D dataArea = panel.getChartRenderingInfo().getPlotInfo()
+                .getDataArea();
+        int index = plot.indexOf(dataset);
+        ValueAxis xAxis = plot.getDomainAxisForDataset(index);
+        ValueAxis yAxis = plot.getRangeAxisForDataset(index);
+        RectangleEdge xEdge = plot.getDomainAxisEdge(
+                plot.getDomainAxisIndex(xAxis));
+        RectangleEdge yEdge = plot.getRangeAxisEdge(
+                plot.getRangeAxisIndex(yAxis));
+        boolean vertical = plot.getOrientation() == PlotOrientation.VERTICAL;
+        XYCursor cursor = new XYCursor();
+        int count = 0;
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            for (int i = 0; i < dataset.getItemCount(s); i++) {
+                double xx = xAxis.valueToJava2D(dataset.getXValue(s, i),
+                        dataArea, xEdge);
+                double yy = yAxis.valueToJava2D(dataset.getYValue(s, i),
+                        dataArea, yEdge);
+                boolean expected = vertical ? region.contains(xx, yy)
+                        : region.contains(yy, xx);
+                cursor.setPosition(s, i);
+                assertEquals("Series " + s + ", item " + i, expected,
+                        extension.isSelected(cursor));
+                if (expected) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Selection with a rectangle, a circle and a path.
+     */
+    @Test
+    public void testSelect() {
+        DefaultXYDataset dataset = createDataset();
+        XYDatasetSelectionExtension extension
+                = new XYDatasetSelectionExtension(dataset);
+        DatasetExtensionManager manager = new DatasetExtensionManager();
+        manager.registerDatasetExtension(extension);
+        ChartPanel panel = createPanel(dataset, PlotOrientation.VERTICAL);
+        XYDataSelectionManager selectionManager = new XYDataSelectionManager(
+                panel, new XYDataset[] {dataset}, manager);
+
+        // centre the regions on the location of an item
+        XYPlot plot = (XYPlot) panel.getChart().getPlot();
+        Rectangle2D dataArea = panel.getChartRenderingInfo().getPlotInfo()
+                .getDataArea();
+        double xx = plot.getDomainAxis().valueToJava2D(
+                dataset.getXValue(0, 700), dataArea, plot.getDomainAxisEdge());
+        double yy = plot.getRangeAxis().valueToJava2D(
+                dataset.getYValue(0, 700), dataArea, plot.getRangeAxisEdge());
+
+        Rectangle2D rect = new Rectangle2D.Double(xx - 100.0, yy - 20.0,
+                200.0, 40.0);
+        selectionManager.select(rect);
+        int count = checkSelection(panel, dataset, extension, rect);
+        assertTrue(count > 0);
+
+        selectionManager.clearSelection();
+        Ellipse2D circle = new Ellipse2D.Double(xx - 30.0, yy - 30.0, 60.0,
+                60.0);
+        selectionManager.select(circle);
+        count = checkSelection(panel, dataset, extension, circle);
+        assertTrue(count > 0);
+
+        selectionManager.clearSelection();
+        GeneralPath path = new GeneralPath();
+        path.moveTo(xx - 150.0, yy - 10.0);
+        path.lineTo(xx + 100.0, yy - 40.0);
+        path.lineTo(xx + 50.0, yy + 60.0);
+        path.closePath();
+        selectionManager.select(path);
+        count = checkSelection(panel, dataset, extension, path);
+        assertTrue(count > 0);
+
+        selectionManager.clearSelection();
+        assertEquals(0, checkSelection(panel, dataset, extension,
+                new Rectangle2D.Double()));
+    }
+
+    /**
+     * Selection in a plot with horizontal orientation.
+     */
+    @Test
+    public void testSelectHorizontal() {
+        DefaultXYDataset dataset = createDataset();
+        XYDatasetSelectionExtension extension
+                = new XYDatasetSelectionExtension(dataset);
+        DatasetExtensionManager manager = new DatasetExtensionManager();
+        manager.registerDatasetExtension(extension);
+        ChartPanel panel = createPanel(dataset, PlotOrientation.HORIZONTAL);
+        XYDataSelectionManager selectionManager = new XYDataSelectionManager(
+                panel, new XYDataset[] {dataset}, manager);
+        Rectangle2D rect = new Rectangle2D.Double(0.0, 100.0, 600.0, 120.0);
+        selectionManager.select(rect);
+        int count = checkSelection(panel, dataset, extension, rect);
+        assertTrue(count > 0);
+    }
+
+    /**
+     * Selection of the items near a point.
+     */
+    @Test
+    public void testSelectPoint() {
+        DefaultXYDataset dataset = createDataset();
+        XYDatasetSelectionExtension extension
+                = new XYDatasetSelectionExtension(dataset);
+        DatasetExtensionManager manager = new DatasetExtensionManager();
+        manager.registerDatasetExtension(extension);
+        ChartPanel panel = createPanel(dataset, PlotOrientation.VERTICAL);
+        XYDataSelectionManager selectionManager = new XYDataSelectionManager(
+                panel, new XYDataset[] {dataset}, manager);
+        selectionManager.setPointRadius(5.0);
+
+        // find the location of an item
+        XYPlot plot = (XYPlot) panel.getChart().getPlot();
+        Rectangle2D dataArea = panel.getChartRenderingInfo().getPlotInfo()
+                .getDataArea();
+        double xx = plot.getDomainAxis().valueToJava2D(
+                dataset.getXValue(1, 500), dataArea, plot.getDomainAxisEdge());
+        double yy = plot.getRangeAxis().valueToJava2D(
+                dataset.getYValue(1, 500), dataArea, plot.getRangeAxisEdge());
+        selectionManager.select(xx, yy);
+        XYCursor cursor = new XYCursor(1, 500);
+        assertTrue(extension.isSelected(cursor));
+        checkSelection(panel, dataset, extension,
+                new Ellipse2D.Double(xx - 5.0, yy - 5.0, 10.0, 10.0));
+    }
+
+    /**
+     * An axis that checks that it is used with the edge it is drawn on (the
+     * check is switched off while drawing, since the renderers use the edge
+     * of the primary axis).
+     */
+    private static class EdgeCheckingAxis extends NumberAxis {
+
+        private RectangleEdge edge;
+
+        private boolean checking;
+
+        EdgeCheckingAxis(String label, RectangleEdge edge) {
+            super(label);
+            this.edge = edge;
+            setAutoRangeIncludesZero(false);
+        }
+
+        @Override
+        public double valueToJava2D(double value, Rectangle2D area,
+                RectangleEdge edge) {
+            if (this.checking) {
+                assertEquals(this.edge, edge);
+            }
+            return super.valueToJava2D(value, area, edge);
+        }
+
+        @Override
+        public double java2DToValue(double java2DValue, Rectangle2D area,
+                RectangleEdge edge) {
+            if (this.checking) {
+                assertEquals(this.edge, edge);
+            }
+            return super.java2DToValue(java2DValue, area, edge);
+        }
+
+    }
+
+    /**
+     * Selection of the items in a dataset that is mapped to secondary axes,
+     * which are on different edges to the primary axes.
+     */
+    @Test
+    public void testSelectSecondaryAxes() {
+        DefaultXYDataset dataset = createDataset();
+        DefaultXYDataset dataset2 = new DefaultXYDataset();
+        double[][] data = new double[2][500];
+        for (int i = 0; i < 500; i++) {
+            data[0][i] = 1000.0 + i * 2.0;
+            data[1][i] = 5000.0 + (i % 50) * 20.0;
+        }
+        dataset2.addSeries("T", data);
+        XYDatasetSelectionExtension extension
+                = new XYDatasetSelectionExtension(dataset2);
+        DatasetExtensionManager manager = new DatasetExtensionManager();
+        manager.registerDatasetExtension(extension);
+
+        JFreeChart chart = ChartFactory.createScatterPlot("Title", "X", "Y",
+                dataset);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setDataset(1, dataset2);
+        plot.setRenderer(1, new XYLineAndShapeRenderer(false, true));
+        EdgeCheckingAxis xAxis2 = new EdgeCheckingAxis("X2",
+                RectangleEdge.TOP);
+        plot.setDomainAxis(1, xAxis2);
+        plot.setDomainAxisLocation(1, AxisLocation.TOP_OR_LEFT);
+        plot.mapDatasetToDomainAxis(1, 1);
+        EdgeCheckingAxis yAxis2 = new EdgeCheckingAxis("Y2",
+                RectangleEdge.RIGHT);
+        plot.setRangeAxis(1, yAxis2);
+        plot.setRangeAxisLocation(1, AxisLocation.BOTTOM_OR_RIGHT);
+        plot.mapDatasetToRangeAxis(1, 1);
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setSize(600, 400);
+        BufferedImage image = new BufferedImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        XYDataSelectionManager selectionManager = new XYDataSelectionManager(
+                panel, new XYDataset[] {dataset2}, manager);
+
+        // centre the region on the location of an item
+        Rectangle2D dataArea = panel.getChartRenderingInfo().getPlotInfo()
+                .getDataArea();
+        double xx = xAxis2.valueToJava2D(dataset2.getXValue(0, 200),
+                dataArea, plot.getDomainAxisEdge(1));
+        double yy = yAxis2.valueToJava2D(dataset2.getYValue(0, 200),
+                dataArea, plot.getRangeAxisEdge(1));
+        Ellipse2D circle = new Ellipse2D.Double(xx - 40.0, yy - 40.0, 80.0,
+                80.0);
+        xAxis2.checking = true;
+        yAxis2.checking = true;
+        selectionManager.select(circle);
+        assertTrue(extension.isSelected(new XYCursor(0, 200)));
+        int count = checkSelection(panel, dataset2, extension, circle);
+        assertTrue(count > 1);
+    }
+
+    /**
+     * Datasets that are not handled by the manager are not changed.
+     */
+    @Test
+    public void testUnhandledDataset() {
+        DefaultXYDataset dataset = createDataset();
+        XYDatasetSelectionExtension extension
+                = new XYDatasetSelectionExtension(dataset);
+        DatasetExtensionManager manager = new DatasetExtensionManager();
+        manager.registerDatasetExtension(extension);
+        ChartPanel panel = createPanel(dataset, PlotOrientation.VERTICAL);
+        XYDataSelectionManager selectionManager = new XYDataSelectionManager(
+                panel, new XYDataset[0], manager);
+        selectionManager.select(new Rectangle2D.Double(0.0, 0.0, 600.0,
+                400.0));
+        assertFalse(extension.isSelected(new XYCursor(0, 1000)));
+    }
+
+    /**
+     * A selection manager that does not override select(Ellipse2D) selects
+     * with the outline of the ellipse.
+     */
+    @Test
+    public void testDefaultSelectEllipse() {
+        final GeneralPath[] paths = new GeneralPath[1];
+        SelectionManager manager = new SelectionManager() {
+            @Override
+            public void select(double x, double y) {
+            }
+            @Override
+            public void select(Rectangle2D selection) {
+            }
+            @Override
+            public void select(GeneralPath selection) {
+                paths[0] = selection;
+            }
+            @Override
+            public void clearSelection() {
+            }
+        };
+        Ellipse2D circle = new Ellipse2D.Double(10.0, 20.0, 40.0, 40.0);
+        manager.select(circle);
+        assertEquals(circle.getBounds2D(), paths[0].getBounds2D());
+        assertTrue(paths[0].contains(30.0, 40.0));
+        assertFalse(paths[0].contains(12.0, 22.0));
+    }
+
+}
@@ -27,10 +27,10 @@
  * ----------------
  * XYPlotTests.java
  * ----------------
- * (C) Copyright 2003-2014, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2003-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -48,6 +48,10 @@
  * 06-Jul-2009 : Added testBug2817504() (DG);
  * 17-Jul-2012 : Removed JCommon dependencies (DG);
  * 10-Mar-2014 : Removed LegendItemCollection (DG);
+ * 17-Oct-2026 : Added testDrawWithResolutionInfo() and
+ *               testDrawWithResolutionInfoAndEntities() (agent);
+ * 17-Oct-2026 : Added testDrawWithIntervalIndex() and
+ *               testDrawPathWithIntervalIndex() (agent);
  *
  */ 
 
@@ -66,7 +70,9 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.Stroke;
+import java.awt.geom.PathIterator;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
@@ -75,6 +81,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.TestUtils;
@@ -82,8 +89,12 @@ import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.MarkerChangeListener;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
@@ -96,7 +107,12 @@ import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.chart.util.DefaultShadowGenerator;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.Second;
+import org.jfree.data.time.SimpleTimePeriod;
+import org.jfree.data.time.TimePeriodValues;
+import org.jfree.data.time.TimePeriodValuesCollection;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.TimeSeriesRollupCollection;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -1036,6 +1052,212 @@ public class XYPlotTest  {
             g2.dispose();
     }
 
+    /**
+     * When the dataset is an XYResolutionInfo, the renderer is initialised
+     * with the dataset but draws the items from the dataset for the
+     * resolution.
+     */
+    @Test
+    public void testDrawWithResolutionInfo() {
+        TimeSeries series = new TimeSeries("S");
+        Second second = new Second(0, 0, 0, 1, 1, 2026);
+        for (int i = 0; i < 4 * 3600; i++) {
+            series.add(second, i);
+            second = (Second) second.next();
+        }
+        final TimeSeriesRollupCollection dataset
+                = new TimeSeriesRollupCollection();
+        dataset.addSeries(series);
+        final List<XYDataset> drawn = new ArrayList<XYDataset>();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public XYItemRendererState initialise(Graphics2D g2,
+                    Rectangle2D dataArea, XYPlot plot, XYDataset data,
+                    PlotRenderingInfo info) {
+                assertSame(dataset, data);
+                return super.initialise(g2, dataArea, plot, data, info);
+            }
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset data, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                drawn.add(data);
+            }
+        };
+        XYPlot plot = new XYPlot(dataset, new DateAxis("X"),
+                new NumberAxis("Y"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200 , 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+        assertEquals(2 * 240 * renderer.getPassCount(), drawn.size());
+        assertSame(dataset.getTierDataset(0), drawn.get(0));
+    }
+
+    /**
+     * When entities are collected, the items are drawn from the dataset for
+     * the resolution without creating entities for them (the entities would
+     * not refer to the items in the dataset), and entities are created when
+     * the dataset itself is drawn.
+     */
+    @Test
+    public void testDrawWithResolutionInfoAndEntities() {
+        TimeSeries series = new TimeSeries("S");
+        Second second = new Second(0, 0, 0, 1, 1, 2026);
+        for (int i = 0; i < 4 * 3600; i++) {
+            series.add(second, i);
+            second = (Second) second.next();
+        }
+        TimeSeriesRollupCollection dataset = new TimeSeriesRollupCollection();
+        dataset.addSeries(series);
+        final List<XYDataset> drawn = new ArrayList<XYDataset>();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset data, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                drawn.add(data);
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                        rangeAxis, data, series, item, crosshairState, pass);
+            }
+        };
+        DateAxis xAxis = new DateAxis("X");
+        XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+                renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200 , 100,
+                BufferedImage.TYPE_INT_RGB);
+
+        // zoomed out, the tier is drawn without entities
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, info);
+        g2.dispose();
+        assertEquals(2 * 240 * renderer.getPassCount(), drawn.size());
+        for (XYDataset d : drawn) {
+            assertSame(dataset.getTierDataset(0), d);
+        }
+        for (ChartEntity e : info.getEntityCollection().getEntities()) {
+            assertFalse(e instanceof XYItemEntity);
+        }
+
+        // zoomed in, the dataset itself is drawn with entities
+        xAxis.setRange(series.getTimePeriod(0).getStart().getTime(),
+                series.getTimePeriod(59).getEnd().getTime());
+        drawn.clear();
+        info = new ChartRenderingInfo();
+        g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, info);
+        g2.dispose();
+        for (XYDataset d : drawn) {
+            assertSame(dataset, d);
+        }
+        XYItemEntity entity = null;
+        for (ChartEntity e : info.getEntityCollection().getEntities()) {
+            if (e instanceof XYItemEntity) {
+                entity = (XYItemEntity) e;
+                assertSame(dataset, entity.getDataset());
+            }
+        }
+        assertTrue(entity != null);
+    }
+
+    /**
+     * For an unordered series with an interval index, only the items that
+     * overlap the domain axis range are drawn.
+     */
+    @Test
+    public void testDrawWithIntervalIndex() {
+        TimePeriodValues s = new TimePeriodValues("S1");
+        for (int i = 0; i < 100; i++) {
+            // the periods are in a shuffled order
+            long start = ((i * 37) % 100) * 10L;
+            s.add(new SimpleTimePeriod(start, start + 9), i);
+        }
+        TimePeriodValuesCollection dataset = new TimePeriodValuesCollection(s);
+        final List<Integer> drawn = new ArrayList<Integer>();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset data, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                if (pass == 0) {
+                    drawn.add(item);
+                }
+            }
+        };
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(505.0, 512.0);
+        XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+                renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200 , 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+        // the periods starting at 500 and 510 are items 50 and 23, and
+        // their neighbours are drawn for the connecting lines
+        assertEquals(Arrays.asList(22, 23, 24, 49, 50, 51), drawn);
+    }
+
+    /**
+     * For an unordered series with an interval index, a renderer that draws
+     * the series as a path should not join items that are not adjacent in
+     * the series, and should draw the lines to the neighbouring items (even
+     * if they are off screen).
+     */
+    @Test
+    public void testDrawPathWithIntervalIndex() {
+        TimePeriodValues s = new TimePeriodValues("S1");
+        for (int i = 0; i < 100; i++) {
+            long start = ((i * 37) % 100) * 10L;
+            s.add(new SimpleTimePeriod(start, start + 9), i);
+        }
+        TimePeriodValuesCollection dataset = new TimePeriodValuesCollection(s);
+        final List<Integer> pointCounts = new ArrayList<Integer>();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false) {
+            @Override
+            protected void drawFirstPassShape(Graphics2D g2, int pass,
+                    int series, int item, Shape shape) {
+                int points = 0;
+                PathIterator iterator = shape.getPathIterator(null);
+                double[] coords = new double[6];
+                while (!iterator.isDone()) {
+                    if (iterator.currentSegment(coords)
+                            == PathIterator.SEG_MOVETO) {
+                        assertEquals(0, points);
+                    }
+                    points++;
+                    iterator.next();
+                }
+                pointCounts.add(points);
+            }
+        };
+        renderer.setDrawSeriesLineAsPath(true);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(505.0, 512.0);
+        XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+                renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200 , 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+        // one path for items 22-24 and one for items 49-51
+        assertEquals(Arrays.asList(3, 3), pointCounts);
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
@@ -27,27 +27,34 @@
  * ---------------------------
  * RendererUtilitiesTests.java
  * ---------------------------
- * (C) Copyright 2007-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2007-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 19-Apr-2007 : Version 1 (DG);
  * 23-Aug-2012 : Added test3561093() (DG);
+ * 17-Oct-2026 : Added testFindLiveItems_IntervalIndex() (agent);
+ * 17-Oct-2026 : Check findLiveItemList() (agent);
  *
  */
 
 package org.jfree.chart.renderer;
 
 import org.jfree.data.DomainOrder;
+import org.jfree.data.time.SimpleTimePeriod;
+import org.jfree.data.time.TimePeriodValues;
+import org.jfree.data.time.TimePeriodValuesCollection;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Some checks for the {@link RendererUtilities} class.
@@ -506,4 +513,89 @@ public class RendererUtilitiesTest  {
         assertEquals(2, bounds[1]);
     }
 
+    /**
+     * A dataset that reports no order, but holds x-values in ascending order,
+     * should be searched without visiting every item.
+     */
+    @Test
+    public void testFindLiveItems_OrderedSeries() {
+        final int[] count = new int[1];
+        DefaultXYDataset d = new DefaultXYDataset() {
+            @Override
+            public double getXValue(int series, int item) {
+                count[0]++;
+                return super.getXValue(series, item);
+            }
+        };
+        double[][] data = new double[2][1000];
+        for (int i = 0; i < 1000; i++) {
+            data[0][i] = i;
+        }
+        d.addSeries("S1", data);
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        assertEquals(100, RendererUtilities.findLiveItemsLowerBound(d, 0,
+                100.0, 200.0));
+        assertEquals(200, RendererUtilities.findLiveItemsUpperBound(d, 0,
+                100.0, 200.0));
+
+        // once the order is known, the lookups are binary searches
+        count[0] = 0;
+        assertEquals(500, RendererUtilities.findLiveItemsLowerBound(d, 0,
+                500.0, 600.0));
+        assertEquals(600, RendererUtilities.findLiveItemsUpperBound(d, 0,
+                500.0, 600.0));
+        assertTrue(count[0] < 50);
+    }
+
+    /**
+     * For an unordered series in a dataset with an interval index, the live
+     * items are found from the index, without reading the x-values.
+     */
+    @Test
+    public void testFindLiveItems_IntervalIndex() {
+        final int[] count = new int[1];
+        TimePeriodValues s = new TimePeriodValues("S1");
+        for (int i = 0; i < 100; i++) {
+            // the periods are in a shuffled order
+            long start = ((i * 37) % 100) * 10L;
+            s.add(new SimpleTimePeriod(start, start + 9), i);
+        }
+        TimePeriodValuesCollection d = new TimePeriodValuesCollection(s) {
+            @Override
+            public double getXValue(int series, int item) {
+                count[0]++;
+                return super.getXValue(series, item);
+            }
+        };
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        // the periods starting at 500 and 510 are items 50 and 23
+        int[] bounds = RendererUtilities.findLiveItems(d, 0, 505.0, 512.0);
+        assertEquals(23, bounds[0]);
+        assertEquals(50, bounds[1]);
+        assertEquals(23, RendererUtilities.findLiveItemsLowerBound(d, 0,
+                505.0, 512.0));
+        assertEquals(50, RendererUtilities.findLiveItemsUpperBound(d, 0,
+                505.0, 512.0));
+        assertEquals(0, count[0]);
+
+        // the list contains only the overlapping items
+        int[] items = RendererUtilities.findLiveItemList(d, 0, 505.0, 512.0);
+        assertEquals(2, items.length);
+        assertEquals(23, items[0]);
+        assertEquals(50, items[1]);
+        assertEquals(0, RendererUtilities.findLiveItemList(d, 0, 2000.0,
+                3000.0).length);
+        assertEquals(0, count[0]);
+
+        // there is no list for a dataset without an interval index
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(1.0, 1.0);
+        s2.add(0.0, 2.0);
+        assertNull(RendererUtilities.findLiveItemList(
+                new XYSeriesCollection(s2), 0, 0.0, 5.0));
+        bounds = RendererUtilities.findLiveItems(d, 0, 2000.0, 3000.0);
+        assertEquals(0, bounds[0]);
+        assertEquals(0, bounds[1]);
+    }
+
 }
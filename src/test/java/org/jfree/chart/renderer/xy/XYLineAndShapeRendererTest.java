@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,10 +27,10 @@
  * --------------------------------
  * XYLineAndShapeRendererTests.java
  * --------------------------------
- * (C) Copyright 2004-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2004-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -39,6 +39,7 @@
  * 21-Feb-2007 : Check independence in testCloning() (DG);
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable() (DG);
+ * 17-Oct-2026 : Added testPixelDecimation() (agent);
  *
  */
 
@@ -57,7 +58,9 @@ import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
 import java.awt.geom.Rectangle2D;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -69,6 +72,7 @@ import java.io.ObjectOutputStream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -147,6 +151,11 @@ public class XYLineAndShapeRendererTest  {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertEquals(r1, r2);
+
+        r1.setPixelDecimation(true);
+        assertFalse(r1.equals(r2));
+        r2.setPixelDecimation(true);
+        assertEquals(r1, r2);
     }
 
     /**
@@ -318,4 +327,54 @@ public class XYLineAndShapeRendererTest  {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Some checks for the pixel decimation of a large series.
+     */
+    @Test
+    public void testPixelDecimation() {
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 100000; i++) {
+            s1.add(i, Math.sin(i / 1000.0));
+        }
+        s1.update(Integer.valueOf(50123), 5.0);
+        s1.update(Integer.valueOf(70456), -5.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false);
+        r.setPixelDecimation(true);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("x"),
+                new NumberAxis("y"), r);
+        Rectangle2D dataArea = new Rectangle2D.Double(0.0, 0.0, 200.0,
+                100.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        XYItemRendererState state = r.initialise(g2, dataArea, plot,
+                dataset, null);
+        assertTrue(state.isPixelDecimation());
+        state.startSeriesPass(dataset, 0, 0, 99999, 0, 2);
+        int count = state.getDecimatedItemCount();
+        assertTrue(count <= 4 * 201);
+        assertEquals(0, state.getDecimatedItem(0));
+        assertEquals(99999, state.getDecimatedItem(count - 1));
+        boolean max = false;
+        boolean min = false;
+        for (int i = 0; i < count; i++) {
+            int item = state.getDecimatedItem(i);
+            max = max || item == 50123;
+            min = min || item == 70456;
+            if (i > 0) {
+                assertEquals(state.getDecimatedItem(i - 1),
+                        state.getPreviousItem(item));
+            }
+        }
+        assertTrue(max);
+        assertTrue(min);
+        assertEquals(-1, state.getPreviousItem(0));
+        g2.dispose();
+
+        // drawing the chart with decimation should not throw an exception
+        JFreeChart chart = new JFreeChart(plot);
+        assertNotNull(chart.createBufferedImage(300, 200));
+    }
+
 }
@@ -52,6 +52,7 @@
 
 package org.jfree.data.general;
 
+import org.jfree.data.DomainOrder;
 import org.jfree.data.KeyToGroupMap;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
@@ -1462,4 +1463,73 @@ public class DatasetUtilitiesTest {
         assertTrue(Double.isNaN(DatasetUtilities.findYValue(dataset, 0, 3.0)));
     }
 
+    /**
+     * Some checks for the iterateDomainOrder() method.
+     */
+    @Test
+    public void testIterateDomainOrder() {
+        DefaultXYDataset d = new DefaultXYDataset();
+        d.addSeries("S1", new double[][] {{}, {}});
+        d.addSeries("S2", new double[][] {{1.0, 2.0, 2.0, 3.0},
+                {1.0, 2.0, 3.0, 4.0}});
+        d.addSeries("S3", new double[][] {{3.0, 2.0, 1.0}, {1.0, 2.0, 3.0}});
+        d.addSeries("S4", new double[][] {{1.0, 3.0, 2.0}, {1.0, 2.0, 3.0}});
+        d.addSeries("S5", new double[][] {{1.0, Double.NaN, 3.0},
+                {1.0, 2.0, 3.0}});
+        assertEquals(DomainOrder.ASCENDING,
+                DatasetUtilities.iterateDomainOrder(d, 0));
+        assertEquals(DomainOrder.ASCENDING,
+                DatasetUtilities.iterateDomainOrder(d, 1));
+        assertEquals(DomainOrder.DESCENDING,
+                DatasetUtilities.iterateDomainOrder(d, 2));
+        assertEquals(DomainOrder.NONE,
+                DatasetUtilities.iterateDomainOrder(d, 3));
+        assertEquals(DomainOrder.NONE,
+                DatasetUtilities.iterateDomainOrder(d, 4));
+    }
+
+    /**
+     * Some checks for the findDomainOrder() method.
+     */
+    @Test
+    public void testFindDomainOrder() {
+        DefaultXYDataset d = new DefaultXYDataset();
+        d.addSeries("S1", new double[][] {{1.0, 2.0}, {1.0, 2.0}});
+        d.addSeries("S2", new double[][] {{2.0, 1.0}, {1.0, 2.0}});
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        assertEquals(DomainOrder.ASCENDING,
+                DatasetUtilities.findDomainOrder(d, 0));
+        assertEquals(DomainOrder.DESCENDING,
+                DatasetUtilities.findDomainOrder(d, 1));
+
+        // replacing a series discards the cached order
+        d.addSeries("S1", new double[][] {{2.0, 1.0}, {1.0, 2.0}});
+        assertEquals(DomainOrder.DESCENDING,
+                DatasetUtilities.findDomainOrder(d, 0));
+
+        XYSeries s1 = new XYSeries("S1", false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        XYSeriesCollection c = new XYSeriesCollection(s1);
+        assertEquals(DomainOrder.ASCENDING,
+                DatasetUtilities.findDomainOrder(c, 0));
+        s1.add(0.0, 3.0);
+        assertEquals(DomainOrder.NONE,
+                DatasetUtilities.findDomainOrder(c, 0));
+
+        YIntervalSeries s2 = new YIntervalSeries("S2", false, true);
+        s2.add(1.0, 1.0, 0.0, 2.0);
+        s2.add(2.0, 1.0, 0.0, 2.0);
+        YIntervalSeriesCollection c2 = new YIntervalSeriesCollection();
+        c2.addSeries(s2);
+        assertEquals(DomainOrder.ASCENDING,
+                DatasetUtilities.findDomainOrder(c2, 0));
+        s2.add(0.5, 1.0, 0.0, 2.0);
+        assertEquals(DomainOrder.NONE,
+                DatasetUtilities.findDomainOrder(c2, 0));
+        s2.remove(0.5);
+        assertEquals(DomainOrder.ASCENDING,
+                DatasetUtilities.findDomainOrder(c2, 0));
+    }
+
 }
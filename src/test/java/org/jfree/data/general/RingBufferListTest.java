@@ -0,0 +1,146 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * RingBufferListTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jfree.chart.TestUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link RingBufferList} class.
+ */
+public class RingBufferListTest {
+
+    /**
+     * Append and remove from the front so that the storage wraps around.
+     */
+    @Test
+    public void testWrapAround() {
+        RingBufferList<Integer> list = new RingBufferList<Integer>(4);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            if (list.size() > 3) {
+                list.remove(0);
+            }
+        }
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(17), list.get(0));
+        assertEquals(Integer.valueOf(19), list.get(2));
+        list.add(1, -1);
+        list.add(3, -3);
+        assertEquals(5, list.size());
+        assertEquals(Integer.valueOf(17), list.get(0));
+        assertEquals(Integer.valueOf(-1), list.get(1));
+        assertEquals(Integer.valueOf(18), list.get(2));
+        assertEquals(Integer.valueOf(-3), list.get(3));
+        assertEquals(Integer.valueOf(19), list.get(4));
+    }
+
+    /**
+     * Apply the same random sequence of operations to a RingBufferList and
+     * an ArrayList and check that the results are the same.
+     */
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(123L);
+        RingBufferList<Integer> list = new RingBufferList<Integer>(2);
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(6);
+            if (op < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (op == 4) {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from + 1);
+                expected.subList(from, to).clear();
+                list.subList(from, to).clear();
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(index, -i));
+            }
+            assertEquals(expected, list);
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() {
+        RingBufferList<String> l1 = new RingBufferList<String>(2);
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        RingBufferList<String> l2 = l1.clone();
+        assertNotSame(l1, l2);
+        assertEquals(l1, l2);
+        l2.add("D");
+        assertEquals(2, l1.size());
+        assertTrue(l1.equals(l2.subList(0, 2)));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferList<String> l1 = new RingBufferList<String>(2);
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        RingBufferList<String> l2 = TestUtils.serialised(l1);
+        assertEquals(l1, l2);
+    }
+
+}
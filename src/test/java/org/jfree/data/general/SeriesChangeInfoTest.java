@@ -0,0 +1,145 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SeriesChangeInfoTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.chart.TestUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link SeriesChangeInfo} class.
+ */
+public class SeriesChangeInfoTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        SeriesChangeInfo i1 = new SeriesChangeInfo(
+                SeriesChangeType.ITEMS_APPENDED, 1, 2, 3);
+        SeriesChangeInfo i2 = new SeriesChangeInfo(
+                SeriesChangeType.ITEMS_APPENDED, 1, 2, 3);
+        assertTrue(i1.equals(i2));
+        assertEquals(i1.hashCode(), i2.hashCode());
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0, 2, 3);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0, 2, 3);
+        assertTrue(i1.equals(i2));
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0, 4, 3);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0, 4, 3);
+        assertTrue(i1.equals(i2));
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0, 4);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0, 4);
+        assertTrue(i1.equals(i2));
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, 0, 4);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, 0, 4);
+        assertTrue(i1.equals(i2));
+    }
+
+    /**
+     * Some checks for the accessor methods and the isAppendOnly() flag.
+     */
+    @Test
+    public void testAccessors() {
+        SeriesChangeInfo i1 = new SeriesChangeInfo(
+                SeriesChangeType.ITEMS_INSERTED, 3, 5);
+        assertEquals(SeriesChangeType.ITEMS_INSERTED, i1.getType());
+        assertEquals(3, i1.getStartIndex());
+        assertEquals(5, i1.getEndIndex());
+        assertEquals(3, i1.getItemCount());
+        assertEquals(0, i1.getRemovedFromStart());
+        assertFalse(i1.isAppendOnly());
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 3, 5);
+        assertTrue(i1.isAppendOnly());
+        i1 = new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 3, 5, 1);
+        assertFalse(i1.isAppendOnly());
+    }
+
+    /**
+     * Check that invalid arguments are rejected.
+     */
+    @Test
+    public void testInvalidArguments() {
+        try {
+            new SeriesChangeInfo(null, 0, 0);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, 2, 1);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SeriesChangeInfo(SeriesChangeType.ITEMS_REMOVED, 0, 1, 1);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SeriesChangeInfo i1 = new SeriesChangeInfo(
+                SeriesChangeType.ITEMS_APPENDED, 1, 2, 3);
+        SeriesChangeInfo i2 = TestUtils.serialised(i1);
+        assertEquals(i1, i2);
+    }
+
+}
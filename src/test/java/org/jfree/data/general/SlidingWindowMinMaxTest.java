@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * SlidingWindowMinMaxTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link SlidingWindowMinMax} class.
+ */
+public class SlidingWindowMinMaxTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for an empty window and for NaN values.
+     */
+    @Test
+    public void testNaN() {
+        SlidingWindowMinMax w = new SlidingWindowMinMax();
+        assertTrue(Double.isNaN(w.getMinimum()));
+        assertTrue(Double.isNaN(w.getMaximum()));
+        w.append(Double.NaN);
+        assertEquals(1, w.getCount());
+        assertTrue(Double.isNaN(w.getMinimum()));
+        w.append(2.0);
+        w.append(Double.NaN);
+        assertEquals(2.0, w.getMinimum(), EPSILON);
+        assertEquals(2.0, w.getMaximum(), EPSILON);
+        w.removeFirst();
+        w.removeFirst();
+        assertTrue(Double.isNaN(w.getMaximum()));
+        assertEquals(1, w.getCount());
+    }
+
+    /**
+     * Slide a window over random values and compare the results with the
+     * minimum and maximum found by iteration.
+     */
+    @Test
+    public void testAgainstIteration() {
+        Random random = new Random(42L);
+        SlidingWindowMinMax w = new SlidingWindowMinMax();
+        List<Double> values = new ArrayList<Double>();
+        for (int i = 0; i < 10000; i++) {
+            double v = random.nextInt(50);
+            w.append(v);
+            values.add(v);
+            // vary the window size between 1 and 100 items
+            int limit = 1 + (i / 100) % 100;
+            while (values.size() > limit) {
+                w.removeFirst();
+                values.remove(0);
+            }
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double d : values) {
+                min = Math.min(min, d);
+                max = Math.max(max, d);
+            }
+            assertEquals(min, w.getMinimum(), EPSILON);
+            assertEquals(max, w.getMaximum(), EPSILON);
+        }
+    }
+
+    /**
+     * Replace values inside a sliding window and compare the results with
+     * the minimum and maximum found by iteration.
+     */
+    @Test
+    public void testSetAgainstIteration() {
+        Random random = new Random(7L);
+        SlidingWindowMinMax w = new SlidingWindowMinMax();
+        List<Double> values = new ArrayList<Double>();
+        for (int i = 0; i < 5000; i++) {
+            double v = random.nextInt(50);
+            w.append(v);
+            values.add(v);
+            if (values.size() > 60) {
+                w.removeFirst();
+                values.remove(0);
+            }
+            int index = random.nextInt(values.size());
+            double u = random.nextInt(10) == 0 ? Double.NaN
+                    : random.nextInt(50);
+            w.set(index, u);
+            values.set(index, u);
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (double d : values) {
+                if (!Double.isNaN(d)) {
+                    min = Double.isNaN(min) ? d : Math.min(min, d);
+                    max = Double.isNaN(max) ? d : Math.max(max, d);
+                }
+            }
+            assertEquals(min, w.getMinimum(), EPSILON);
+            assertEquals(max, w.getMaximum(), EPSILON);
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        SlidingWindowMinMax w1 = new SlidingWindowMinMax();
+        w1.append(1.0);
+        w1.append(3.0);
+        SlidingWindowMinMax w2 = (SlidingWindowMinMax) w1.clone();
+        w2.removeFirst();
+        assertEquals(1.0, w1.getMinimum(), EPSILON);
+        assertEquals(3.0, w2.getMinimum(), EPSILON);
+    }
+
+}
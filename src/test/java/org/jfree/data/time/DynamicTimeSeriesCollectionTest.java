@@ -0,0 +1,221 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------
+ * DynamicTimeSeriesCollectionTest.java
+ * ------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DynamicTimeSeriesCollection} class.
+ */
+public class DynamicTimeSeriesCollectionTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /**
+     * Creates a dataset with the time base set.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items.
+     *
+     * @return The dataset.
+     */
+    private static DynamicTimeSeriesCollection createDataset(int seriesCount,
+            int itemCount) {
+        DynamicTimeSeriesCollection d = new DynamicTimeSeriesCollection(
+                seriesCount, itemCount, new Second(), UTC);
+        d.setTimeBase(new Second(0, 0, 0, 1, 1, 2026));
+        for (int s = 0; s < seriesCount; s++) {
+            d.addSeries(new float[0], s, "S" + s);
+        }
+        return d;
+    }
+
+    /**
+     * Returns the range of the values, found by iterating over all items.
+     *
+     * @param d  the dataset.
+     *
+     * @return The range.
+     */
+    private static Range findRange(DynamicTimeSeriesCollection d) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < d.getSeriesCount(); s++) {
+            for (int i = 0; i < d.getItemCount(s); i++) {
+                min = Math.min(min, d.getYValue(s, i));
+                max = Math.max(max, d.getYValue(s, i));
+            }
+        }
+        return new Range(min, max);
+    }
+
+    /**
+     * The value range is maintained as time advances and data is added.
+     */
+    @Test
+    public void testRangeBounds() {
+        DynamicTimeSeriesCollection d = createDataset(3, 50);
+        assertEquals(new Range(0.0, 0.0), d.getRangeBounds(false));
+        Random random = new Random(42L);
+        for (int i = 0; i < 500; i++) {
+            d.advanceTime();
+            float[] data = new float[3];
+            for (int s = 0; s < 3; s++) {
+                data[s] = (float) (random.nextGaussian() * 100.0);
+            }
+            d.appendData(data);
+            if (i % 7 == 0) {
+                // overwrite a value in an older time period
+                d.addValue(1, d.offsetFromNewest(-10), 1000.0f + i);
+            }
+            assertEquals(findRange(d), d.getRangeBounds(false));
+            assertEquals(findRange(d).getLowerBound(),
+                    d.getRangeLowerBound(false), 0.0);
+            assertEquals(findRange(d).getUpperBound(),
+                    d.getRangeUpperBound(true), 0.0);
+        }
+    }
+
+    /**
+     * A dataset without series has no range.
+     */
+    @Test
+    public void testRangeBoundsWithoutSeries() {
+        DynamicTimeSeriesCollection d = new DynamicTimeSeriesCollection(2,
+                10, new Second(), UTC);
+        assertNull(d.getRangeBounds(false));
+        assertTrue(Double.isNaN(d.getRangeUpperBound(false)));
+    }
+
+    /**
+     * A snapshot contains the items from the oldest to the newest, and is
+     * reused until the data changes.
+     */
+    @Test
+    public void testSnapshot() {
+        DynamicTimeSeriesCollection d = createDataset(2, 5);
+        for (int i = 0; i < 7; i++) {
+            d.advanceTime();
+            d.appendData(new float[] {i, -i});
+        }
+        DynamicTimeSeriesCollection.Snapshot snapshot = d.getSnapshot();
+        assertEquals(d.getSequence(), snapshot.getSequence());
+        assertSame(snapshot, d.getSnapshot());
+        assertEquals(DomainOrder.ASCENDING, snapshot.getDomainOrder());
+        assertEquals(2, snapshot.getSeriesCount());
+        assertEquals("S1", snapshot.getSeriesKey(1));
+        assertEquals(5, snapshot.getItemCount(0));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(d.getX(0, i), snapshot.getX(0, i));
+            assertEquals(d.getStartX(0, i), snapshot.getStartX(0, i));
+            assertEquals(d.getEndX(0, i), snapshot.getEndX(0, i));
+            assertEquals(d.getYValue(0, i), snapshot.getYValue(0, i), 0.0);
+            assertEquals(d.getYValue(1, i), snapshot.getYValue(1, i), 0.0);
+        }
+        assertEquals(6.0, snapshot.getYValue(0, 4), 0.0);
+        assertEquals(new Second(11, 0, 0, 1, 1, 2026).getFirstMillisecond(
+                Calendar.getInstance(UTC)),
+                snapshot.getXValue(0, 4), 0.0);
+
+        // changing the data creates a new snapshot, the old one is unchanged
+        d.advanceTime();
+        DynamicTimeSeriesCollection.Snapshot snapshot2 = d.getSnapshot();
+        assertNotSame(snapshot, snapshot2);
+        assertEquals(6.0, snapshot.getYValue(0, 4), 0.0);
+        assertEquals(6.0, snapshot2.getYValue(0, 3), 0.0);
+        assertEquals(0.0, snapshot2.getYValue(0, 4), 0.0);
+    }
+
+    /**
+     * Snapshots taken while another thread appends data are consistent.
+     */
+    @Test
+    public void testConcurrentSnapshots() throws InterruptedException {
+        final DynamicTimeSeriesCollection d = createDataset(4, 200);
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                while (!done.get() && failure.get() == null) {
+                    DynamicTimeSeriesCollection.Snapshot s = d.getSnapshot();
+                    for (int i = 0; i < s.getItemCount(0); i++) {
+                        // every series has the same value for a period, and
+                        // the values increase by one from period to period
+                        double v = s.getYValue(0, i);
+                        for (int series = 1; series < 4; series++) {
+                            if (s.getYValue(series, i) != v) {
+                                failure.set("Torn period " + i);
+                            }
+                        }
+                        if (i > 0 && v != 0.0 && s.getYValue(0, i - 1) != 0.0
+                                && v != s.getYValue(0, i - 1) + 1.0) {
+                            failure.set("Torn frame at " + i);
+                        }
+                    }
+                }
+            }
+        };
+        reader.start();
+        for (int i = 1; i <= 20000; i++) {
+            d.advanceTime();
+            d.appendData(new float[] {i, i, i, i});
+        }
+        done.set(true);
+        reader.join();
+        assertNull(failure.get());
+    }
+
+}
@@ -0,0 +1,207 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * GregorianArithmeticTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the {@link GregorianArithmetic} class.
+ */
+public class GregorianArithmeticTest {
+
+    /** The time zones to test, including some with unusual transitions. */
+    private static final String[] ZONES = {"UTC", "GMT+05:30",
+            "Europe/London", "America/New_York", "America/Sao_Paulo",
+            "Australia/Lord_Howe", "Asia/Kolkata", "Asia/Tehran",
+            "Pacific/Apia", "Pacific/Chatham"};
+
+    /**
+     * Checks the day count against {@code java.time}.
+     */
+    @Test
+    public void testDaysFromCivil() {
+        LocalDate date = LocalDate.of(1583, 1, 1);
+        LocalDate end = LocalDate.of(2500, 1, 1);
+        while (date.isBefore(end)) {
+            assertEquals(date.toEpochDay(), GregorianArithmetic.daysFromCivil(
+                    date.getYear(), date.getMonthValue(),
+                    date.getDayOfMonth()));
+            date = date.plusDays(1);
+        }
+        assertEquals(0, GregorianArithmetic.daysFromCivil(1970, 1, 1));
+        assertEquals(-1, GregorianArithmetic.daysFromCivil(1969, 12, 31));
+    }
+
+    /**
+     * Calendars that are not supported are left to the caller.
+     */
+    @Test
+    public void testUnsupported() {
+        GregorianCalendar c = new GregorianCalendar(TimeZone.getTimeZone(
+                "UTC"));
+        assertEquals(0L, GregorianArithmetic.getMillisecond(c, 1970, 1, 1, 0,
+                0, 0, 0));
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(c, 1899, 12, 31, 0, 0, 0,
+                0));
+        c.setGregorianChange(new Date(Long.MIN_VALUE));
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(c, 2000, 1, 1, 0, 0, 0, 0));
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(new CheckCalendar("UTC"),
+                2000, 1, 1, 0, 0, 0, 0));
+        c = new GregorianCalendar(new SimpleTimeZone(3600000, "UTC"));
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(c, 2000, 1, 1, 0, 0, 0, 0));
+
+        // a standard time zone with a modified raw offset
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        zone.setRawOffset(0);
+        c = new GregorianCalendar(zone);
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(c, 2000, 1, 1, 0, 0, 0, 0));
+    }
+
+    /**
+     * A local time in a gap or an overlap is resolved by the calendar.
+     */
+    @Test
+    public void testTransitions() {
+        GregorianCalendar c = new GregorianCalendar(TimeZone.getTimeZone(
+                "Europe/London"));
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(c, 2026, 3, 29, 1, 30, 0,
+                0));
+        assertEquals(GregorianArithmetic.UNSUPPORTED,
+                GregorianArithmetic.getMillisecond(c, 2026, 10, 25, 1, 30, 0,
+                0));
+        Hour h = new Hour(1, 29, 3, 2026);
+        h.peg(c);
+        CheckCalendar check = new CheckCalendar("Europe/London");
+        assertEquals(h.getFirstMillisecond(check), h.getFirstMillisecond());
+        assertEquals(h.getLastMillisecond(check), h.getLastMillisecond());
+    }
+
+    /**
+     * Checks that each type of time period gets the same first and last
+     * milliseconds with and without the calendar arithmetic, over the hours
+     * of several years in a range of time zones.
+     */
+    @Test
+    public void testSameAsCalendar() {
+        for (String id : ZONES) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            Calendar fast = new GregorianCalendar(zone, Locale.UK);
+            Calendar slow = new CheckCalendar(id);
+            Hour hour = new Hour(0, new Day(1, 1, 2010));
+            Hour last = new Hour(0, new Day(1, 1, 2013));
+            while (hour.compareTo(last) < 0) {
+                checkPeriod(hour, fast, slow);
+                if (hour.getHour() == 0) {
+                    Day day = hour.getDay();
+                    checkPeriod(day, fast, slow);
+                    checkPeriod(new Minute(59, new Hour(23, day)), fast, slow);
+                    checkPeriod(new Second(30, 0, 0, day.getDayOfMonth(),
+                            day.getMonth(), day.getYear()), fast, slow);
+                    checkPeriod(new Millisecond(999, 59, 59, 23,
+                            day.getDayOfMonth(), day.getMonth(),
+                            day.getYear()), fast, slow);
+                    if (day.getDayOfMonth() == 1) {
+                        checkPeriod(new Month(day.getMonth(), day.getYear()),
+                                fast, slow);
+                        checkPeriod(new Quarter((day.getMonth() + 2) / 3,
+                                day.getYear()), fast, slow);
+                        checkPeriod(new Year(day.getYear()), fast, slow);
+                    }
+                }
+                hour = (Hour) hour.next();
+            }
+            for (int y = 1583; y < 9999; y += 7) {
+                checkPeriod(new Year(y), fast, slow);
+            }
+            for (int y = 1900; y < 9999; y += 7) {
+                checkPeriod(new Minute(30, 12, 28, 2, y), fast, slow);
+            }
+        }
+    }
+
+    /**
+     * Checks the first and last milliseconds for a time period.
+     *
+     * @param period  the time period.
+     * @param fast  a calendar that uses the arithmetic where possible.
+     * @param slow  a calendar that always uses the calendar.
+     */
+    private void checkPeriod(RegularTimePeriod period, Calendar fast,
+            Calendar slow) {
+        assertEquals(period.toString(), period.getFirstMillisecond(slow),
+                period.getFirstMillisecond(fast));
+        assertEquals(period.toString(), period.getLastMillisecond(slow),
+                period.getLastMillisecond(fast));
+    }
+
+    /**
+     * A calendar subclass, which is never handled by the arithmetic.
+     */
+    private static class CheckCalendar extends GregorianCalendar {
+
+        /**
+         * Creates a calendar for the specified time zone.
+         *
+         * @param id  the time zone ID.
+         */
+        CheckCalendar(String id) {
+            super(TimeZone.getTimeZone(id), Locale.UK);
+        }
+
+    }
+
+}
@@ -27,10 +27,10 @@
  * ------------------------------------
  * TimePeriodValuesCollectionTests.java
  * ------------------------------------
- * (C) Copyright 2005-2008, by Object Refinery Limited.
+ * (C) Copyright 2005-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
@@ -40,6 +40,7 @@
  * 10-Jul-2007 : Fixed compile errors (DG);
  * 07-Apr-2008 : Added more checks to 
  *               testGetDomainBoundsWithInterval() (DG);
+ * 17-Oct-2026 : Added testGetOverlappingItems() (agent);
  *
  */
 
@@ -56,6 +57,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -225,4 +227,35 @@ public class TimePeriodValuesCollectionTest  {
         assertEquals(1000.0, r.getLowerBound(), EPSILON);
         assertEquals(7000.0, r.getUpperBound(), EPSILON);    
     }
+    /**
+     * Check the primitive x-value methods and getOverlappingItems().
+     */
+    @Test
+    public void testGetOverlappingItems() {
+        TimePeriodValues s = new TimePeriodValues("Series");
+        s.add(new SimpleTimePeriod(100L, 200L), 1.0);
+        s.add(new SimpleTimePeriod(0L, 50L), 2.0);
+        s.add(new SimpleTimePeriod(150L, 175L), 3.0);
+        TimePeriodValuesCollection dataset = new TimePeriodValuesCollection(s);
+        assertEquals(150.0, dataset.getXValue(0, 0), 0.0);
+        assertEquals(dataset.getX(0, 1).doubleValue(),
+                dataset.getXValue(0, 1), 0.0);
+        assertEquals(100.0, dataset.getStartXValue(0, 0), 0.0);
+        assertEquals(200.0, dataset.getEndXValue(0, 0), 0.0);
+        dataset.setXPosition(TimePeriodAnchor.END);
+        assertEquals(50.0, dataset.getXValue(0, 1), 0.0);
+
+        assertArrayEquals(new int[] {0, 2},
+                dataset.getOverlappingItems(0, 160.5, 170.0));
+        assertArrayEquals(new int[] {0, 1},
+                dataset.getOverlappingItems(0, 49.5, 100.0));
+        assertArrayEquals(new int[] {1},
+                dataset.getOverlappingItems(0, 49.5, 99.9));
+        assertArrayEquals(new int[] {0, 1, 2},
+                dataset.getOverlappingItems(0, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY));
+        assertArrayEquals(new int[0],
+                dataset.getOverlappingItems(0, 200.5, 300.0));
+    }
+
 }
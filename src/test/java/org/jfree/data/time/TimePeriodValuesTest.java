@@ -27,16 +27,18 @@
  * -------------------------
  * TimePeriodValueTests.java
  * -------------------------
- * (C) Copyright 2003-2008, by Object Refinery Limited.
+ * (C) Copyright 2003-2026, by Object Refinery Limited.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 30-Jul-2003 : Version 1 (DG);
  * 07-Apr-2008 : Added new tests for min/max-start/middle/end
  *               index updates (DG);
+ * 17-Oct-2026 : Added tests for the start and end milliseconds,
+ *               getOverlappingItems() and the columnar mode (agent);
  *
  */
 
@@ -55,8 +57,11 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -133,6 +138,187 @@ public class TimePeriodValuesTest  {
 
     }
 
+    /**
+     * A copy of part of a series has its own bounds.
+     */
+    @Test
+    public void testCreateCopy() throws CloneNotSupportedException {
+        TimePeriodValues series = new TimePeriodValues("Test");
+        for (int year = 2004; year >= 2000; year--) {
+            series.add(new Year(year), year);
+        }
+        assertEquals(4, series.getMinStartIndex());
+        TimePeriodValues copy = series.createCopy(0, 1);
+        assertEquals(2, copy.getItemCount());
+        assertEquals(1, copy.getMinStartIndex());
+        assertEquals(0, copy.getMaxEndIndex());
+        assertEquals(new Year(2003).getStart().getTime(),
+                copy.getStartMillis(1));
+    }
+
+    /**
+     * Check the start and end milliseconds, including after a deletion.
+     */
+    @Test
+    public void testStartAndEndMillis() {
+        TimePeriodValues series = new TimePeriodValues("Test");
+        for (int i = 0; i < 40; i++) {
+            series.add(new SimpleTimePeriod(i * 10L, i * 10L + 5), i);
+        }
+        assertEquals(50L, series.getStartMillis(5));
+        assertEquals(55L, series.getEndMillis(5));
+        series.delete(2, 30);
+        assertEquals(11, series.getItemCount());
+        assertEquals(310L, series.getStartMillis(2));
+        assertEquals(395L, series.getEndMillis(10));
+        assertEquals(0, series.getMinStartIndex());
+        assertEquals(10, series.getMaxEndIndex());
+        try {
+            series.getStartMillis(11);
+            fail("Expected an IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Returns the indices of the items that overlap a range, found by
+     * checking every item.
+     *
+     * @param series  the series.
+     * @param start  the start of the range.
+     * @param end  the end of the range.
+     *
+     * @return The item indices.
+     */
+    private static int[] findOverlapping(TimePeriodValues series, long start,
+            long end) {
+        int[] result = new int[series.getItemCount()];
+        int count = 0;
+        for (int i = 0; i < series.getItemCount(); i++) {
+            if (series.getStartMillis(i) <= end
+                    && series.getEndMillis(i) >= start) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Check getOverlappingItems() against a linear search.
+     */
+    @Test
+    public void testGetOverlappingItems() {
+        checkOverlappingItems(new TimePeriodValues("Test"));
+        checkOverlappingItems(new TimePeriodValues("Test", "Time", "Value",
+                true));
+    }
+
+    /**
+     * Checks getOverlappingItems() against a linear search for random items
+     * added to an empty series.
+     *
+     * @param series  the series.
+     */
+    private static void checkOverlappingItems(TimePeriodValues series) {
+        assertEquals(0, series.getOverlappingItems(0L, 100L).length);
+        Random random = new Random(123L);
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10000);
+            long length = random.nextInt(10) == 0 ? random.nextInt(3000)
+                    : random.nextInt(50);
+            series.add(new SimpleTimePeriod(start, start + length), i);
+        }
+        for (int q = 0; q < 300; q++) {
+            long start = random.nextInt(11000) - 500;
+            long end = start + random.nextInt(q % 3 == 0 ? 5 : 2000);
+            assertArrayEquals(findOverlapping(series, start, end),
+                    series.getOverlappingItems(start, end));
+            if (q == 100) {
+                series.delete(50, 99);
+            }
+            if (q == 200) {
+                series.add(new SimpleTimePeriod(0L, 20000L), -1);
+            }
+        }
+        assertArrayEquals(new int[0], series.getOverlappingItems(10L, 5L));
+    }
+
+    /**
+     * A columnar series should behave in the same way as a regular series,
+     * except that the items it returns are created on demand.
+     */
+    @Test
+    public void testColumnar() throws CloneNotSupportedException,
+            IOException, ClassNotFoundException {
+        TimePeriodValues s1 = new TimePeriodValues("Test");
+        TimePeriodValues s2 = new TimePeriodValues("Test", "Time", "Value",
+                true);
+        assertFalse(s1.isColumnar());
+        assertTrue(s2.isColumnar());
+        Random random = new Random(456L);
+        for (int i = 0; i < 100; i++) {
+            long start = random.nextInt(10000);
+            SimpleTimePeriod period = new SimpleTimePeriod(start,
+                    start + random.nextInt(100));
+            Number value = i % 10 == 0 ? null : Double.valueOf(i);
+            s1.add(period, value);
+            s2.add(period, value);
+        }
+        s1.update(5, 55.0);
+        s2.update(5, 55.0);
+        s1.delete(20, 29);
+        s2.delete(20, 29);
+        checkSameItems(s1, s2);
+        assertEquals(s1, s2);
+
+        // the items are created on demand
+        TimePeriodValue item = s2.getDataItem(5);
+        assertEquals(55.0, item.getValue());
+        item.setValue(1.0);
+        assertEquals(55.0, s2.getValue(5));
+
+        TimePeriodValues copy = s2.createCopy(10, 50);
+        assertTrue(copy.isColumnar());
+        checkSameItems(s1.createCopy(10, 50), copy);
+        TimePeriodValues clone = (TimePeriodValues) s2.clone();
+        assertTrue(clone.isColumnar());
+        assertEquals(s2, clone);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s2);
+        out.close();
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        TimePeriodValues s3 = (TimePeriodValues) in.readObject();
+        in.close();
+        assertTrue(s3.isColumnar());
+        checkSameItems(s2, s3);
+    }
+
+    /**
+     * Checks that two series have the same items and bounds.
+     *
+     * @param s1  the first series.
+     * @param s2  the second series.
+     */
+    private static void checkSameItems(TimePeriodValues s1,
+            TimePeriodValues s2) {
+        assertEquals(s1.getItemCount(), s2.getItemCount());
+        for (int i = 0; i < s1.getItemCount(); i++) {
+            assertEquals(s1.getStartMillis(i), s2.getStartMillis(i));
+            assertEquals(s1.getEndMillis(i), s2.getEndMillis(i));
+            assertEquals(s1.getValue(i), s2.getValue(i));
+        }
+        assertEquals(s1.getMinStartIndex(), s2.getMinStartIndex());
+        assertEquals(s1.getMaxStartIndex(), s2.getMaxStartIndex());
+        assertEquals(s1.getMinMiddleIndex(), s2.getMinMiddleIndex());
+        assertEquals(s1.getMaxMiddleIndex(), s2.getMaxMiddleIndex());
+        assertEquals(s1.getMinEndIndex(), s2.getMinEndIndex());
+        assertEquals(s1.getMaxEndIndex(), s2.getMaxEndIndex());
+    }
+
     /**
      * Add a value to series A for 1999.  It should be added at index 0.
      */
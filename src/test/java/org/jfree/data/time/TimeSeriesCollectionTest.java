@@ -481,4 +481,141 @@ public class TimeSeriesCollectionTest {
         collection.setXPosition(TimePeriodAnchor.END);
         assertNull(collection.getRangeBounds(visibleSeries, range, true));
     }
+
+    /**
+     * Checks that the cached x-values follow the changes to a series.
+     */
+    @Test
+    public void testXValueCache() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        Calendar calendar = Calendar.getInstance(zone);
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.add(new Day(1, 1, 2016), 1.0);
+        s1.add(new Day(2, 1, 2016), 2.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1, zone);
+        assertEquals(new Day(1, 1, 2016).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 0), EPSILON);
+
+        // appended items are added to the cache
+        s1.add(new Day(3, 1, 2016), 3.0);
+        assertEquals(new Day(3, 1, 2016).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 2), EPSILON);
+        assertEquals(new Day(3, 1, 2016).getLastMillisecond(calendar),
+                dataset.getEndX(0, 2).longValue());
+
+        // ...and the oldest items are dropped
+        s1.setMaximumItemCount(3);
+        for (int d = 4; d <= 40; d++) {
+            s1.add(new Day(d % 31 + 1, d / 31 + 1, 2016), d);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(s1.getTimePeriod(i).getFirstMillisecond(calendar),
+                    dataset.getStartX(0, i).longValue());
+        }
+
+        // insertions and deletions in the middle rebuild the cache
+        s1.setMaximumItemCount(10);
+        s1.add(new Day(1, 1, 2016), 0.0);
+        assertEquals(new Day(1, 1, 2016).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 0), EPSILON);
+        s1.delete(new Day(9, 2, 2016));
+        assertEquals(3, dataset.getItemCount(0));
+        assertEquals(s1.getTimePeriod(2).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 2), EPSILON);
+
+        // changes made without notification are detected by the modification
+        // count
+        s1.setNotify(false);
+        s1.add(new Day(1, 3, 2016), 4.0);
+        assertEquals(new Day(1, 3, 2016).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 3), EPSILON);
+        s1.setNotify(true);
+
+        // the anchor is applied to the cached values
+        dataset.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(new Day(1, 3, 2016).getMiddleMillisecond(calendar),
+                dataset.getXValue(0, 3), EPSILON);
+        assertEquals(new Day(1, 3, 2016).getMiddleMillisecond(calendar),
+                dataset.getX(0, 3));
+
+        // the cache is reset when a series is added
+        TimeSeries s2 = new TimeSeries("S2");
+        s2.add(new Day(5, 1, 2016), 1.0);
+        dataset.addSeries(s2);
+        assertEquals(new Day(5, 1, 2016).getMiddleMillisecond(calendar),
+                dataset.getXValue(1, 0), EPSILON);
+        try {
+            dataset.getXValue(1, 1);
+            fail("Expected an IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Changes to a series made without notification that leave the item
+     * count unchanged must not leave stale values in the x-value cache.
+     */
+    @Test
+    public void testXValueCacheSilentChange() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        Calendar calendar = Calendar.getInstance(zone);
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(3);
+        s1.add(new Day(1, 1, 2016), 1.0);
+        s1.add(new Day(2, 1, 2016), 2.0);
+        s1.add(new Day(3, 1, 2016), 3.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1, zone);
+        assertEquals(new Day(1, 1, 2016).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 0), EPSILON);
+
+        // the oldest item is dropped, so the item count is unchanged
+        s1.add(new TimeSeriesDataItem(new Day(4, 1, 2016), 4.0), false);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new Day(i + 2, 1, 2016).getFirstMillisecond(calendar),
+                    dataset.getStartXValue(0, i), EPSILON);
+            assertEquals(new Day(i + 2, 1, 2016).getLastMillisecond(calendar),
+                    dataset.getEndXValue(0, i), EPSILON);
+        }
+
+        // a silent change followed by a notified change
+        s1.add(new TimeSeriesDataItem(new Day(5, 1, 2016), 5.0), false);
+        s1.add(new Day(6, 1, 2016), 6.0);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new Day(i + 4, 1, 2016).getFirstMillisecond(calendar),
+                    dataset.getXValue(0, i), EPSILON);
+        }
+
+        // updating a value keeps the cache
+        s1.update(new Day(6, 1, 2016), 7.0);
+        assertEquals(new Day(6, 1, 2016).getFirstMillisecond(calendar),
+                dataset.getXValue(0, 2), EPSILON);
+    }
+
+    /**
+     * The range bounds for a subrange of x-values are found with a search of
+     * the cached x-values, and should agree with the series.
+     */
+    @Test
+    public void testGetRangeBoundsForXRange() {
+        TimeSeries s1 = new TimeSeries("S1");
+        for (int i = 1; i <= 28; i++) {
+            s1.add(new Day(i, 2, 2016), i % 7 == 0 ? Double.NaN : i);
+        }
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1);
+        List<Comparable> keys = Arrays.asList(new Comparable[] {"S1"});
+        TimeZone zone = TimeZone.getDefault();
+        for (TimePeriodAnchor anchor : new TimePeriodAnchor[] {
+                TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+                TimePeriodAnchor.END}) {
+            dataset.setXPosition(anchor);
+            for (int d = 1; d <= 26; d += 5) {
+                Range xRange = new Range(
+                        new Day(d, 2, 2016).getFirstMillisecond(),
+                        new Day(d + 2, 2, 2016).getLastMillisecond());
+                assertEquals(s1.findValueRange(xRange, anchor, zone),
+                        dataset.getRangeBounds(keys, xRange, true));
+            }
+        }
+    }
 }
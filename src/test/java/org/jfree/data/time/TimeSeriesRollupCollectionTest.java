@@ -0,0 +1,425 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------------
+ * TimeSeriesRollupCollectionTest.java
+ * -----------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TimeSeriesRollupCollection} class.
+ */
+public class TimeSeriesRollupCollectionTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final Calendar CALENDAR = Calendar.getInstance(UTC);
+
+    /**
+     * Creates a series of seconds (in UTC) starting at 1-Jan-2026, where the
+     * value of each item is its index.
+     *
+     * @param count  the item count.
+     *
+     * @return The series.
+     */
+    private static TimeSeries createSeries(int count) {
+        TimeSeries s = new TimeSeries("S");
+        Second second = new Second(0, 0, 0, 1, 1, 2026);
+        for (int i = 0; i < count; i++) {
+            s.add(second, i);
+            second = (Second) second.next();
+        }
+        return s;
+    }
+
+    /**
+     * Checks that the tiers of two collections are the same.
+     *
+     * @param expected  the expected collection.
+     * @param actual  the actual collection.
+     */
+    private static void assertSameTiers(TimeSeriesRollupCollection expected,
+            TimeSeriesRollupCollection actual) {
+        for (int t = 0; t < expected.getTierCount(); t++) {
+            IntervalXYDataset e = expected.getTierDataset(t);
+            IntervalXYDataset a = actual.getTierDataset(t);
+            assertEquals(e.getSeriesCount(), a.getSeriesCount());
+            for (int s = 0; s < e.getSeriesCount(); s++) {
+                assertEquals(e.getItemCount(s), a.getItemCount(s));
+                for (int i = 0; i < e.getItemCount(s); i++) {
+                    assertEquals(expected.getSourceItem(t, s, i),
+                            actual.getSourceItem(t, s, i));
+                    assertEquals(e.getXValue(s, i), a.getXValue(s, i), 0.0);
+                    assertEquals(e.getEndXValue(s, i), a.getEndXValue(s, i),
+                            0.0);
+                    assertEquals(e.getYValue(s, i), a.getYValue(s, i),
+                            1e-9);
+                    assertEquals(e.getStartYValue(s, i),
+                            a.getStartYValue(s, i), 0.0);
+                    assertEquals(e.getEndYValue(s, i), a.getEndYValue(s, i),
+                            0.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a collection containing a copy of a series.
+     *
+     * @param series  the series.
+     *
+     * @return The collection.
+     */
+    private static TimeSeriesRollupCollection copyOf(TimeSeries series)
+            throws CloneNotSupportedException {
+        TimeSeriesRollupCollection result = new TimeSeriesRollupCollection(
+                UTC);
+        result.addSeries((TimeSeries) series.clone());
+        return result;
+    }
+
+    /**
+     * Check the items with the minimum and maximum values for each tier.
+     */
+    @Test
+    public void testTiers() {
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(createSeries(3 * 3600));
+        assertEquals(3, c.getTierCount());
+        assertEquals(Arrays.asList(Minute.class, Hour.class, Day.class),
+                c.getTierClasses());
+
+        c.setXPosition(TimePeriodAnchor.MIDDLE);
+        IntervalXYDataset minutes = c.getTierDataset(0);
+        assertEquals(DomainOrder.ASCENDING, minutes.getDomainOrder());
+        assertEquals(1, minutes.getSeriesCount());
+        assertEquals("S", minutes.getSeriesKey(0));
+        assertEquals(360, minutes.getItemCount(0));
+        Minute m = new Minute(1, 0, 1, 1, 2026);
+        Second s60 = new Second(0, 1, 0, 1, 1, 2026);
+        Second s119 = new Second(59, 1, 0, 1, 1, 2026);
+        assertEquals(m.getFirstMillisecond(CALENDAR),
+                minutes.getStartXValue(0, 2), 0.0);
+        assertEquals(m.getLastMillisecond(CALENDAR),
+                minutes.getEndXValue(0, 3), 0.0);
+        assertEquals(s60.getMiddleMillisecond(CALENDAR),
+                minutes.getXValue(0, 2), 0.0);
+        assertEquals(s60.getMiddleMillisecond(CALENDAR), minutes.getX(0, 2));
+        assertEquals(s119.getMiddleMillisecond(CALENDAR),
+                minutes.getXValue(0, 3), 0.0);
+        assertEquals(60.0, minutes.getYValue(0, 2), 0.0);
+        assertEquals(119.0, minutes.getYValue(0, 3), 0.0);
+        assertEquals(60.0, minutes.getStartYValue(0, 3), 0.0);
+        assertEquals(119.0, minutes.getEndYValue(0, 3), 0.0);
+        assertEquals(60, c.getSourceItem(0, 0, 2));
+        assertEquals(119, c.getSourceItem(0, 0, 3));
+
+        IntervalXYDataset hours = c.getTierDataset(1);
+        assertEquals(6, hours.getItemCount(0));
+        assertEquals(7200.0, hours.getYValue(0, 4), 0.0);
+        assertEquals(10799.0, hours.getYValue(0, 5), 0.0);
+        assertEquals(7200.0, hours.getStartYValue(0, 5), 0.0);
+        assertEquals(10799.0, hours.getEndYValue(0, 5), 0.0);
+
+        IntervalXYDataset days = c.getTierDataset(2);
+        assertEquals(2, days.getItemCount(0));
+        assertEquals(new Day(1, 1, 2026).getFirstMillisecond(CALENDAR),
+                days.getStartXValue(0, 0), 0.0);
+
+        c.setXPosition(TimePeriodAnchor.START);
+        assertEquals(s60.getFirstMillisecond(CALENDAR),
+                minutes.getXValue(0, 2), 0.0);
+        c.setXPosition(TimePeriodAnchor.END);
+        assertEquals(s60.getLastMillisecond(CALENDAR),
+                minutes.getXValue(0, 2), 0.0);
+    }
+
+    /**
+     * A spike in the values is kept in the tiers, and the items are in the
+     * order that they appear in the series.
+     */
+    @Test
+    public void testSpike() {
+        TimeSeries s = new TimeSeries("S");
+        Second second = new Second(0, 0, 0, 1, 1, 2026);
+        for (int i = 0; i < 120; i++) {
+            s.add(second, i == 100 ? -50.0 : i == 30 ? 500.0 : 1.0);
+            second = (Second) second.next();
+        }
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(s);
+        IntervalXYDataset minutes = c.getTierDataset(0);
+        assertEquals(4, minutes.getItemCount(0));
+        assertEquals(1.0, minutes.getYValue(0, 0), 0.0);
+        assertEquals(500.0, minutes.getYValue(0, 1), 0.0);
+        assertEquals(0, c.getSourceItem(0, 0, 0));
+        assertEquals(30, c.getSourceItem(0, 0, 1));
+        assertEquals(1.0, minutes.getYValue(0, 2), 0.0);
+        assertEquals(-50.0, minutes.getYValue(0, 3), 0.0);
+        assertEquals(60, c.getSourceItem(0, 0, 2));
+        assertEquals(100, c.getSourceItem(0, 0, 3));
+        for (int i = 1; i < minutes.getItemCount(0); i++) {
+            assertTrue(minutes.getXValue(0, i - 1) < minutes.getXValue(0, i));
+        }
+    }
+
+    /**
+     * Null values are ignored, and time periods without items are omitted.
+     */
+    @Test
+    public void testNullValuesAndGaps() {
+        TimeSeries s = new TimeSeries("S");
+        s.add(new Second(0, 0, 0, 1, 1, 2026), 1.0);
+        s.add(new Second(1, 0, 0, 1, 1, 2026), null);
+        s.add(new Second(2, 0, 0, 1, 1, 2026), 3.0);
+        s.add(new Second(0, 1, 0, 1, 1, 2026), null);
+        s.add(new Second(0, 5, 0, 1, 1, 2026), 7.0);
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(s);
+        IntervalXYDataset minutes = c.getTierDataset(0);
+        assertEquals(6, minutes.getItemCount(0));
+        assertEquals(1.0, minutes.getYValue(0, 0), 0.0);
+        assertEquals(3.0, minutes.getYValue(0, 1), 0.0);
+        assertEquals(1.0, minutes.getStartYValue(0, 0), 0.0);
+        assertEquals(3.0, minutes.getEndYValue(0, 0), 0.0);
+        assertEquals(2, c.getSourceItem(0, 0, 1));
+        assertTrue(Double.isNaN(minutes.getYValue(0, 2)));
+        assertTrue(Double.isNaN(minutes.getStartYValue(0, 3)));
+        assertEquals(-1, c.getSourceItem(0, 0, 2));
+        assertEquals(new Minute(1, 0, 1, 1, 2026).getFirstMillisecond(CALENDAR),
+                minutes.getXValue(0, 2), 0.0);
+        assertEquals(new Minute(5, 0, 1, 1, 2026).getFirstMillisecond(CALENDAR),
+                minutes.getStartXValue(0, 4), 0.0);
+        assertEquals(7.0, minutes.getYValue(0, 4), 0.0);
+        assertEquals(7.0, minutes.getYValue(0, 5), 0.0);
+    }
+
+    /**
+     * Items appended after the tiers are built are added to the tiers.
+     */
+    @Test
+    public void testAppend() throws CloneNotSupportedException {
+        TimeSeries s = createSeries(90);
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(s);
+        assertEquals(4, c.getTierDataset(0).getItemCount(0));
+        Second second = new Second(30, 1, 0, 1, 1, 2026);
+        for (int i = 90; i < 4000; i++) {
+            s.add(second, i % 7 == 0 ? null : Double.valueOf(i));
+            second = (Second) second.next();
+        }
+        assertEquals(134, c.getTierDataset(0).getItemCount(0));
+        assertSameTiers(copyOf(s), c);
+    }
+
+    /**
+     * Items removed from the start of the series (here by the maximum item
+     * count) are removed from the tiers.
+     */
+    @Test
+    public void testMaximumItemCount() throws CloneNotSupportedException {
+        TimeSeries s = createSeries(150);
+        s.setMaximumItemCount(150);
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(s);
+        assertEquals(6, c.getTierDataset(0).getItemCount(0));
+        Second second = new Second(30, 2, 0, 1, 1, 2026);
+        for (int i = 150; i < 500; i++) {
+            s.add(second, i);
+            second = (Second) second.next();
+            if (i % 50 == 0) {
+                assertSameTiers(copyOf(s), c);
+            }
+        }
+        assertSameTiers(copyOf(s), c);
+        assertEquals(0, c.getSourceItem(0, 0, 0));
+        s.delete(0, 99);
+        assertSameTiers(copyOf(s), c);
+        s.clear();
+        assertEquals(0, c.getTierDataset(0).getItemCount(0));
+    }
+
+    /**
+     * Updated values are reflected in the tiers.
+     */
+    @Test
+    public void testUpdate() throws CloneNotSupportedException {
+        TimeSeries s = createSeries(300);
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(s);
+        assertEquals(59.0, c.getTierDataset(0).getEndYValue(0, 0), 0.0);
+        s.update(10, 1000.0);
+        s.update(new Second(5, 2, 0, 1, 1, 2026), -5.0);
+        assertEquals(1000.0, c.getTierDataset(0).getEndYValue(0, 0), 0.0);
+        assertEquals(-5.0, c.getTierDataset(0).getStartYValue(0, 4), 0.0);
+        assertSameTiers(copyOf(s), c);
+    }
+
+    /**
+     * Items inserted before the end of the series cause the tiers to be
+     * rebuilt.
+     */
+    @Test
+    public void testInsert() throws CloneNotSupportedException {
+        TimeSeries s = new TimeSeries("S");
+        s.add(new Second(0, 0, 0, 1, 1, 2026), 1.0);
+        s.add(new Second(0, 2, 0, 1, 1, 2026), 2.0);
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(s);
+        assertEquals(4, c.getTierDataset(0).getItemCount(0));
+        s.add(new Second(0, 1, 0, 1, 1, 2026), 3.0);
+        assertEquals(6, c.getTierDataset(0).getItemCount(0));
+        assertSameTiers(copyOf(s), c);
+
+        // replacing the series
+        c.removeAllSeries();
+        TimeSeries s2 = createSeries(10);
+        c.addSeries(s2);
+        assertEquals(9.0, c.getTierDataset(0).getYValue(0, 1), 0.0);
+    }
+
+    /**
+     * The dataset for the resolution is the coarsest tier with at least one
+     * time period per pixel.
+     */
+    @Test
+    public void testGetDatasetForResolution() {
+        TimeSeriesRollupCollection c = new TimeSeriesRollupCollection(UTC);
+        c.addSeries(createSeries(10));
+        long hour = 3600000L;
+        assertSame(c, c.getDatasetForResolution(0.0, hour, 600.0));
+        assertSame(c.getTierDataset(0),
+                c.getDatasetForResolution(0.0, 24 * hour, 600.0));
+        assertSame(c.getTierDataset(1),
+                c.getDatasetForResolution(0.0, 365 * 24 * hour, 600.0));
+        assertSame(c.getTierDataset(2),
+                c.getDatasetForResolution(0.0, 365 * 24 * hour, 100.0));
+    }
+
+    /**
+     * Check the constructor arguments.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new TimeSeriesRollupCollection(UTC, null);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new TimeSeriesRollupCollection(UTC,
+                    Arrays.<Class<? extends RegularTimePeriod>>asList(
+                    Hour.class, Minute.class));
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Check the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        TimeSeriesRollupCollection c1 = new TimeSeriesRollupCollection(UTC);
+        TimeSeriesRollupCollection c2 = new TimeSeriesRollupCollection(UTC);
+        assertEquals(c1, c2);
+        c1 = new TimeSeriesRollupCollection(UTC,
+                Arrays.<Class<? extends RegularTimePeriod>>asList(Hour.class));
+        assertFalse(c1.equals(c2));
+        c2 = new TimeSeriesRollupCollection(UTC,
+                Arrays.<Class<? extends RegularTimePeriod>>asList(Hour.class));
+        assertEquals(c1, c2);
+        c1.addSeries(createSeries(5));
+        assertFalse(c1.equals(c2));
+        c2.addSeries(createSeries(5));
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        TimeSeriesRollupCollection c1 = new TimeSeriesRollupCollection(UTC);
+        c1.addSeries(createSeries(200));
+        assertEquals(8, c1.getTierDataset(0).getItemCount(0));
+        TimeSeriesRollupCollection c2
+                = (TimeSeriesRollupCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+        assertNotSame(c1.getTierDataset(0), c2.getTierDataset(0));
+
+        // the clone's tiers follow the clone's series
+        c2.getSeries(0).delete(0, 119);
+        assertEquals(4, c2.getTierDataset(0).getItemCount(0));
+        assertEquals(8, c1.getTierDataset(0).getItemCount(0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeriesRollupCollection c1 = new TimeSeriesRollupCollection(UTC);
+        c1.addSeries(createSeries(200));
+        c1.getTierDataset(0).getItemCount(0);
+        TimeSeriesRollupCollection c2 = (TimeSeriesRollupCollection)
+                TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertSameTiers(c1, c2);
+    }
+
+}
@@ -59,10 +59,13 @@ package org.jfree.data.time;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 import org.jfree.chart.date.MonthConstants;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.junit.Before;
 import org.junit.Test;
@@ -1203,4 +1206,299 @@ public class TimeSeriesTest implements SeriesChangeListener {
                 ts.findValueRange(range, TimePeriodAnchor.END, tzone));
 
     }
+
+    /**
+     * Update items in a series with a maximum item count, and compare the
+     * bounds with the bounds found by iteration.
+     */
+    @Test
+    public void testUpdateWithMaximumItemCount() {
+        Random random = new Random(11L);
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(40);
+        RegularTimePeriod period = new Day(1, 1, 2014);
+        for (int i = 0; i < 2000; i++) {
+            s1.add(period, random.nextInt(100));
+            period = period.next();
+            int index = random.nextInt(s1.getItemCount());
+            Double u = random.nextInt(10) == 0 ? null
+                    : Double.valueOf(random.nextInt(100));
+            if (i % 2 == 0) {
+                s1.update(index, u);
+            } else {
+                s1.addOrUpdate(s1.getTimePeriod(index), u);
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                Number n = s1.getValue(j);
+                if (n != null) {
+                    double v = n.doubleValue();
+                    min = Double.isNaN(min) ? v : Math.min(min, v);
+                    max = Double.isNaN(max) ? v : Math.max(max, v);
+                }
+            }
+            assertEquals(min, s1.getMinY(), EPSILON);
+            assertEquals(max, s1.getMaxY(), EPSILON);
+        }
+    }
+
+    /**
+     * Check that the y-bounds are correct as items are dropped from a series
+     * with a maximum item count.
+     */
+    @Test
+    public void testBoundsWithMaximumItemCount() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(3);
+        Day d = new Day(1, 1, 2014);
+        double[] values = {5.0, 1.0, 3.0, 4.0, 2.0, 6.0, 0.5};
+        for (int i = 0; i < values.length; i++) {
+            s1.add(d, values[i]);
+            d = (Day) d.next();
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = Math.max(0, i - 2); j <= i; j++) {
+                min = Math.min(min, values[j]);
+                max = Math.max(max, values[j]);
+            }
+            assertEquals(min, s1.getMinY(), EPSILON);
+            assertEquals(max, s1.getMaxY(), EPSILON);
+        }
+        s1.update(1, 10.0);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(10.0, s1.getMaxY(), EPSILON);
+        s1.add(d, 7.0);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(10.0, s1.getMaxY(), EPSILON);
+        d = (Day) d.next();
+        s1.add(d, 8.0);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(8.0, s1.getMaxY(), EPSILON);
+        s1.add((Day) d.next(), 9.0);
+        assertEquals(7.0, s1.getMinY(), EPSILON);
+        assertEquals(9.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.add(new Year(2002), 2.0);
+        s1.addChangeListener(this);
+        this.gotSeriesChangeEvent = false;
+        s1.addAll(new RegularTimePeriod[] {new Year(2003), new Year(2004)},
+                new double[] {3.0, 4.0});
+        assertTrue(this.gotSeriesChangeEvent);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(4.0, s1.getMaxY(), EPSILON);
+
+        // unsorted input is merged with the existing items
+        s1.addAll(new RegularTimePeriod[] {new Year(2005), new Year(2000),
+                new Year(2001)}, new double[] {5.0, 0.0, 1.0});
+        assertEquals(6, s1.getItemCount());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(new Year(2000 + i), s1.getTimePeriod(i));
+            assertEquals(i, s1.getValue(i).doubleValue(), EPSILON);
+        }
+        assertEquals(0.0, s1.getMinY(), EPSILON);
+
+        // duplicates are rejected and nothing is added
+        try {
+            s1.addAll(new RegularTimePeriod[] {new Year(2006),
+                new Year(2003)}, new double[] {6.0, 3.0});
+            fail("Expected a SeriesException.");
+        } catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s1.addAll(new RegularTimePeriod[] {new Month(1, 2007)},
+                    new double[] {7.0});
+            fail("Expected a SeriesException.");
+        } catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(6, s1.getItemCount());
+
+        // with a maximum item count
+        s1.setMaximumItemCount(3);
+        this.gotSeriesChangeEvent = false;
+        s1.addAll(new RegularTimePeriod[] {new Year(2006), new Year(2007)},
+                new double[] {9.0, 1.0}, false);
+        assertFalse(this.gotSeriesChangeEvent);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Year(2005), s1.getTimePeriod(0));
+        assertEquals(1.0, s1.getMinY(), EPSILON);
+        assertEquals(9.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check the change info that is carried by the events that the series
+     * sends to its listeners.
+     */
+    @Test
+    public void testChangeInfo() {
+        TimeSeries s1 = new TimeSeries("S1");
+        final SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                last[0] = event;
+            }
+        });
+        s1.add(new Year(2001), 1.0);
+        s1.add(new Year(2003), 3.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 1,
+                1), last[0].getChangeInfo());
+        s1.addOrUpdate(new Year(2002), 2.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_INSERTED, 1,
+                1), last[0].getChangeInfo());
+        s1.update(new Year(2002), 2.5);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, 1,
+                1), last[0].getChangeInfo());
+        s1.delete(new Year(2001));
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_REMOVED, 0,
+                0), last[0].getChangeInfo());
+        s1.setMaximumItemAge(2);
+        s1.addAll(new RegularTimePeriod[] {new Year(2004), new Year(2005)},
+                new double[] {4.0, 5.0});
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 1,
+                2, 1), last[0].getChangeInfo());
+        assertEquals(new Year(2003), s1.getTimePeriod(0));
+    }
+
+    /**
+     * Some checks for a series in columnar mode.
+     */
+    @Test
+    public void testColumnar() throws CloneNotSupportedException {
+        TimeSeries s1 = new TimeSeries("S1", "Time", "Value", true);
+        assertTrue(s1.isColumnar());
+        s1.add(new Day(1, 1, 2016), 1.0);
+        s1.add(new Day(3, 1, 2016), 3.0);
+        s1.add(new Day(2, 1, 2016), 2.0);
+        s1.add(new Day(4, 1, 2016), null);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(new Day(2, 1, 2016), s1.getTimePeriod(1));
+        assertEquals(new TimeSeriesDataItem(new Day(3, 1, 2016), 3.0),
+                s1.getDataItem(2));
+        assertNull(s1.getValue(3));
+        assertEquals(1, s1.getIndex(new Day(2, 1, 2016)));
+        assertEquals(-5, s1.getIndex(new Day(5, 1, 2016)));
+        assertEquals(1.0, s1.getMinY(), EPSILON);
+        assertEquals(3.0, s1.getMaxY(), EPSILON);
+        try {
+            s1.add(new Day(2, 1, 2016), 9.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+
+        // the series is equal to one that stores the items as objects
+        TimeSeries s2 = new TimeSeries("S1", "Time", "Value");
+        s2.add(new Day(1, 1, 2016), 1.0);
+        s2.add(new Day(2, 1, 2016), 2.0);
+        s2.add(new Day(3, 1, 2016), 3.0);
+        s2.add(new Day(4, 1, 2016), null);
+        assertEquals(s1, s2);
+
+        // updates are written back to the primitive storage
+        s1.update(new Day(2, 1, 2016), 5.0);
+        assertEquals(5.0, s1.getValue(1).doubleValue(), EPSILON);
+        assertEquals(5.0, s1.getMaxY(), EPSILON);
+        TimeSeriesDataItem old = s1.addOrUpdate(new Day(3, 1, 2016), 6.0);
+        assertEquals(3.0, old.getValue().doubleValue(), EPSILON);
+        assertEquals(6.0, s1.getValue(2).doubleValue(), EPSILON);
+        s1.delete(new Day(1, 1, 2016));
+        assertEquals(new Day(2, 1, 2016), s1.getTimePeriod(0));
+        assertEquals(5.0, s1.getMinY(), EPSILON);
+
+        // the oldest items are dropped when there is a maximum item count
+        s1.setMaximumItemCount(3);
+        s1.add(new Day(5, 1, 2016), 7.0);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Day(3, 1, 2016), s1.getTimePeriod(0));
+        assertEquals(6.0, s1.getMinY(), EPSILON);
+
+        // copies stay in columnar mode
+        TimeSeries s3 = (TimeSeries) s1.clone();
+        assertTrue(s3.isColumnar());
+        assertEquals(s1, s3);
+        s3.add(new Day(6, 1, 2016), 8.0);
+        assertEquals(3, s1.getItemCount());
+        TimeSeries s4 = s1.createCopy(1, 2);
+        assertTrue(s4.isColumnar());
+        assertEquals(new Day(4, 1, 2016), s4.getTimePeriod(0));
+        TimeSeries s5 = (TimeSeries) TestUtils.serialised(s1);
+        assertEquals(s1, s5);
+        s5.add(new Day(6, 1, 2016), 8.0);
+        assertEquals(new Day(6, 1, 2016), s5.getTimePeriod(2));
+
+        // after clearing the series, a different period class can be used
+        s1.clear();
+        s1.add(new Hour(1, 1, 1, 2016), 1.0);
+        assertEquals(new Hour(1, 1, 1, 2016), s1.getTimePeriod(0));
+    }
+
+    /**
+     * The time periods in a columnar series are re-created in the time zone
+     * of the series.
+     */
+    @Test
+    public void testColumnarTimeZone() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        Locale locale = Locale.UK;
+        RegularTimePeriod[] periods = new RegularTimePeriod[] {
+            new Millisecond(999, 59, 59, 23, 31, 12, 2015),
+            new Minute(30, 1, 26, 3, 2016), new Week(13, 2016),
+            new Month(3, 2016), new Quarter(2, 2016), new Year(2016),
+            new FixedMillisecond(1234567890123L)};
+        for (RegularTimePeriod period : periods) {
+            TimeSeries s1 = new TimeSeries("S1", "Time", "Value", zone,
+                    locale);
+            s1.add(period, 1.0);
+            s1.add(period.next(), 2.0);
+            assertEquals(period, s1.getTimePeriod(0));
+            assertEquals(period.next(), s1.getTimePeriod(1));
+            assertEquals(1, s1.getIndex(period.next()));
+        }
+    }
+
+    /**
+     * Some checks for the getIndex() method, in both storage modes.
+     */
+    @Test
+    public void testGetIndex2() {
+        TimeSeries[] series = new TimeSeries[] {new TimeSeries("S1"),
+                new TimeSeries("S1", "Time", "Value", true)};
+        for (TimeSeries s : series) {
+            assertEquals(-1, s.getIndex(new Year(2010)));
+            for (int y = 2000; y <= 2020; y += 2) {
+                s.add(new Year(y), y);
+            }
+            assertEquals(10, s.getIndex(new Year(2020)));
+            assertEquals(-12, s.getIndex(new Year(2021)));
+            assertEquals(-12, s.getIndex(new Year(2030)));
+            assertEquals(-11, s.getIndex(new Year(2019)));
+            assertEquals(0, s.getIndex(new Year(2000)));
+            assertEquals(-1, s.getIndex(new Year(1999)));
+            assertEquals(5, s.getIndex(new Year(2010)));
+            assertEquals(-6, s.getIndex(new Year(2009)));
+
+            // updates and additions of the last period and the next one
+            s.addOrUpdate(new Year(2020), 1.0);
+            assertEquals(1.0, s.getValue(10).doubleValue(), EPSILON);
+            s.update(new Year(2020), 2.0);
+            assertEquals(2.0, s.getValue(10).doubleValue(), EPSILON);
+            assertEquals(2.0, s.getMinY(), EPSILON);
+            s.addOrUpdate(new Year(2021), 3.0);
+            assertEquals(11, s.getIndex(new Year(2021)));
+            s.update(new Year(2010), null);
+            assertNull(s.getValue(5));
+        }
+        assertEquals(series[0], series[1]);
+    }
 }
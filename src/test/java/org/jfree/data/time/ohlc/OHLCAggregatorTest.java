@@ -0,0 +1,257 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * OHLCAggregatorTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.Second;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link OHLCAggregator} class.
+ */
+public class OHLCAggregatorTest implements SeriesChangeListener {
+
+    /** The UTC time zone. */
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /** The events received. */
+    private List<SeriesChangeEvent> events
+            = new ArrayList<SeriesChangeEvent>();
+
+    /**
+     * Records series change events.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.events.add(event);
+    }
+
+    /**
+     * Checks an item in a series.
+     */
+    private void checkItem(OHLCSeries s, int index, double open, double high,
+            double low, double close, double volume) {
+        OHLCItem item = (OHLCItem) s.getDataItem(index);
+        assertEquals(open, item.getOpenValue(), 0.0);
+        assertEquals(high, item.getHighValue(), 0.0);
+        assertEquals(low, item.getLowValue(), 0.0);
+        assertEquals(close, item.getCloseValue(), 0.0);
+        assertEquals(volume, item.getVolumeValue(), 0.0);
+    }
+
+    /**
+     * Ticks are aggregated into one item per period, and each item is written
+     * to the series once, when its period closes.
+     */
+    @Test
+    public void testAggregation() {
+        OHLCSeries s = new OHLCSeries("S1");
+        s.addChangeListener(this);
+        OHLCAggregator a = new OHLCAggregator(s, Minute.class, UTC,
+                Locale.UK);
+        assertNull(a.getPeriod());
+        a.add(0L, 10.0, 1.0);
+        a.add(1000L, 12.0, 2.0);
+        a.add(2000L, 9.0, 3.0);
+        a.add(59999L, 11.0, 4.0);
+        assertEquals(0, s.getItemCount());
+        assertEquals(0, this.events.size());
+
+        // the first tick in the next minute closes the first minute
+        a.add(60000L, 20.0, 5.0);
+        assertEquals(1, s.getItemCount());
+        assertEquals(new Minute(0, 0, 1, 1, 1970), s.getPeriod(0));
+        checkItem(s, 0, 10.0, 12.0, 9.0, 11.0, 10.0);
+        assertEquals(1, this.events.size());
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED,
+                0, 0), this.events.get(0).getChangeInfo());
+
+        // no items for minutes without ticks
+        a.add(180000L, 21.0, 6.0);
+        assertEquals(2, s.getItemCount());
+        checkItem(s, 1, 20.0, 20.0, 20.0, 20.0, 5.0);
+
+        a.flush();
+        assertEquals(3, s.getItemCount());
+        assertEquals(new Minute(3, 0, 1, 1, 1970), s.getPeriod(2));
+        checkItem(s, 2, 21.0, 21.0, 21.0, 21.0, 6.0);
+        assertEquals(3, this.events.size());
+
+        // a flush with no new ticks does nothing
+        a.flush();
+        assertEquals(3, this.events.size());
+
+        // further ticks in the open period update the last item in place
+        a.add(181000L, 25.0, 1.0);
+        a.flush();
+        assertEquals(3, s.getItemCount());
+        checkItem(s, 2, 21.0, 25.0, 21.0, 25.0, 7.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED,
+                2, 2), this.events.get(3).getChangeInfo());
+
+        try {
+            a.add(179999L, 1.0, 1.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The open period is written at most once per update interval.
+     */
+    @Test
+    public void testUpdateInterval() {
+        OHLCSeries s = new OHLCSeries("S1");
+        s.addChangeListener(this);
+        OHLCAggregator a = new OHLCAggregator(s, Minute.class, UTC,
+                Locale.UK);
+        a.setUpdateInterval(10000L);
+        for (int i = 0; i < 60; i++) {
+            a.add(i * 1000L, i, 1.0);
+        }
+        // writes at 0s, 10s, 20s, 30s, 40s and 50s
+        assertEquals(1, s.getItemCount());
+        assertEquals(6, this.events.size());
+        checkItem(s, 0, 0.0, 50.0, 0.0, 50.0, 51.0);
+
+        // closing the minute writes the remaining ticks, and the new minute
+        // waits for the next interval
+        a.add(60000L, 100.0, 1.0);
+        assertEquals(1, s.getItemCount());
+        checkItem(s, 0, 0.0, 59.0, 0.0, 59.0, 60.0);
+        assertEquals(7, this.events.size());
+
+        a.setUpdateInterval(0L);
+        a.add(61000L, 101.0, 1.0);
+        assertEquals(2, s.getItemCount());
+        assertEquals(8, this.events.size());
+        checkItem(s, 1, 100.0, 101.0, 100.0, 101.0, 2.0);
+
+        try {
+            a.setUpdateInterval(-1L);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A series with a maximum item count drops the oldest item as new items
+     * are appended, and the event describes this.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        OHLCSeries s = new OHLCSeries("S1");
+        s.setMaximumItemCount(2);
+        s.addChangeListener(this);
+        OHLCAggregator a = new OHLCAggregator(s, Second.class, UTC,
+                Locale.UK);
+        for (int i = 0; i < 5; i++) {
+            a.add(i * 1000L, i, Double.NaN);
+        }
+        a.flush();
+        assertEquals(2, s.getItemCount());
+        assertEquals(new Second(3, 0, 0, 1, 1, 1970), s.getPeriod(0));
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED,
+                1, 1, 1), this.events.get(4).getChangeInfo());
+        assertEquals(Double.NaN, ((OHLCItem) s.getDataItem(1))
+                .getVolumeValue(), 0.0);
+    }
+
+    /**
+     * An aggregator resumes from the last item in an existing series.
+     */
+    @Test
+    public void testResume() {
+        OHLCSeries s = new OHLCSeries("S1");
+        s.add(new Day(1, 1, 2026), 10.0, 15.0, 8.0, 12.0, 100.0);
+        OHLCAggregator a = new OHLCAggregator(s, Day.class, UTC, Locale.UK);
+        long t = new Day(1, 1, 2026).getFirstMillisecond(
+                java.util.Calendar.getInstance(UTC)) + 3600000L;
+        a.add(t, 20.0, 10.0);
+        a.flush();
+        assertEquals(1, s.getItemCount());
+        checkItem(s, 0, 10.0, 20.0, 8.0, 20.0, 110.0);
+    }
+
+    /**
+     * The time period class must be one that can be created from a date.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new OHLCAggregator(null, Minute.class);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new OHLCAggregator(new OHLCSeries("S1"),
+                    org.jfree.data.time.FixedMillisecond.class);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -30,13 +30,14 @@
  * (C) Copyright 2006-2009, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 10-Jul-2008 : Updated testEquals() method (DG);
  * 26-Jun-2009 : Added tests for removeSeries() methods (DG);
+ * 17-Oct-2026 : Added testGetVolume() (agent);
  *
  */
 
@@ -252,6 +253,22 @@ public class OHLCSeriesCollectionTest
         this.lastEvent = null;  // clean up
     }
 
+    /**
+     * The volume is returned when it is recorded in an item.
+     */
+    @Test
+    public void testGetVolume() {
+        OHLCSeries s1 = new OHLCSeries("Series 1");
+        s1.add(new Year(2006), 2.0, 4.0, 1.0, 3.0);
+        s1.add(new Year(2007), 2.0, 4.0, 1.0, 3.0, 123.0);
+        OHLCSeriesCollection c1 = new OHLCSeriesCollection();
+        c1.addSeries(s1);
+        assertNull(c1.getVolume(0, 0));
+        assertEquals(Double.NaN, c1.getVolumeValue(0, 0), 0.0);
+        assertEquals(123.0, c1.getVolume(0, 1));
+        assertEquals(123.0, c1.getVolumeValue(0, 1), 0.0);
+    }
+
     /** The last received event. */
     private DatasetChangeEvent lastEvent;
 
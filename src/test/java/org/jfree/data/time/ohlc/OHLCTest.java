@@ -30,12 +30,14 @@
  * (C) Copyright 2006-2009, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
+ * Contributor(s):   agent;
  *
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 23-May-2009 : Added testHashCode() (DG);
+ * 17-Oct-2026 : Check the volume in testEquals() (agent);
+ * 17-Oct-2026 : Added testSerializationWithoutVolume() (agent);
  *
  */
 
@@ -50,9 +52,12 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 
 
@@ -93,6 +98,11 @@ public class OHLCTest  {
         assertFalse(i1.equals(i2));
         i2 = new OHLC(2.2, 4.4, 1.1, 3.3);
         assertEquals(i1, i2);
+
+        i1 = new OHLC(2.2, 4.4, 1.1, 3.3, 5.5);
+        assertFalse(i1.equals(i2));
+        i2 = new OHLC(2.2, 4.4, 1.1, 3.3, 5.5);
+        assertEquals(i1, i2);
     }
 
     /**
@@ -124,6 +134,83 @@ public class OHLCTest  {
         assertEquals(i1, i2);
     }
 
+    /**
+     * A class with the same serialized form as the <code>OHLC</code> class
+     * before the volume was added.
+     */
+    static class LegacyOHLC implements Serializable {
+
+        private static final long serialVersionUID = 601747095563683939L;
+
+        private double open;
+        private double close;
+        private double high;
+        private double low;
+
+        LegacyOHLC(double open, double high, double low, double close) {
+            this.open = open;
+            this.close = close;
+            this.high = high;
+            this.low = low;
+        }
+    }
+
+    /**
+     * An instance serialized without a volume is restored with a volume of
+     * <code>Double.NaN</code>.
+     */
+    @Test
+    public void testSerializationWithoutVolume() throws IOException,
+            ClassNotFoundException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(new LegacyOHLC(2.0, 4.0, 1.0, 3.0));
+        out.close();
+
+        // replace the class name in the stream
+        byte[] bytes = replaceClassName(buffer.toByteArray(),
+                LegacyOHLC.class.getName(), OHLC.class.getName());
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes));
+        OHLC i1 = (OHLC) in.readObject();
+        in.close();
+        assertTrue(Double.isNaN(i1.getVolume()));
+        assertEquals(new OHLC(2.0, 4.0, 1.0, 3.0), i1);
+    }
+
+    /**
+     * Replaces a class name (written as a length-prefixed UTF string) in a
+     * serialized object stream.
+     *
+     * @param bytes  the stream.
+     * @param oldName  the old class name.
+     * @param newName  the new class name.
+     *
+     * @return The modified stream.
+     */
+    private static byte[] replaceClassName(byte[] bytes, String oldName,
+            String newName) {
+        byte[] oldBytes = oldName.getBytes(StandardCharsets.UTF_8);
+        byte[] newBytes = newName.getBytes(StandardCharsets.UTF_8);
+        for (int i = 2; i <= bytes.length - oldBytes.length; i++) {
+            boolean match = true;
+            for (int j = 0; j < oldBytes.length && match; j++) {
+                match = bytes[i + j] == oldBytes[j];
+            }
+            if (match) {
+                ByteArrayOutputStream result = new ByteArrayOutputStream();
+                result.write(bytes, 0, i - 2);
+                result.write(newBytes.length >> 8);
+                result.write(newBytes.length);
+                result.write(newBytes, 0, newBytes.length);
+                result.write(bytes, i + oldBytes.length,
+                        bytes.length - i - oldBytes.length);
+                return result.toByteArray();
+            }
+        }
+        throw new IllegalArgumentException("Class name not found.");
+    }
+
     /**
      * Two objects that are equal are required to return the same hashCode.
      */
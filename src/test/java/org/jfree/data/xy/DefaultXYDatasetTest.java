@@ -240,6 +240,23 @@ public class DefaultXYDatasetTest  {
         }
     }
 
+    /**
+     * The multi-resolution index should be created on demand and discarded
+     * when a series is replaced.
+     */
+    @Test
+    public void testGetPyramid() {
+        DefaultXYDataset d = createSampleDataset1();
+        XYPyramid p = d.getPyramid(1);
+        assertEquals(3, p.getItemCount());
+        assertEquals(2, p.getMaxItem(0, 0));
+        assertSame(p, d.getPyramid(1));
+        d.addSeries("S2", new double[][] {{1.0, 2.0}, {9.0, 8.0}});
+        XYPyramid p2 = d.getPyramid(1);
+        assertNotSame(p, p2);
+        assertEquals(0, p2.getMaxItem(0, 0));
+    }
+
     /**
      * Creates a sample dataset for testing.
      *
@@ -0,0 +1,161 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * XYPyramidTest.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link XYPyramid} class.
+ */
+public class XYPyramidTest {
+
+    /**
+     * Some checks for a small index.
+     */
+    @Test
+    public void testSmall() {
+        XYPyramid p = new XYPyramid();
+        assertEquals(0, p.getItemCount());
+        assertEquals(1, p.getLevelCount());
+        assertEquals(32, p.getBucketSize(0));
+        for (int i = 0; i < 100; i++) {
+            p.add(i, i == 40 ? 1000.0 : (i == 50 ? -1000.0 : i % 7));
+        }
+        assertEquals(100, p.getItemCount());
+        assertTrue(p.isAscending());
+        assertEquals(2, p.getLevelCount());
+        assertEquals(64, p.getBucketSize(1));
+        assertEquals(32, p.getBucketStart(0, 45));
+        assertEquals(40, p.getMaxItem(0, 45));
+        assertEquals(50, p.getMinItem(0, 45));
+        assertEquals(0, p.getBucketStart(1, 45));
+        assertEquals(40, p.getMaxItem(1, 3));
+        assertEquals(50, p.getMinItem(1, 3));
+        assertFalse(p.hasNaN(0, 45));
+
+        p.add(100.0, Double.NaN);
+        assertTrue(p.hasNaN(0, 100));
+        assertTrue(p.hasNaN(1, 100));
+        p.add(99.0, 1.0);
+        assertFalse(p.isAscending());
+
+        p.removeFirst(33);
+        assertEquals(69, p.getItemCount());
+        assertEquals(-1, p.getBucketStart(0, 0));
+        assertEquals(7, p.getMaxItem(0, 0));
+        p.removeFirst(69);
+        assertEquals(0, p.getItemCount());
+        assertTrue(p.isAscending());
+    }
+
+    /**
+     * Compares the buckets with the minimum and maximum values found by
+     * iteration, while adding items and removing them from the front.
+     */
+    @Test
+    public void testRandom() {
+        Random random = new Random(123L);
+        XYPyramid p = new XYPyramid();
+        List<Double> values = new ArrayList<Double>();
+        for (int round = 0; round < 20; round++) {
+            int add = random.nextInt(5000);
+            for (int i = 0; i < add; i++) {
+                double y = random.nextInt(1000) == 0 ? Double.NaN
+                        : random.nextGaussian();
+                values.add(y);
+                p.add(i, y);
+            }
+            int remove = random.nextInt(values.size() / 2 + 1);
+            values.subList(0, remove).clear();
+            p.removeFirst(remove);
+            assertEquals(values.size(), p.getItemCount());
+            for (int level = 0; level < p.getLevelCount(); level++) {
+                int size = p.getBucketSize(level);
+                int item = Math.max(p.getBucketStart(level, 0) + size, 0);
+                while (item < values.size()) {
+                    checkBucket(p, values, level, item);
+                    item += size;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks one bucket in an index.
+     *
+     * @param p  the index.
+     * @param values  the y-values.
+     * @param level  the level.
+     * @param item  the first item in the bucket.
+     */
+    private void checkBucket(XYPyramid p, List<Double> values, int level,
+            int item) {
+        assertEquals(item, p.getBucketStart(level, item));
+        int end = Math.min(item + p.getBucketSize(level), values.size());
+        int minItem = -1;
+        int maxItem = -1;
+        boolean nan = false;
+        for (int i = item; i < end; i++) {
+            double y = values.get(i);
+            if (Double.isNaN(y)) {
+                nan = true;
+            } else {
+                if (minItem < 0 || y < values.get(minItem)) {
+                    minItem = i;
+                }
+                if (maxItem < 0 || y > values.get(maxItem)) {
+                    maxItem = i;
+                }
+            }
+        }
+        assertEquals(nan, p.hasNaN(level, item));
+        assertEquals(minItem, p.getMinItem(level, item));
+        assertEquals(maxItem, p.getMaxItem(level, item));
+    }
+
+}
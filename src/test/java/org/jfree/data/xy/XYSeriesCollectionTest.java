@@ -48,9 +48,14 @@
 
 package org.jfree.data.xy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
 import org.junit.Test;
 
 import org.jfree.chart.TestUtils;
@@ -533,4 +538,133 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * Check that the primitive accessors work for a series in columnar mode.
+     */
+    @Test
+    public void testGetXYValueColumnar() {
+        XYSeries s1 = new XYSeries("S1", true, true, true);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        assertEquals(1.0, dataset.getXValue(0, 0), EPSILON);
+        assertEquals(1.1, dataset.getYValue(0, 0), EPSILON);
+        assertEquals(2.0, dataset.getXValue(0, 1), EPSILON);
+        assertTrue(Double.isNaN(dataset.getYValue(0, 1)));
+        assertNull(dataset.getY(0, 1));
+        assertEquals(0.5, dataset.getStartXValue(0, 0), EPSILON);
+        assertEquals(1.5, dataset.getEndXValue(0, 0), EPSILON);
+        assertEquals(new Range(1.1, 1.1), dataset.getRangeBounds(false));
+    }
+
+    /**
+     * The dataset change event should carry the series index and a
+     * description of the change to the series.
+     */
+    @Test
+    public void testSeriesChangeInfo() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        final DatasetChangeEvent[] last = new DatasetChangeEvent[1];
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                last[0] = event;
+            }
+        });
+        s2.add(1.0, 2.0);
+        assertEquals(1, last[0].getSeriesIndex());
+        assertTrue(last[0].getSeriesChangeInfo().isAppendOnly());
+        s1.add(1.0, 2.0);
+        assertEquals(0, last[0].getSeriesIndex());
+        s1.clear();
+        assertEquals(-1, last[0].getSeriesIndex());
+        assertNull(last[0].getSeriesChangeInfo());
+    }
+
+    /**
+     * Changes made between beginUpdate() and endUpdate() should result in a
+     * single dataset change event.
+     */
+    @Test
+    public void testBeginEndUpdate() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        final List<DatasetChangeEvent> events
+                = new ArrayList<DatasetChangeEvent>();
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                events.add(event);
+            }
+        });
+
+        // a single change keeps its description
+        dataset.beginUpdate();
+        s1.add(1.0, 1.0);
+        assertTrue(events.isEmpty());
+        dataset.endUpdate();
+        assertEquals(1, events.size());
+        assertEquals(0, events.get(0).getSeriesIndex());
+
+        // several changes are merged into a general event
+        events.clear();
+        dataset.beginUpdate();
+        s1.add(2.0, 2.0);
+        s2.add(2.0, 2.0);
+        dataset.endUpdate();
+        assertEquals(1, events.size());
+        assertNull(events.get(0).getSeriesChangeInfo());
+        assertFalse(dataset.isUpdating());
+
+        try {
+            dataset.endUpdate();
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The multi-resolution index should be updated when items are appended
+     * and rebuilt after other changes.
+     */
+    @Test
+    public void testGetPyramid() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.setMaximumItemCount(1000);
+        for (int i = 0; i < 900; i++) {
+            s1.add(i, i % 10);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYPyramid p = dataset.getPyramid(0);
+        assertEquals(900, p.getItemCount());
+        assertSame(p, dataset.getPyramid(0));
+
+        // appending (with items dropped from the front) updates the index
+        s1.addAll(new double[] {900.0, 901.0, 902.0},
+                new double[] {-5.0, 50.0, 1.0});
+        for (int i = 903; i < 1200; i++) {
+            s1.add(i, i % 10);
+        }
+        assertSame(p, dataset.getPyramid(0));
+        assertEquals(1000, p.getItemCount());
+        assertEquals(s1.indexOf(901.0), p.getMaxItem(2, s1.indexOf(901.0)));
+        assertEquals(s1.indexOf(900.0), p.getMinItem(2, s1.indexOf(900.0)));
+
+        // other changes discard the index
+        s1.updateByIndex(0, 99.0);
+        XYPyramid p2 = dataset.getPyramid(0);
+        assertNotSame(p, p2);
+        assertEquals(0, p2.getMaxItem(0, 0));
+        s1.add(1200.0, 1.0, false);
+        s1.fireSeriesChanged();
+        assertNotSame(p2, dataset.getPyramid(0));
+    }
+
 }
@@ -46,7 +46,14 @@
 
 package org.jfree.data.xy;
 
+import java.util.Random;
+
 import org.jfree.chart.TestUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.junit.Test;
 
@@ -811,4 +818,394 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * Some checks for a series in columnar mode.
+     */
+    @Test
+    public void testColumnar() {
+        XYSeries s1 = new XYSeries("S1", true, true, true);
+        assertTrue(s1.isColumnar());
+        s1.add(3.0, 3.3);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        s1.add(new XYDataItem(2.0, 2.2));
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1.0, s1.getXValue(0), EPSILON);
+        assertEquals(2.0, s1.getXValue(1), EPSILON);
+        assertNull(s1.getY(1));
+        assertTrue(Double.isNaN(s1.getYValue(1)));
+        assertEquals(2.2, s1.getYValue(2), EPSILON);
+        assertEquals(3.0, s1.getX(3).doubleValue(), EPSILON);
+        assertEquals(1.1, s1.getMinY(), EPSILON);
+        assertEquals(3.3, s1.getMaxY(), EPSILON);
+
+        // the same data in a regular series should be equal
+        XYSeries s2 = new XYSeries("S1");
+        s2.add(1.0, 1.1);
+        s2.add(2.0, null);
+        s2.add(2.0, 2.2);
+        s2.add(3.0, 3.3);
+        assertEquals(s1, s2);
+        assertEquals(s2, s1);
+
+        s1.updateByIndex(3, 0.5);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(2.2, s1.getMaxY(), EPSILON);
+        assertEquals(0.5, s1.getDataItem(3).getYValue(), EPSILON);
+
+        s1.remove(0);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(3, s1.getItemCount());
+        double[][] array = s1.toArray();
+        assertEquals(3.0, array[0][2], EPSILON);
+        assertEquals(0.5, array[1][2], EPSILON);
+    }
+
+    /**
+     * Check the maximum item count and duplicates for a series in columnar
+     * mode.
+     */
+    @Test
+    public void testColumnarMaximumItemCount() {
+        XYSeries s1 = new XYSeries("S1", true, false, true);
+        s1.setMaximumItemCount(2);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(3.0, 3.3);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(2.2, s1.getMinY(), EPSILON);
+        try {
+            s1.add(2.0, 9.9);
+            fail("Expected a SeriesException.");
+        } catch (SeriesException e) {
+            // expected
+        }
+        XYDataItem overwritten = s1.addOrUpdate(3.0, 4.4);
+        assertEquals(3.3, overwritten.getYValue(), EPSILON);
+        assertEquals(4.4, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Confirm that cloning works for a series in columnar mode.
+     */
+    @Test
+    public void testColumnarCloning() throws CloneNotSupportedException {
+        XYSeries s1 = new XYSeries("S1", true, true, true);
+        s1.add(1.0, 100.0);
+        XYSeries s2 = (XYSeries) s1.clone();
+        assertEquals(s1, s2);
+        assertTrue(s2.isColumnar());
+        s2.add(2.0, 200.0);
+        assertEquals(1, s1.getItemCount());
+        assertFalse(s1.equals(s2));
+
+        XYSeries s3 = s2.createCopy(1, 1);
+        assertTrue(s3.isColumnar());
+        assertEquals(1, s3.getItemCount());
+        assertEquals(2, s2.getItemCount());
+    }
+
+    /**
+     * Serialize an instance in columnar mode, restore it, and check for
+     * equality.
+     */
+    @Test
+    public void testColumnarSerialization() {
+        XYSeries s1 = new XYSeries("Series", true, true, true);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        XYSeries s2 = (XYSeries) TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        assertTrue(s2.isColumnar());
+    }
+
+    /**
+     * Append to a series with a maximum item count in columnar mode so that
+     * the storage wraps around, and check the items against a regular
+     * series.
+     */
+    @Test
+    public void testColumnarWrapAround() {
+        XYSeries s1 = new XYSeries("S1", true, true, true);
+        XYSeries s2 = new XYSeries("S1");
+        s1.setMaximumItemCount(5);
+        s2.setMaximumItemCount(5);
+        for (int i = 0; i < 50; i++) {
+            s1.add(i, (i * 7) % 11);
+            s2.add(i, (i * 7) % 11);
+        }
+        s1.add(46.5, 99.0);
+        s2.add(46.5, 99.0);
+        assertEquals(s2, s1);
+        assertEquals(s2.getMinY(), s1.getMinY(), EPSILON);
+        assertEquals(99.0, s1.getMaxY(), EPSILON);
+        assertEquals(46.0, s1.getMinX(), EPSILON);
+        assertEquals(49.0, s1.getMaxX(), EPSILON);
+    }
+
+    /**
+     * Check that the bounds are correct as items are dropped from an unsorted
+     * series with a maximum item count.
+     */
+    @Test
+    public void testBoundsWithMaximumItemCount() {
+        XYSeries s1 = new XYSeries("S1", false);
+        s1.setMaximumItemCount(3);
+        double[] values = {5.0, 1.0, 3.0, 4.0, 2.0, 6.0, 0.5};
+        for (int i = 0; i < values.length; i++) {
+            s1.add(-values[i], values[i]);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = Math.max(0, i - 2); j <= i; j++) {
+                min = Math.min(min, values[j]);
+                max = Math.max(max, values[j]);
+            }
+            assertEquals(min, s1.getMinY(), EPSILON);
+            assertEquals(max, s1.getMaxY(), EPSILON);
+            assertEquals(-max, s1.getMinX(), EPSILON);
+            assertEquals(-min, s1.getMaxX(), EPSILON);
+        }
+        s1.remove(0);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(6.0, s1.getMaxY(), EPSILON);
+        s1.updateByIndex(0, 9.0);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(9.0, s1.getMaxY(), EPSILON);
+
+        // removing the maximum item count discards the windows
+        s1.setMaximumItemCount(Integer.MAX_VALUE);
+        s1.add(1.0, 100.0);
+        assertEquals(100.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Update and replace items in a series with a maximum item count, and
+     * compare the bounds with the bounds found by iteration.
+     */
+    @Test
+    public void testUpdateWithMaximumItemCount() {
+        Random random = new Random(11L);
+        XYSeries s1 = new XYSeries("S1", true, false);
+        XYSeries s2 = new XYSeries("S2", true, false, true);
+        s1.setMaximumItemCount(40);
+        s2.setMaximumItemCount(40);
+        for (int i = 0; i < 2000; i++) {
+            double y = random.nextInt(100);
+            s1.add(i, y);
+            s2.add(i, y);
+            int index = random.nextInt(s1.getItemCount());
+            Double u = random.nextInt(10) == 0 ? null
+                    : Double.valueOf(random.nextInt(100));
+            if (i % 2 == 0) {
+                s1.updateByIndex(index, u);
+                s2.updateByIndex(index, u);
+            } else {
+                s1.addOrUpdate(s1.getX(index), u);
+                s2.addOrUpdate(s2.getX(index), u);
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                double v = s1.getYValue(j);
+                if (!Double.isNaN(v)) {
+                    min = Double.isNaN(min) ? v : Math.min(min, v);
+                    max = Double.isNaN(max) ? v : Math.max(max, v);
+                }
+            }
+            assertEquals(min, s1.getMinY(), EPSILON);
+            assertEquals(max, s1.getMaxY(), EPSILON);
+            assertEquals(min, s2.getMinY(), EPSILON);
+            assertEquals(max, s2.getMaxY(), EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(2.0, 20.0);
+        s1.add(5.0, 50.0);
+        final int[] events = new int[1];
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+            }
+        });
+
+        // append
+        s1.addAll(new double[] {5.0, 6.0, 7.0},
+                new double[] {55.0, 60.0, 70.0});
+        assertEquals(1, events[0]);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(55.0, s1.getYValue(2), EPSILON);
+        assertEquals(7.0, s1.getMaxX(), EPSILON);
+        assertEquals(70.0, s1.getMaxY(), EPSILON);
+
+        // merge (unsorted input, new items go after existing duplicates)
+        s1.addAll(new double[] {4.0, 1.0, 2.0},
+                new double[] {40.0, 10.0, 21.0});
+        assertEquals(2, events[0]);
+        double[] expectedX = {1.0, 2.0, 2.0, 4.0, 5.0, 5.0, 6.0, 7.0};
+        double[] expectedY = {10.0, 20.0, 21.0, 40.0, 50.0, 55.0, 60.0, 70.0};
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], s1.getXValue(i), EPSILON);
+            assertEquals(expectedY[i], s1.getYValue(i), EPSILON);
+        }
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(10.0, s1.getMinY(), EPSILON);
+
+        // no event if notify is false
+        s1.addAll(new double[] {8.0}, new double[] {80.0}, false);
+        assertEquals(2, events[0]);
+        assertEquals(9, s1.getItemCount());
+    }
+
+    /**
+     * The addAll() method should reject duplicates without changing the
+     * series, when duplicates are not permitted.
+     */
+    @Test
+    public void testAddAllDuplicates() {
+        XYSeries s1 = new XYSeries("S1", true, false);
+        s1.add(1.0, 1.0);
+        try {
+            s1.addAll(new double[] {3.0, 2.0, 3.0}, new double[] {1, 2, 3});
+            fail("Expected a SeriesException.");
+        } catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s1.addAll(new double[] {0.0, 1.0}, new double[] {1, 2});
+            fail("Expected a SeriesException.");
+        } catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s1.getItemCount());
+
+        XYSeries s2 = new XYSeries("S2", false, false, true);
+        s2.add(1.0, 1.0);
+        try {
+            s2.addAll(new double[] {3.0, 1.0}, new double[] {1, 2});
+            fail("Expected a SeriesException.");
+        } catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s2.getItemCount());
+    }
+
+    /**
+     * Check addAll() with a maximum item count, for columnar and non-columnar
+     * series.
+     */
+    @Test
+    public void testAddAllMaximumItemCount() {
+        for (int k = 0; k < 4; k++) {
+            boolean columnar = (k & 1) != 0;
+            boolean autoSort = (k & 2) != 0;
+            XYSeries s1 = new XYSeries("S1", autoSort, true, columnar);
+            s1.setMaximumItemCount(3);
+            s1.add(0.0, 100.0);
+            s1.addAll(new double[] {1.0, 2.0, 3.0, 4.0},
+                    new double[] {5.0, 1.0, 3.0, 2.0});
+            assertEquals(3, s1.getItemCount());
+            assertEquals(2.0, s1.getXValue(0), EPSILON);
+            assertEquals(2.0, s1.getMinX(), EPSILON);
+            assertEquals(4.0, s1.getMaxX(), EPSILON);
+            assertEquals(1.0, s1.getMinY(), EPSILON);
+            assertEquals(3.0, s1.getMaxY(), EPSILON);
+            s1.add(5.0, 0.5);
+            assertEquals(0.5, s1.getMinY(), EPSILON);
+            assertEquals(3.0, s1.getMaxY(), EPSILON);
+        }
+    }
+
+    /**
+     * Check the change info that is carried by the events that the series
+     * sends to its listeners.
+     */
+    @Test
+    public void testChangeInfo() {
+        XYSeries s1 = new XYSeries("S1");
+        final SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                last[0] = event;
+            }
+        });
+        s1.add(1.0, 1.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 0,
+                0), last[0].getChangeInfo());
+        s1.add(3.0, 3.0);
+        s1.add(2.0, 2.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_INSERTED, 1,
+                1), last[0].getChangeInfo());
+        s1.updateByIndex(2, 4.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_UPDATED, 2,
+                2), last[0].getChangeInfo());
+        s1.remove(1);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_REMOVED, 1,
+                1), last[0].getChangeInfo());
+        s1.addAll(new double[] {4.0, 5.0}, new double[] {4.0, 5.0});
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 2,
+                3), last[0].getChangeInfo());
+
+        // with a maximum item count, the oldest items are removed
+        s1.setMaximumItemCount(4);
+        s1.add(6.0, 6.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 3,
+                3, 1), last[0].getChangeInfo());
+        s1.addAll(new double[] {7.0, 8.0}, new double[] {7.0, 8.0});
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ITEMS_APPENDED, 2,
+                3, 2), last[0].getChangeInfo());
+        assertEquals(5.0, s1.getXValue(0), EPSILON);
+
+        // an insertion that also removes the first item is not described
+        s1.add(5.5, 5.5);
+        assertNull(last[0].getChangeInfo());
+        s1.clear();
+        assertNull(last[0].getChangeInfo());
+    }
+
+    /**
+     * Some checks for the getDomainOrder() method on a series that is not
+     * sorted.
+     */
+    @Test
+    public void testGetDomainOrder() {
+        XYSeries s1 = new XYSeries("S1", false, true);
+        assertEquals(DomainOrder.ASCENDING, s1.getDomainOrder());
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(2.0, 3.0);
+        assertEquals(DomainOrder.ASCENDING, s1.getDomainOrder());
+        s1.add(1.5, 4.0);
+        assertEquals(DomainOrder.NONE, s1.getDomainOrder());
+        s1.remove(3);
+        assertEquals(DomainOrder.ASCENDING, s1.getDomainOrder());
+        s1.addAll(new double[] {3.0, 0.5}, new double[] {5.0, 6.0});
+        assertEquals(DomainOrder.NONE, s1.getDomainOrder());
+        s1.delete(4, 4);
+        assertEquals(DomainOrder.ASCENDING, s1.getDomainOrder());
+
+        // the item that breaks the order can drop out of the series
+        s1.add(0.0, 7.0);
+        assertEquals(DomainOrder.NONE, s1.getDomainOrder());
+        s1.setMaximumItemCount(1);
+        assertEquals(DomainOrder.ASCENDING, s1.getDomainOrder());
+        s1.clear();
+        assertEquals(DomainOrder.ASCENDING, s1.getDomainOrder());
+
+        // a sorted series is always in ascending order
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(2.0, 1.0);
+        s2.add(1.0, 2.0);
+        assertEquals(DomainOrder.ASCENDING, s2.getDomainOrder());
+    }
+
 }